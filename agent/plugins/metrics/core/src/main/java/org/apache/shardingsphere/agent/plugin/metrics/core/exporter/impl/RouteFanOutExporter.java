@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.infra.statistics.route.RouteStatisticsRegistry;
+import org.apache.shardingsphere.infra.statistics.route.TableRouteStatistics;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Route fan-out exporter.
+ */
+public final class RouteFanOutExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("route_fan_out",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "Cumulative count of routes per logic table of database by actual tables routed to", Arrays.asList("database", "logic_table", "le"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        Collection<TableRouteStatistics> allStatistics = RouteStatisticsRegistry.getInstance().getAllTableStatistics();
+        if (allStatistics.isEmpty()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (TableRouteStatistics each : allStatistics) {
+            long cumulativeCount = 0L;
+            for (int i = 0; i < TableRouteStatistics.BUCKET_COUNT - 1; i++) {
+                cumulativeCount += each.getBucketCount(i);
+                result.addMetric(Arrays.asList(each.getDatabaseName(), each.getLogicTable(), String.valueOf(TableRouteStatistics.getBucketUpperBound(i))), cumulativeCount);
+            }
+            result.addMetric(Arrays.asList(each.getDatabaseName(), each.getLogicTable(), "+Inf"), cumulativeCount + each.getBucketCount(TableRouteStatistics.BUCKET_COUNT - 1));
+        }
+        return Optional.of(result);
+    }
+}
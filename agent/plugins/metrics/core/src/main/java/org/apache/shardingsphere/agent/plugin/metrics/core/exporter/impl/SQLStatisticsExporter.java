@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.infra.statistics.sql.LatencyHistogram;
+import org.apache.shardingsphere.infra.statistics.sql.SQLExecutionStage;
+import org.apache.shardingsphere.infra.statistics.sql.SQLStageStatistics;
+import org.apache.shardingsphere.infra.statistics.sql.SQLStatisticsRegistry;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * SQL statistics exporter.
+ */
+public final class SQLStatisticsExporter implements MetricsExporter {
+    
+    private static final double[] QUANTILES = {50D, 90D, 99D};
+    
+    private final MetricConfiguration config = new MetricConfiguration("sql_stage_latency_microseconds",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "Latency of SQL execution stages in microseconds", Arrays.asList("fingerprint", "stage", "quantile"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        if (!SQLStatisticsRegistry.getInstance().isEnabled()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (SQLStageStatistics each : SQLStatisticsRegistry.getInstance().getAllStatistics()) {
+            addMetrics(result, each);
+        }
+        return Optional.of(result);
+    }
+    
+    private void addMetrics(final GaugeMetricFamilyMetricsCollector collector, final SQLStageStatistics statistics) {
+        for (SQLExecutionStage each : SQLExecutionStage.values()) {
+            Optional<LatencyHistogram> histogram = statistics.findHistogram(each);
+            if (!histogram.isPresent() || 0L == histogram.get().getCount()) {
+                continue;
+            }
+            for (double quantile : QUANTILES) {
+                collector.addMetric(Arrays.asList(statistics.getFingerprint(), each.name(), String.valueOf(quantile / 100D)), histogram.get().getValueAtPercentile(quantile));
+            }
+            collector.addMetric(Arrays.asList(statistics.getFingerprint(), each.name(), "1.0"), histogram.get().getMax());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.infra.statistics.collect.StatisticsCollectMetrics;
+
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Statistics collect exporter.
+ */
+public final class StatisticsCollectExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("statistics_collect",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "Statistics collect duration and persisted delta", Collections.singletonList("name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        StatisticsCollectMetrics metrics = StatisticsCollectMetrics.getInstance();
+        if (0L == metrics.getCollectCount()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        result.addMetric(Collections.singletonList("collect_count"), metrics.getCollectCount());
+        result.addMetric(Collections.singletonList("last_collect_duration_millis"), metrics.getLastCollectDurationMillis());
+        result.addMetric(Collections.singletonList("total_collect_duration_millis"), metrics.getTotalCollectDurationMillis());
+        result.addMetric(Collections.singletonList("collected_tables"), metrics.getCollectedTableCount());
+        result.addMetric(Collections.singletonList("skipped_tables"), metrics.getSkippedTableCount());
+        result.addMetric(Collections.singletonList("changed_tables"), metrics.getChangedTableCount());
+        result.addMetric(Collections.singletonList("persisted_rows"), metrics.getPersistedRowCount());
+        result.addMetric(Collections.singletonList("persisted_bytes"), metrics.getPersistedBytes());
+        return Optional.of(result);
+    }
+}
@@ -25,6 +25,10 @@ import org.apache.shardingsphere.agent.api.PluginConfiguration;
 import org.apache.shardingsphere.agent.plugin.core.config.validator.PluginConfigurationValidator;
 import org.apache.shardingsphere.agent.plugin.core.context.PluginContext;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.BuildInfoExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.RouteFanOutExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.RouteTypeExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.SQLStatisticsExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.StatisticsCollectExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCMetaDataInfoExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCStateExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyMetaDataInfoExporter;
@@ -65,6 +69,10 @@ public final class PrometheusPluginLifecycleService implements PluginLifecycleSe
     
     private void registerCollector(final boolean isCollectJVMInformation, final boolean isEnhancedForProxy) {
         new PrometheusMetricsExporter(new BuildInfoExporter()).register();
+        new PrometheusMetricsExporter(new SQLStatisticsExporter()).register();
+        new PrometheusMetricsExporter(new RouteFanOutExporter()).register();
+        new PrometheusMetricsExporter(new RouteTypeExporter()).register();
+        new PrometheusMetricsExporter(new StatisticsCollectExporter()).register();
         if (isEnhancedForProxy) {
             registerCollectorForProxy();
         } else {
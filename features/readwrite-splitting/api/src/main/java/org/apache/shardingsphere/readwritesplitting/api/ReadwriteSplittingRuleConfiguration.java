@@ -19,6 +19,7 @@ package org.apache.shardingsphere.readwritesplitting.api;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.config.rule.function.DistributedRuleConfiguration;
 import org.apache.shardingsphere.infra.config.rule.scope.DatabaseRuleConfiguration;
@@ -38,6 +39,9 @@ public final class ReadwriteSplittingRuleConfiguration implements DatabaseRuleCo
     
     private final Map<String, AlgorithmConfiguration> loadBalancers;
     
+    @Setter
+    private AlgorithmConfiguration replicationLagProbe;
+    
     @Override
     public boolean isEmpty() {
         return dataSourceGroups.isEmpty();
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import org.apache.shardingsphere.infra.algorithm.core.ShardingSphereAlgorithm;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Replication lag probe.
+ */
+public interface ReplicationLagProbe extends ShardingSphereAlgorithm {
+    
+    /**
+     * Probe replication lag of read data source.
+     *
+     * @param connection connection of read data source
+     * @return replication lag in milliseconds, negative value means replication is not running or lag is unknown
+     * @throws SQLException SQL exception
+     */
+    long probe(Connection connection) throws SQLException;
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replication lag probe scheduler.
+ * 
+ * <p>Probes replication lag of read data sources in background, and marks read data sources which lag behind the threshold as delayed, so the query path never waits for probes.
+ * Probe thread is started when the rule is used for routing the first time, so rules which are built but never used do not start probe threads.</p>
+ */
+@Slf4j
+public final class ReplicationLagProbeScheduler implements AutoCloseable {
+    
+    private static final String MAX_LAG_MILLISECONDS_KEY = "max-lag-milliseconds";
+    
+    private static final String PROBE_INTERVAL_MILLISECONDS_KEY = "probe-interval-milliseconds";
+    
+    private static final long DEFAULT_MAX_LAG_MILLISECONDS = 1000L;
+    
+    private static final long DEFAULT_PROBE_INTERVAL_MILLISECONDS = 1000L;
+    
+    private final String databaseName;
+    
+    private final ReplicationLagProbe probe;
+    
+    @Getter
+    private final long maxLagMilliseconds;
+    
+    @Getter
+    private final long probeIntervalMilliseconds;
+    
+    private final Collection<ReadwriteSplittingDataSourceGroupRule> dataSourceGroupRules;
+    
+    private final Map<String, DataSource> dataSources;
+    
+    private ScheduledExecutorService executorService;
+    
+    private volatile boolean started;
+    
+    private boolean closed;
+    
+    public ReplicationLagProbeScheduler(final String databaseName, final AlgorithmConfiguration probeConfig,
+                                        final Collection<ReadwriteSplittingDataSourceGroupRule> dataSourceGroupRules, final Map<String, DataSource> dataSources) {
+        this.databaseName = databaseName;
+        probe = TypedSPILoader.getService(ReplicationLagProbe.class, probeConfig.getType(), probeConfig.getProps());
+        maxLagMilliseconds = Long.parseLong(String.valueOf(probeConfig.getProps().getOrDefault(MAX_LAG_MILLISECONDS_KEY, DEFAULT_MAX_LAG_MILLISECONDS)));
+        probeIntervalMilliseconds = Long.parseLong(String.valueOf(probeConfig.getProps().getOrDefault(PROBE_INTERVAL_MILLISECONDS_KEY, DEFAULT_PROBE_INTERVAL_MILLISECONDS)));
+        this.dataSourceGroupRules = dataSourceGroupRules;
+        this.dataSources = dataSources;
+    }
+    
+    /**
+     * Start probing periodically if not started.
+     */
+    public void start() {
+        if (!started) {
+            doStart();
+        }
+    }
+    
+    private synchronized void doStart() {
+        if (started) {
+            return;
+        }
+        started = true;
+        if (closed) {
+            return;
+        }
+        executorService = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("replication-lag-probe-" + databaseName + "-%d"));
+        executorService.scheduleWithFixedDelay(this::probe, 0L, probeIntervalMilliseconds, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Probe replication lag of all read data sources once.
+     */
+    public void probe() {
+        for (ReadwriteSplittingDataSourceGroupRule each : dataSourceGroupRules) {
+            for (String readDataSourceName : each.getReadwriteSplittingGroup().getReadDataSources()) {
+                DataSource dataSource = dataSources.get(readDataSourceName);
+                if (null == dataSource) {
+                    continue;
+                }
+                if (isDelayed(readDataSourceName, dataSource)) {
+                    each.markDelayed(readDataSourceName);
+                } else {
+                    each.markCaughtUp(readDataSourceName);
+                }
+            }
+        }
+    }
+    
+    private boolean isDelayed(final String dataSourceName, final DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            long lagMilliseconds = probe.probe(connection);
+            return lagMilliseconds < 0L || lagMilliseconds > maxLagMilliseconds;
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.warn("Probe replication lag of data source `{}` in database `{}` failed.", dataSourceName, databaseName, ex);
+            return true;
+        }
+    }
+    
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (null != executorService) {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.probe;
+
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagProbe;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Properties;
+
+/**
+ * Replication lag probe based on heartbeat table.
+ * 
+ * <p>The write data source is expected to refresh the heartbeat timestamp periodically, the replication lag is the age of the replicated heartbeat.
+ * The age is measured by current timestamp of read data source instead of the clock of ShardingSphere,
+ * the current timestamp function should have the same precision as heartbeat column, such as CURRENT_TIMESTAMP(6) for MySQL.</p>
+ */
+public final class HeartbeatReplicationLagProbe implements ReplicationLagProbe {
+    
+    private static final String HEARTBEAT_TABLE_KEY = "heartbeat-table";
+    
+    private static final String HEARTBEAT_COLUMN_KEY = "heartbeat-column";
+    
+    private static final String CURRENT_TIMESTAMP_FUNCTION_KEY = "current-timestamp-function";
+    
+    private static final String DEFAULT_HEARTBEAT_COLUMN = "ts";
+    
+    private static final String DEFAULT_CURRENT_TIMESTAMP_FUNCTION = "CURRENT_TIMESTAMP";
+    
+    private String heartbeatSQL;
+    
+    @Override
+    public void init(final Properties props) {
+        String heartbeatTable = props.getProperty(HEARTBEAT_TABLE_KEY);
+        ShardingSpherePreconditions.checkNotEmpty(heartbeatTable, () -> new AlgorithmInitializationException(this, "%s can not be null or empty", HEARTBEAT_TABLE_KEY));
+        heartbeatSQL = String.format("SELECT %s, MAX(%s) FROM %s",
+                props.getProperty(CURRENT_TIMESTAMP_FUNCTION_KEY, DEFAULT_CURRENT_TIMESTAMP_FUNCTION), props.getProperty(HEARTBEAT_COLUMN_KEY, DEFAULT_HEARTBEAT_COLUMN), heartbeatTable);
+    }
+    
+    @Override
+    public long probe(final Connection connection) throws SQLException {
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(heartbeatSQL)) {
+            if (!resultSet.next()) {
+                return -1L;
+            }
+            Timestamp currentTimestamp = resultSet.getTimestamp(1);
+            Timestamp heartbeat = resultSet.getTimestamp(2);
+            return null == currentTimestamp || null == heartbeat ? -1L : Math.max(0L, currentTimestamp.getTime() - heartbeat.getTime());
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "HEARTBEAT";
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.probe;
+
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagProbe;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Replication lag probe for MySQL.
+ * 
+ * <p>SHOW REPLICA STATUS is available since MySQL 8.0.22 and MariaDB 10.5.1, SHOW SLAVE STATUS is used for earlier versions.</p>
+ */
+public final class MySQLReplicationLagProbe implements ReplicationLagProbe {
+    
+    private static final String SHOW_REPLICA_STATUS = "SHOW REPLICA STATUS";
+    
+    private static final String SHOW_SLAVE_STATUS = "SHOW SLAVE STATUS";
+    
+    private static final String MARIADB = "MariaDB";
+    
+    private static final String SECONDS_BEHIND_SOURCE = "Seconds_Behind_Source";
+    
+    private static final String SECONDS_BEHIND_MASTER = "Seconds_Behind_Master";
+    
+    @Override
+    public long probe(final Connection connection) throws SQLException {
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(isReplicaStatusSupported(connection.getMetaData()) ? SHOW_REPLICA_STATUS : SHOW_SLAVE_STATUS)) {
+            if (!resultSet.next()) {
+                return 0L;
+            }
+            long result = resultSet.getLong(getSecondsBehindColumnLabel(resultSet.getMetaData()));
+            return resultSet.wasNull() ? -1L : result * 1000L;
+        }
+    }
+    
+    private boolean isReplicaStatusSupported(final DatabaseMetaData metaData) throws SQLException {
+        int majorVersion = metaData.getDatabaseMajorVersion();
+        int minorVersion = metaData.getDatabaseMinorVersion();
+        String productVersion = metaData.getDatabaseProductVersion();
+        if (null != productVersion && productVersion.contains(MARIADB)) {
+            return majorVersion > 10 || (10 == majorVersion && minorVersion >= 5);
+        }
+        if (8 != majorVersion || 0 != minorVersion) {
+            return majorVersion > 8 || (8 == majorVersion && minorVersion > 0);
+        }
+        return getPatchVersion(productVersion) >= 22;
+    }
+    
+    private int getPatchVersion(final String productVersion) {
+        String[] versions = null == productVersion ? new String[0] : productVersion.split("\\.");
+        if (versions.length < 3) {
+            return 0;
+        }
+        int result = 0;
+        for (char each : versions[2].toCharArray()) {
+            if (!Character.isDigit(each)) {
+                break;
+            }
+            result = result * 10 + each - '0';
+        }
+        return result;
+    }
+    
+    private String getSecondsBehindColumnLabel(final ResultSetMetaData metaData) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (SECONDS_BEHIND_SOURCE.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                return SECONDS_BEHIND_SOURCE;
+            }
+        }
+        return SECONDS_BEHIND_MASTER;
+    }
+    
+    @Override
+    public String getType() {
+        return "MySQL";
+    }
+}
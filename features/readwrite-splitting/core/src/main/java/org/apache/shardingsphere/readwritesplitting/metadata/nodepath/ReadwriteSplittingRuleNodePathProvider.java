@@ -36,7 +36,9 @@ public final class ReadwriteSplittingRuleNodePathProvider implements RuleNodePat
     
     public static final String LOAD_BALANCERS = "load_balancers";
     
-    private static final RuleNodePath INSTANCE = new RuleNodePath(RULE_TYPE, Arrays.asList(DATA_SOURCE_GROUPS, LOAD_BALANCERS), Collections.emptyList());
+    public static final String REPLICATION_LAG_PROBE = "replication_lag_probe";
+    
+    private static final RuleNodePath INSTANCE = new RuleNodePath(RULE_TYPE, Arrays.asList(DATA_SOURCE_GROUPS, LOAD_BALANCERS), Collections.singleton(REPLICATION_LAG_PROBE));
     
     @Override
     public RuleNodePath getRuleNodePath() {
@@ -35,7 +35,11 @@ public final class StandardReadwriteSplittingDataSourceRouter {
      * @return routed data source name
      */
     public String route(final ReadwriteSplittingDataSourceGroupRule rule) {
-        return rule.getLoadBalancer().getTargetName(rule.getName(), getFilteredReadDataSources(rule));
+        List<String> filteredReadDataSources = getFilteredReadDataSources(rule);
+        if (filteredReadDataSources.isEmpty() && !rule.getDelayedDataSourceNames().isEmpty()) {
+            return rule.getWriteDataSource();
+        }
+        return rule.getLoadBalancer().getTargetName(rule.getName(), filteredReadDataSources);
     }
     
     private List<String> getFilteredReadDataSources(final ReadwriteSplittingDataSourceGroupRule rule) {
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.readwritesplitting.group.type.StaticReadwriteSp
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Readwrite-splitting data source group rule.
@@ -43,6 +44,8 @@ public final class ReadwriteSplittingDataSourceGroupRule {
     
     private final Collection<String> disabledDataSourceNames = new HashSet<>();
     
+    private final Collection<String> delayedDataSourceNames = ConcurrentHashMap.newKeySet();
+    
     public ReadwriteSplittingDataSourceGroupRule(final ReadwriteSplittingDataSourceGroupRuleConfiguration config,
                                                  final TransactionalReadQueryStrategy transactionalReadQueryStrategy, final LoadBalanceAlgorithm loadBalancer) {
         name = config.getName();
@@ -81,4 +84,22 @@ public final class ReadwriteSplittingDataSourceGroupRule {
     public void disableDataSource(final String dataSourceName) {
         disabledDataSourceNames.add(dataSourceName);
     }
+    
+    /**
+     * Mark data source as delayed.
+     *
+     * @param dataSourceName data source name which replication lag exceeds threshold
+     */
+    public void markDelayed(final String dataSourceName) {
+        delayedDataSourceNames.add(dataSourceName);
+    }
+    
+    /**
+     * Mark data source as caught up.
+     *
+     * @param dataSourceName data source name which replication lag is within threshold
+     */
+    public void markCaughtUp(final String dataSourceName) {
+        delayedDataSourceNames.remove(dataSourceName);
+    }
 }
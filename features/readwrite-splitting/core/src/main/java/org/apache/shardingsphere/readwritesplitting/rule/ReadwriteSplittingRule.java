@@ -20,9 +20,12 @@ package org.apache.shardingsphere.readwritesplitting.rule;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.statistics.TargetExecutionStatisticsAware;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.statistics.TargetExecutionStatisticsRegistry;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.rule.scope.DatabaseRule;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
@@ -31,21 +34,26 @@ import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingD
 import org.apache.shardingsphere.readwritesplitting.constant.ReadwriteSplittingDataSourceType;
 import org.apache.shardingsphere.readwritesplitting.exception.ReadwriteSplittingRuleExceptionIdentifier;
 import org.apache.shardingsphere.readwritesplitting.exception.actual.InvalidReadwriteSplittingActualDataSourceInlineExpressionException;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagProbeScheduler;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingDataSourceMapperRuleAttribute;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingExportableRuleAttribute;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingStaticDataSourceRuleAttribute;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingStorageConnectorReusableRuleAttribute;
 
+import javax.sql.DataSource;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * Readwrite-splitting rule.
  */
-public final class ReadwriteSplittingRule implements DatabaseRule {
+public final class ReadwriteSplittingRule implements DatabaseRule, AutoCloseable {
     
     @Getter
     private final ReadwriteSplittingRuleConfiguration configuration;
@@ -58,15 +66,24 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
     @Getter
     private final RuleAttributes attributes;
     
+    private final ReplicationLagProbeScheduler replicationLagProbeScheduler;
+    
     public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig, final ComputeNodeInstanceContext computeNodeInstanceContext) {
+        this(databaseName, ruleConfig, Collections.emptyMap(), computeNodeInstanceContext);
+    }
+    
+    public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig, final Map<String, StorageUnit> storageUnits,
+                                  final ComputeNodeInstanceContext computeNodeInstanceContext) {
         configuration = ruleConfig;
         loadBalancers = createLoadBalancers(ruleConfig);
+        bindTargetStatisticsKeys(storageUnits);
         dataSourceRuleGroups = createDataSourceGroupRules(databaseName, ruleConfig);
         attributes = new RuleAttributes(
                 new ReadwriteSplittingDataSourceMapperRuleAttribute(dataSourceRuleGroups.values()),
                 new ReadwriteSplittingStaticDataSourceRuleAttribute(databaseName, dataSourceRuleGroups, computeNodeInstanceContext),
                 new ReadwriteSplittingExportableRuleAttribute(dataSourceRuleGroups),
                 new ReadwriteSplittingStorageConnectorReusableRuleAttribute());
+        replicationLagProbeScheduler = createReplicationLagProbeScheduler(databaseName, ruleConfig, storageUnits);
     }
     
     private Map<String, LoadBalanceAlgorithm> createLoadBalancers(final ReadwriteSplittingRuleConfiguration ruleConfig) {
@@ -80,6 +97,21 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
         return result;
     }
     
+    private void bindTargetStatisticsKeys(final Map<String, StorageUnit> storageUnits) {
+        if (storageUnits.isEmpty()) {
+            return;
+        }
+        Map<String, String> targetStatisticsKeys = new HashMap<>(storageUnits.size(), 1F);
+        for (Entry<String, StorageUnit> entry : storageUnits.entrySet()) {
+            targetStatisticsKeys.put(entry.getKey(), TargetExecutionStatisticsRegistry.getStatisticsKey(entry.getKey(), entry.getValue().getConnectionProperties()));
+        }
+        for (LoadBalanceAlgorithm each : loadBalancers.values()) {
+            if (each instanceof TargetExecutionStatisticsAware) {
+                ((TargetExecutionStatisticsAware) each).setTargetStatisticsKeys(targetStatisticsKeys);
+            }
+        }
+    }
+    
     private Map<String, ReadwriteSplittingDataSourceGroupRule> createDataSourceGroupRules(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig) {
         Map<String, ReadwriteSplittingDataSourceGroupRule> result = new HashMap<>(ruleConfig.getDataSourceGroups().size(), 1F);
         for (ReadwriteSplittingDataSourceGroupRuleConfiguration each : ruleConfig.getDataSourceGroups()) {
@@ -114,6 +146,18 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
         return result;
     }
     
+    private ReplicationLagProbeScheduler createReplicationLagProbeScheduler(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig,
+                                                                            final Map<String, StorageUnit> storageUnits) {
+        if (null == ruleConfig.getReplicationLagProbe() || storageUnits.isEmpty()) {
+            return null;
+        }
+        Map<String, DataSource> dataSources = new LinkedHashMap<>(storageUnits.size(), 1F);
+        for (Entry<String, StorageUnit> entry : storageUnits.entrySet()) {
+            dataSources.put(entry.getKey(), entry.getValue().getDataSource());
+        }
+        return new ReplicationLagProbeScheduler(databaseName, ruleConfig.getReplicationLagProbe(), dataSourceRuleGroups.values(), dataSources);
+    }
+    
     private ReadwriteSplittingDataSourceGroupRuleConfiguration createStaticDataSourceGroupRuleConfiguration(final ReadwriteSplittingDataSourceGroupRuleConfiguration config, final int index,
                                                                                                             final List<String> logicDataSourceNames, final List<String> writeDatasourceNames,
                                                                                                             final List<List<String>> readDatasourceNames) {
@@ -127,6 +171,7 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
      * @return readwrite-splitting data source group rule
      */
     public ReadwriteSplittingDataSourceGroupRule getSingleDataSourceGroupRule() {
+        startReplicationLagProbe();
         return dataSourceRuleGroups.values().iterator().next();
     }
     
@@ -137,6 +182,20 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
      * @return readwrite-splitting data source group rule
      */
     public Optional<ReadwriteSplittingDataSourceGroupRule> findDataSourceGroupRule(final String dataSourceName) {
+        startReplicationLagProbe();
         return Optional.ofNullable(dataSourceRuleGroups.get(dataSourceName));
     }
+    
+    private void startReplicationLagProbe() {
+        if (null != replicationLagProbeScheduler) {
+            replicationLagProbeScheduler.start();
+        }
+    }
+    
+    @Override
+    public void close() {
+        if (null != replicationLagProbeScheduler) {
+            replicationLagProbeScheduler.close();
+        }
+    }
 }
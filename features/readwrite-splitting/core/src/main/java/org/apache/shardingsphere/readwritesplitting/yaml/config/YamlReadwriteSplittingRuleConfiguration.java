@@ -44,6 +44,9 @@ public final class YamlReadwriteSplittingRuleConfiguration implements YamlRuleCo
     @RepositoryTupleField(type = Type.ALGORITHM)
     private Map<String, YamlAlgorithmConfiguration> loadBalancers = new LinkedHashMap<>();
     
+    @RepositoryTupleField(type = Type.OTHER)
+    private YamlAlgorithmConfiguration replicationLagProbe;
+    
     @Override
     public Class<ReadwriteSplittingRuleConfiguration> getRuleConfigurationType() {
         return ReadwriteSplittingRuleConfiguration.class;
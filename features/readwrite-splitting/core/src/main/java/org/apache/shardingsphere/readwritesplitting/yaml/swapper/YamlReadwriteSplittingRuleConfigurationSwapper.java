@@ -50,6 +50,9 @@ public final class YamlReadwriteSplittingRuleConfigurationSwapper implements Yam
         if (null != data.getLoadBalancers()) {
             data.getLoadBalancers().forEach((key, value) -> result.getLoadBalancers().put(key, algorithmSwapper.swapToYamlConfiguration(value)));
         }
+        if (null != data.getReplicationLagProbe()) {
+            result.setReplicationLagProbe(algorithmSwapper.swapToYamlConfiguration(data.getReplicationLagProbe()));
+        }
         return result;
     }
     
@@ -69,7 +72,11 @@ public final class YamlReadwriteSplittingRuleConfigurationSwapper implements Yam
         Map<String, AlgorithmConfiguration> loadBalancerMap = null == yamlConfig.getLoadBalancers()
                 ? Collections.emptyMap()
                 : yamlConfig.getLoadBalancers().entrySet().stream().collect(Collectors.toMap(Entry::getKey, entry -> algorithmSwapper.swapToObject(entry.getValue())));
-        return new ReadwriteSplittingRuleConfiguration(dataSources, loadBalancerMap);
+        ReadwriteSplittingRuleConfiguration result = new ReadwriteSplittingRuleConfiguration(dataSources, loadBalancerMap);
+        if (null != yamlConfig.getReplicationLagProbe()) {
+            result.setReplicationLagProbe(algorithmSwapper.swapToObject(yamlConfig.getReplicationLagProbe()));
+        }
+        return result;
     }
     
     private ReadwriteSplittingDataSourceGroupRuleConfiguration swapToObject(final String name, final YamlReadwriteSplittingDataSourceGroupRuleConfiguration yamlDataSourceGroupRuleConfig) {
@@ -35,10 +35,11 @@ class ReadwriteSplittingConfigurationRepositoryTupleSwapperEngineIT extends Repo
     
     @Override
     protected void assertRepositoryTuples(final List<RepositoryTuple> actualRepositoryTuples, final YamlRuleConfiguration expectedYamlRuleConfig) {
-        assertThat(actualRepositoryTuples.size(), is(4));
+        assertThat(actualRepositoryTuples.size(), is(5));
         assertRepositoryTuple(actualRepositoryTuples.get(0), "load_balancers/random", ((YamlReadwriteSplittingRuleConfiguration) expectedYamlRuleConfig).getLoadBalancers().get("random"));
         assertRepositoryTuple(actualRepositoryTuples.get(1), "load_balancers/roundRobin", ((YamlReadwriteSplittingRuleConfiguration) expectedYamlRuleConfig).getLoadBalancers().get("roundRobin"));
         assertRepositoryTuple(actualRepositoryTuples.get(2), "data_source_groups/ds_0", ((YamlReadwriteSplittingRuleConfiguration) expectedYamlRuleConfig).getDataSourceGroups().get("ds_0"));
         assertRepositoryTuple(actualRepositoryTuples.get(3), "data_source_groups/ds_1", ((YamlReadwriteSplittingRuleConfiguration) expectedYamlRuleConfig).getDataSourceGroups().get("ds_1"));
+        assertRepositoryTuple(actualRepositoryTuples.get(4), "replication_lag_probe", ((YamlReadwriteSplittingRuleConfiguration) expectedYamlRuleConfig).getReplicationLagProbe());
     }
 }
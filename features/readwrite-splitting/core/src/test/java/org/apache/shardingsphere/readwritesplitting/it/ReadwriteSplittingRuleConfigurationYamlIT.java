@@ -39,6 +39,8 @@ class ReadwriteSplittingRuleConfigurationYamlIT extends YamlRuleConfigurationIT
         assertThat(actual.getDataSourceGroups().size(), is(2));
         assertReadwriteSplittingRuleForDs0(actual);
         assertReadwriteSplittingRuleForDs1(actual);
+        assertThat(actual.getReplicationLagProbe().getType(), is("MySQL"));
+        assertThat(actual.getReplicationLagProbe().getProps().get("max-lag-milliseconds"), is(3000));
     }
     
     private void assertReadwriteSplittingRuleForDs0(final YamlReadwriteSplittingRuleConfiguration actual) {
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.random.RandomLoadBalanceAlgorithm;
+import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceGroupRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.api.transaction.TransactionalReadQueryStrategy;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicationLagProbeSchedulerTest {
+    
+    private final Map<String, Long> replicaLagSeconds = new HashMap<>();
+    
+    private ReadwriteSplittingDataSourceGroupRule rule;
+    
+    private Map<String, DataSource> dataSources;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        rule = new ReadwriteSplittingDataSourceGroupRule(
+                new ReadwriteSplittingDataSourceGroupRuleConfiguration("test_pr", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), null),
+                TransactionalReadQueryStrategy.DYNAMIC, new RandomLoadBalanceAlgorithm());
+        dataSources = new HashMap<>(2, 1F);
+        dataSources.put("read_ds_0", mockReplicaDataSource("read_ds_0"));
+        dataSources.put("read_ds_1", mockReplicaDataSource("read_ds_1"));
+    }
+    
+    private DataSource mockReplicaDataSource(final String dataSourceName) throws SQLException {
+        DataSource result = mock(DataSource.class);
+        when(result.getConnection()).thenAnswer(invocation -> mockReplicaConnection(dataSourceName));
+        return result;
+    }
+    
+    private Connection mockReplicaConnection(final String dataSourceName) throws SQLException {
+        Connection result = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getDatabaseMajorVersion()).thenReturn(8);
+        when(result.getMetaData().getDatabaseMinorVersion()).thenReturn(0);
+        when(result.getMetaData().getDatabaseProductVersion()).thenReturn("8.0.36");
+        ResultSet resultSet = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        when(result.createStatement().executeQuery("SHOW REPLICA STATUS")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getMetaData().getColumnCount()).thenReturn(1);
+        when(resultSet.getMetaData().getColumnLabel(1)).thenReturn("Seconds_Behind_Source");
+        when(resultSet.getLong("Seconds_Behind_Source")).thenReturn(replicaLagSeconds.getOrDefault(dataSourceName, 0L));
+        return result;
+    }
+    
+    @Test
+    void assertProbe() {
+        try (ReplicationLagProbeScheduler scheduler = createScheduler()) {
+            replicaLagSeconds.put("read_ds_1", 5L);
+            scheduler.probe();
+            assertThat(rule.getDelayedDataSourceNames(), is(Collections.singleton("read_ds_1")));
+            replicaLagSeconds.put("read_ds_1", 1L);
+            scheduler.probe();
+            assertTrue(rule.getDelayedDataSourceNames().isEmpty());
+        }
+    }
+    
+    @Test
+    void assertProbeWithUnavailableDataSource() throws SQLException {
+        when(dataSources.get("read_ds_0").getConnection()).thenThrow(SQLException.class);
+        try (ReplicationLagProbeScheduler scheduler = createScheduler()) {
+            scheduler.probe();
+            assertThat(rule.getDelayedDataSourceNames(), is(Collections.singleton("read_ds_0")));
+        }
+    }
+    
+    @Test
+    void assertGetProbeProperties() {
+        try (ReplicationLagProbeScheduler scheduler = createScheduler()) {
+            assertThat(scheduler.getMaxLagMilliseconds(), is(3000L));
+            assertThat(scheduler.getProbeIntervalMilliseconds(), is(1000L));
+        }
+    }
+    
+    private ReplicationLagProbeScheduler createScheduler() {
+        return new ReplicationLagProbeScheduler("foo_db", new AlgorithmConfiguration("MySQL", PropertiesBuilder.build(new Property("max-lag-milliseconds", "3000"))),
+                Collections.singleton(rule), dataSources);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.probe;
+
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagProbe;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HeartbeatReplicationLagProbeTest {
+    
+    @Test
+    void assertInitWithoutHeartbeatTable() {
+        assertThrows(AlgorithmInitializationException.class, () -> TypedSPILoader.getService(ReplicationLagProbe.class, "HEARTBEAT", new Properties()));
+    }
+    
+    @Test
+    void assertProbe() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.createStatement().executeQuery("SELECT CURRENT_TIMESTAMP, MAX(ts) FROM t_heartbeat")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getTimestamp(1)).thenReturn(new Timestamp(120000L));
+        when(resultSet.getTimestamp(2)).thenReturn(new Timestamp(60000L));
+        ReplicationLagProbe probe = TypedSPILoader.getService(ReplicationLagProbe.class, "HEARTBEAT", PropertiesBuilder.build(new Property("heartbeat-table", "t_heartbeat")));
+        assertThat(probe.probe(connection), is(60000L));
+    }
+    
+    @Test
+    void assertProbeWithoutHeartbeat() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.createStatement().executeQuery("SELECT CURRENT_TIMESTAMP(6), MAX(updated_at) FROM t_heartbeat")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getTimestamp(1)).thenReturn(new Timestamp(120000L));
+        ReplicationLagProbe probe = TypedSPILoader.getService(ReplicationLagProbe.class, "HEARTBEAT", PropertiesBuilder.build(
+                new Property("heartbeat-table", "t_heartbeat"), new Property("heartbeat-column", "updated_at"), new Property("current-timestamp-function", "CURRENT_TIMESTAMP(6)")));
+        assertThat(probe.probe(connection), is(-1L));
+    }
+}
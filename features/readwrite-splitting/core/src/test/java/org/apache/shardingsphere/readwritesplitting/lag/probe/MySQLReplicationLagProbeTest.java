@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.probe;
+
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagProbe;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MySQLReplicationLagProbeTest {
+    
+    private final ReplicationLagProbe probe = TypedSPILoader.getService(ReplicationLagProbe.class, "MySQL");
+    
+    @Test
+    void assertProbeWithSecondsBehindSource() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        ResultSet resultSet = mockReplicaStatus(connection, "Seconds_Behind_Source");
+        when(resultSet.getLong("Seconds_Behind_Source")).thenReturn(2L);
+        assertThat(probe.probe(connection), is(2000L));
+    }
+    
+    @Test
+    void assertProbeWithSecondsBehindMaster() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        ResultSet resultSet = mockReplicaStatus(connection, "Seconds_Behind_Master");
+        when(resultSet.getLong("Seconds_Behind_Master")).thenReturn(3L);
+        assertThat(probe.probe(connection), is(3000L));
+    }
+    
+    @Test
+    void assertProbeWithReplicationStopped() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        ResultSet resultSet = mockReplicaStatus(connection, "Seconds_Behind_Source");
+        when(resultSet.wasNull()).thenReturn(true);
+        assertThat(probe.probe(connection), is(-1L));
+    }
+    
+    @Test
+    void assertProbeWithoutReplicaStatus() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        mockDatabaseVersion(connection, 8, 0, "8.0.36");
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS").next()).thenReturn(false);
+        assertThat(probe.probe(connection), is(0L));
+    }
+    
+    @Test
+    void assertProbeWithSlaveStatusBeforeMySQL8022() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        mockDatabaseVersion(connection, 8, 0, "8.0.21-log");
+        ResultSet resultSet = mockSlaveStatus(connection);
+        when(resultSet.getLong("Seconds_Behind_Master")).thenReturn(4L);
+        assertThat(probe.probe(connection), is(4000L));
+    }
+    
+    @Test
+    void assertProbeWithSlaveStatusForMySQL57() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        mockDatabaseVersion(connection, 5, 7, "5.7.44");
+        ResultSet resultSet = mockSlaveStatus(connection);
+        when(resultSet.getLong("Seconds_Behind_Master")).thenReturn(5L);
+        assertThat(probe.probe(connection), is(5000L));
+    }
+    
+    @Test
+    void assertProbeWithSlaveStatusForMariaDB104() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        mockDatabaseVersion(connection, 10, 4, "10.4.32-MariaDB");
+        ResultSet resultSet = mockSlaveStatus(connection);
+        when(resultSet.getLong("Seconds_Behind_Master")).thenReturn(6L);
+        assertThat(probe.probe(connection), is(6000L));
+    }
+    
+    private void mockDatabaseVersion(final Connection connection, final int majorVersion, final int minorVersion, final String productVersion) throws SQLException {
+        when(connection.getMetaData().getDatabaseMajorVersion()).thenReturn(majorVersion);
+        when(connection.getMetaData().getDatabaseMinorVersion()).thenReturn(minorVersion);
+        when(connection.getMetaData().getDatabaseProductVersion()).thenReturn(productVersion);
+    }
+    
+    private ResultSet mockSlaveStatus(final Connection connection) throws SQLException {
+        ResultSet result = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        when(connection.createStatement().executeQuery("SHOW SLAVE STATUS")).thenReturn(result);
+        when(result.next()).thenReturn(true);
+        when(result.getMetaData().getColumnCount()).thenReturn(1);
+        when(result.getMetaData().getColumnLabel(1)).thenReturn("Seconds_Behind_Master");
+        return result;
+    }
+    
+    private ResultSet mockReplicaStatus(final Connection connection, final String secondsBehindColumnLabel) throws SQLException {
+        mockDatabaseVersion(connection, 8, 0, "8.0.22");
+        ResultSet result = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS")).thenReturn(result);
+        when(result.next()).thenReturn(true);
+        when(result.getMetaData().getColumnCount()).thenReturn(1);
+        when(result.getMetaData().getColumnLabel(1)).thenReturn(secondsBehindColumnLabel);
+        return result;
+    }
+}
@@ -34,7 +34,8 @@ class ReadwriteSplittingRuleNodePathProviderTest {
         assertThat(actualRuleNodePath.getNamedItems().size(), is(2));
         assertTrue(actualRuleNodePath.getNamedItems().containsKey(ReadwriteSplittingRuleNodePathProvider.DATA_SOURCE_GROUPS));
         assertTrue(actualRuleNodePath.getNamedItems().containsKey(ReadwriteSplittingRuleNodePathProvider.LOAD_BALANCERS));
-        assertTrue(actualRuleNodePath.getUniqueItems().isEmpty());
+        assertThat(actualRuleNodePath.getUniqueItems().size(), is(1));
+        assertTrue(actualRuleNodePath.getUniqueItems().containsKey(ReadwriteSplittingRuleNodePathProvider.REPLICATION_LAG_PROBE));
         assertThat(actualRuleNodePath.getRoot().getRuleType(), is(ReadwriteSplittingRuleNodePathProvider.RULE_TYPE));
     }
 }
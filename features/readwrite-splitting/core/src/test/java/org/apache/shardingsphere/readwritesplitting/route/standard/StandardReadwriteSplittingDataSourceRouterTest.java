@@ -50,4 +50,17 @@ class StandardReadwriteSplittingDataSourceRouterTest {
         rule.disableDataSource("read_ds_0");
         assertThat(new StandardReadwriteSplittingDataSourceRouter().route(rule), is("read_ds_1"));
     }
+    
+    @Test
+    void assertRouteWithDelayedDataSource() {
+        rule.markDelayed("read_ds_0");
+        assertThat(new StandardReadwriteSplittingDataSourceRouter().route(rule), is("read_ds_1"));
+    }
+    
+    @Test
+    void assertRouteToWriteDataSourceWhenAllReadDataSourcesDelayed() {
+        rule.markDelayed("read_ds_0");
+        rule.markDelayed("read_ds_1");
+        assertThat(new StandardReadwriteSplittingDataSourceRouter().route(rule), is("write_ds"));
+    }
 }
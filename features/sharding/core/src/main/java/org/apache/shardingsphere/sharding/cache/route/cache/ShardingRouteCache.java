@@ -22,6 +22,7 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 
 import java.util.Optional;
+import java.util.function.Predicate;
 
 /**
  * Cache for sharding route.
@@ -61,4 +62,18 @@ public final class ShardingRouteCache {
     public Optional<ShardingRouteCacheValue> get(final ShardingRouteCacheKey key) {
         return Optional.ofNullable(cache.getIfPresent(key));
     }
+    
+    /**
+     * Cache route results of other route cache.
+     *
+     * @param routeCache route cache to be copied from
+     * @param filter filter of route results to be copied
+     */
+    public void putAll(final ShardingRouteCache routeCache, final Predicate<ShardingRouteCacheValue> filter) {
+        routeCache.cache.asMap().forEach((key, value) -> {
+            if (filter.test(value)) {
+                cache.put(key, value);
+            }
+        });
+    }
 }
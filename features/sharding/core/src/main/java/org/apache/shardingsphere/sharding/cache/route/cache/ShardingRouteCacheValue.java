@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 /**
  * Value of sharding route cache.
@@ -53,6 +54,16 @@ public final class ShardingRouteCacheValue {
         return cacheable ? Optional.of(deepCopyRouteContext()) : Optional.empty();
     }
     
+    /**
+     * Judge whether all logic tables of cached route context are matched.
+     *
+     * @param matcher logic table matcher
+     * @return all logic tables are matched or not, always false if not cacheable
+     */
+    public boolean isAllLogicTablesMatched(final Predicate<String> matcher) {
+        return cacheable && cachedRouteContext.getRouteUnits().stream().flatMap(each -> each.getTableMappers().stream()).allMatch(each -> matcher.test(each.getLogicName()));
+    }
+    
     private RouteContext deepCopyRouteContext() {
         RouteContext result = new RouteContext();
         result.getOriginalDataNodes().addAll(deepCopyOriginalDataNodes());
@@ -17,17 +17,26 @@
 
 package org.apache.shardingsphere.sharding.route.engine;
 
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.type.CursorAvailable;
+import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.route.SQLRouter;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.statistics.route.RouteStatisticsRegistry;
 import org.apache.shardingsphere.sharding.cache.route.CachedShardingSQLRouter;
 import org.apache.shardingsphere.sharding.constant.ShardingOrder;
+import org.apache.shardingsphere.sharding.exception.audit.FullRouteDMLShardsExceededException;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
 import org.apache.shardingsphere.sharding.route.engine.condition.engine.ShardingConditionEngine;
@@ -35,6 +44,7 @@ import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngineF
 import org.apache.shardingsphere.sharding.route.engine.validator.ShardingStatementValidator;
 import org.apache.shardingsphere.sharding.route.engine.validator.ShardingStatementValidatorFactory;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.ShardingTable;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DMLStatement;
 
@@ -46,11 +56,19 @@ import java.util.Optional;
  * Sharding SQL router.
  */
 @HighFrequencyInvocation
+@Slf4j
 public final class ShardingSQLRouter implements SQLRouter<ShardingRule> {
     
     @Override
     public RouteContext createRouteContext(final QueryContext queryContext, final RuleMetaData globalRuleMetaData, final ShardingSphereDatabase database, final ShardingRule rule,
                                            final ConfigurationProperties props, final ConnectionContext connectionContext) {
+        RouteContext result = loadRouteContext(queryContext, globalRuleMetaData, database, rule, props, connectionContext);
+        checkFanOut(queryContext.getSqlStatementContext(), database.getName(), rule, props, result);
+        return result;
+    }
+    
+    private RouteContext loadRouteContext(final QueryContext queryContext, final RuleMetaData globalRuleMetaData, final ShardingSphereDatabase database, final ShardingRule rule,
+                                          final ConfigurationProperties props, final ConnectionContext connectionContext) {
         if (rule.isShardingCacheEnabled()) {
             Optional<RouteContext> result = new CachedShardingSQLRouter()
                     .loadRouteContext(this::createRouteContext0, queryContext, globalRuleMetaData, database, rule.getShardingCache(), props, connectionContext);
@@ -86,6 +104,43 @@ public final class ShardingSQLRouter implements SQLRouter<ShardingRule> {
         return new ShardingConditions(shardingConditions, queryContext.getSqlStatementContext(), rule);
     }
     
+    private void checkFanOut(final SQLStatementContext sqlStatementContext, final String databaseName, final ShardingRule rule, final ConfigurationProperties props, final RouteContext routeContext) {
+        boolean statisticsEnabled = props.<Boolean>getValue(ConfigurationPropertyKey.SQL_STATISTICS_ENABLED);
+        int maxFullRouteShards = props.<Integer>getValue(ConfigurationPropertyKey.FULL_ROUTE_DML_MAX_SHARDS);
+        if (!statisticsEnabled && maxFullRouteShards <= 0 || !(sqlStatementContext instanceof TableAvailable)) {
+            return;
+        }
+        boolean isDML = sqlStatementContext.getSqlStatement() instanceof DMLStatement;
+        for (String each : ((TableAvailable) sqlStatementContext).getTablesContext().getTableNames()) {
+            ShardingTable shardingTable = rule.getShardingTables().get(each);
+            if (null == shardingTable) {
+                continue;
+            }
+            int fanOut = getFanOut(routeContext, shardingTable.getLogicTable());
+            boolean isAllShards = fanOut > 1 && fanOut >= shardingTable.getActualDataNodes().size();
+            if (isDML && isAllShards && maxFullRouteShards > 0 && fanOut > maxFullRouteShards) {
+                ShardingSpherePreconditions.checkState(!props.<Boolean>getValue(ConfigurationPropertyKey.FULL_ROUTE_DML_REJECT_ENABLED),
+                        () -> new FullRouteDMLShardsExceededException(fanOut, shardingTable.getLogicTable(), maxFullRouteShards));
+                log.warn("DML routed to all {} actual tables of table `{}`, max full route shards is {}.", fanOut, shardingTable.getLogicTable(), maxFullRouteShards);
+            }
+            if (statisticsEnabled) {
+                RouteStatisticsRegistry.getInstance().getTableStatistics(databaseName, shardingTable.getLogicTable()).record(fanOut, isDML && isAllShards, !isDML && isAllShards);
+            }
+        }
+    }
+    
+    private int getFanOut(final RouteContext routeContext, final String logicTable) {
+        int result = 0;
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            for (RouteMapper tableMapper : each.getTableMappers()) {
+                if (logicTable.equalsIgnoreCase(tableMapper.getLogicName())) {
+                    result++;
+                }
+            }
+        }
+        return result;
+    }
+    
     @Override
     public void decorateRouteContext(final RouteContext routeContext, final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingRule rule,
                                      final ConfigurationProperties props, final ConnectionContext connectionContext) {
@@ -20,7 +20,10 @@ package org.apache.shardingsphere.sharding.rule;
 import com.cedarsoftware.util.CaseInsensitiveMap;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.algorithm.core.ShardingSphereAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
 import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
@@ -38,6 +41,7 @@ import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.rule.scope.DatabaseRule;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheConfiguration;
 import org.apache.shardingsphere.sharding.api.config.rule.ShardingAutoTableRuleConfiguration;
 import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableReferenceRuleConfiguration;
 import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
@@ -63,10 +67,12 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.Whe
 import org.apache.shardingsphere.sql.parser.sql.common.util.ExpressionExtractUtils;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -80,6 +86,9 @@ import java.util.stream.Collectors;
 
 /**
  * Sharding rule.
+ * 
+ * <p>Sharding rule could be built from previous sharding rule in copy-on-write way, sharding tables and algorithms built from the same configuration instances are reused,
+ * and cached routes of unchanged tables are kept.</p>
  */
 @Getter
 public final class ShardingRule implements DatabaseRule {
@@ -116,14 +125,29 @@ public final class ShardingRule implements DatabaseRule {
     
     private final ShardingRuleChecker shardingRuleChecker = new ShardingRuleChecker(this);
     
+    @Getter(AccessLevel.NONE)
+    private final Map<Object, ShardingTable> builtShardingTables = new IdentityHashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<AlgorithmConfiguration, ShardingSphereAlgorithm> builtAlgorithms = new IdentityHashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final String defaultGenerateKeyColumn;
+    
     public ShardingRule(final ShardingRuleConfiguration ruleConfig, final Map<String, DataSource> dataSources, final ComputeNodeInstanceContext computeNodeInstanceContext) {
+        this(ruleConfig, dataSources, computeNodeInstanceContext, null);
+    }
+    
+    public ShardingRule(final ShardingRuleConfiguration ruleConfig, final Map<String, DataSource> dataSources, final ComputeNodeInstanceContext computeNodeInstanceContext,
+                        final ShardingRule previousRule) {
         configuration = ruleConfig;
-        dataSourceNames = getDataSourceNames(ruleConfig.getTables(), ruleConfig.getAutoTables(), dataSources.keySet());
-        ruleConfig.getShardingAlgorithms().forEach((key, value) -> shardingAlgorithms.put(key, TypedSPILoader.getService(ShardingAlgorithm.class, value.getType(), value.getProps())));
-        ruleConfig.getKeyGenerators().forEach((key, value) -> keyGenerators.put(key, TypedSPILoader.getService(KeyGenerateAlgorithm.class, value.getType(), value.getProps())));
-        ruleConfig.getAuditors().forEach((key, value) -> auditors.put(key, TypedSPILoader.getService(ShardingAuditAlgorithm.class, value.getType(), value.getProps())));
-        shardingTables.putAll(createShardingTables(ruleConfig.getTables(), ruleConfig.getDefaultKeyGenerateStrategy()));
-        shardingTables.putAll(createShardingAutoTables(ruleConfig.getAutoTables(), ruleConfig.getDefaultKeyGenerateStrategy()));
+        dataSourceNames = getDataSourceNames(ruleConfig.getTables(), ruleConfig.getAutoTables(), dataSources.keySet(), previousRule);
+        ruleConfig.getShardingAlgorithms().forEach((key, value) -> shardingAlgorithms.put(key, createAlgorithm(ShardingAlgorithm.class, value, previousRule)));
+        ruleConfig.getKeyGenerators().forEach((key, value) -> keyGenerators.put(key, createAlgorithm(KeyGenerateAlgorithm.class, value, previousRule)));
+        ruleConfig.getAuditors().forEach((key, value) -> auditors.put(key, createAlgorithm(ShardingAuditAlgorithm.class, value, previousRule)));
+        defaultGenerateKeyColumn = getDefaultGenerateKeyColumn(ruleConfig.getDefaultKeyGenerateStrategy());
+        shardingTables.putAll(createShardingTables(ruleConfig.getTables(), previousRule));
+        shardingTables.putAll(createShardingAutoTables(ruleConfig.getAutoTables(), previousRule));
         bindingTableRules.putAll(createBindingTableRules(ruleConfig.getBindingTableGroups()));
         defaultDatabaseShardingStrategyConfig = createDefaultDatabaseShardingStrategyConfiguration(ruleConfig);
         defaultTableShardingStrategyConfig = createDefaultTableShardingStrategyConfiguration(ruleConfig);
@@ -137,11 +161,20 @@ public final class ShardingRule implements DatabaseRule {
         if (defaultKeyGenerateAlgorithm instanceof ComputeNodeInstanceContextAware && -1 == computeNodeInstanceContext.getWorkerId()) {
             ((ComputeNodeInstanceContextAware) defaultKeyGenerateAlgorithm).setComputeNodeInstanceContext(computeNodeInstanceContext);
         }
-        shardingCache = null == ruleConfig.getShardingCache() ? null : new ShardingCache(ruleConfig.getShardingCache(), this);
+        shardingCache = null == ruleConfig.getShardingCache() ? null : createShardingCache(ruleConfig.getShardingCache(), previousRule);
         attributes = new RuleAttributes(new ShardingDataNodeRuleAttribute(shardingTables), new ShardingTableNamesRuleAttribute(shardingTables.values()));
         shardingRuleChecker.check(ruleConfig);
     }
     
+    private <T extends ShardingSphereAlgorithm> T createAlgorithm(final Class<T> algorithmClass, final AlgorithmConfiguration algorithmConfig, final ShardingRule previousRule) {
+        ShardingSphereAlgorithm previousAlgorithm = null == previousRule ? null : previousRule.builtAlgorithms.get(algorithmConfig);
+        T result = algorithmClass.isInstance(previousAlgorithm)
+                ? algorithmClass.cast(previousAlgorithm)
+                : TypedSPILoader.getService(algorithmClass, algorithmConfig.getType(), algorithmConfig.getProps());
+        builtAlgorithms.put(algorithmConfig, result);
+        return result;
+    }
+    
     private ShardingStrategyConfiguration createDefaultDatabaseShardingStrategyConfiguration(final ShardingRuleConfiguration ruleConfig) {
         Optional.ofNullable(ruleConfig.getDefaultDatabaseShardingStrategy()).ifPresent(optional -> checkManualShardingAlgorithm(optional.getShardingAlgorithmName(), "default"));
         return null == ruleConfig.getDefaultDatabaseShardingStrategy() ? new NoneShardingStrategyConfiguration() : ruleConfig.getDefaultDatabaseShardingStrategy();
@@ -152,8 +185,8 @@ public final class ShardingRule implements DatabaseRule {
         return null == ruleConfig.getDefaultTableShardingStrategy() ? new NoneShardingStrategyConfiguration() : ruleConfig.getDefaultTableShardingStrategy();
     }
     
-    private Collection<String> getDataSourceNames(final Collection<ShardingTableRuleConfiguration> tableRuleConfigs,
-                                                  final Collection<ShardingAutoTableRuleConfiguration> autoTableRuleConfigs, final Collection<String> dataSourceNames) {
+    private Collection<String> getDataSourceNames(final Collection<ShardingTableRuleConfiguration> tableRuleConfigs, final Collection<ShardingAutoTableRuleConfiguration> autoTableRuleConfigs,
+                                                  final Collection<String> dataSourceNames, final ShardingRule previousRule) {
         if (tableRuleConfigs.isEmpty() && autoTableRuleConfigs.isEmpty()) {
             return dataSourceNames;
         }
@@ -161,7 +194,7 @@ public final class ShardingRule implements DatabaseRule {
             return dataSourceNames;
         }
         Collection<String> result = new LinkedHashSet<>();
-        tableRuleConfigs.forEach(each -> result.addAll(getDataSourceNames(each)));
+        tableRuleConfigs.forEach(each -> result.addAll(getDataSourceNames(each, previousRule)));
         autoTableRuleConfigs.forEach(each -> result.addAll(getDataSourceNames(each)));
         return result;
     }
@@ -171,21 +204,39 @@ public final class ShardingRule implements DatabaseRule {
         return new HashSet<>(actualDataSources);
     }
     
+    private Collection<String> getDataSourceNames(final ShardingTableRuleConfiguration shardingTableRuleConfig, final ShardingRule previousRule) {
+        ShardingTable previousShardingTable = null == previousRule ? null : previousRule.builtShardingTables.get(shardingTableRuleConfig);
+        return null == previousShardingTable ? getDataSourceNames(shardingTableRuleConfig) : previousShardingTable.getActualDataSourceNames();
+    }
+    
     private Collection<String> getDataSourceNames(final ShardingTableRuleConfiguration shardingTableRuleConfig) {
         List<String> actualDataNodes = InlineExpressionParserFactory.newInstance(shardingTableRuleConfig.getActualDataNodes()).splitAndEvaluate();
         return actualDataNodes.stream().map(each -> new DataNode(each).getDataSourceName()).collect(Collectors.toList());
     }
     
-    private Map<String, ShardingTable> createShardingTables(final Collection<ShardingTableRuleConfiguration> tableRuleConfigs,
-                                                            final KeyGenerateStrategyConfiguration defaultKeyGenerateStrategyConfig) {
-        return tableRuleConfigs.stream().map(each -> createShardingTable(each, defaultKeyGenerateStrategyConfig))
+    private Map<String, ShardingTable> createShardingTables(final Collection<ShardingTableRuleConfiguration> tableRuleConfigs, final ShardingRule previousRule) {
+        return tableRuleConfigs.stream().map(each -> createShardingTable(each, previousRule))
                 .collect(Collectors.toMap(ShardingTable::getLogicTable, Function.identity(), (oldValue, currentValue) -> oldValue, CaseInsensitiveMap::new));
     }
     
-    private ShardingTable createShardingTable(final ShardingTableRuleConfiguration tableRuleConfig, final KeyGenerateStrategyConfiguration defaultKeyGenerateStrategyConfig) {
+    private ShardingTable createShardingTable(final ShardingTableRuleConfiguration tableRuleConfig, final ShardingRule previousRule) {
         Optional.ofNullable(tableRuleConfig.getDatabaseShardingStrategy()).ifPresent(optional -> checkManualShardingAlgorithm(optional.getShardingAlgorithmName(), tableRuleConfig.getLogicTable()));
         Optional.ofNullable(tableRuleConfig.getTableShardingStrategy()).ifPresent(optional -> checkManualShardingAlgorithm(optional.getShardingAlgorithmName(), tableRuleConfig.getLogicTable()));
-        return new ShardingTable(tableRuleConfig, dataSourceNames, getDefaultGenerateKeyColumn(defaultKeyGenerateStrategyConfig));
+        ShardingTable result = findReusableShardingTable(tableRuleConfig, previousRule, Strings.isNullOrEmpty(tableRuleConfig.getActualDataNodes()))
+                .orElseGet(() -> new ShardingTable(tableRuleConfig, dataSourceNames, defaultGenerateKeyColumn));
+        builtShardingTables.put(tableRuleConfig, result);
+        return result;
+    }
+    
+    private Optional<ShardingTable> findReusableShardingTable(final Object tableRuleConfig, final ShardingRule previousRule, final boolean isDataNodesGenerated) {
+        ShardingTable result = null == previousRule ? null : previousRule.builtShardingTables.get(tableRuleConfig);
+        if (null == result || !Objects.equals(defaultGenerateKeyColumn, previousRule.defaultGenerateKeyColumn)) {
+            return Optional.empty();
+        }
+        boolean isDataSourcesMatched = isDataNodesGenerated
+                ? new ArrayList<>(dataSourceNames).equals(new ArrayList<>(previousRule.dataSourceNames))
+                : dataSourceNames.containsAll(result.getActualDataSourceNames());
+        return isDataSourcesMatched ? Optional.of(result) : Optional.empty();
     }
     
     private void checkManualShardingAlgorithm(final String shardingAlgorithmName, final String logicTable) {
@@ -194,16 +245,19 @@ public final class ShardingRule implements DatabaseRule {
                 () -> new AlgorithmInitializationException(shardingAlgorithm, "`%s` tables sharding configuration can not use auto sharding algorithm.", logicTable));
     }
     
-    private Map<String, ShardingTable> createShardingAutoTables(final Collection<ShardingAutoTableRuleConfiguration> autoTableRuleConfigs,
-                                                                final KeyGenerateStrategyConfiguration defaultKeyGenerateStrategyConfig) {
-        return autoTableRuleConfigs.stream().map(each -> createShardingAutoTable(defaultKeyGenerateStrategyConfig, each))
+    private Map<String, ShardingTable> createShardingAutoTables(final Collection<ShardingAutoTableRuleConfiguration> autoTableRuleConfigs, final ShardingRule previousRule) {
+        return autoTableRuleConfigs.stream().map(each -> createShardingAutoTable(each, previousRule))
                 .collect(Collectors.toMap(ShardingTable::getLogicTable, Function.identity(), (oldValue, currentValue) -> oldValue, CaseInsensitiveMap::new));
     }
     
-    private ShardingTable createShardingAutoTable(final KeyGenerateStrategyConfiguration defaultKeyGenerateStrategyConfig, final ShardingAutoTableRuleConfiguration autoTableRuleConfig) {
-        checkAutoShardingAlgorithm(autoTableRuleConfig.getShardingStrategy().getShardingAlgorithmName(), autoTableRuleConfig.getLogicTable());
-        ShardingAlgorithm shardingAlgorithm = shardingAlgorithms.get(autoTableRuleConfig.getShardingStrategy().getShardingAlgorithmName());
-        return new ShardingTable(autoTableRuleConfig, dataSourceNames, (ShardingAutoTableAlgorithm) shardingAlgorithm, getDefaultGenerateKeyColumn(defaultKeyGenerateStrategyConfig));
+    private ShardingTable createShardingAutoTable(final ShardingAutoTableRuleConfiguration autoTableRuleConfig, final ShardingRule previousRule) {
+        String shardingAlgorithmName = autoTableRuleConfig.getShardingStrategy().getShardingAlgorithmName();
+        checkAutoShardingAlgorithm(shardingAlgorithmName, autoTableRuleConfig.getLogicTable());
+        ShardingAlgorithm shardingAlgorithm = shardingAlgorithms.get(shardingAlgorithmName);
+        ShardingTable result = findReusableShardingTable(autoTableRuleConfig, previousRule, true).filter(optional -> shardingAlgorithm == previousRule.shardingAlgorithms.get(shardingAlgorithmName))
+                .orElseGet(() -> new ShardingTable(autoTableRuleConfig, dataSourceNames, (ShardingAutoTableAlgorithm) shardingAlgorithm, defaultGenerateKeyColumn));
+        builtShardingTables.put(autoTableRuleConfig, result);
+        return result;
     }
     
     private void checkAutoShardingAlgorithm(final String shardingAlgorithmName, final String logicTable) {
@@ -235,6 +289,33 @@ public final class ShardingRule implements DatabaseRule {
         return result;
     }
     
+    private ShardingCache createShardingCache(final ShardingCacheConfiguration shardingCacheConfig, final ShardingRule previousRule) {
+        ShardingCache result = new ShardingCache(shardingCacheConfig, this);
+        if (null != previousRule && null != previousRule.shardingCache && isRouteCacheReusable(shardingCacheConfig, previousRule)) {
+            result.getRouteCache().putAll(previousRule.shardingCache.getRouteCache(), each -> each.isAllLogicTablesMatched(logicTable -> isRouteUnchanged(logicTable, previousRule)));
+        }
+        return result;
+    }
+    
+    private boolean isRouteCacheReusable(final ShardingCacheConfiguration shardingCacheConfig, final ShardingRule previousRule) {
+        return shardingCacheConfig == previousRule.shardingCache.getConfiguration() && Objects.equals(defaultShardingColumn, previousRule.defaultShardingColumn)
+                && isSameShardingStrategy(defaultDatabaseShardingStrategyConfig, previousRule.defaultDatabaseShardingStrategyConfig)
+                && isSameShardingStrategy(defaultTableShardingStrategyConfig, previousRule.defaultTableShardingStrategyConfig)
+                && shardingAlgorithms.size() == previousRule.shardingAlgorithms.size()
+                && shardingAlgorithms.entrySet().stream().allMatch(entry -> entry.getValue() == previousRule.shardingAlgorithms.get(entry.getKey()));
+    }
+    
+    private boolean isSameShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfig, final ShardingStrategyConfiguration previousShardingStrategyConfig) {
+        return shardingStrategyConfig == previousShardingStrategyConfig
+                || shardingStrategyConfig instanceof NoneShardingStrategyConfiguration && previousShardingStrategyConfig instanceof NoneShardingStrategyConfiguration;
+    }
+    
+    private boolean isRouteUnchanged(final String logicTable, final ShardingRule previousRule) {
+        return shardingTables.get(logicTable) == previousRule.shardingTables.get(logicTable)
+                && Objects.equals(findBindingTableRule(logicTable).map(optional -> new ArrayList<>(optional.getAllLogicTables())),
+                        previousRule.findBindingTableRule(logicTable).map(optional -> new ArrayList<>(optional.getAllLogicTables())));
+    }
+    
     /**
      * Get database sharding strategy configuration.
      *
@@ -28,18 +28,39 @@ import org.apache.shardingsphere.sharding.constant.ShardingOrder;
 import org.apache.shardingsphere.sharding.exception.metadata.MissingRequiredShardingConfigurationException;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 
+import java.lang.ref.WeakReference;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
 
 /**
  * Sharding rule builder.
+ * 
+ * <p>The latest sharding rule built from each rule configuration instance is weakly remembered,
+ * so the sharding rule rebuilt from the same changed configuration could reuse the unchanged parts of it.</p>
  */
 public final class ShardingRuleBuilder implements DatabaseRuleBuilder<ShardingRuleConfiguration> {
     
+    private final Map<ShardingRuleConfiguration, WeakReference<ShardingRule>> latestBuiltRules = Collections.synchronizedMap(new WeakHashMap<>());
+    
     @Override
     public ShardingRule build(final ShardingRuleConfiguration ruleConfig, final String databaseName, final DatabaseType protocolType,
                               final ResourceMetaData resourceMetaData, final Collection<ShardingSphereRule> builtRules, final ComputeNodeInstanceContext computeNodeInstanceContext) {
         ShardingSpherePreconditions.checkNotEmpty(resourceMetaData.getDataSourceMap(), () -> new MissingRequiredShardingConfigurationException("Data source", databaseName));
-        return new ShardingRule(ruleConfig, resourceMetaData.getDataSourceMap(), computeNodeInstanceContext);
+        ShardingRule result = new ShardingRule(ruleConfig, resourceMetaData.getDataSourceMap(), computeNodeInstanceContext, findPreviousRule(ruleConfig, builtRules).orElse(null));
+        latestBuiltRules.put(ruleConfig, new WeakReference<>(result));
+        return result;
+    }
+    
+    private Optional<ShardingRule> findPreviousRule(final ShardingRuleConfiguration ruleConfig, final Collection<ShardingSphereRule> builtRules) {
+        Optional<ShardingRule> result = builtRules.stream().filter(ShardingRule.class::isInstance).map(ShardingRule.class::cast).findFirst();
+        if (result.isPresent()) {
+            return result;
+        }
+        WeakReference<ShardingRule> latestBuiltRule = latestBuiltRules.get(ruleConfig);
+        return null == latestBuiltRule ? Optional.empty() : Optional.ofNullable(latestBuiltRule.get());
     }
     
     @Override
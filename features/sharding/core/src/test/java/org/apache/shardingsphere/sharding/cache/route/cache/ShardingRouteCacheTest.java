@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.sharding.cache.route.cache;
 
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 import org.junit.jupiter.api.Test;
 
@@ -36,4 +38,23 @@ class ShardingRouteCacheTest {
         cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
         assertTrue(cache.get(key).isPresent());
     }
+    
+    @Test
+    void assertPutAllWithFilter() {
+        ShardingRouteCache previousCache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(true, 1, 2));
+        ShardingRouteCacheKey fooKey = new ShardingRouteCacheKey("select name from t_foo where id = ?", Collections.singletonList(1));
+        ShardingRouteCacheKey barKey = new ShardingRouteCacheKey("select name from t_bar where id = ?", Collections.singletonList(1));
+        previousCache.put(fooKey, new ShardingRouteCacheValue(createRouteContext("t_foo")));
+        previousCache.put(barKey, new ShardingRouteCacheValue(createRouteContext("t_bar")));
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(true, 1, 2));
+        cache.putAll(previousCache, each -> each.isAllLogicTablesMatched("t_foo"::equals));
+        assertTrue(cache.get(fooKey).isPresent());
+        assertFalse(cache.get(barKey).isPresent());
+    }
+    
+    private RouteContext createRouteContext(final String logicTable) {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper(logicTable, logicTable + "_0"))));
+        return result;
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
+import org.apache.shardingsphere.infra.statistics.route.RouteStatisticsRegistry;
+import org.apache.shardingsphere.infra.statistics.route.TableRouteStatistics;
+import org.apache.shardingsphere.sharding.exception.audit.FullRouteDMLShardsExceededException;
+import org.apache.shardingsphere.sharding.route.engine.type.standard.assertion.ShardingRouteAssert;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardingSQLRouterTest {
+    
+    @AfterEach
+    void reset() {
+        RouteStatisticsRegistry.getInstance().clear();
+    }
+    
+    @Test
+    void assertRecordRouteStatistics() {
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.SQL_STATISTICS_ENABLED.getKey(), Boolean.TRUE.toString())));
+        ShardingRouteAssert.assertRoute("UPDATE t_order SET status = ?", Collections.singletonList(1), props);
+        ShardingRouteAssert.assertRoute("SELECT * FROM t_order WHERE user_id = ?", Collections.singletonList(1), props);
+        TableRouteStatistics actual = RouteStatisticsRegistry.getInstance().getTableStatistics(DefaultDatabase.LOGIC_NAME, "t_order");
+        assertThat(actual.getRouteCount(), is(2L));
+        assertThat(actual.getFanOutSum(), is(5L));
+        assertThat(actual.getFullRouteCount(), is(1L));
+        assertThat(actual.getBroadcastRouteCount(), is(0L));
+    }
+    
+    @Test
+    void assertNotRecordRouteStatisticsWhenDisabled() {
+        ShardingRouteAssert.assertRoute("UPDATE t_order SET status = ?", Collections.singletonList(1));
+        assertTrue(RouteStatisticsRegistry.getInstance().getAllTableStatistics().isEmpty());
+    }
+    
+    @Test
+    void assertWarnFullRouteDMLExceedMaxShards() {
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.FULL_ROUTE_DML_MAX_SHARDS.getKey(), "2")));
+        assertThat(ShardingRouteAssert.assertRoute("UPDATE t_order SET status = ?", Collections.singletonList(1), props).getRouteUnits().size(), is(4));
+    }
+    
+    @Test
+    void assertRejectFullRouteDMLExceedMaxShards() {
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(
+                new Property(ConfigurationPropertyKey.FULL_ROUTE_DML_MAX_SHARDS.getKey(), "2"),
+                new Property(ConfigurationPropertyKey.FULL_ROUTE_DML_REJECT_ENABLED.getKey(), Boolean.TRUE.toString())));
+        assertThrows(FullRouteDMLShardsExceededException.class, () -> ShardingRouteAssert.assertRoute("UPDATE t_order SET status = ?", Collections.singletonList(1), props));
+    }
+    
+    @Test
+    void assertNotRejectFullRouteDMLWithinMaxShards() {
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(
+                new Property(ConfigurationPropertyKey.FULL_ROUTE_DML_MAX_SHARDS.getKey(), "4"),
+                new Property(ConfigurationPropertyKey.FULL_ROUTE_DML_REJECT_ENABLED.getKey(), Boolean.TRUE.toString())));
+        assertThat(ShardingRouteAssert.assertRoute("UPDATE t_order SET status = ?", Collections.singletonList(1), props).getRouteUnits().size(), is(4));
+    }
+}
@@ -69,12 +69,23 @@ public final class ShardingRouteAssert {
      * @return route context
      */
     public static RouteContext assertRoute(final String sql, final List<Object> params) {
+        return assertRoute(sql, params, new ConfigurationProperties(new Properties()));
+    }
+    
+    /**
+     * Assert route with configuration properties.
+     * 
+     * @param sql SQL 
+     * @param params parameters
+     * @param props configuration properties
+     * @return route context
+     */
+    public static RouteContext assertRoute(final String sql, final List<Object> params, final ConfigurationProperties props) {
         DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
         ShardingRule shardingRule = ShardingRoutingEngineFixtureBuilder.createAllShardingRule();
         SingleRule singleRule = ShardingRoutingEngineFixtureBuilder.createSingleRule(Collections.singleton(shardingRule));
         TimestampServiceRule timestampServiceRule = ShardingRoutingEngineFixtureBuilder.createTimeServiceRule();
         Map<String, ShardingSphereSchema> schemas = buildSchemas();
-        ConfigurationProperties props = new ConfigurationProperties(new Properties());
         SQLStatementParserEngine sqlStatementParserEngine = new SQLStatementParserEngine(databaseType,
                 new CacheOption(2000, 65535L), new CacheOption(128, 1024L));
         RuleMetaData ruleMetaData = new RuleMetaData(Arrays.asList(shardingRule, singleRule, timestampServiceRule));
@@ -81,7 +81,9 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
@@ -116,6 +118,33 @@ class ShardingRuleTest {
         assertNull(actual.getDefaultShardingColumn());
     }
     
+    @Test
+    void assertNewShardingRuleWithPreviousRuleReusesUnchangedShardingTables() {
+        ShardingRule previousRule = createMaximumShardingRule();
+        ShardingRuleConfiguration ruleConfig = previousRule.getConfiguration();
+        ShardingTableRuleConfiguration changedTableRuleConfig = createTableRuleConfiguration("SUB_LOGIC_TABLE", "ds_${0..1}.sub_table_${0..2}");
+        changedTableRuleConfig.setKeyGenerateStrategy(new KeyGenerateStrategyConfiguration("order_id", "auto_increment"));
+        ruleConfig.getTables().removeIf(each -> "SUB_LOGIC_TABLE".equals(each.getLogicTable()));
+        ruleConfig.getTables().add(changedTableRuleConfig);
+        ShardingRule actual = new ShardingRule(ruleConfig, createDataSources(), mock(ComputeNodeInstanceContext.class), previousRule);
+        assertSame(actual.getShardingTable("logic_table"), previousRule.getShardingTable("logic_table"));
+        assertNotSame(actual.getShardingTable("sub_logic_table"), previousRule.getShardingTable("sub_logic_table"));
+        assertThat(actual.getShardingTable("sub_logic_table").getGenerateKeyColumn(), is(Optional.of("order_id")));
+        assertSame(actual.getDefaultKeyGenerateAlgorithm(), previousRule.getDefaultKeyGenerateAlgorithm());
+    }
+    
+    @Test
+    void assertNewShardingRuleWithPreviousRuleAndChangedDataSources() {
+        ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
+        ruleConfig.getTables().add(createTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}"));
+        ruleConfig.getTables().add(new ShardingTableRuleConfiguration("FOO_TABLE", null));
+        ShardingRule previousRule = new ShardingRule(ruleConfig, createDataSources(), mock(ComputeNodeInstanceContext.class));
+        ShardingRule actual = new ShardingRule(ruleConfig, Maps.of("ds_0", new MockedDataSource(), "ds_1", new MockedDataSource()), mock(ComputeNodeInstanceContext.class), previousRule);
+        assertSame(actual.getShardingTable("logic_table"), previousRule.getShardingTable("logic_table"));
+        assertNotSame(actual.getShardingTable("foo_table"), previousRule.getShardingTable("foo_table"));
+        assertThat(actual.getShardingTable("foo_table").getActualDataNodes().size(), is(2));
+    }
+    
     @Test
     void assertNewShardingRuleWithWrongShardingAlgorithmInDefaultDatabaseShardingStrategy() {
         ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Key segment, contains keys in range (max key - step, max key].
+ */
+public final class KeySegment {
+    
+    @Getter
+    private final long maxKey;
+    
+    private final long prefetchThresholdKey;
+    
+    private final AtomicLong cursor;
+    
+    private final AtomicBoolean prefetchTriggered = new AtomicBoolean();
+    
+    public KeySegment(final long maxKey, final int step, final double prefetchRatio) {
+        this.maxKey = maxKey;
+        long minKey = maxKey - step + 1L;
+        prefetchThresholdKey = minKey + (long) (step * prefetchRatio);
+        cursor = new AtomicLong(minKey);
+    }
+    
+    /**
+     * Reserve keys.
+     *
+     * @param keyCount expected key count
+     * @return first reserved key, the reserved keys are available only if first key is not greater than max key
+     */
+    public long reserve(final int keyCount) {
+        return cursor.getAndAdd(keyCount);
+    }
+    
+    /**
+     * Judge whether prefetch next segment should be triggered by current reservation, trigger only once for each segment.
+     *
+     * @param lastReservedKey last reserved key
+     * @return should trigger prefetch or not
+     */
+    public boolean triggerPrefetch(final long lastReservedKey) {
+        return lastReservedKey >= prefetchThresholdKey && !prefetchTriggered.get() && prefetchTriggered.compareAndSet(false, true);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Key segment buffer.
+ * 
+ * <p>Double buffered: keys are reserved from current segment lock-free, and next segment is leased asynchronously once current segment is consumed beyond prefetch ratio.
+ * First segment is leased on first key generation. Only leasing, prefetching and switching segments are synchronized, and only current segment can prefetch next segment.</p>
+ */
+public final class KeySegmentBuffer {
+    
+    private final String segmentName;
+    
+    private final int step;
+    
+    private final double prefetchRatio;
+    
+    private final ComputeNodeInstanceContext computeNodeInstanceContext;
+    
+    private final ExecutorService prefetchExecutor;
+    
+    private volatile KeySegment currentSegment;
+    
+    private volatile CompletableFuture<KeySegment> nextSegment;
+    
+    public KeySegmentBuffer(final String segmentName, final int step, final double prefetchRatio, final ComputeNodeInstanceContext computeNodeInstanceContext, final ExecutorService prefetchExecutor) {
+        this.segmentName = segmentName;
+        this.step = step;
+        this.prefetchRatio = prefetchRatio;
+        this.computeNodeInstanceContext = computeNodeInstanceContext;
+        this.prefetchExecutor = prefetchExecutor;
+    }
+    
+    /**
+     * Generate keys.
+     *
+     * @param result generated keys
+     * @param keyGenerateCount key generate count
+     */
+    public void generateKeys(final Collection<Long> result, final int keyGenerateCount) {
+        int remaining = keyGenerateCount;
+        while (remaining > 0) {
+            KeySegment segment = currentSegment;
+            if (null == segment) {
+                switchSegment(null);
+                continue;
+            }
+            long firstKey = segment.reserve(remaining);
+            if (firstKey > segment.getMaxKey()) {
+                switchSegment(segment);
+                continue;
+            }
+            long lastKey = Math.min(firstKey + remaining - 1L, segment.getMaxKey());
+            for (long each = firstKey; each <= lastKey; each++) {
+                result.add(each);
+            }
+            remaining -= (int) (lastKey - firstKey + 1L);
+            if (segment.triggerPrefetch(lastKey)) {
+                prefetchSegment(segment);
+            }
+        }
+    }
+    
+    private synchronized void prefetchSegment(final KeySegment triggeredSegment) {
+        if (triggeredSegment == currentSegment && null == nextSegment) {
+            nextSegment = CompletableFuture.supplyAsync(this::leaseSegment, prefetchExecutor);
+        }
+    }
+    
+    private synchronized void switchSegment(final KeySegment exhaustedSegment) {
+        if (exhaustedSegment != currentSegment) {
+            return;
+        }
+        CompletableFuture<KeySegment> prefetchedSegment = nextSegment;
+        nextSegment = null;
+        currentSegment = null == prefetchedSegment ? leaseSegment() : joinPrefetchedSegment(prefetchedSegment);
+    }
+    
+    private KeySegment joinPrefetchedSegment(final CompletableFuture<KeySegment> prefetchedSegment) {
+        try {
+            return prefetchedSegment.join();
+        } catch (final CompletionException ignored) {
+            return leaseSegment();
+        }
+    }
+    
+    private KeySegment leaseSegment() {
+        return new KeySegment(computeNodeInstanceContext.allocateKeySegment(segmentName, step), step, prefetchRatio);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmExecuteException;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContextAware;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Segment key generate algorithm.
+ * 
+ * <p>Leases key segments from persist repository of current mode, one segment for each logic table column.
+ * Keys are generated from memory and are dense and monotonic in one compute node, the next segment is prefetched asynchronously before current segment exhausted.
+ * Prefetch threads belong to the algorithm instance and end after idle, so they are released with the algorithm.</p>
+ */
+public final class SegmentKeyGenerateAlgorithm implements KeyGenerateAlgorithm, ComputeNodeInstanceContextAware {
+    
+    private static final String STEP_KEY = "step";
+    
+    private static final String PREFETCH_RATIO_KEY = "prefetch-ratio";
+    
+    private static final int DEFAULT_STEP = 1000;
+    
+    private static final double DEFAULT_PREFETCH_RATIO = 0.1D;
+    
+    private final ExecutorService prefetchExecutor = Executors.newCachedThreadPool(ExecutorThreadFactoryBuilder.build("SegmentKeyPrefetch-%d"));
+    
+    private final Map<String, KeySegmentBuffer> segmentBuffers = new ConcurrentHashMap<>();
+    
+    private int step;
+    
+    private double prefetchRatio;
+    
+    private ComputeNodeInstanceContext computeNodeInstanceContext;
+    
+    @Override
+    public void init(final Properties props) {
+        step = getStep(props);
+        prefetchRatio = getPrefetchRatio(props);
+    }
+    
+    private int getStep(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(STEP_KEY, DEFAULT_STEP).toString());
+        ShardingSpherePreconditions.checkState(result > 0, () -> new AlgorithmInitializationException(this, "Step must be positive."));
+        return result;
+    }
+    
+    private double getPrefetchRatio(final Properties props) {
+        double result = Double.parseDouble(props.getOrDefault(PREFETCH_RATIO_KEY, DEFAULT_PREFETCH_RATIO).toString());
+        ShardingSpherePreconditions.checkState(result >= 0D && result < 1D, () -> new AlgorithmInitializationException(this, "Prefetch ratio must be in range [0, 1)."));
+        return result;
+    }
+    
+    @Override
+    public void setComputeNodeInstanceContext(final ComputeNodeInstanceContext computeNodeInstanceContext) {
+        this.computeNodeInstanceContext = computeNodeInstanceContext;
+    }
+    
+    @Override
+    public Collection<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
+        ShardingSpherePreconditions.checkNotNull(computeNodeInstanceContext, () -> new AlgorithmExecuteException(this, "Compute node instance context is required to lease key segment."));
+        Collection<Long> result = new ArrayList<>(keyGenerateCount);
+        String segmentName = getSegmentName(context);
+        segmentBuffers.computeIfAbsent(segmentName, key -> new KeySegmentBuffer(key, step, prefetchRatio, computeNodeInstanceContext, prefetchExecutor)).generateKeys(result, keyGenerateCount);
+        return result;
+    }
+    
+    private String getSegmentName(final AlgorithmSQLContext context) {
+        return String.join(".", context.getDatabaseName(), context.getSchemaName(), context.getTableName(), context.getColumnName());
+    }
+    
+    @Override
+    public String getType() {
+        return "SEGMENT";
+    }
+}
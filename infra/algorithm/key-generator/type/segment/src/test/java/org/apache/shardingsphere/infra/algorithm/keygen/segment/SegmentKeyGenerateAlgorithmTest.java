@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmExecuteException;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContextAware;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SegmentKeyGenerateAlgorithmTest {
+    
+    private static final AlgorithmSQLContext ORDER_CONTEXT = new AlgorithmSQLContext("foo_db", "foo_schema", "t_order", "order_id");
+    
+    private static final AlgorithmSQLContext ORDER_ITEM_CONTEXT = new AlgorithmSQLContext("foo_db", "foo_schema", "t_order_item", "item_id");
+    
+    private final Map<String, AtomicLong> persistedMaxKeys = new ConcurrentHashMap<>();
+    
+    @Test
+    void assertGenerateKeys() {
+        KeyGenerateAlgorithm algorithm = createAlgorithm(PropertiesBuilder.build(new Property("step", "10")));
+        assertThat(algorithm.generateKeys(ORDER_CONTEXT, 3), is(LongStream.rangeClosed(1L, 3L).boxed().collect(Collectors.toList())));
+        assertThat(algorithm.generateKeys(ORDER_CONTEXT, 25), is(LongStream.rangeClosed(4L, 28L).boxed().collect(Collectors.toList())));
+    }
+    
+    @Test
+    void assertGenerateKeysWithDefaultStep() {
+        KeyGenerateAlgorithm algorithm = createAlgorithm(new Properties());
+        assertThat(algorithm.generateKeys(ORDER_CONTEXT, 1), is(LongStream.rangeClosed(1L, 1L).boxed().collect(Collectors.toList())));
+        assertThat(persistedMaxKeys.get("foo_db.foo_schema.t_order.order_id").get(), is(1000L));
+    }
+    
+    @Test
+    void assertGenerateKeysForDifferentColumns() {
+        KeyGenerateAlgorithm algorithm = createAlgorithm(PropertiesBuilder.build(new Property("step", "10")));
+        assertThat(algorithm.generateKeys(ORDER_CONTEXT, 2), is(LongStream.rangeClosed(1L, 2L).boxed().collect(Collectors.toList())));
+        assertThat(algorithm.generateKeys(ORDER_ITEM_CONTEXT, 2), is(LongStream.rangeClosed(1L, 2L).boxed().collect(Collectors.toList())));
+    }
+    
+    @Test
+    void assertPrefetchNextSegment() {
+        KeyGenerateAlgorithm algorithm = createAlgorithm(PropertiesBuilder.build(new Property("step", "10"), new Property("prefetch-ratio", "0.5")));
+        algorithm.generateKeys(ORDER_CONTEXT, 4);
+        assertThat(persistedMaxKeys.get("foo_db.foo_schema.t_order.order_id").get(), is(10L));
+        algorithm.generateKeys(ORDER_CONTEXT, 2);
+        Awaitility.await().atMost(5L, TimeUnit.SECONDS).until(() -> 20L == persistedMaxKeys.get("foo_db.foo_schema.t_order.order_id").get());
+        assertThat(algorithm.generateKeys(ORDER_CONTEXT, 8), is(LongStream.rangeClosed(7L, 14L).boxed().collect(Collectors.toList())));
+    }
+    
+    @Test
+    void assertGenerateKeysWithMultipleThreads() throws ExecutionException, InterruptedException {
+        int step = 100;
+        KeyGenerateAlgorithm algorithm = createAlgorithm(PropertiesBuilder.build(new Property("step", String.valueOf(step))));
+        int threadNumber = Runtime.getRuntime().availableProcessors() * 2;
+        int keyCountPerThread = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        try {
+            List<Future<Collection<? extends Comparable<?>>>> futures = new ArrayList<>(threadNumber);
+            for (int i = 0; i < threadNumber; i++) {
+                futures.add(executor.submit(() -> generateKeysOneByOne(algorithm, keyCountPerThread)));
+            }
+            Set<Object> actual = ConcurrentHashMap.newKeySet();
+            for (Future<Collection<? extends Comparable<?>>> each : futures) {
+                actual.addAll(each.get());
+            }
+            assertThat(actual.size(), is(threadNumber * keyCountPerThread));
+            assertTrue(persistedMaxKeys.get("foo_db.foo_schema.t_order.order_id").get() <= threadNumber * keyCountPerThread + step * 2L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private Collection<? extends Comparable<?>> generateKeysOneByOne(final KeyGenerateAlgorithm algorithm, final int keyCount) {
+        Collection<Comparable<?>> result = new ArrayList<>(keyCount);
+        for (int i = 0; i < keyCount; i++) {
+            result.addAll(algorithm.generateKeys(ORDER_CONTEXT, 1));
+        }
+        return result;
+    }
+    
+    @Test
+    void assertGenerateKeysWithoutComputeNodeInstanceContext() {
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT");
+        assertThrows(AlgorithmExecuteException.class, () -> algorithm.generateKeys(ORDER_CONTEXT, 1));
+    }
+    
+    @Test
+    void assertInitWithIllegalStep() {
+        assertThrows(AlgorithmInitializationException.class, () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", PropertiesBuilder.build(new Property("step", "0"))));
+    }
+    
+    @Test
+    void assertInitWithIllegalPrefetchRatio() {
+        assertThrows(AlgorithmInitializationException.class, () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", PropertiesBuilder.build(new Property("prefetch-ratio", "1"))));
+    }
+    
+    private KeyGenerateAlgorithm createAlgorithm(final Properties props) {
+        KeyGenerateAlgorithm result = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", props);
+        ComputeNodeInstanceContext computeNodeInstanceContext = mock(ComputeNodeInstanceContext.class);
+        when(computeNodeInstanceContext.allocateKeySegment(anyString(), anyInt())).thenAnswer(
+                invocation -> persistedMaxKeys.computeIfAbsent(invocation.getArgument(0), key -> new AtomicLong()).addAndGet(invocation.<Integer>getArgument(1)));
+        ((ComputeNodeInstanceContextAware) result).setComputeNodeInstanceContext(computeNodeInstanceContext);
+        return result;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.snowflake;
+
+/**
+ * Snowflake key block, which holds a contiguous range of sequences reserved in one millisecond.
+ */
+public final class SnowflakeKeyBlock {
+    
+    private final long keyPrefix;
+    
+    private final long lastSequence;
+    
+    private long nextSequence;
+    
+    public SnowflakeKeyBlock(final long keyPrefix, final long firstSequence, final long lastSequence) {
+        this.keyPrefix = keyPrefix;
+        this.lastSequence = lastSequence;
+        nextSequence = firstSequence;
+    }
+    
+    /**
+     * Get remaining key count.
+     *
+     * @return remaining key count
+     */
+    public int getRemaining() {
+        return (int) (lastSequence - nextSequence + 1L);
+    }
+    
+    /**
+     * Get next key.
+     *
+     * @return next key
+     */
+    public long nextKey() {
+        return keyPrefix | nextSequence++;
+    }
+}
@@ -30,8 +30,8 @@ import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContextAware;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.Properties;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -47,6 +47,10 @@ import java.util.concurrent.atomic.AtomicReference;
  *     10 bits worker process id.
  *     12 bits auto increment offset in one mills
  * </pre>
+ * 
+ * <p>In high throughput mode, the last millisecond and sequence are packed into one long and reserved by CAS instead of monitor,
+ * a batch reserves a range of sequences at once, and each thread can optionally buffer a block of keys.
+ * Keys are still unique, and monotonic in the order of reservation; buffered keys are monotonic per thread.</p>
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, ComputeNodeInstanceContextAware {
     
@@ -56,6 +60,10 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private static final String MAX_TOLERATE_TIME_DIFFERENCE_MILLIS_KEY = "max-tolerate-time-difference-milliseconds";
     
+    private static final String HIGH_THROUGHPUT_ENABLED_KEY = "high-throughput-enabled";
+    
+    private static final String THREAD_BUFFER_SIZE_KEY = "thread-buffer-size";
+    
     private static final long SEQUENCE_BITS = 12L;
     
     private static final long WORKER_ID_BITS = 10L;
@@ -72,6 +80,8 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private static final int DEFAULT_WORKER_ID = 0;
     
+    private static final int DEFAULT_THREAD_BUFFER_SIZE = 0;
+    
     @Setter
     private static TimeService timeService = new TimeService();
     
@@ -83,12 +93,20 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private final AtomicLong lastMillis = new AtomicLong();
     
+    private final AtomicLong lastMillisAndSequence = new AtomicLong();
+    
+    private final ThreadLocal<SnowflakeKeyBlock> bufferedKeyBlock = new ThreadLocal<>();
+    
     private Properties props;
     
     private int maxVibrationOffset;
     
     private int maxTolerateTimeDifferenceMillis;
     
+    private boolean highThroughputEnabled;
+    
+    private int threadBufferSize;
+    
     static {
         EPOCH = LocalDateTime.of(2016, 11, 1, 0, 0, 0).toInstant(ZoneId.systemDefault().getRules().getOffset(Instant.now())).toEpochMilli();
     }
@@ -98,6 +116,8 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         this.props = props;
         maxVibrationOffset = getMaxVibrationOffset(props);
         maxTolerateTimeDifferenceMillis = getMaxTolerateTimeDifferenceMillis(props);
+        highThroughputEnabled = Boolean.parseBoolean(props.getOrDefault(HIGH_THROUGHPUT_ENABLED_KEY, Boolean.FALSE).toString());
+        threadBufferSize = getThreadBufferSize(props);
     }
     
     private int getMaxVibrationOffset(final Properties props) {
@@ -112,6 +132,12 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         return result;
     }
     
+    private int getThreadBufferSize(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(THREAD_BUFFER_SIZE_KEY, DEFAULT_THREAD_BUFFER_SIZE).toString());
+        ShardingSpherePreconditions.checkState(result >= 0 && result <= SEQUENCE_MASK + 1L, () -> new AlgorithmInitializationException(this, "Illegal thread buffer size."));
+        return result;
+    }
+    
     @Override
     public void setComputeNodeInstanceContext(final ComputeNodeInstanceContext computeNodeInstanceContext) {
         this.computeNodeInstanceContext.set(computeNodeInstanceContext);
@@ -122,13 +148,68 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     @Override
     public Collection<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
-        Collection<Long> result = new LinkedList<>();
+        Collection<Long> result = new ArrayList<>(keyGenerateCount);
+        if (highThroughputEnabled) {
+            generateKeysWithoutLock(result, keyGenerateCount);
+            return result;
+        }
         for (int index = 0; index < keyGenerateCount; index++) {
             result.add(generateKey());
         }
         return result;
     }
     
+    private void generateKeysWithoutLock(final Collection<Long> result, final int keyGenerateCount) {
+        SnowflakeKeyBlock keyBlock = threadBufferSize > 0 ? bufferedKeyBlock.get() : null;
+        while (result.size() < keyGenerateCount) {
+            int remaining = keyGenerateCount - result.size();
+            if (null == keyBlock || 0 == keyBlock.getRemaining()) {
+                keyBlock = reserveKeyBlock(Math.max(remaining, threadBufferSize));
+            }
+            for (int i = Math.min(remaining, keyBlock.getRemaining()); i > 0; i--) {
+                result.add(keyBlock.nextKey());
+            }
+        }
+        if (threadBufferSize > 0) {
+            bufferedKeyBlock.set(keyBlock);
+        }
+    }
+    
+    private SnowflakeKeyBlock reserveKeyBlock(final int keyCount) {
+        while (true) {
+            long current = lastMillisAndSequence.get();
+            long lastReservedMillis = current >>> SEQUENCE_BITS;
+            long lastReservedSequence = current & SEQUENCE_MASK;
+            long currentMillis = timeService.getCurrentMillis();
+            if (currentMillis < lastReservedMillis) {
+                waitTolerateTimeDifference(lastReservedMillis, currentMillis);
+                continue;
+            }
+            if (currentMillis == lastReservedMillis && SEQUENCE_MASK == lastReservedSequence) {
+                waitUntilNextTime(currentMillis);
+                continue;
+            }
+            long firstSequence = currentMillis == lastReservedMillis ? lastReservedSequence + 1L : getVibratedSequenceOffset();
+            long lastSequence = Math.min(firstSequence + keyCount - 1L, SEQUENCE_MASK);
+            if (lastMillisAndSequence.compareAndSet(current, (currentMillis << SEQUENCE_BITS) | lastSequence)) {
+                return new SnowflakeKeyBlock(((currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS), firstSequence, lastSequence);
+            }
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void waitTolerateTimeDifference(final long lastReservedMillis, final long currentMillis) {
+        long timeDifferenceMillis = lastReservedMillis - currentMillis;
+        ShardingSpherePreconditions.checkState(timeDifferenceMillis < maxTolerateTimeDifferenceMillis,
+                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastReservedMillis, currentMillis));
+        Thread.sleep(timeDifferenceMillis);
+    }
+    
+    private long getVibratedSequenceOffset() {
+        vibrateSequenceOffset();
+        return sequenceOffset.get();
+    }
+    
     private synchronized Long generateKey() {
         long currentMillis = timeService.getCurrentMillis();
         if (waitTolerateTimeDifferenceIfNeed(currentMillis)) {
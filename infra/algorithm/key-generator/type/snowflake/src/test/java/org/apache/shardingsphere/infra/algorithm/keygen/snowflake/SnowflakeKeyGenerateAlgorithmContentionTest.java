@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.snowflake;
+
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class SnowflakeKeyGenerateAlgorithmContentionTest {
+    
+    private static final int KEY_COUNT_PER_THREAD = 2048;
+    
+    private static final int MAX_BATCH_SIZE = 16;
+    
+    @BeforeEach
+    void setUp() {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+    }
+    
+    @ParameterizedTest(name = "{0} with {1} threads")
+    @MethodSource("provideArguments")
+    void assertGenerateKeysUnderContention(final String name, final int threadCount, final Properties props) throws InterruptedException, ExecutionException {
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE", props);
+        Set<Long> actual = ConcurrentHashMap.newKeySet(threadCount * KEY_COUNT_PER_THREAD);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        try {
+            CountDownLatch startLatch = new CountDownLatch(1);
+            Collection<Future<Boolean>> futures = new LinkedList<>();
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executorService.submit(() -> generateKeys(algorithm, startLatch, actual)));
+            }
+            startLatch.countDown();
+            for (Future<Boolean> each : futures) {
+                assertTrue(each.get(), "Keys generated by one thread are not monotonic.");
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertThat(actual.size(), is(threadCount * KEY_COUNT_PER_THREAD));
+    }
+    
+    private boolean generateKeys(final KeyGenerateAlgorithm algorithm, final CountDownLatch startLatch, final Set<Long> actual) throws InterruptedException {
+        startLatch.await();
+        long lastKey = -1L;
+        int generatedCount = 0;
+        int batchSize = 1;
+        while (generatedCount < KEY_COUNT_PER_THREAD) {
+            int keyGenerateCount = Math.min(batchSize, KEY_COUNT_PER_THREAD - generatedCount);
+            for (Comparable<?> each : algorithm.generateKeys(mock(AlgorithmSQLContext.class), keyGenerateCount)) {
+                long key = (Long) each;
+                if (key <= lastKey) {
+                    return false;
+                }
+                lastKey = key;
+                actual.add(key);
+            }
+            generatedCount += keyGenerateCount;
+            batchSize = batchSize % MAX_BATCH_SIZE + 1;
+        }
+        return true;
+    }
+    
+    private static Stream<Arguments> provideArguments() {
+        List<Properties> modes = Arrays.asList(new Properties(),
+                PropertiesBuilder.build(new Property("high-throughput-enabled", Boolean.TRUE.toString())),
+                PropertiesBuilder.build(new Property("high-throughput-enabled", Boolean.TRUE.toString()), new Property("thread-buffer-size", "64")));
+        List<String> modeNames = Arrays.asList("synchronized", "high throughput", "high throughput with thread buffer");
+        return IntStream.of(1, 2, 4, 8, 16, 32, 64).boxed().flatMap(threadCount -> IntStream.range(0, modes.size()).mapToObj(i -> Arguments.of(modeNames.get(i), threadCount, modes.get(i))));
+    }
+}
@@ -182,6 +182,59 @@ class SnowflakeKeyGenerateAlgorithmTest {
         assertThat(actual, is(expected));
     }
     
+    @Test
+    void assertGenerateKeysWithHighThroughput() {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(10));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE", PropertiesBuilder.build(new Property("high-throughput-enabled", Boolean.TRUE.toString())));
+        if (algorithm instanceof ComputeNodeInstanceContextAware) {
+            ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
+        }
+        List<Comparable<?>> actual = new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 5));
+        assertThat(actual, is(Arrays.asList(0L, 1L, 2L, 3L, 4L)));
+    }
+    
+    @Test
+    void assertGenerateKeysWithHighThroughputBeyondMaxSequencePerMilliSecond() {
+        TimeService timeService = new FixedTimeService(2);
+        SnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE", PropertiesBuilder.build(new Property("high-throughput-enabled", Boolean.TRUE.toString())));
+        if (algorithm instanceof ComputeNodeInstanceContextAware) {
+            ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
+        }
+        setLastMillisAndSequence(algorithm, (SnowflakeKeyGenerateAlgorithm.EPOCH << DEFAULT_SEQUENCE_BITS) | ((1L << DEFAULT_SEQUENCE_BITS) - 2L));
+        List<Comparable<?>> actual = new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 3));
+        assertThat(actual, is(Arrays.asList(4095L, 4194304L, 4194305L)));
+    }
+    
+    @Test
+    void assertGenerateKeysWithThreadBuffer() {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE",
+                PropertiesBuilder.build(new Property("high-throughput-enabled", Boolean.TRUE.toString()), new Property("thread-buffer-size", "8")));
+        if (algorithm instanceof ComputeNodeInstanceContextAware) {
+            ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
+        }
+        assertThat(new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 2)), is(Arrays.asList(0L, 1L)));
+        assertThat(new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 2)), is(Arrays.asList(2L, 3L)));
+    }
+    
+    @Test
+    void assertGenerateKeysWithHighThroughputAndClockCallBackBeyondTolerateTime() {
+        TimeService timeService = new FixedTimeService(1);
+        SnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE",
+                PropertiesBuilder.build(new Property("high-throughput-enabled", Boolean.TRUE.toString()), new Property("max-tolerate-time-difference-milliseconds", "0")));
+        setLastMillisAndSequence(algorithm, (timeService.getCurrentMillis() + 2L) << DEFAULT_SEQUENCE_BITS);
+        assertThrows(AlgorithmExecuteException.class, () -> batchGenerate(algorithm));
+    }
+    
+    @Test
+    void assertSetThreadBufferSizeFailureWhenOutOfRange() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE", PropertiesBuilder.build(new Property("thread-buffer-size", "4097")))
+                        .generateKeys(mock(AlgorithmSQLContext.class), 1));
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     private void setLastMillis(final KeyGenerateAlgorithm algorithm, final Number value) {
         Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMillis"), algorithm, new AtomicLong(value.longValue()));
@@ -192,6 +245,11 @@ class SnowflakeKeyGenerateAlgorithmTest {
         Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("sequence"), algorithm, new AtomicLong(value.longValue()));
     }
     
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void setLastMillisAndSequence(final KeyGenerateAlgorithm algorithm, final long value) {
+        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMillisAndSequence"), algorithm, new AtomicLong(value));
+    }
+    
     @Test
     void assertSetMaxVibrationOffsetFailureWhenNegative() {
         assertThrows(AlgorithmInitializationException.class,
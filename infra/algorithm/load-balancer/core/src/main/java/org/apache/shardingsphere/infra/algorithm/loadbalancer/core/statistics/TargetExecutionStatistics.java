@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.core.statistics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Target execution statistics.
+ *
+ * <p>Latency is tracked as peak EWMA: a slower sample replaces the average at once, a faster one decays it with a time-based weight.</p>
+ */
+public final class TargetExecutionStatistics {
+    
+    private static final double DECAY_NANOS = TimeUnit.SECONDS.toNanos(10L);
+    
+    private final AtomicInteger outstandingRequests = new AtomicInteger();
+    
+    private volatile double latencyEWMANanos;
+    
+    private volatile long lastUpdateNanos;
+    
+    /**
+     * Handle when request started.
+     */
+    public void onRequestStarted() {
+        outstandingRequests.incrementAndGet();
+    }
+    
+    /**
+     * Handle when request finished.
+     *
+     * @param latencyNanos latency in nanoseconds
+     * @param currentNanos current time in nanoseconds
+     */
+    public void onRequestFinished(final long latencyNanos, final long currentNanos) {
+        outstandingRequests.decrementAndGet();
+        updateLatencyEWMA(latencyNanos, currentNanos);
+    }
+    
+    private synchronized void updateLatencyEWMA(final long latencyNanos, final long currentNanos) {
+        if (latencyNanos > latencyEWMANanos) {
+            latencyEWMANanos = latencyNanos;
+        } else {
+            double weight = Math.exp(-Math.max(0L, currentNanos - lastUpdateNanos) / DECAY_NANOS);
+            latencyEWMANanos = latencyEWMANanos * weight + latencyNanos * (1D - weight);
+        }
+        lastUpdateNanos = currentNanos;
+    }
+    
+    /**
+     * Get outstanding requests.
+     *
+     * @return outstanding requests
+     */
+    public int getOutstandingRequests() {
+        return Math.max(0, outstandingRequests.get());
+    }
+    
+    /**
+     * Get latency EWMA in nanoseconds.
+     * 
+     * <p>The average decays with time elapsed since the last finished request, so a target which stops receiving requests after a slow one is probed again.</p>
+     *
+     * @param currentNanos current time in nanoseconds
+     * @return latency EWMA in nanoseconds
+     */
+    public double getLatencyEWMANanos(final long currentNanos) {
+        long elapsedNanos = Math.max(0L, currentNanos - lastUpdateNanos);
+        return latencyEWMANanos * Math.exp(-elapsedNanos / DECAY_NANOS);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.core.statistics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Target execution statistics registry.
+ * 
+ * <p>Statistics which are not accessed within the expiry are evicted, so statistics of removed data sources are not kept forever.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TargetExecutionStatisticsRegistry {
+    
+    private static final TargetExecutionStatisticsRegistry INSTANCE = new TargetExecutionStatisticsRegistry();
+    
+    private static final long EXPIRE_MINUTES = 10L;
+    
+    private final Cache<String, TargetExecutionStatistics> statistics = Caffeine.newBuilder().expireAfterAccess(EXPIRE_MINUTES, TimeUnit.MINUTES).build();
+    
+    private volatile boolean enabled;
+    
+    /**
+     * Get instance.
+     *
+     * @return got instance
+     */
+    public static TargetExecutionStatisticsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Enable statistics collecting.
+     */
+    public void enable() {
+        enabled = true;
+    }
+    
+    /**
+     * Judge whether statistics collecting is enabled.
+     *
+     * @return statistics collecting is enabled or not
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Get target execution statistics.
+     *
+     * @param statisticsKey statistics key
+     * @return target execution statistics
+     */
+    public TargetExecutionStatistics get(final String statisticsKey) {
+        return statistics.get(statisticsKey, key -> new TargetExecutionStatistics());
+    }
+    
+    /**
+     * Get statistics key.
+     *
+     * <p>Storage unit names are only unique inside one logic database, so the key is the physical endpoint when it is known.</p>
+     *
+     * @param dataSourceName data source name
+     * @param connectionProps connection properties
+     * @return statistics key
+     */
+    public static String getStatisticsKey(final String dataSourceName, final ConnectionProperties connectionProps) {
+        if (null == connectionProps || null == connectionProps.getHostname() || connectionProps.getHostname().isEmpty()) {
+            return dataSourceName;
+        }
+        return connectionProps.getHostname() + ":" + connectionProps.getPort() + "/" + connectionProps.getCatalog();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.core.statistics;
+
+import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+
+import java.util.List;
+
+/**
+ * Target execution statistics SQL execution hook.
+ */
+public final class TargetExecutionStatisticsSQLExecutionHook implements SQLExecutionHook {
+    
+    private TargetExecutionStatistics statistics;
+    
+    private long startNanos;
+    
+    @Override
+    public void start(final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps, final boolean isTrunkThread) {
+        TargetExecutionStatisticsRegistry registry = TargetExecutionStatisticsRegistry.getInstance();
+        if (!registry.isEnabled()) {
+            return;
+        }
+        statistics = registry.get(TargetExecutionStatisticsRegistry.getStatisticsKey(dataSourceName, connectionProps));
+        statistics.onRequestStarted();
+        startNanos = System.nanoTime();
+    }
+    
+    @Override
+    public void finishSuccess() {
+        finish();
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        finish();
+    }
+    
+    private void finish() {
+        if (null == statistics) {
+            return;
+        }
+        long currentNanos = System.nanoTime();
+        statistics.onRequestFinished(currentNanos - startNanos, currentNanos);
+        statistics = null;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.core.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TargetExecutionStatisticsTest {
+    
+    @Test
+    void assertOutstandingRequests() {
+        TargetExecutionStatistics actual = new TargetExecutionStatistics();
+        actual.onRequestStarted();
+        actual.onRequestStarted();
+        assertThat(actual.getOutstandingRequests(), is(2));
+        actual.onRequestFinished(1L, 1L);
+        assertThat(actual.getOutstandingRequests(), is(1));
+    }
+    
+    @Test
+    void assertPeakLatencyReplacesAverage() {
+        TargetExecutionStatistics actual = new TargetExecutionStatistics();
+        actual.onRequestStarted();
+        actual.onRequestFinished(TimeUnit.MILLISECONDS.toNanos(1L), TimeUnit.SECONDS.toNanos(1L));
+        actual.onRequestStarted();
+        actual.onRequestFinished(TimeUnit.MILLISECONDS.toNanos(50L), TimeUnit.SECONDS.toNanos(1L) + 1L);
+        assertThat(actual.getLatencyEWMANanos(TimeUnit.SECONDS.toNanos(1L) + 1L), is((double) TimeUnit.MILLISECONDS.toNanos(50L)));
+    }
+    
+    @Test
+    void assertLowerLatencyDecaysAverage() {
+        TargetExecutionStatistics actual = new TargetExecutionStatistics();
+        actual.onRequestStarted();
+        actual.onRequestFinished(TimeUnit.MILLISECONDS.toNanos(50L), TimeUnit.SECONDS.toNanos(1L));
+        actual.onRequestStarted();
+        actual.onRequestFinished(TimeUnit.MILLISECONDS.toNanos(1L), TimeUnit.SECONDS.toNanos(11L));
+        assertTrue(actual.getLatencyEWMANanos(TimeUnit.SECONDS.toNanos(11L)) < TimeUnit.MILLISECONDS.toNanos(50L));
+        assertTrue(actual.getLatencyEWMANanos(TimeUnit.SECONDS.toNanos(11L)) > TimeUnit.MILLISECONDS.toNanos(1L));
+    }
+    
+    @Test
+    void assertLatencyDecaysWithElapsedTime() {
+        TargetExecutionStatistics actual = new TargetExecutionStatistics();
+        actual.onRequestStarted();
+        actual.onRequestFinished(TimeUnit.MILLISECONDS.toNanos(50L), TimeUnit.SECONDS.toNanos(1L));
+        assertThat(actual.getLatencyEWMANanos(TimeUnit.SECONDS.toNanos(1L)), is((double) TimeUnit.MILLISECONDS.toNanos(50L)));
+        assertTrue(actual.getLatencyEWMANanos(TimeUnit.SECONDS.toNanos(61L)) < TimeUnit.MILLISECONDS.toNanos(1L));
+    }
+    
+    @Test
+    void assertGetFromRegistry() {
+        TargetExecutionStatisticsRegistry registry = TargetExecutionStatisticsRegistry.getInstance();
+        assertThat(registry.get("statistics_ds"), is(registry.get("statistics_ds")));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.outstanding.requests;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.statistics.TargetExecutionStatistics;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.statistics.TargetExecutionStatisticsAware;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.statistics.TargetExecutionStatisticsRegistry;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Least outstanding requests load balance algorithm.
+ *
+ * <p>Routes to the target with the fewest in-flight requests, scanning from a random offset so that ties are spread evenly.</p>
+ */
+public final class LeastOutstandingRequestsLoadBalanceAlgorithm implements LoadBalanceAlgorithm, TargetExecutionStatisticsAware {
+    
+    private volatile Map<String, String> targetStatisticsKeys = Collections.emptyMap();
+    
+    @Override
+    public void init(final Properties props) {
+        TargetExecutionStatisticsRegistry.getInstance().enable();
+    }
+    
+    @Override
+    public void setTargetStatisticsKeys(final Map<String, String> targetStatisticsKeys) {
+        this.targetStatisticsKeys = targetStatisticsKeys;
+    }
+    
+    @Override
+    public String getTargetName(final String groupName, final List<String> availableTargetNames) {
+        int size = availableTargetNames.size();
+        int offset = 1 == size ? 0 : ThreadLocalRandom.current().nextInt(size);
+        String result = availableTargetNames.get(offset);
+        int minOutstandingRequests = getStatistics(result).getOutstandingRequests();
+        for (int i = 1; i < size && 0 != minOutstandingRequests; i++) {
+            String each = availableTargetNames.get((offset + i) % size);
+            int outstandingRequests = getStatistics(each).getOutstandingRequests();
+            if (outstandingRequests < minOutstandingRequests) {
+                minOutstandingRequests = outstandingRequests;
+                result = each;
+            }
+        }
+        return result;
+    }
+    
+    private TargetExecutionStatistics getStatistics(final String targetName) {
+        return TargetExecutionStatisticsRegistry.getInstance().get(targetStatisticsKeys.getOrDefault(targetName, targetName));
+    }
+    
+    @Override
+    public String getType() {
+        return "LEAST_OUTSTANDING_REQUESTS";
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.outstanding.requests;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.statistics.TargetExecutionStatisticsRegistry;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LeastOutstandingRequestsLoadBalanceAlgorithmTest {
+    
+    private final LoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LEAST_OUTSTANDING_REQUESTS", new Properties());
+    
+    @Test
+    void assertGetTargetNameWithSingleTarget() {
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Collections.singletonList("least_outstanding_single_ds")), is("least_outstanding_single_ds"));
+    }
+    
+    @Test
+    void assertGetTargetNameWithIdleTargets() {
+        List<String> availableTargetNames = Arrays.asList("least_outstanding_idle_ds_0", "least_outstanding_idle_ds_1");
+        assertTrue(availableTargetNames.contains(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames)));
+        assertTrue(availableTargetNames.contains(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames)));
+    }
+    
+    @Test
+    void assertGetTargetNameWithSyntheticReplicasOfDifferingLatency() {
+        Map<String, Long> latencies = new HashMap<>(3, 1F);
+        latencies.put("least_outstanding_fast_ds_0", TimeUnit.MILLISECONDS.toNanos(1L));
+        latencies.put("least_outstanding_fast_ds_1", TimeUnit.MILLISECONDS.toNanos(1L));
+        latencies.put("least_outstanding_slow_ds", TimeUnit.MILLISECONDS.toNanos(20L));
+        Map<String, Integer> actual = simulate(Arrays.asList("least_outstanding_fast_ds_0", "least_outstanding_fast_ds_1", "least_outstanding_slow_ds"), latencies, 10000);
+        assertTrue(actual.get("least_outstanding_slow_ds") < actual.get("least_outstanding_fast_ds_0"));
+        assertTrue(actual.get("least_outstanding_slow_ds") < actual.get("least_outstanding_fast_ds_1"));
+        assertTrue(actual.get("least_outstanding_slow_ds") < 10000 / 20);
+    }
+    
+    private Map<String, Integer> simulate(final List<String> availableTargetNames, final Map<String, Long> latencies, final int requestCount) {
+        Map<String, Integer> result = new HashMap<>(availableTargetNames.size(), 1F);
+        availableTargetNames.forEach(each -> result.put(each, 0));
+        PriorityQueue<SyntheticRequest> inFlightRequests = new PriorityQueue<>(Comparator.comparingLong(SyntheticRequest::getFinishNanos));
+        long arrivalIntervalNanos = TimeUnit.MICROSECONDS.toNanos(500L);
+        for (int i = 0; i < requestCount; i++) {
+            long currentNanos = i * arrivalIntervalNanos;
+            while (!inFlightRequests.isEmpty() && inFlightRequests.peek().getFinishNanos() <= currentNanos) {
+                inFlightRequests.poll().finish();
+            }
+            String targetName = loadBalanceAlgorithm.getTargetName("ds", availableTargetNames);
+            result.merge(targetName, 1, Integer::sum);
+            TargetExecutionStatisticsRegistry.getInstance().get(targetName).onRequestStarted();
+            inFlightRequests.add(new SyntheticRequest(targetName, currentNanos, currentNanos + latencies.get(targetName)));
+        }
+        while (!inFlightRequests.isEmpty()) {
+            inFlightRequests.poll().finish();
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class SyntheticRequest {
+        
+        private final String targetName;
+        
+        private final long startNanos;
+        
+        private final long finishNanos;
+        
+        void finish() {
+            TargetExecutionStatisticsRegistry.getInstance().get(targetName).onRequestFinished(finishNanos - startNanos, finishNanos);
+        }
+    }
+}
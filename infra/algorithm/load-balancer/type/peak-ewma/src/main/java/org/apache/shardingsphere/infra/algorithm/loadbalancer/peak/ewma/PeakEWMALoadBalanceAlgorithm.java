@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.peak.ewma;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.statistics.TargetExecutionStatistics;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.statistics.TargetExecutionStatisticsAware;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.statistics.TargetExecutionStatisticsRegistry;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Peak EWMA load balance algorithm.
+ *
+ * <p>Picks two distinct targets at random and routes to the one with lower cost, which is peak EWMA latency weighted by outstanding requests.</p>
+ */
+public final class PeakEWMALoadBalanceAlgorithm implements LoadBalanceAlgorithm, TargetExecutionStatisticsAware {
+    
+    private volatile Map<String, String> targetStatisticsKeys = Collections.emptyMap();
+    
+    private LongSupplier nanoTimeSupplier = System::nanoTime;
+    
+    @Override
+    public void init(final Properties props) {
+        TargetExecutionStatisticsRegistry.getInstance().enable();
+    }
+    
+    @Override
+    public void setTargetStatisticsKeys(final Map<String, String> targetStatisticsKeys) {
+        this.targetStatisticsKeys = targetStatisticsKeys;
+    }
+    
+    @Override
+    public String getTargetName(final String groupName, final List<String> availableTargetNames) {
+        int size = availableTargetNames.size();
+        if (1 == size) {
+            return availableTargetNames.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(size);
+        int secondIndex = random.nextInt(size - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+        String firstTargetName = availableTargetNames.get(firstIndex);
+        String secondTargetName = availableTargetNames.get(secondIndex);
+        long currentNanos = nanoTimeSupplier.getAsLong();
+        return getCost(firstTargetName, currentNanos) <= getCost(secondTargetName, currentNanos) ? firstTargetName : secondTargetName;
+    }
+    
+    private double getCost(final String targetName, final long currentNanos) {
+        TargetExecutionStatistics statistics = getStatistics(targetName);
+        return (statistics.getLatencyEWMANanos(currentNanos) + 1D) * (statistics.getOutstandingRequests() + 1);
+    }
+    
+    private TargetExecutionStatistics getStatistics(final String targetName) {
+        return TargetExecutionStatisticsRegistry.getInstance().get(targetStatisticsKeys.getOrDefault(targetName, targetName));
+    }
+    
+    @Override
+    public String getType() {
+        return "PEAK_EWMA";
+    }
+}
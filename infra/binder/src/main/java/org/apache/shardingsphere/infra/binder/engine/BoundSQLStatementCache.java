@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.binder.engine;
+
+import com.google.common.collect.MapMaker;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bound SQL statement cache.
+ * 
+ * <p>Parsed SQL statements are shared by the parse cache, so bound statements are keyed by their identity and released with them.
+ * Cached bound statement is reused only if it was bound with the same meta data at the same meta data version.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BoundSQLStatementCache {
+    
+    private static final Map<SQLStatement, BoundSQLStatement> BOUND_STATEMENTS = new MapMaker().weakKeys().makeMap();
+    
+    private static final LongAdder HIT_COUNT = new LongAdder();
+    
+    private static final LongAdder MISS_COUNT = new LongAdder();
+    
+    private static final LongAdder INVALIDATION_COUNT = new LongAdder();
+    
+    /**
+     * Get cached bound SQL statement or bind and cache it.
+     *
+     * @param sqlStatement SQL statement
+     * @param metaData meta data
+     * @param defaultDatabaseName default database name
+     * @param binder binder
+     * @return bound SQL statement
+     */
+    public static SQLStatement getOrBind(final SQLStatement sqlStatement, final ShardingSphereMetaData metaData, final String defaultDatabaseName, final Supplier<SQLStatement> binder) {
+        long version = metaData.getVersion();
+        BoundSQLStatement cached = BOUND_STATEMENTS.get(sqlStatement);
+        if (null != cached && cached.isBoundWith(metaData, version, defaultDatabaseName)) {
+            HIT_COUNT.increment();
+            return cached.getBoundStatement();
+        }
+        if (null == cached) {
+            MISS_COUNT.increment();
+        } else {
+            INVALIDATION_COUNT.increment();
+        }
+        SQLStatement result = binder.get();
+        BOUND_STATEMENTS.put(sqlStatement, new BoundSQLStatement(new WeakReference<>(metaData), version, defaultDatabaseName, result));
+        return result;
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public static long getHitCount() {
+        return HIT_COUNT.sum();
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public static long getMissCount() {
+        return MISS_COUNT.sum();
+    }
+    
+    /**
+     * Get invalidation count, which counts cached bound statements discarded because meta data or default database changed.
+     *
+     * @return invalidation count
+     */
+    public static long getInvalidationCount() {
+        return INVALIDATION_COUNT.sum();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BoundSQLStatement {
+        
+        private final WeakReference<ShardingSphereMetaData> metaData;
+        
+        private final long version;
+        
+        private final String defaultDatabaseName;
+        
+        @Getter
+        private final SQLStatement boundStatement;
+        
+        private boolean isBoundWith(final ShardingSphereMetaData metaData, final long version, final String defaultDatabaseName) {
+            return metaData == this.metaData.get() && version == this.version && Objects.equals(defaultDatabaseName, this.defaultDatabaseName);
+        }
+    }
+}
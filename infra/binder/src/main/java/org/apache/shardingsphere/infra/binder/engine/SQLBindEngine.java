@@ -28,6 +28,7 @@ import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementBinde
 import org.apache.shardingsphere.infra.binder.statement.dml.UpdateStatementBinder;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.statistics.sql.SQLStatisticsRegistry;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DDLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DMLStatement;
@@ -60,7 +61,9 @@ public final class SQLBindEngine {
      * @return SQL statement context
      */
     public SQLStatementContext bind(final SQLStatement sqlStatement, final List<Object> params) {
+        long startNanos = System.nanoTime();
         SQLStatement buoundedSQLStatement = bind(sqlStatement, metaData, defaultDatabaseName);
+        SQLStatisticsRegistry.getInstance().recordBind(buoundedSQLStatement, startNanos);
         return SQLStatementContextFactory.newInstance(metaData, params, buoundedSQLStatement, defaultDatabaseName);
     }
     
@@ -68,6 +71,17 @@ public final class SQLBindEngine {
         if (hintValueContext.findHintDataSourceName().isPresent()) {
             return statement;
         }
+        if (null == metaData || !isBindable(statement)) {
+            return bindStatement(statement, metaData, defaultDatabaseName);
+        }
+        return BoundSQLStatementCache.getOrBind(statement, metaData, defaultDatabaseName, () -> bindStatement(statement, metaData, defaultDatabaseName));
+    }
+    
+    private static boolean isBindable(final SQLStatement statement) {
+        return statement instanceof DMLStatement || statement instanceof OpenGaussCursorStatement;
+    }
+    
+    private static SQLStatement bindStatement(final SQLStatement statement, final ShardingSphereMetaData metaData, final String defaultDatabaseName) {
         if (statement instanceof DMLStatement) {
             return bindDMLStatement(statement, metaData, defaultDatabaseName);
         }
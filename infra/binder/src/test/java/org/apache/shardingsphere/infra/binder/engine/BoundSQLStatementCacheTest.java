@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.binder.engine;
+
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BoundSQLStatementCacheTest {
+    
+    @Test
+    void assertGetOrBindWithSameMetaDataVersion() {
+        SQLStatement sqlStatement = new MySQLSelectStatement();
+        SQLStatement boundStatement = new MySQLSelectStatement();
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        AtomicInteger bindCount = new AtomicInteger();
+        Supplier<SQLStatement> binder = () -> {
+            bindCount.incrementAndGet();
+            return boundStatement;
+        };
+        final long hitCount = BoundSQLStatementCache.getHitCount();
+        final long missCount = BoundSQLStatementCache.getMissCount();
+        assertThat(BoundSQLStatementCache.getOrBind(sqlStatement, metaData, "foo_db", binder), is(boundStatement));
+        assertThat(BoundSQLStatementCache.getOrBind(sqlStatement, metaData, "foo_db", binder), is(boundStatement));
+        assertThat(bindCount.get(), is(1));
+        assertThat(BoundSQLStatementCache.getHitCount() - hitCount, is(1L));
+        assertThat(BoundSQLStatementCache.getMissCount() - missCount, is(1L));
+    }
+    
+    @Test
+    void assertGetOrBindWithChangedMetaDataVersion() {
+        SQLStatement sqlStatement = new MySQLSelectStatement();
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        SQLStatement firstBoundStatement = new MySQLSelectStatement();
+        BoundSQLStatementCache.getOrBind(sqlStatement, metaData, "foo_db", () -> firstBoundStatement);
+        final long invalidationCount = BoundSQLStatementCache.getInvalidationCount();
+        when(metaData.getVersion()).thenReturn(1L);
+        SQLStatement secondBoundStatement = new MySQLSelectStatement();
+        assertThat(BoundSQLStatementCache.getOrBind(sqlStatement, metaData, "foo_db", () -> secondBoundStatement), is(secondBoundStatement));
+        assertThat(BoundSQLStatementCache.getOrBind(sqlStatement, metaData, "foo_db", MySQLSelectStatement::new), is(secondBoundStatement));
+        assertThat(BoundSQLStatementCache.getInvalidationCount() - invalidationCount, is(1L));
+    }
+    
+    @Test
+    void assertGetOrBindWithDifferentMetaDataOrDefaultDatabase() {
+        SQLStatement sqlStatement = new MySQLSelectStatement();
+        SQLStatement firstBoundStatement = new MySQLSelectStatement();
+        BoundSQLStatementCache.getOrBind(sqlStatement, mock(ShardingSphereMetaData.class), "foo_db", () -> firstBoundStatement);
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        SQLStatement secondBoundStatement = new MySQLSelectStatement();
+        assertThat(BoundSQLStatementCache.getOrBind(sqlStatement, metaData, "foo_db", () -> secondBoundStatement), is(secondBoundStatement));
+        SQLStatement thirdBoundStatement = new MySQLSelectStatement();
+        assertThat(BoundSQLStatementCache.getOrBind(sqlStatement, metaData, "bar_db", () -> thirdBoundStatement), is(thirdBoundStatement));
+    }
+}
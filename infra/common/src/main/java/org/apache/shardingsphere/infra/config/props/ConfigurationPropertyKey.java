@@ -49,6 +49,26 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     SQL_SIMPLE("sql-simple", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Ring buffer size of asynchronous SQL log, SQL log is written synchronously if less than or equal to 0.
+     */
+    SQL_SHOW_ASYNC_BUFFER_SIZE("sql-show-async-buffer-size", String.valueOf(0), int.class, true),
+    
+    /**
+     * Sample interval of SQL log, only one of every interval logic SQLs is logged.
+     */
+    SQL_SHOW_SAMPLE_INTERVAL("sql-show-sample-interval", String.valueOf(1), int.class, false),
+    
+    /**
+     * Slow SQL threshold milliseconds of SQL log, only actual SQLs executed slower than threshold are logged if greater than 0.
+     */
+    SQL_SHOW_SLOW_THRESHOLD_MILLISECONDS("sql-show-slow-threshold-milliseconds", String.valueOf(0), long.class, false),
+    
+    /**
+     * Whether collect statistics of SQL, including per stage latency, per fingerprint cost and per table route fan-out.
+     */
+    SQL_STATISTICS_ENABLED("sql-statistics-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * The max thread size of worker group to execute SQL.
      */
@@ -64,6 +84,41 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Max rows of multi-row insert coalesced from batch of single-row insert for each data source. Less than or equal to 1 means no coalescing.
+     */
+    BATCH_INSERT_COALESCING_SIZE("batch-insert-coalescing-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * Whether reuse rewritten SQL of prepared statement across executions when the rewrite result is independent of parameters.
+     */
+    PREPARED_REWRITE_PLAN_ENABLED("prepared-rewrite-plan-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Max count of actual tables which DML routed to all actual tables of sharding table can touch, less than or equal to 0 means no limit.
+     */
+    FULL_ROUTE_DML_MAX_SHARDS("full-route-dml-max-shards", String.valueOf(0), int.class, false),
+    
+    /**
+     * Whether reject full route DML exceeded max shards, otherwise only log warning.
+     */
+    FULL_ROUTE_DML_REJECT_ENABLED("full-route-dml-reject-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Local directory of table meta data snapshot for cluster mode, empty means disable snapshot.
+     */
+    META_DATA_SNAPSHOT_PATH("meta-data-snapshot-path", "", String.class, true),
+    
+    /**
+     * Whether load table meta data lazily on first access instead of loading all tables at startup.
+     */
+    LAZY_TABLE_META_DATA_ENABLED("lazy-table-meta-data-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
+    /**
+     * Coalescing window milliseconds of governance events for cluster mode, less than or equal to 0 means dispatch each event immediately.
+     */
+    GOVERNANCE_EVENT_COALESCING_MILLISECONDS("governance-event-coalescing-milliseconds", String.valueOf(0), long.class, true),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -21,6 +21,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
+import org.apache.shardingsphere.infra.instance.keygen.KeySegmentAllocator;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceMetaData;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceType;
 import org.apache.shardingsphere.infra.instance.workerid.WorkerIdGenerator;
@@ -49,6 +50,9 @@ public final class ComputeNodeInstanceContext {
     @Getter(AccessLevel.NONE)
     private final WorkerIdGenerator workerIdGenerator;
     
+    @Getter(AccessLevel.NONE)
+    private final KeySegmentAllocator keySegmentAllocator;
+    
     private final ModeConfiguration modeConfiguration;
     
     @SuppressWarnings("rawtypes")
@@ -136,6 +140,17 @@ public final class ComputeNodeInstanceContext {
         return result;
     }
     
+    /**
+     * Allocate key segment.
+     *
+     * @param segmentName segment name
+     * @param step step of segment
+     * @return max key of allocated segment
+     */
+    public long allocateKeySegment(final String segmentName, final int step) {
+        return keySegmentAllocator.allocate(segmentName, step);
+    }
+    
     /**
      * Add compute node instance.
      * 
@@ -31,12 +31,14 @@ import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.attribute.datasource.StaticDataSourceRuleAttribute;
 import org.apache.shardingsphere.infra.rule.scope.GlobalRule;
 import org.apache.shardingsphere.infra.rule.scope.GlobalRule.GlobalRuleChangedType;
+import org.apache.shardingsphere.infra.statistics.sql.SQLFingerprintStatisticsStore;
 
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ShardingSphere meta data.
@@ -54,6 +56,8 @@ public final class ShardingSphereMetaData {
     
     private final TemporaryConfigurationProperties temporaryProps;
     
+    private final AtomicLong version = new AtomicLong();
+    
     public ShardingSphereMetaData() {
         this(new CaseInsensitiveMap<>(Collections.emptyMap(), new ConcurrentHashMap<>()),
                 new ResourceMetaData(Collections.emptyMap()), new RuleMetaData(Collections.emptyList()), new ConfigurationProperties(new Properties()));
@@ -97,17 +101,49 @@ public final class ShardingSphereMetaData {
      */
     public void addDatabase(final String databaseName, final DatabaseType protocolType, final ConfigurationProperties props) {
         ShardingSphereDatabase database = ShardingSphereDatabase.create(databaseName, protocolType, props);
-        databases.put(database.getName(), database);
+        Optional.ofNullable(databases.put(database.getName(), database)).ifPresent(optional -> version.addAndGet(optional.getVersion()));
+        version.incrementAndGet();
         globalRuleMetaData.getRules().forEach(each -> ((GlobalRule) each).refresh(databases, GlobalRuleChangedType.DATABASE_CHANGED));
     }
     
+    /**
+     * Put databases, existed databases with same names are replaced.
+     *
+     * @param databases databases to be put
+     */
+    public void putDatabases(final Map<String, ShardingSphereDatabase> databases) {
+        for (ShardingSphereDatabase each : databases.values()) {
+            Optional.ofNullable(this.databases.put(each.getName(), each)).ifPresent(optional -> version.addAndGet(optional.getVersion()));
+            version.incrementAndGet();
+        }
+    }
+    
     /**
      * Drop database.
      *
      * @param databaseName database name
      */
     public void dropDatabase(final String databaseName) {
-        cleanResources(databases.remove(databaseName));
+        ShardingSphereDatabase toBeDroppedDatabase = databases.remove(databaseName);
+        if (null == toBeDroppedDatabase) {
+            return;
+        }
+        version.addAndGet(toBeDroppedDatabase.getVersion() + 1L);
+        SQLFingerprintStatisticsStore.getInstance().remove(toBeDroppedDatabase.getName());
+        cleanResources(toBeDroppedDatabase);
+    }
+    
+    /**
+     * Get version, which increases whenever databases, schemas, tables, views or database rules are changed.
+     *
+     * @return version
+     */
+    public long getVersion() {
+        long result = version.get();
+        for (ShardingSphereDatabase each : databases.values()) {
+            result += each.getVersion();
+        }
+        return result;
     }
     
     @SneakyThrows(Exception.class)
@@ -44,7 +44,9 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -63,6 +65,8 @@ public final class ShardingSphereDatabase {
     
     private final Map<String, ShardingSphereSchema> schemas;
     
+    private final AtomicLong version = new AtomicLong();
+    
     public ShardingSphereDatabase(final String name, final DatabaseType protocolType, final ResourceMetaData resourceMetaData,
                                   final RuleMetaData ruleMetaData, final Map<String, ShardingSphereSchema> schemas) {
         this.name = name;
@@ -165,7 +169,8 @@ public final class ShardingSphereDatabase {
      * @param schema schema
      */
     public void addSchema(final String schemaName, final ShardingSphereSchema schema) {
-        schemas.put(schemaName.toLowerCase(), schema);
+        Optional.ofNullable(schemas.put(schemaName.toLowerCase(), schema)).ifPresent(optional -> version.addAndGet(optional.getVersion()));
+        version.incrementAndGet();
     }
     
     /**
@@ -174,7 +179,21 @@ public final class ShardingSphereDatabase {
      * @param schemaName schema name
      */
     public void dropSchema(final String schemaName) {
-        schemas.remove(schemaName.toLowerCase());
+        Optional.ofNullable(schemas.remove(schemaName.toLowerCase())).ifPresent(optional -> version.addAndGet(optional.getVersion()));
+        version.incrementAndGet();
+    }
+    
+    /**
+     * Get version, which increases whenever schemas, tables, views or rules of database are changed.
+     *
+     * @return version
+     */
+    public long getVersion() {
+        long result = version.get();
+        for (ShardingSphereSchema each : schemas.values()) {
+            result += each.getVersion();
+        }
+        return result;
     }
     
     /**
@@ -211,5 +230,6 @@ public final class ShardingSphereDatabase {
         });
         ruleMetaData.getRules().clear();
         ruleMetaData.getRules().addAll(rules);
+        version.incrementAndGet();
     }
 }
@@ -29,6 +29,8 @@ import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaM
 import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMetaData;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.LazyTableMetaDataLoader;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereConstraint;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
@@ -65,7 +67,8 @@ public final class GenericSchemaBuilder {
      * @throws SQLException SQL exception
      */
     public static Map<String, ShardingSphereSchema> build(final GenericSchemaBuilderMaterial material) throws SQLException {
-        return build(getAllTableNames(material.getRules()), material);
+        Collection<String> tableNames = getAllTableNames(material.getRules());
+        return material.getProps().<Boolean>getValue(ConfigurationPropertyKey.LAZY_TABLE_META_DATA_ENABLED) ? buildLazily(tableNames, material) : build(tableNames, material);
     }
     
     /**
@@ -84,6 +87,26 @@ public final class GenericSchemaBuilder {
         return revise(result, material);
     }
     
+    private static Map<String, ShardingSphereSchema> buildLazily(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) {
+        String schemaName = new DatabaseTypeRegistry(material.getProtocolType()).getDefaultSchemaName(material.getDefaultSchemaName()).toLowerCase();
+        LazyTableMetaDataLoader lazyTableMetaDataLoader = new LazyTableMetaDataLoader(tableNames, each -> loadTables(each, material));
+        Map<String, ShardingSphereSchema> result = new ConcurrentHashMap<>(1, 1F);
+        result.put(schemaName, new ShardingSphereSchema(Collections.emptyMap(), Collections.emptyMap(), lazyTableMetaDataLoader));
+        return result;
+    }
+    
+    private static Map<String, ShardingSphereTable> loadTables(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) {
+        Map<String, ShardingSphereTable> result = new LinkedHashMap<>(tableNames.size(), 1F);
+        try {
+            for (ShardingSphereSchema each : build(tableNames, material).values()) {
+                each.getTables().forEach(result::putIfAbsent);
+            }
+        } catch (final SQLException ex) {
+            throw new SQLWrapperException(ex);
+        }
+        return result;
+    }
+    
     private static Collection<String> getAllTableNames(final Collection<ShardingSphereRule> rules) {
         Collection<String> result = new HashSet<>();
         for (ShardingSphereRule each : rules) {
@@ -77,7 +77,9 @@ public final class GenericSchemaManager {
     }
     
     private static ShardingSphereSchema getToBeDeletedTablesBySchema(final ShardingSphereSchema reloadSchema, final ShardingSphereSchema currentSchema) {
-        return new ShardingSphereSchema(getToBeDeletedTables(reloadSchema.getTables(), currentSchema.getTables()), new LinkedHashMap<>());
+        Map<String, ShardingSphereTable> toBeDeletedTables = getToBeDeletedTables(reloadSchema.getTables(), currentSchema.getTables());
+        toBeDeletedTables.keySet().removeIf(reloadSchema::containsTable);
+        return new ShardingSphereSchema(toBeDeletedTables, new LinkedHashMap<>());
     }
     
     /**
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.model;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Lazy table meta data loader.
+ * 
+ * <p>Tables are registered by name only, meta data of table is loaded on first access.
+ * The loader loads meta data of given lower case table names in batch, and returns them keyed by lower case table name.
+ * Concurrent accesses of the same table share one loading, and loaded meta data is softly referenced so cold tables can be evicted under memory pressure and reloaded later.</p>
+ */
+public final class LazyTableMetaDataLoader {
+    
+    private final Set<String> tableNames = ConcurrentHashMap.newKeySet();
+    
+    private final Function<Collection<String>, Map<String, ShardingSphereTable>> loader;
+    
+    private final Cache<String, ShardingSphereTable> tables = Caffeine.newBuilder().softValues().build();
+    
+    public LazyTableMetaDataLoader(final Collection<String> tableNames, final Function<Collection<String>, Map<String, ShardingSphereTable>> loader) {
+        tableNames.forEach(each -> this.tableNames.add(each.toLowerCase()));
+        this.loader = loader;
+    }
+    
+    /**
+     * Get registered table names.
+     *
+     * @return registered table names
+     */
+    public Collection<String> getTableNames() {
+        return tableNames;
+    }
+    
+    /**
+     * Judge whether contains table.
+     *
+     * @param tableName lower case table name
+     * @return contains table or not
+     */
+    public boolean containsTable(final String tableName) {
+        return tableNames.contains(tableName);
+    }
+    
+    /**
+     * Get table, load meta data if it is not loaded or has been evicted.
+     *
+     * @param tableName lower case table name
+     * @return table, null if table is not registered or not existed in storage units
+     */
+    public ShardingSphereTable getTable(final String tableName) {
+        return tableNames.contains(tableName) ? tables.get(tableName, key -> loader.apply(Collections.singleton(key)).get(key)) : null;
+    }
+    
+    /**
+     * Judge whether table meta data is loaded.
+     *
+     * @param tableName lower case table name
+     * @return table meta data is loaded or not
+     */
+    public boolean isLoaded(final String tableName) {
+        return null != tables.getIfPresent(tableName);
+    }
+    
+    /**
+     * Remove table.
+     *
+     * @param tableName lower case table name
+     */
+    public void removeTable(final String tableName) {
+        tableNames.remove(tableName);
+        tables.invalidate(tableName);
+    }
+}
@@ -21,10 +21,12 @@ import lombok.Getter;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ShardingSphere schema.
@@ -36,17 +38,36 @@ public final class ShardingSphereSchema {
     
     private final Map<String, ShardingSphereView> views;
     
+    private final AtomicLong version = new AtomicLong();
+    
+    private final LazyTableMetaDataLoader lazyTableMetaDataLoader;
+    
     @SuppressWarnings("CollectionWithoutInitialCapacity")
     public ShardingSphereSchema() {
         tables = new ConcurrentHashMap<>();
         views = new ConcurrentHashMap<>();
+        lazyTableMetaDataLoader = null;
     }
     
     public ShardingSphereSchema(final Map<String, ShardingSphereTable> tables, final Map<String, ShardingSphereView> views) {
+        this(tables, views, null);
+    }
+    
+    public ShardingSphereSchema(final Map<String, ShardingSphereTable> tables, final Map<String, ShardingSphereView> views, final LazyTableMetaDataLoader lazyTableMetaDataLoader) {
         this.tables = new ConcurrentHashMap<>(tables.size(), 1F);
         this.views = new ConcurrentHashMap<>(views.size(), 1F);
         tables.forEach((key, value) -> this.tables.put(key.toLowerCase(), value));
         views.forEach((key, value) -> this.views.put(key.toLowerCase(), value));
+        this.lazyTableMetaDataLoader = lazyTableMetaDataLoader;
+    }
+    
+    /**
+     * Get version, which increases whenever tables or views are changed.
+     *
+     * @return version
+     */
+    public long getVersion() {
+        return version.get();
     }
     
     /**
@@ -55,7 +76,12 @@ public final class ShardingSphereSchema {
      * @return all table names
      */
     public Collection<String> getAllTableNames() {
-        return tables.keySet();
+        if (null == lazyTableMetaDataLoader) {
+            return tables.keySet();
+        }
+        Collection<String> result = new HashSet<>(lazyTableMetaDataLoader.getTableNames());
+        result.addAll(tables.keySet());
+        return result;
     }
     
     /**
@@ -74,7 +100,9 @@ public final class ShardingSphereSchema {
      * @return table meta data
      */
     public ShardingSphereTable getTable(final String tableName) {
-        return tables.get(tableName.toLowerCase());
+        String lowerCaseTableName = tableName.toLowerCase();
+        ShardingSphereTable result = tables.get(lowerCaseTableName);
+        return null == result && null != lazyTableMetaDataLoader ? lazyTableMetaDataLoader.getTable(lowerCaseTableName) : result;
     }
     
     /**
@@ -95,6 +123,10 @@ public final class ShardingSphereSchema {
      */
     public void putTable(final String tableName, final ShardingSphereTable table) {
         tables.put(tableName.toLowerCase(), table);
+        if (null != lazyTableMetaDataLoader) {
+            lazyTableMetaDataLoader.removeTable(tableName.toLowerCase());
+        }
+        version.incrementAndGet();
     }
     
     /**
@@ -105,6 +137,7 @@ public final class ShardingSphereSchema {
      */
     public void putView(final String viewName, final ShardingSphereView view) {
         views.put(viewName.toLowerCase(), view);
+        version.incrementAndGet();
     }
     
     /**
@@ -125,6 +158,10 @@ public final class ShardingSphereSchema {
      */
     public void removeTable(final String tableName) {
         tables.remove(tableName.toLowerCase());
+        if (null != lazyTableMetaDataLoader) {
+            lazyTableMetaDataLoader.removeTable(tableName.toLowerCase());
+        }
+        version.incrementAndGet();
     }
     
     /**
@@ -134,6 +171,7 @@ public final class ShardingSphereSchema {
      */
     public void removeView(final String viewName) {
         views.remove(viewName.toLowerCase());
+        version.incrementAndGet();
     }
     
     /**
@@ -143,7 +181,8 @@ public final class ShardingSphereSchema {
      * @return contains table from table meta data or not
      */
     public boolean containsTable(final String tableName) {
-        return tables.containsKey(tableName.toLowerCase());
+        String lowerCaseTableName = tableName.toLowerCase();
+        return tables.containsKey(lowerCaseTableName) || null != lazyTableMetaDataLoader && lazyTableMetaDataLoader.containsTable(lowerCaseTableName);
     }
     
     /**
@@ -41,7 +41,11 @@ public final class ShardingSphereRowData {
     private final List<Object> rows;
     
     public ShardingSphereRowData(final List<Object> rows) {
-        uniqueKey = generateUniqueKey(rows);
+        this(rows, rows);
+    }
+    
+    public ShardingSphereRowData(final List<Object> keyValues, final List<Object> rows) {
+        uniqueKey = generateUniqueKey(keyValues);
         this.rows = rows;
     }
     
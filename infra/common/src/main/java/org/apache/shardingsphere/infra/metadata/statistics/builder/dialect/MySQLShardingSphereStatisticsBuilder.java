@@ -43,6 +43,8 @@ public final class MySQLShardingSphereStatisticsBuilder implements ShardingSpher
     
     private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
     
+    private static final String SQL_FINGERPRINT_STATISTICS = "sql_fingerprint_statistics";
+    
     @Override
     public ShardingSphereStatistics build(final ShardingSphereMetaData metaData) {
         ShardingSphereStatistics result = new ShardingSphereStatistics();
@@ -62,6 +64,7 @@ public final class MySQLShardingSphereStatisticsBuilder implements ShardingSpher
                 ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
                 initClusterInformationTable(schemaData);
                 initShardingTableStatisticsTable(schemaData);
+                initSQLFingerprintStatisticsTable(schemaData);
                 databaseData.putSchema(SHARDING_SPHERE, schemaData);
             }
         }
@@ -77,6 +80,10 @@ public final class MySQLShardingSphereStatisticsBuilder implements ShardingSpher
         schemaData.putTable(SHARDING_TABLE_STATISTICS, new ShardingSphereTableData(SHARDING_TABLE_STATISTICS));
     }
     
+    private void initSQLFingerprintStatisticsTable(final ShardingSphereSchemaData schemaData) {
+        schemaData.putTable(SQL_FINGERPRINT_STATISTICS, new ShardingSphereTableData(SQL_FINGERPRINT_STATISTICS));
+    }
+    
     @Override
     public String getDatabaseType() {
         return "MySQL";
@@ -48,6 +48,8 @@ public final class PostgreSQLShardingSphereStatisticsBuilder implements Sharding
     
     private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
     
+    private static final String SQL_FINGERPRINT_STATISTICS = "sql_fingerprint_statistics";
+    
     private static final Map<String, Collection<String>> INIT_DATA_SCHEMA_TABLES = new LinkedHashMap<>();
     
     static {
@@ -73,6 +75,7 @@ public final class PostgreSQLShardingSphereStatisticsBuilder implements Sharding
                 ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
                 initClusterInformationTable(schemaData);
                 initShardingTableStatisticsTable(schemaData);
+                initSQLFingerprintStatisticsTable(schemaData);
                 databaseData.putSchema(SHARDING_SPHERE, schemaData);
             }
             if (INIT_DATA_SCHEMA_TABLES.containsKey(entry.getKey())) {
@@ -93,6 +96,10 @@ public final class PostgreSQLShardingSphereStatisticsBuilder implements Sharding
         schemaData.putTable(SHARDING_TABLE_STATISTICS, new ShardingSphereTableData(SHARDING_TABLE_STATISTICS));
     }
     
+    private void initSQLFingerprintStatisticsTable(final ShardingSphereSchemaData schemaData) {
+        schemaData.putTable(SQL_FINGERPRINT_STATISTICS, new ShardingSphereTableData(SQL_FINGERPRINT_STATISTICS));
+    }
+    
     private void initTables(final ShardingSphereSchema schema, final Collection<String> tables, final ShardingSphereSchemaData schemaData) {
         for (Entry<String, ShardingSphereTable> entry : schema.getTables().entrySet()) {
             if (tables.contains(entry.getValue().getName())) {
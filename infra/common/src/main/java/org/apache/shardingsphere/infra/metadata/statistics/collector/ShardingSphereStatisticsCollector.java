@@ -45,4 +45,15 @@ public interface ShardingSphereStatisticsCollector extends TypedSPI {
      * @throws SQLException SQL exception
      */
     Optional<ShardingSphereTableData> collect(String databaseName, ShardingSphereTable table, Map<String, ShardingSphereDatabase> databases, RuleMetaData globalRuleMetaData) throws SQLException;
+    
+    /**
+     * Whether collected data only belongs to current instance.
+     * 
+     * <p>Instance local data is collected when it is queried instead of being persisted by statistics collect job.</p>
+     *
+     * @return is instance local or not
+     */
+    default boolean isInstanceLocal() {
+        return false;
+    }
 }
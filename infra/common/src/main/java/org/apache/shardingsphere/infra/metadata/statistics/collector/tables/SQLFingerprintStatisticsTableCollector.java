@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.statistics.collector.tables;
+
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+import org.apache.shardingsphere.infra.metadata.statistics.collector.ShardingSphereStatisticsCollector;
+import org.apache.shardingsphere.infra.statistics.sql.SQLFingerprintStatistics;
+import org.apache.shardingsphere.infra.statistics.sql.SQLFingerprintStatisticsStore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Table sql_fingerprint_statistics data collector.
+ */
+public final class SQLFingerprintStatisticsTableCollector implements ShardingSphereStatisticsCollector {
+    
+    private static final String SQL_FINGERPRINT_STATISTICS = "sql_fingerprint_statistics";
+    
+    @Override
+    public Optional<ShardingSphereTableData> collect(final String databaseName, final ShardingSphereTable table, final Map<String, ShardingSphereDatabase> databases,
+                                                     final RuleMetaData globalRuleMetaData) {
+        ShardingSphereTableData result = new ShardingSphereTableData(SQL_FINGERPRINT_STATISTICS);
+        List<SQLFingerprintStatistics> statistics = new ArrayList<>(SQLFingerprintStatisticsStore.getInstance().getAllStatistics(databaseName));
+        statistics.sort(Comparator.comparing(SQLFingerprintStatistics::getFingerprint));
+        for (SQLFingerprintStatistics each : statistics) {
+            result.getRows().add(new ShardingSphereRowData(Collections.singletonList(each.getFingerprint()), Arrays.asList(each.getFingerprint(), each.getCalls(), each.getOverestimatedCalls(),
+                    each.getTotalTimeMicros(), each.getMeanTimeMicros(), each.getMaxTimeMicros(), each.getRows(), each.getShards())));
+        }
+        return result.getRows().isEmpty() ? Optional.empty() : Optional.of(result);
+    }
+    
+    @Override
+    public boolean isInstanceLocal() {
+        return true;
+    }
+    
+    @Override
+    public String getType() {
+        return SQL_FINGERPRINT_STATISTICS;
+    }
+}
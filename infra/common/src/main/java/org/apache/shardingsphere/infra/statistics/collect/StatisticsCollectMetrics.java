@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics.collect;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics collect metrics.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class StatisticsCollectMetrics {
+    
+    private static final StatisticsCollectMetrics INSTANCE = new StatisticsCollectMetrics();
+    
+    private final LongAdder collectCount = new LongAdder();
+    
+    private final LongAdder totalCollectDurationMillis = new LongAdder();
+    
+    private final AtomicLong lastCollectDurationMillis = new AtomicLong();
+    
+    private final LongAdder collectedTableCount = new LongAdder();
+    
+    private final LongAdder skippedTableCount = new LongAdder();
+    
+    private final LongAdder changedTableCount = new LongAdder();
+    
+    private final LongAdder persistedRowCount = new LongAdder();
+    
+    private final LongAdder persistedBytes = new LongAdder();
+    
+    /**
+     * Get instance.
+     *
+     * @return got instance
+     */
+    public static StatisticsCollectMetrics getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Record one round of collection.
+     *
+     * @param durationMillis duration in milliseconds
+     * @param collectedTables count of collected tables
+     * @param skippedTables count of tables skipped by schedule
+     * @param changedTables count of tables whose data changed
+     */
+    public void recordCollect(final long durationMillis, final int collectedTables, final int skippedTables, final int changedTables) {
+        collectCount.increment();
+        totalCollectDurationMillis.add(durationMillis);
+        lastCollectDurationMillis.set(durationMillis);
+        collectedTableCount.add(collectedTables);
+        skippedTableCount.add(skippedTables);
+        changedTableCount.add(changedTables);
+    }
+    
+    /**
+     * Record persisted rows.
+     *
+     * @param rows count of persisted rows
+     * @param bytes persisted bytes
+     */
+    public void recordPersisted(final int rows, final long bytes) {
+        persistedRowCount.add(rows);
+        persistedBytes.add(bytes);
+    }
+    
+    /**
+     * Get collect count.
+     *
+     * @return collect count
+     */
+    public long getCollectCount() {
+        return collectCount.sum();
+    }
+    
+    /**
+     * Get total collect duration in milliseconds.
+     *
+     * @return total collect duration in milliseconds
+     */
+    public long getTotalCollectDurationMillis() {
+        return totalCollectDurationMillis.sum();
+    }
+    
+    /**
+     * Get last collect duration in milliseconds.
+     *
+     * @return last collect duration in milliseconds
+     */
+    public long getLastCollectDurationMillis() {
+        return lastCollectDurationMillis.get();
+    }
+    
+    /**
+     * Get collected table count.
+     *
+     * @return collected table count
+     */
+    public long getCollectedTableCount() {
+        return collectedTableCount.sum();
+    }
+    
+    /**
+     * Get skipped table count.
+     *
+     * @return skipped table count
+     */
+    public long getSkippedTableCount() {
+        return skippedTableCount.sum();
+    }
+    
+    /**
+     * Get changed table count.
+     *
+     * @return changed table count
+     */
+    public long getChangedTableCount() {
+        return changedTableCount.sum();
+    }
+    
+    /**
+     * Get persisted row count.
+     *
+     * @return persisted row count
+     */
+    public long getPersistedRowCount() {
+        return persistedRowCount.sum();
+    }
+    
+    /**
+     * Get persisted bytes.
+     *
+     * @return persisted bytes
+     */
+    public long getPersistedBytes() {
+        return persistedBytes.sum();
+    }
+    
+    /**
+     * Clear all metrics.
+     */
+    public void clear() {
+        collectCount.reset();
+        totalCollectDurationMillis.reset();
+        lastCollectDurationMillis.set(0L);
+        collectedTableCount.reset();
+        skippedTableCount.reset();
+        changedTableCount.reset();
+        persistedRowCount.reset();
+        persistedBytes.reset();
+    }
+}
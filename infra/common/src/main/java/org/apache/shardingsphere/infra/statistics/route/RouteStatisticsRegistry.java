@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics.route;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Route statistics registry.
+ * 
+ * <p>Statistics are registered by database name and logic table name, so logic tables with the same name in different databases are not mixed.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RouteStatisticsRegistry {
+    
+    private static final RouteStatisticsRegistry INSTANCE = new RouteStatisticsRegistry();
+    
+    private final Map<String, Map<String, TableRouteStatistics>> databaseStatistics = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance.
+     *
+     * @return got instance
+     */
+    public static RouteStatisticsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get route statistics of logic table.
+     *
+     * @param databaseName database name
+     * @param logicTable logic table
+     * @return route statistics of logic table
+     */
+    public TableRouteStatistics getTableStatistics(final String databaseName, final String logicTable) {
+        Map<String, TableRouteStatistics> tableStatistics = databaseStatistics.get(databaseName);
+        if (null == tableStatistics) {
+            tableStatistics = databaseStatistics.computeIfAbsent(databaseName, key -> new ConcurrentHashMap<>());
+        }
+        TableRouteStatistics result = tableStatistics.get(logicTable);
+        return null == result ? tableStatistics.computeIfAbsent(logicTable, key -> new TableRouteStatistics(databaseName, key)) : result;
+    }
+    
+    /**
+     * Get route statistics of all logic tables.
+     *
+     * @return route statistics of all logic tables
+     */
+    public Collection<TableRouteStatistics> getAllTableStatistics() {
+        Collection<TableRouteStatistics> result = new LinkedList<>();
+        for (Map<String, TableRouteStatistics> each : databaseStatistics.values()) {
+            result.addAll(each.values());
+        }
+        return result;
+    }
+    
+    /**
+     * Clear all statistics.
+     */
+    public void clear() {
+        databaseStatistics.clear();
+    }
+}
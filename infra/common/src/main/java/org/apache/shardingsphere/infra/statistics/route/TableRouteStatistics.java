@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics.route;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Route statistics of logic table.
+ * 
+ * <p>Fan-out is recorded into power of two buckets, bucket {@code i} counts routes with fan-out in {@code (2^(i-1), 2^i]}.</p>
+ */
+@RequiredArgsConstructor
+public final class TableRouteStatistics {
+    
+    public static final int BUCKET_COUNT = 12;
+    
+    @Getter
+    private final String databaseName;
+    
+    @Getter
+    private final String logicTable;
+    
+    private final AtomicLongArray fanOutBuckets = new AtomicLongArray(BUCKET_COUNT);
+    
+    private final LongAdder fanOutSum = new LongAdder();
+    
+    private final LongAdder fullRouteCount = new LongAdder();
+    
+    private final LongAdder broadcastRouteCount = new LongAdder();
+    
+    /**
+     * Record route.
+     *
+     * @param fanOut count of actual tables routed to
+     * @param fullRoute whether DML routed to all actual tables
+     * @param broadcastRoute whether non DML routed to all actual tables
+     */
+    public void record(final int fanOut, final boolean fullRoute, final boolean broadcastRoute) {
+        fanOutBuckets.incrementAndGet(getBucketIndex(fanOut));
+        fanOutSum.add(fanOut);
+        if (fullRoute) {
+            fullRouteCount.increment();
+        }
+        if (broadcastRoute) {
+            broadcastRouteCount.increment();
+        }
+    }
+    
+    static int getBucketIndex(final int fanOut) {
+        return fanOut <= 1 ? 0 : Math.min(Integer.SIZE - Integer.numberOfLeadingZeros(fanOut - 1), BUCKET_COUNT - 1);
+    }
+    
+    /**
+     * Get upper bound of fan-out bucket.
+     *
+     * @param bucketIndex bucket index
+     * @return upper bound of fan-out bucket, {@link Integer#MAX_VALUE} for the last bucket
+     */
+    public static int getBucketUpperBound(final int bucketIndex) {
+        return bucketIndex >= BUCKET_COUNT - 1 ? Integer.MAX_VALUE : 1 << bucketIndex;
+    }
+    
+    /**
+     * Get count of routes in fan-out bucket.
+     *
+     * @param bucketIndex bucket index
+     * @return count of routes
+     */
+    public long getBucketCount(final int bucketIndex) {
+        return fanOutBuckets.get(bucketIndex);
+    }
+    
+    /**
+     * Get route count.
+     *
+     * @return route count
+     */
+    public long getRouteCount() {
+        long result = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            result += fanOutBuckets.get(i);
+        }
+        return result;
+    }
+    
+    /**
+     * Get sum of fan-out.
+     *
+     * @return sum of fan-out
+     */
+    public long getFanOutSum() {
+        return fanOutSum.sum();
+    }
+    
+    /**
+     * Get full route count.
+     *
+     * @return full route count
+     */
+    public long getFullRouteCount() {
+        return fullRouteCount.sum();
+    }
+    
+    /**
+     * Get broadcast route count.
+     *
+     * @return broadcast route count
+     */
+    public long getBroadcastRouteCount() {
+        return broadcastRouteCount.sum();
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics.sql;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram.
+ * 
+ * <p>Buckets are log-linear like HDR histogram: every power of two range is split into {@value #SUB_BUCKET_COUNT} linear sub buckets,
+ * so relative error of recorded value is less than 1 / {@value #SUB_BUCKET_COUNT}. Recording is lock-free and allocation-free.</p>
+ */
+public final class LatencyHistogram {
+    
+    private static final int SUB_BUCKET_BITS = 3;
+    
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    
+    private static final int MAX_EXPONENT = 40;
+    
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+    
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+    
+    private final LongAdder count = new LongAdder();
+    
+    private final LongAdder sum = new LongAdder();
+    
+    private final AtomicLong max = new AtomicLong();
+    
+    /**
+     * Record value.
+     *
+     * @param value value to be recorded, negative value is recorded as 0
+     */
+    public void record(final long value) {
+        long actualValue = Math.max(value, 0L);
+        bucketCounts.incrementAndGet(getBucketIndex(actualValue));
+        count.increment();
+        sum.add(actualValue);
+        long currentMax = max.get();
+        while (actualValue > currentMax && !max.compareAndSet(currentMax, actualValue)) {
+            currentMax = max.get();
+        }
+    }
+    
+    /**
+     * Get count of recorded values.
+     *
+     * @return count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+    
+    /**
+     * Get sum of recorded values.
+     *
+     * @return sum
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+    
+    /**
+     * Get max recorded value.
+     *
+     * @return max value
+     */
+    public long getMax() {
+        return max.get();
+    }
+    
+    /**
+     * Get mean of recorded values.
+     *
+     * @return mean value
+     */
+    public double getMean() {
+        long currentCount = count.sum();
+        return 0L == currentCount ? 0D : (double) sum.sum() / currentCount;
+    }
+    
+    /**
+     * Get value at percentile.
+     *
+     * @param percentile percentile between 0 and 100
+     * @return highest equivalent value of the bucket where the percentile falls into, not greater than max recorded value
+     */
+    public long getValueAtPercentile(final double percentile) {
+        long totalCount = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            totalCount += bucketCounts.get(i);
+        }
+        if (0L == totalCount) {
+            return 0L;
+        }
+        long targetCount = Math.max((long) Math.ceil(Math.min(Math.max(percentile, 0D), 100D) / 100D * totalCount), 1L);
+        long cumulativeCount = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulativeCount += bucketCounts.get(i);
+            if (cumulativeCount >= targetCount) {
+                return Math.min(getBucketUpperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+    
+    static int getBucketIndex(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return SUB_BUCKET_COUNT + (exponent - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT + subBucket;
+    }
+    
+    static long getBucketUpperBound(final int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int exponent = (bucketIndex - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT + SUB_BUCKET_BITS;
+        int subBucket = (bucketIndex - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        long bucketWidth = 1L << (exponent - SUB_BUCKET_BITS);
+        return (SUB_BUCKET_COUNT + subBucket) * bucketWidth + bucketWidth - 1L;
+    }
+}
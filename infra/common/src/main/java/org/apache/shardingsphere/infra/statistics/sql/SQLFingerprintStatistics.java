@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics.sql;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * SQL fingerprint statistics.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class SQLFingerprintStatistics {
+    
+    private final String databaseName;
+    
+    private final String fingerprint;
+    
+    private final long calls;
+    
+    private final long overestimatedCalls;
+    
+    private final long totalTimeMicros;
+    
+    private final long maxTimeMicros;
+    
+    private final long rows;
+    
+    private final long shards;
+    
+    /**
+     * Get mean time in microseconds.
+     * 
+     * <p>Calls inherited from evicted fingerprint are not observed, so they are excluded from mean time.</p>
+     *
+     * @return mean time in microseconds
+     */
+    public double getMeanTimeMicros() {
+        long observedCalls = calls - overestimatedCalls;
+        return 0L == observedCalls ? 0D : (double) totalTimeMicros / observedCalls;
+    }
+}
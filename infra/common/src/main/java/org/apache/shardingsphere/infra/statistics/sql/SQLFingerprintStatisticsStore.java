@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics.sql;
+
+import com.google.common.collect.MapMaker;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * SQL fingerprint statistics store.
+ * 
+ * <p>Fingerprints are spread over lock striped segments with bounded capacity.
+ * When a segment is full, the fingerprint with the least calls is replaced by the new one with space saving algorithm,
+ * so the heavy hitters are always kept while the long tail competes for the remaining slots.
+ * Each logic database owns its own segments, so fingerprints of one database never evict the ones of another.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFingerprintStatisticsStore {
+    
+    private static final int SEGMENT_COUNT = 16;
+    
+    private static final int SEGMENT_CAPACITY = 64;
+    
+    private static final SQLFingerprintStatisticsStore INSTANCE = new SQLFingerprintStatisticsStore();
+    
+    private final Map<SQLStatement, String> statementFingerprints = new MapMaker().weakKeys().makeMap();
+    
+    private final Map<String, Segment[]> databaseSegments = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance.
+     *
+     * @return got instance
+     */
+    public static SQLFingerprintStatisticsStore getInstance() {
+        return INSTANCE;
+    }
+    
+    private static Segment[] createSegments() {
+        Segment[] result = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            result[i] = new Segment();
+        }
+        return result;
+    }
+    
+    /**
+     * Record execution of SQL.
+     *
+     * @param databaseName database name
+     * @param sqlStatement SQL statement
+     * @param sql SQL
+     * @param elapsedMicros elapsed time in microseconds
+     * @param rows returned or affected rows
+     * @param shards count of shards touched
+     */
+    public void record(final String databaseName, final SQLStatement sqlStatement, final String sql, final long elapsedMicros, final long rows, final int shards) {
+        String fingerprint = getFingerprint(sqlStatement, sql);
+        int hash = fingerprint.hashCode();
+        Segment[] segments = databaseSegments.computeIfAbsent(databaseName, key -> createSegments());
+        segments[(hash ^ hash >>> 16) & SEGMENT_COUNT - 1].record(fingerprint, elapsedMicros, rows, shards);
+    }
+    
+    private String getFingerprint(final SQLStatement sqlStatement, final String sql) {
+        if (null == sqlStatement) {
+            return SQLFingerprintUtils.getFingerprint(sql);
+        }
+        String result = statementFingerprints.get(sqlStatement);
+        if (null == result) {
+            result = SQLFingerprintUtils.getFingerprint(sql);
+            statementFingerprints.put(sqlStatement, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Get top statistics of all databases ordered by total time descending.
+     *
+     * @param limit max count of statistics to return
+     * @return top SQL fingerprint statistics
+     */
+    public List<SQLFingerprintStatistics> getTopStatistics(final int limit) {
+        Collection<SQLFingerprintStatistics> statistics = new LinkedList<>();
+        for (Entry<String, Segment[]> entry : databaseSegments.entrySet()) {
+            snapshot(entry.getKey(), entry.getValue(), statistics);
+        }
+        return statistics.stream().sorted(Comparator.comparingLong(SQLFingerprintStatistics::getTotalTimeMicros).reversed()).limit(limit).collect(Collectors.toList());
+    }
+    
+    /**
+     * Get all statistics of database.
+     *
+     * @param databaseName database name
+     * @return all SQL fingerprint statistics of database
+     */
+    public Collection<SQLFingerprintStatistics> getAllStatistics(final String databaseName) {
+        Segment[] segments = databaseSegments.get(databaseName);
+        if (null == segments) {
+            return Collections.emptyList();
+        }
+        Collection<SQLFingerprintStatistics> result = new ArrayList<>(SEGMENT_COUNT * SEGMENT_CAPACITY);
+        snapshot(databaseName, segments, result);
+        return result;
+    }
+    
+    private void snapshot(final String databaseName, final Segment[] segments, final Collection<SQLFingerprintStatistics> statistics) {
+        for (Segment each : segments) {
+            each.snapshot(databaseName, statistics);
+        }
+    }
+    
+    /**
+     * Remove statistics of database.
+     *
+     * @param databaseName database name
+     */
+    public void remove(final String databaseName) {
+        databaseSegments.remove(databaseName);
+    }
+    
+    /**
+     * Clear all statistics.
+     */
+    public void clear() {
+        statementFingerprints.clear();
+        databaseSegments.clear();
+    }
+    
+    private static final class Segment {
+        
+        private final Map<String, Counter> counters = new HashMap<>(SEGMENT_CAPACITY * 2, 1F);
+        
+        synchronized void record(final String fingerprint, final long elapsedMicros, final long rows, final int shards) {
+            Counter counter = counters.get(fingerprint);
+            if (null == counter) {
+                counter = counters.size() < SEGMENT_CAPACITY ? new Counter(0L) : evict();
+                counters.put(fingerprint, counter);
+            }
+            counter.calls++;
+            counter.totalTimeMicros += elapsedMicros;
+            counter.maxTimeMicros = Math.max(counter.maxTimeMicros, elapsedMicros);
+            counter.rows += rows;
+            counter.shards += shards;
+        }
+        
+        private Counter evict() {
+            Map.Entry<String, Counter> min = null;
+            for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+                if (null == min || entry.getValue().calls < min.getValue().calls) {
+                    min = entry;
+                }
+            }
+            counters.remove(min.getKey());
+            return new Counter(min.getValue().calls);
+        }
+        
+        synchronized void snapshot(final String databaseName, final Collection<SQLFingerprintStatistics> statistics) {
+            for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+                Counter counter = entry.getValue();
+                statistics.add(new SQLFingerprintStatistics(
+                        databaseName, entry.getKey(), counter.calls, counter.overestimatedCalls, counter.totalTimeMicros, counter.maxTimeMicros, counter.rows, counter.shards));
+            }
+        }
+    }
+    
+    private static final class Counter {
+        
+        private final long overestimatedCalls;
+        
+        private long calls;
+        
+        private long totalTimeMicros;
+        
+        private long maxTimeMicros;
+        
+        private long rows;
+        
+        private long shards;
+        
+        Counter(final long overestimatedCalls) {
+            this.overestimatedCalls = overestimatedCalls;
+            calls = overestimatedCalls;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics.sql;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * SQL fingerprint utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFingerprintUtils {
+    
+    private static final char PLACEHOLDER = '?';
+    
+    /**
+     * Get fingerprint of SQL.
+     * 
+     * <p>Literals are replaced with placeholder, comma separated placeholders are collapsed into one, comments are removed and whitespaces are collapsed,
+     * so SQLs with the same shape share one fingerprint.</p>
+     *
+     * @param sql SQL
+     * @return fingerprint
+     */
+    public static String getFingerprint(final String sql) {
+        StringBuilder result = new StringBuilder(sql.length());
+        int length = sql.length();
+        int index = 0;
+        while (index < length) {
+            char current = sql.charAt(index);
+            if ('\'' == current) {
+                index = skipQuoted(sql, index, '\'');
+                appendPlaceholder(result);
+            } else if ('"' == current || '`' == current) {
+                int end = skipQuoted(sql, index, current);
+                result.append(sql, index, end);
+                index = end;
+            } else if ('-' == current && index + 1 < length && '-' == sql.charAt(index + 1)) {
+                index = skipLineComment(sql, index);
+                appendWhitespace(result);
+            } else if ('/' == current && index + 1 < length && '*' == sql.charAt(index + 1)) {
+                index = skipBlockComment(sql, index);
+                appendWhitespace(result);
+            } else if (Character.isWhitespace(current)) {
+                index++;
+                appendWhitespace(result);
+            } else if (isNumberStart(sql, index, result)) {
+                index = skipNumber(sql, index);
+                appendPlaceholder(result);
+            } else if (PLACEHOLDER == current) {
+                index++;
+                appendPlaceholder(result);
+            } else if (isIdentifierPart(current)) {
+                int end = skipIdentifier(sql, index);
+                result.append(sql, index, end);
+                index = end;
+            } else {
+                index++;
+                result.append(current);
+            }
+        }
+        return trimTrailingWhitespace(result).toString();
+    }
+    
+    private static int skipQuoted(final String sql, final int start, final char quote) {
+        int index = start + 1;
+        while (index < sql.length()) {
+            char current = sql.charAt(index);
+            if ('\\' == current && '\'' == quote) {
+                index += 2;
+            } else if (quote == current) {
+                if (index + 1 < sql.length() && quote == sql.charAt(index + 1)) {
+                    index += 2;
+                } else {
+                    return index + 1;
+                }
+            } else {
+                index++;
+            }
+        }
+        return sql.length();
+    }
+    
+    private static int skipLineComment(final String sql, final int start) {
+        int end = sql.indexOf('\n', start);
+        return -1 == end ? sql.length() : end + 1;
+    }
+    
+    private static int skipBlockComment(final String sql, final int start) {
+        int end = sql.indexOf("*/", start + 2);
+        return -1 == end ? sql.length() : end + 2;
+    }
+    
+    private static boolean isNumberStart(final String sql, final int index, final StringBuilder fingerprint) {
+        char current = sql.charAt(index);
+        boolean isDigit = Character.isDigit(current) || '.' == current && index + 1 < sql.length() && Character.isDigit(sql.charAt(index + 1));
+        return isDigit && (0 == fingerprint.length() || !isIdentifierPart(fingerprint.charAt(fingerprint.length() - 1)));
+    }
+    
+    private static int skipNumber(final String sql, final int start) {
+        int index = start;
+        while (index < sql.length()) {
+            char current = sql.charAt(index);
+            if (Character.isLetterOrDigit(current) || '.' == current) {
+                index++;
+            } else if (('+' == current || '-' == current) && 'e' == Character.toLowerCase(sql.charAt(index - 1))) {
+                index++;
+            } else {
+                break;
+            }
+        }
+        return index;
+    }
+    
+    private static int skipIdentifier(final String sql, final int start) {
+        int index = start;
+        while (index < sql.length() && isIdentifierPart(sql.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+    
+    private static boolean isIdentifierPart(final char ch) {
+        return Character.isLetterOrDigit(ch) || '_' == ch || '$' == ch;
+    }
+    
+    private static void appendWhitespace(final StringBuilder fingerprint) {
+        if (0 != fingerprint.length() && ' ' != fingerprint.charAt(fingerprint.length() - 1)) {
+            fingerprint.append(' ');
+        }
+    }
+    
+    private static void appendPlaceholder(final StringBuilder fingerprint) {
+        int lastIndex = trimTrailingWhitespace(fingerprint).length() - 1;
+        if (lastIndex > 0 && ',' == fingerprint.charAt(lastIndex)) {
+            int previousIndex = ' ' == fingerprint.charAt(lastIndex - 1) ? lastIndex - 2 : lastIndex - 1;
+            if (previousIndex >= 0 && PLACEHOLDER == fingerprint.charAt(previousIndex)) {
+                fingerprint.setLength(previousIndex + 1);
+                return;
+            }
+        }
+        if (lastIndex >= 0 && '(' != fingerprint.charAt(lastIndex)) {
+            fingerprint.append(' ');
+        }
+        fingerprint.append(PLACEHOLDER);
+    }
+    
+    private static StringBuilder trimTrailingWhitespace(final StringBuilder fingerprint) {
+        while (0 != fingerprint.length() && ' ' == fingerprint.charAt(fingerprint.length() - 1)) {
+            fingerprint.setLength(fingerprint.length() - 1);
+        }
+        return fingerprint;
+    }
+}
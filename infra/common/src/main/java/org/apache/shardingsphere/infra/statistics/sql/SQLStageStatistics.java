@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics.sql;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * SQL stage statistics of one SQL fingerprint.
+ */
+@RequiredArgsConstructor
+public final class SQLStageStatistics {
+    
+    @Getter
+    private final String fingerprint;
+    
+    private final AtomicReferenceArray<LatencyHistogram> histograms = new AtomicReferenceArray<>(SQLExecutionStage.values().length);
+    
+    /**
+     * Record latency of stage.
+     *
+     * @param stage SQL execution stage
+     * @param startNanos start nano time of stage
+     */
+    public void record(final SQLExecutionStage stage, final long startNanos) {
+        recordElapsed(stage, System.nanoTime() - startNanos);
+    }
+    
+    /**
+     * Record elapsed latency of stage.
+     *
+     * @param stage SQL execution stage
+     * @param elapsedNanos elapsed nano time of stage
+     */
+    public void recordElapsed(final SQLExecutionStage stage, final long elapsedNanos) {
+        getHistogram(stage).record(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+    }
+    
+    private LatencyHistogram getHistogram(final SQLExecutionStage stage) {
+        LatencyHistogram result = histograms.get(stage.ordinal());
+        if (null != result) {
+            return result;
+        }
+        histograms.compareAndSet(stage.ordinal(), null, new LatencyHistogram());
+        return histograms.get(stage.ordinal());
+    }
+    
+    /**
+     * Find latency histogram of stage, latencies are recorded in microseconds.
+     *
+     * @param stage SQL execution stage
+     * @return found latency histogram
+     */
+    public Optional<LatencyHistogram> findHistogram(final SQLExecutionStage stage) {
+        return Optional.ofNullable(histograms.get(stage.ordinal()));
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics.sql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.collect.MapMaker;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL statistics registry.
+ * 
+ * <p>Statistics are aggregated by SQL fingerprint and looked up by identity of bound SQL statement, which is reused by executions of the same SQL,
+ * or by SQL text for statements which are bound again for every execution, so fingerprint is not computed again for the same SQL.
+ * Bind stage finishes before statistics of the execution is started, its latency is kept on current thread until the execution starts.
+ * Stages executed without SQL statement, such as prepare, are attributed to the statistics started by current thread, which is released when prepare finishes.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLStatisticsRegistry {
+    
+    public static final String OTHERS_FINGERPRINT = "<others>";
+    
+    private static final int MAX_FINGERPRINT_COUNT = 1024;
+    
+    private static final int MAX_SQL_COUNT = 4096;
+    
+    private static final SQLStatisticsRegistry INSTANCE = new SQLStatisticsRegistry();
+    
+    private static final ThreadLocal<SQLStageStatistics> CURRENT_STATISTICS = new ThreadLocal<>();
+    
+    private static final ThreadLocal<BindLatency> PENDING_BIND_LATENCY = new ThreadLocal<>();
+    
+    private final Map<SQLStatement, SQLStageStatistics> statementStatistics = new MapMaker().weakKeys().makeMap();
+    
+    private final Cache<String, SQLStageStatistics> sqlStatistics = Caffeine.newBuilder().maximumSize(MAX_SQL_COUNT).build();
+    
+    private final Map<String, SQLStageStatistics> fingerprintStatistics = new ConcurrentHashMap<>();
+    
+    private final SQLStageStatistics othersStatistics = new SQLStageStatistics(OTHERS_FINGERPRINT);
+    
+    private volatile ConfigurationProperties props;
+    
+    private volatile boolean enabled;
+    
+    /**
+     * Get instance.
+     *
+     * @return got instance
+     */
+    public static SQLStatisticsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Set enabled.
+     *
+     * @param enabled whether statistics collecting is enabled
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+        props = null;
+    }
+    
+    /**
+     * Judge whether statistics collecting is enabled by properties.
+     * 
+     * <p>Enabled state is refreshed only when properties are changed, which are replaced as a whole when altered.</p>
+     *
+     * @param props configuration properties
+     * @return statistics collecting is enabled or not
+     */
+    public boolean isEnabled(final ConfigurationProperties props) {
+        if (this.props != props) {
+            enabled = props.<Boolean>getValue(ConfigurationPropertyKey.SQL_STATISTICS_ENABLED);
+            this.props = props;
+        }
+        return enabled;
+    }
+    
+    /**
+     * Judge whether statistics collecting is enabled.
+     *
+     * @return statistics collecting is enabled or not
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Start statistics of SQL statement on current thread.
+     *
+     * @param sqlStatement bound SQL statement
+     * @param sql SQL
+     * @return started SQL stage statistics
+     */
+    public SQLStageStatistics start(final SQLStatement sqlStatement, final String sql) {
+        SQLStageStatistics result = null == sqlStatement ? null : statementStatistics.get(sqlStatement);
+        if (null == result) {
+            String actualSQL = null == sql ? "" : sql;
+            result = sqlStatistics.get(actualSQL, key -> getFingerprintStatistics(SQLFingerprintUtils.getFingerprint(key)));
+            if (null != sqlStatement) {
+                statementStatistics.put(sqlStatement, result);
+            }
+        }
+        BindLatency bindLatency = PENDING_BIND_LATENCY.get();
+        if (null != bindLatency) {
+            PENDING_BIND_LATENCY.remove();
+            if (bindLatency.getSqlStatement() == sqlStatement) {
+                result.recordElapsed(SQLExecutionStage.BIND, bindLatency.getElapsedNanos());
+            }
+        }
+        CURRENT_STATISTICS.set(result);
+        return result;
+    }
+    
+    /**
+     * Record bind stage of SQL statement.
+     * 
+     * <p>If statistics of the SQL statement is not started yet, the latency is recorded when statistics is started by current thread.</p>
+     *
+     * @param boundSQLStatement bound SQL statement
+     * @param startNanos start nano time of bind stage
+     */
+    public void recordBind(final SQLStatement boundSQLStatement, final long startNanos) {
+        if (!enabled || null == boundSQLStatement) {
+            return;
+        }
+        SQLStageStatistics statistics = statementStatistics.get(boundSQLStatement);
+        if (null == statistics) {
+            PENDING_BIND_LATENCY.set(new BindLatency(boundSQLStatement, System.nanoTime() - startNanos));
+        } else {
+            statistics.record(SQLExecutionStage.BIND, startNanos);
+        }
+    }
+    
+    private SQLStageStatistics getFingerprintStatistics(final String fingerprint) {
+        SQLStageStatistics result = fingerprintStatistics.get(fingerprint);
+        if (null != result) {
+            return result;
+        }
+        return fingerprintStatistics.size() < MAX_FINGERPRINT_COUNT ? fingerprintStatistics.computeIfAbsent(fingerprint, SQLStageStatistics::new) : othersStatistics;
+    }
+    
+    /**
+     * Find statistics of SQL statement.
+     *
+     * @param sqlStatement bound SQL statement
+     * @return found SQL stage statistics
+     */
+    public Optional<SQLStageStatistics> findStatistics(final SQLStatement sqlStatement) {
+        return enabled && null != sqlStatement ? Optional.ofNullable(statementStatistics.get(sqlStatement)) : Optional.empty();
+    }
+    
+    /**
+     * Find statistics of SQL statement processed latest by current thread.
+     *
+     * @return found SQL stage statistics
+     */
+    public Optional<SQLStageStatistics> findCurrentStatistics() {
+        return enabled ? Optional.ofNullable(CURRENT_STATISTICS.get()) : Optional.empty();
+    }
+    
+    /**
+     * Finish statistics of current thread, which releases thread local states of current execution.
+     */
+    public void finish() {
+        CURRENT_STATISTICS.remove();
+        PENDING_BIND_LATENCY.remove();
+    }
+    
+    /**
+     * Get all statistics.
+     *
+     * @return all SQL stage statistics
+     */
+    public Collection<SQLStageStatistics> getAllStatistics() {
+        Collection<SQLStageStatistics> result = new LinkedList<>(fingerprintStatistics.values());
+        if (fingerprintStatistics.size() >= MAX_FINGERPRINT_COUNT) {
+            result.add(othersStatistics);
+        }
+        return result;
+    }
+    
+    /**
+     * Clear all statistics.
+     */
+    public void clear() {
+        statementStatistics.clear();
+        sqlStatistics.invalidateAll();
+        fingerprintStatistics.clear();
+        finish();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class BindLatency {
+        
+        private final SQLStatement sqlStatement;
+        
+        private final long elapsedNanos;
+    }
+}
@@ -40,9 +40,20 @@ class ConfigurationPropertiesTest {
         assertThat(actual.getValue(ConfigurationPropertyKey.SYSTEM_LOG_LEVEL), is(Level.DEBUG));
         assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_SHOW_ASYNC_BUFFER_SIZE), is(1024));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_SHOW_SAMPLE_INTERVAL), is(10));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_SHOW_SLOW_THRESHOLD_MILLISECONDS), is(100L));
+        assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_STATISTICS_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(20));
         assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCING_SIZE), is(100));
+        assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.PREPARED_REWRITE_PLAN_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.FULL_ROUTE_DML_MAX_SHARDS), is(8));
+        assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.FULL_ROUTE_DML_REJECT_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.META_DATA_SNAPSHOT_PATH), is("/tmp/shardingsphere/snapshot"));
+        assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.LAZY_TABLE_META_DATA_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.GOVERNANCE_EVENT_COALESCING_MILLISECONDS), is(100L));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE), is(TypedSPILoader.getService(DatabaseType.class, "PostgreSQL")));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE), is(20));
@@ -58,9 +69,20 @@ class ConfigurationPropertiesTest {
                 new Property(ConfigurationPropertyKey.SYSTEM_LOG_LEVEL.getKey(), Level.DEBUG.toString()),
                 new Property(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.SQL_SIMPLE.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.SQL_SHOW_ASYNC_BUFFER_SIZE.getKey(), "1024"),
+                new Property(ConfigurationPropertyKey.SQL_SHOW_SAMPLE_INTERVAL.getKey(), "10"),
+                new Property(ConfigurationPropertyKey.SQL_SHOW_SLOW_THRESHOLD_MILLISECONDS.getKey(), "100"),
+                new Property(ConfigurationPropertyKey.SQL_STATISTICS_ENABLED.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.BATCH_INSERT_COALESCING_SIZE.getKey(), "100"),
+                new Property(ConfigurationPropertyKey.PREPARED_REWRITE_PLAN_ENABLED.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.FULL_ROUTE_DML_MAX_SHARDS.getKey(), "8"),
+                new Property(ConfigurationPropertyKey.FULL_ROUTE_DML_REJECT_ENABLED.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.META_DATA_SNAPSHOT_PATH.getKey(), "/tmp/shardingsphere/snapshot"),
+                new Property(ConfigurationPropertyKey.LAZY_TABLE_META_DATA_ENABLED.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.GOVERNANCE_EVENT_COALESCING_MILLISECONDS.getKey(), "100"),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE.getKey(), "PostgreSQL"),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE.getKey(), "20"),
@@ -77,9 +99,20 @@ class ConfigurationPropertiesTest {
         assertThat(actual.getValue(ConfigurationPropertyKey.SYSTEM_LOG_LEVEL), is(Level.INFO));
         assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_SHOW_ASYNC_BUFFER_SIZE), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_SHOW_SAMPLE_INTERVAL), is(1));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_SHOW_SLOW_THRESHOLD_MILLISECONDS), is(0L));
+        assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_STATISTICS_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(1));
         assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCING_SIZE), is(0));
+        assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.PREPARED_REWRITE_PLAN_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.FULL_ROUTE_DML_MAX_SHARDS), is(0));
+        assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.FULL_ROUTE_DML_REJECT_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.META_DATA_SNAPSHOT_PATH), is(""));
+        assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.LAZY_TABLE_META_DATA_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.GOVERNANCE_EVENT_COALESCING_MILLISECONDS), is(0L));
         assertNull(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(128));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE), is(-1));
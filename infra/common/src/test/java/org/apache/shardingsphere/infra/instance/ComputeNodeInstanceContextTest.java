@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.instance;
 
 import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
+import org.apache.shardingsphere.infra.instance.keygen.KeySegmentAllocator;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceMetaData;
 import org.apache.shardingsphere.infra.instance.workerid.WorkerIdGenerator;
 import org.apache.shardingsphere.infra.lock.LockContext;
@@ -50,7 +51,7 @@ class ComputeNodeInstanceContextTest {
         InstanceMetaData instanceMetaData = mock(InstanceMetaData.class);
         when(instanceMetaData.getId()).thenReturn("foo_instance_id");
         ComputeNodeInstanceContext context = new ComputeNodeInstanceContext(
-                new ComputeNodeInstance(instanceMetaData), mock(WorkerIdGenerator.class), modeConfig, lockContext, eventBusContext);
+                new ComputeNodeInstance(instanceMetaData), mock(WorkerIdGenerator.class), mock(KeySegmentAllocator.class), modeConfig, lockContext, eventBusContext);
         InstanceState actual = context.getInstance().getState().getCurrentState();
         assertThat(actual, is(InstanceState.OK));
         context.updateStatus(instanceMetaData.getId(), InstanceState.CIRCUIT_BREAK.name());
@@ -65,23 +66,33 @@ class ComputeNodeInstanceContextTest {
     void assertGetWorkerId() {
         ComputeNodeInstance computeNodeInstance = mock(ComputeNodeInstance.class);
         when(computeNodeInstance.getWorkerId()).thenReturn(0);
-        ComputeNodeInstanceContext context = new ComputeNodeInstanceContext(computeNodeInstance, mock(WorkerIdGenerator.class), modeConfig, lockContext, eventBusContext);
+        ComputeNodeInstanceContext context = new ComputeNodeInstanceContext(computeNodeInstance, mock(WorkerIdGenerator.class), mock(KeySegmentAllocator.class),
+                modeConfig, lockContext, eventBusContext);
         assertThat(context.getWorkerId(), is(0));
     }
     
     @Test
     void assertGenerateWorkerId() {
         ComputeNodeInstanceContext context = new ComputeNodeInstanceContext(
-                new ComputeNodeInstance(mock(InstanceMetaData.class)), mock(WorkerIdGenerator.class), modeConfig, lockContext, eventBusContext);
+                new ComputeNodeInstance(mock(InstanceMetaData.class)), mock(WorkerIdGenerator.class), mock(KeySegmentAllocator.class), modeConfig, lockContext, eventBusContext);
         assertThat(context.generateWorkerId(new Properties()), is(0));
     }
     
+    @Test
+    void assertAllocateKeySegment() {
+        KeySegmentAllocator keySegmentAllocator = mock(KeySegmentAllocator.class);
+        when(keySegmentAllocator.allocate("foo_segment", 100)).thenReturn(200L);
+        ComputeNodeInstanceContext context = new ComputeNodeInstanceContext(
+                new ComputeNodeInstance(mock(InstanceMetaData.class)), mock(WorkerIdGenerator.class), keySegmentAllocator, modeConfig, lockContext, eventBusContext);
+        assertThat(context.allocateKeySegment("foo_segment", 100), is(200L));
+    }
+    
     @Test
     void assertUpdateLabel() {
         InstanceMetaData instanceMetaData = mock(InstanceMetaData.class);
         when(instanceMetaData.getId()).thenReturn("foo_instance_id");
         ComputeNodeInstanceContext context = new ComputeNodeInstanceContext(
-                new ComputeNodeInstance(instanceMetaData), mock(WorkerIdGenerator.class), modeConfig, lockContext, eventBusContext);
+                new ComputeNodeInstance(instanceMetaData), mock(WorkerIdGenerator.class), mock(KeySegmentAllocator.class), modeConfig, lockContext, eventBusContext);
         Collection<String> expected = Arrays.asList("label_1", "label_2");
         context.updateLabel("foo_instance_id", expected);
         Collection<String> actual = context.getInstance().getLabels();
@@ -91,7 +102,7 @@ class ComputeNodeInstanceContextTest {
     @Test
     void assertGetInstance() {
         ComputeNodeInstance expected = new ComputeNodeInstance(mock(InstanceMetaData.class));
-        ComputeNodeInstanceContext context = new ComputeNodeInstanceContext(expected, mock(WorkerIdGenerator.class), modeConfig, lockContext, eventBusContext);
+        ComputeNodeInstanceContext context = new ComputeNodeInstanceContext(expected, mock(WorkerIdGenerator.class), mock(KeySegmentAllocator.class), modeConfig, lockContext, eventBusContext);
         ComputeNodeInstance actual = context.getInstance();
         assertThat(actual, is(expected));
     }
@@ -99,24 +110,24 @@ class ComputeNodeInstanceContextTest {
     @Test
     void assertGetState() {
         ComputeNodeInstanceContext context = new ComputeNodeInstanceContext(
-                new ComputeNodeInstance(mock(InstanceMetaData.class)), mock(WorkerIdGenerator.class), modeConfig, lockContext, eventBusContext);
+                new ComputeNodeInstance(mock(InstanceMetaData.class)), mock(WorkerIdGenerator.class), mock(KeySegmentAllocator.class), modeConfig, lockContext, eventBusContext);
         assertNotNull(context.getInstance().getState());
     }
     
     @Test
     void assertGetModeConfiguration() {
         ComputeNodeInstanceContext context = new ComputeNodeInstanceContext(
-                new ComputeNodeInstance(mock(InstanceMetaData.class)), mock(WorkerIdGenerator.class), modeConfig, lockContext, eventBusContext);
+                new ComputeNodeInstance(mock(InstanceMetaData.class)), mock(WorkerIdGenerator.class), mock(KeySegmentAllocator.class), modeConfig, lockContext, eventBusContext);
         assertThat(context.getModeConfiguration(), is(modeConfig));
     }
     
     @Test
     void assertIsCluster() {
         ComputeNodeInstanceContext context = new ComputeNodeInstanceContext(
-                new ComputeNodeInstance(mock(InstanceMetaData.class)), mock(WorkerIdGenerator.class), modeConfig, lockContext, eventBusContext);
+                new ComputeNodeInstance(mock(InstanceMetaData.class)), mock(WorkerIdGenerator.class), mock(KeySegmentAllocator.class), modeConfig, lockContext, eventBusContext);
         assertFalse(context.isCluster());
         ComputeNodeInstanceContext clusterContext = new ComputeNodeInstanceContext(new ComputeNodeInstance(mock(InstanceMetaData.class)), mock(WorkerIdGenerator.class),
-                new ModeConfiguration("Cluster", null), lockContext, eventBusContext);
+                mock(KeySegmentAllocator.class), new ModeConfiguration("Cluster", null), lockContext, eventBusContext);
         assertTrue(clusterContext.isCluster());
     }
 }
@@ -50,6 +50,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -72,6 +73,19 @@ class ShardingSphereMetaDataTest {
         verify(globalRule).refresh(databases, GlobalRuleChangedType.DATABASE_CHANGED);
     }
     
+    @Test
+    void assertPutDatabasesWithReplacedDatabase() {
+        ShardingSphereDatabase database = mockDatabase(mock(ResourceMetaData.class, RETURNS_DEEP_STUBS), new MockedDataSource(), mock(ShardingSphereRule.class));
+        when(database.getVersion()).thenReturn(5L);
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(new HashMap<>(Collections.singletonMap("foo_db", database)),
+                mock(ResourceMetaData.class), new RuleMetaData(Collections.emptyList()), new ConfigurationProperties(new Properties()));
+        long version = metaData.getVersion();
+        ShardingSphereDatabase newDatabase = mockDatabase(mock(ResourceMetaData.class, RETURNS_DEEP_STUBS), new MockedDataSource(), mock(ShardingSphereRule.class));
+        metaData.putDatabases(Collections.singletonMap("foo_db", newDatabase));
+        assertThat(metaData.getDatabase("foo_db"), is(newDatabase));
+        assertThat(metaData.getVersion(), is(version + 1L));
+    }
+    
     @Test
     void assertDropDatabase() {
         ResourceMetaData resourceMetaData = mock(ResourceMetaData.class, RETURNS_DEEP_STUBS);
@@ -88,6 +102,17 @@ class ShardingSphereMetaDataTest {
         verify(globalRule).refresh(metaData.getDatabases(), GlobalRuleChangedType.DATABASE_CHANGED);
     }
     
+    @Test
+    void assertDropNotExistedDatabase() {
+        GlobalRule globalRule = mock(GlobalRule.class);
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(new HashMap<>(), mock(ResourceMetaData.class), new RuleMetaData(Collections.singleton(globalRule)),
+                new ConfigurationProperties(new Properties()));
+        long version = metaData.getVersion();
+        metaData.dropDatabase("foo_db");
+        assertThat(metaData.getVersion(), is(version));
+        verify(globalRule, never()).refresh(metaData.getDatabases(), GlobalRuleChangedType.DATABASE_CHANGED);
+    }
+    
     @Test
     void assertContainsDatabase() {
         ShardingSphereRule globalRule = mock(ShardingSphereRule.class);
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.MutableDataNodeRuleAttribute;
@@ -100,6 +101,21 @@ class ShardingSphereDatabaseTest {
         assertFalse(database.containsSchema("schema1"));
     }
     
+    @Test
+    void assertGetVersion() {
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        ShardingSphereDatabase database = new ShardingSphereDatabase("foo_db", mock(DatabaseType.class), mock(ResourceMetaData.class), mock(RuleMetaData.class),
+                Collections.singletonMap("schema1", schema));
+        assertThat(database.getVersion(), is(0L));
+        schema.putTable("foo_tbl", mock(ShardingSphereTable.class));
+        schema.removeTable("foo_tbl");
+        assertThat(database.getVersion(), is(2L));
+        database.dropSchema("schema1");
+        assertThat(database.getVersion(), is(3L));
+        database.addSchema("schema1", new ShardingSphereSchema());
+        assertThat(database.getVersion(), is(4L));
+    }
+    
     @Test
     void assertIsComplete() {
         ResourceMetaData resourceMetaData = new ResourceMetaData(Collections.singletonMap("ds", new MockedDataSource()));
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.metadata.database.schema;
 
 import org.apache.shardingsphere.infra.metadata.database.schema.manager.GenericSchemaManager;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.LazyTableMetaDataLoader;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.junit.jupiter.api.Test;
@@ -55,6 +56,18 @@ class GenericSchemaManagerTest {
         assertTrue(actual.get("foo_schema").getTables().containsKey("foo_table"));
     }
     
+    @Test
+    void assertGetToBeDeletedTablesBySchemasWithLazyTables() {
+        Map<String, ShardingSphereSchema> currentSchemas = Collections.singletonMap("foo_schema",
+                new ShardingSphereSchema(Collections.singletonMap("foo_table", new ShardingSphereTable("foo_table",
+                        Collections.emptyList(), Collections.emptyList(), Collections.emptyList())), Collections.emptyMap()));
+        LazyTableMetaDataLoader lazyTableMetaDataLoader = new LazyTableMetaDataLoader(Collections.singleton("foo_table"), each -> Collections.emptyMap());
+        Map<String, ShardingSphereSchema> reloadSchemas = Collections.singletonMap("foo_schema", new ShardingSphereSchema(Collections.emptyMap(), Collections.emptyMap(), lazyTableMetaDataLoader));
+        Map<String, ShardingSphereSchema> actual = GenericSchemaManager.getToBeDeletedTablesBySchemas(reloadSchemas, currentSchemas);
+        assertThat(actual.size(), is(1));
+        assertTrue(actual.get("foo_schema").getTables().isEmpty());
+    }
+    
     @Test
     void assertGetToBeAddedTables() {
         Map<String, ShardingSphereTable> actual = GenericSchemaManager.getToBeAddedTables(Collections.singletonMap("foo_table", new ShardingSphereTable()), Collections.emptyMap());
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.metadata.database.schema.builder;
 
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoader;
 import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaMetaData;
@@ -32,6 +33,8 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
 import org.apache.shardingsphere.test.mock.AutoMockExtension;
 import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -94,6 +97,27 @@ class GenericSchemaBuilderTest {
         assertTables(new ShardingSphereSchema(actual.values().iterator().next().getTables(), Collections.emptyMap()).getTables());
     }
     
+    @Test
+    void assertBuildLazily() throws SQLException {
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+        TableMapperRuleAttribute ruleAttribute = mock(TableMapperRuleAttribute.class);
+        when(ruleAttribute.getLogicTableNames()).thenReturn(Arrays.asList("data_node_routed_table1", "data_node_routed_table2"));
+        ShardingSphereRule rule = mock(ShardingSphereRule.class);
+        when(rule.getAttributes()).thenReturn(new RuleAttributes(ruleAttribute));
+        GenericSchemaBuilderMaterial lazyMaterial = new GenericSchemaBuilderMaterial(databaseType, Collections.singletonMap(DefaultDatabase.LOGIC_NAME, databaseType),
+                Collections.singletonMap(DefaultDatabase.LOGIC_NAME, new MockedDataSource()), Collections.singleton(rule),
+                new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.LAZY_TABLE_META_DATA_ENABLED.getKey(), Boolean.TRUE.toString()))),
+                DefaultDatabase.LOGIC_NAME);
+        when(MetaDataLoader.load(any())).thenReturn(createSchemaMetaDataMap(Collections.singleton("data_node_routed_table1"), lazyMaterial));
+        ShardingSphereSchema actual = GenericSchemaBuilder.build(lazyMaterial).get(DefaultDatabase.LOGIC_NAME);
+        assertThat(actual.getAllTableNames().size(), is(2));
+        assertTrue(actual.containsTable("data_node_routed_table1"));
+        assertFalse(actual.getLazyTableMetaDataLoader().isLoaded("data_node_routed_table1"));
+        assertThat(actual.getTable("data_node_routed_table1").getName(), is("data_node_routed_table1"));
+        assertTrue(actual.getLazyTableMetaDataLoader().isLoaded("data_node_routed_table1"));
+        assertTrue(actual.getTables().isEmpty());
+    }
+    
     private Map<String, SchemaMetaData> createSchemaMetaDataMap(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) {
         if (!tableNames.isEmpty() && (tableNames.contains("data_node_routed_table1") || tableNames.contains("data_node_routed_table2"))) {
             Collection<TableMetaData> tableMetaDataList = tableNames.stream()
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LazyTableMetaDataLoaderTest {
+    
+    @Test
+    void assertGetTableOnlyLoadOnce() {
+        AtomicInteger loadCount = new AtomicInteger();
+        LazyTableMetaDataLoader loader = new LazyTableMetaDataLoader(Arrays.asList("Foo_Tbl", "bar_tbl"), tableNames -> {
+            loadCount.incrementAndGet();
+            return createTables(tableNames);
+        });
+        assertTrue(loader.containsTable("foo_tbl"));
+        assertFalse(loader.isLoaded("foo_tbl"));
+        assertThat(loader.getTable("foo_tbl").getName(), is("foo_tbl"));
+        assertThat(loader.getTable("foo_tbl").getName(), is("foo_tbl"));
+        assertTrue(loader.isLoaded("foo_tbl"));
+        assertFalse(loader.isLoaded("bar_tbl"));
+        assertThat(loadCount.get(), is(1));
+    }
+    
+    @Test
+    void assertGetNotRegisteredTable() {
+        LazyTableMetaDataLoader loader = new LazyTableMetaDataLoader(Collections.singleton("foo_tbl"), LazyTableMetaDataLoaderTest::createTables);
+        assertNull(loader.getTable("bar_tbl"));
+    }
+    
+    @Test
+    void assertRemoveTable() {
+        LazyTableMetaDataLoader loader = new LazyTableMetaDataLoader(Collections.singleton("foo_tbl"), LazyTableMetaDataLoaderTest::createTables);
+        loader.getTable("foo_tbl");
+        loader.removeTable("foo_tbl");
+        assertFalse(loader.containsTable("foo_tbl"));
+        assertFalse(loader.isLoaded("foo_tbl"));
+        assertNull(loader.getTable("foo_tbl"));
+    }
+    
+    private static Map<String, ShardingSphereTable> createTables(final Collection<String> tableNames) {
+        Map<String, ShardingSphereTable> result = new LinkedHashMap<>(tableNames.size(), 1F);
+        for (String each : tableNames) {
+            result.put(each, new ShardingSphereTable(each, Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        }
+        return result;
+    }
+}
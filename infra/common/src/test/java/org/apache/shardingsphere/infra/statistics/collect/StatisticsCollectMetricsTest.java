@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics.collect;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class StatisticsCollectMetricsTest {
+    
+    @AfterEach
+    void reset() {
+        StatisticsCollectMetrics.getInstance().clear();
+    }
+    
+    @Test
+    void assertRecordCollect() {
+        StatisticsCollectMetrics.getInstance().recordCollect(20L, 3, 2, 1);
+        StatisticsCollectMetrics.getInstance().recordCollect(10L, 1, 4, 0);
+        assertThat(StatisticsCollectMetrics.getInstance().getCollectCount(), is(2L));
+        assertThat(StatisticsCollectMetrics.getInstance().getTotalCollectDurationMillis(), is(30L));
+        assertThat(StatisticsCollectMetrics.getInstance().getLastCollectDurationMillis(), is(10L));
+        assertThat(StatisticsCollectMetrics.getInstance().getCollectedTableCount(), is(4L));
+        assertThat(StatisticsCollectMetrics.getInstance().getSkippedTableCount(), is(6L));
+        assertThat(StatisticsCollectMetrics.getInstance().getChangedTableCount(), is(1L));
+    }
+    
+    @Test
+    void assertRecordPersisted() {
+        StatisticsCollectMetrics.getInstance().recordPersisted(2, 128L);
+        StatisticsCollectMetrics.getInstance().recordPersisted(1, 64L);
+        assertThat(StatisticsCollectMetrics.getInstance().getPersistedRowCount(), is(3L));
+        assertThat(StatisticsCollectMetrics.getInstance().getPersistedBytes(), is(192L));
+    }
+}
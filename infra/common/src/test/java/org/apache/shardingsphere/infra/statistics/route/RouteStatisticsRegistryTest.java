@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics.route;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteStatisticsRegistryTest {
+    
+    @AfterEach
+    void reset() {
+        RouteStatisticsRegistry.getInstance().clear();
+    }
+    
+    @Test
+    void assertGetTableStatistics() {
+        TableRouteStatistics actual = RouteStatisticsRegistry.getInstance().getTableStatistics("foo_db", "t_order");
+        assertThat(actual.getDatabaseName(), is("foo_db"));
+        assertThat(actual.getLogicTable(), is("t_order"));
+        assertThat(RouteStatisticsRegistry.getInstance().getTableStatistics("foo_db", "t_order"), sameInstance(actual));
+        assertThat(RouteStatisticsRegistry.getInstance().getAllTableStatistics().size(), is(1));
+    }
+    
+    @Test
+    void assertGetTableStatisticsWithSameLogicTableInDifferentDatabases() {
+        TableRouteStatistics actual = RouteStatisticsRegistry.getInstance().getTableStatistics("foo_db", "t_order");
+        actual.record(2, false, false);
+        TableRouteStatistics another = RouteStatisticsRegistry.getInstance().getTableStatistics("bar_db", "t_order");
+        assertThat(another, not(sameInstance(actual)));
+        assertThat(another.getRouteCount(), is(0L));
+        assertThat(RouteStatisticsRegistry.getInstance().getAllTableStatistics().size(), is(2));
+    }
+    
+    @Test
+    void assertClear() {
+        RouteStatisticsRegistry.getInstance().getTableStatistics("foo_db", "t_order").record(2, false, false);
+        RouteStatisticsRegistry.getInstance().clear();
+        assertTrue(RouteStatisticsRegistry.getInstance().getAllTableStatistics().isEmpty());
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics.route;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class TableRouteStatisticsTest {
+    
+    @Test
+    void assertGetBucketIndex() {
+        assertThat(TableRouteStatistics.getBucketIndex(0), is(0));
+        assertThat(TableRouteStatistics.getBucketIndex(1), is(0));
+        assertThat(TableRouteStatistics.getBucketIndex(2), is(1));
+        assertThat(TableRouteStatistics.getBucketIndex(3), is(2));
+        assertThat(TableRouteStatistics.getBucketIndex(4), is(2));
+        assertThat(TableRouteStatistics.getBucketIndex(5), is(3));
+        assertThat(TableRouteStatistics.getBucketIndex(Integer.MAX_VALUE), is(TableRouteStatistics.BUCKET_COUNT - 1));
+    }
+    
+    @Test
+    void assertGetBucketUpperBound() {
+        assertThat(TableRouteStatistics.getBucketUpperBound(0), is(1));
+        assertThat(TableRouteStatistics.getBucketUpperBound(3), is(8));
+        assertThat(TableRouteStatistics.getBucketUpperBound(TableRouteStatistics.BUCKET_COUNT - 1), is(Integer.MAX_VALUE));
+    }
+    
+    @Test
+    void assertRecord() {
+        TableRouteStatistics actual = new TableRouteStatistics("t_order");
+        actual.record(1, false, false);
+        actual.record(4, true, false);
+        actual.record(4, false, true);
+        assertThat(actual.getRouteCount(), is(3L));
+        assertThat(actual.getBucketCount(0), is(1L));
+        assertThat(actual.getBucketCount(2), is(2L));
+        assertThat(actual.getFanOutSum(), is(9L));
+        assertThat(actual.getFullRouteCount(), is(1L));
+        assertThat(actual.getBroadcastRouteCount(), is(1L));
+    }
+}
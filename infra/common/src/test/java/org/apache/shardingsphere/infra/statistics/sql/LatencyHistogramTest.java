@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics.sql;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+class LatencyHistogramTest {
+    
+    @Test
+    void assertGetBucketIndex() {
+        assertThat(LatencyHistogram.getBucketIndex(0L), is(0));
+        assertThat(LatencyHistogram.getBucketIndex(7L), is(7));
+        assertThat(LatencyHistogram.getBucketIndex(8L), is(8));
+        assertThat(LatencyHistogram.getBucketIndex(16L), is(16));
+        assertThat(LatencyHistogram.getBucketIndex(Long.MAX_VALUE), is(LatencyHistogram.getBucketIndex(Long.MAX_VALUE - 1L)));
+    }
+    
+    @Test
+    void assertGetBucketUpperBound() {
+        for (long each : new long[]{0L, 1L, 9L, 100L, 1000L, 123456L}) {
+            assertThat(LatencyHistogram.getBucketUpperBound(LatencyHistogram.getBucketIndex(each)), greaterThanOrEqualTo(each));
+        }
+    }
+    
+    @Test
+    void assertRecord() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        assertThat(histogram.getCount(), is(100L));
+        assertThat(histogram.getSum(), is(5050L));
+        assertThat(histogram.getMax(), is(100L));
+        assertThat(histogram.getMean(), is(50.5D));
+        long p50 = histogram.getValueAtPercentile(50D);
+        assertThat(p50, greaterThanOrEqualTo(50L));
+        assertThat(p50, lessThanOrEqualTo(56L));
+        assertThat(histogram.getValueAtPercentile(100D), is(100L));
+    }
+    
+    @Test
+    void assertGetValueAtPercentileWithoutRecord() {
+        assertThat(new LatencyHistogram().getValueAtPercentile(99D), is(0L));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics.sql;
+
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class SQLFingerprintStatisticsStoreTest {
+    
+    @AfterEach
+    void tearDown() {
+        SQLFingerprintStatisticsStore.getInstance().clear();
+    }
+    
+    @Test
+    void assertRecord() {
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        SQLFingerprintStatisticsStore.getInstance().record("foo_db", sqlStatement, "SELECT * FROM t_order WHERE order_id = 1", 10L, 1L, 2);
+        SQLFingerprintStatisticsStore.getInstance().record("foo_db", sqlStatement, "SELECT * FROM t_order WHERE order_id = 1", 30L, 3L, 2);
+        SQLFingerprintStatisticsStore.getInstance().record("foo_db", null, "SELECT * FROM t_order WHERE order_id = 2", 20L, 0L, 1);
+        List<SQLFingerprintStatistics> actual = SQLFingerprintStatisticsStore.getInstance().getTopStatistics(10);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getDatabaseName(), is("foo_db"));
+        assertThat(actual.get(0).getFingerprint(), is("SELECT * FROM t_order WHERE order_id = ?"));
+        assertThat(actual.get(0).getCalls(), is(3L));
+        assertThat(actual.get(0).getTotalTimeMicros(), is(60L));
+        assertThat(actual.get(0).getMeanTimeMicros(), is(20D));
+        assertThat(actual.get(0).getMaxTimeMicros(), is(30L));
+        assertThat(actual.get(0).getRows(), is(4L));
+        assertThat(actual.get(0).getShards(), is(5L));
+    }
+    
+    @Test
+    void assertGetTopStatistics() {
+        SQLFingerprintStatisticsStore.getInstance().record("foo_db", null, "SELECT * FROM t_order", 10L, 0L, 1);
+        SQLFingerprintStatisticsStore.getInstance().record("foo_db", null, "SELECT * FROM t_order_item", 50L, 0L, 1);
+        SQLFingerprintStatisticsStore.getInstance().record("foo_db", null, "SELECT * FROM t_user", 30L, 0L, 1);
+        List<SQLFingerprintStatistics> actual = SQLFingerprintStatisticsStore.getInstance().getTopStatistics(2);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getFingerprint(), is("SELECT * FROM t_order_item"));
+        assertThat(actual.get(1).getFingerprint(), is("SELECT * FROM t_user"));
+    }
+    
+    @Test
+    void assertRecordWithDifferentDatabases() {
+        SQLFingerprintStatisticsStore.getInstance().record("foo_db", null, "SELECT * FROM t_order", 10L, 0L, 1);
+        SQLFingerprintStatisticsStore.getInstance().record("bar_db", null, "SELECT * FROM t_order", 20L, 0L, 1);
+        assertThat(SQLFingerprintStatisticsStore.getInstance().getAllStatistics("foo_db").size(), is(1));
+        assertThat(SQLFingerprintStatisticsStore.getInstance().getAllStatistics("foo_db").iterator().next().getTotalTimeMicros(), is(10L));
+        assertThat(SQLFingerprintStatisticsStore.getInstance().getTopStatistics(10).size(), is(2));
+        SQLFingerprintStatisticsStore.getInstance().remove("bar_db");
+        assertTrue(SQLFingerprintStatisticsStore.getInstance().getAllStatistics("bar_db").isEmpty());
+        assertThat(SQLFingerprintStatisticsStore.getInstance().getTopStatistics(10).size(), is(1));
+    }
+    
+    @Test
+    void assertRecordWithEviction() {
+        for (int i = 0; i < 100; i++) {
+            SQLFingerprintStatisticsStore.getInstance().record("foo_db", null, "SELECT * FROM t_hot", 1L, 1L, 1);
+        }
+        for (int i = 0; i < 5000; i++) {
+            SQLFingerprintStatisticsStore.getInstance().record("foo_db", null, "SELECT * FROM t_cold_" + i, 1L, 1L, 1);
+        }
+        assertThat(SQLFingerprintStatisticsStore.getInstance().getAllStatistics("foo_db").size(), lessThanOrEqualTo(1024));
+        SQLFingerprintStatistics actual = SQLFingerprintStatisticsStore.getInstance().getTopStatistics(1).get(0);
+        assertThat(actual.getFingerprint(), is("SELECT * FROM t_hot"));
+        assertThat(actual.getCalls(), is(100L));
+        assertThat(actual.getOverestimatedCalls(), is(0L));
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics.sql;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SQLFingerprintUtilsTest {
+    
+    @Test
+    void assertGetFingerprintWithLiterals() {
+        assertThat(SQLFingerprintUtils.getFingerprint("SELECT * FROM t_order WHERE order_id = 10 AND status = 'OK'"), is("SELECT * FROM t_order WHERE order_id = ? AND status = ?"));
+    }
+    
+    @Test
+    void assertGetFingerprintWithInList() {
+        assertThat(SQLFingerprintUtils.getFingerprint("SELECT * FROM t_order WHERE order_id IN (1, 2, 3)"), is("SELECT * FROM t_order WHERE order_id IN (?)"));
+        assertThat(SQLFingerprintUtils.getFingerprint("SELECT * FROM t_order WHERE order_id IN (1, 2, 3)"), is(SQLFingerprintUtils.getFingerprint("SELECT * FROM t_order WHERE order_id IN (4, 5)")));
+    }
+    
+    @Test
+    void assertGetFingerprintWithCommentAndWhitespace() {
+        assertThat(SQLFingerprintUtils.getFingerprint("SELECT  *\n FROM /* hint */ t_order -- tail\n WHERE user_id = ?"), is("SELECT * FROM t_order WHERE user_id = ?"));
+    }
+    
+    @Test
+    void assertGetFingerprintWithQuotedIdentifier() {
+        assertThat(SQLFingerprintUtils.getFingerprint("SELECT `col1` FROM \"t_order1\" WHERE id = 1"), is("SELECT `col1` FROM \"t_order1\" WHERE id = ?"));
+    }
+}
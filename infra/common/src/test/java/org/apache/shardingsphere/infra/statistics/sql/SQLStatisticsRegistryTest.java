@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics.sql;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class SQLStatisticsRegistryTest {
+    
+    @AfterEach
+    void tearDown() {
+        SQLStatisticsRegistry.getInstance().setEnabled(false);
+        SQLStatisticsRegistry.getInstance().clear();
+    }
+    
+    @Test
+    void assertFindStatisticsWhenDisabled() {
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        SQLStatisticsRegistry.getInstance().start(sqlStatement, "SELECT 1");
+        assertFalse(SQLStatisticsRegistry.getInstance().findStatistics(sqlStatement).isPresent());
+        assertFalse(SQLStatisticsRegistry.getInstance().findCurrentStatistics().isPresent());
+    }
+    
+    @Test
+    void assertIsEnabledWithProperties() {
+        ConfigurationProperties enabledProps = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.SQL_STATISTICS_ENABLED.getKey(), Boolean.TRUE.toString())));
+        assertTrue(SQLStatisticsRegistry.getInstance().isEnabled(enabledProps));
+        assertTrue(SQLStatisticsRegistry.getInstance().isEnabled());
+        assertFalse(SQLStatisticsRegistry.getInstance().isEnabled(new ConfigurationProperties(new Properties())));
+        assertFalse(SQLStatisticsRegistry.getInstance().isEnabled());
+    }
+    
+    @Test
+    void assertStart() {
+        SQLStatisticsRegistry.getInstance().setEnabled(true);
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        SQLStageStatistics actual = SQLStatisticsRegistry.getInstance().start(sqlStatement, "SELECT * FROM t_order WHERE order_id = 1");
+        assertThat(actual.getFingerprint(), is("SELECT * FROM t_order WHERE order_id = ?"));
+        assertTrue(SQLStatisticsRegistry.getInstance().findStatistics(sqlStatement).isPresent());
+        assertThat(SQLStatisticsRegistry.getInstance().findCurrentStatistics().orElse(null), is(actual));
+        assertThat(SQLStatisticsRegistry.getInstance().start(mock(SQLStatement.class), "SELECT * FROM t_order WHERE order_id = 2"), is(actual));
+        assertThat(SQLStatisticsRegistry.getInstance().getAllStatistics().size(), is(1));
+    }
+    
+    @Test
+    void assertRecord() {
+        SQLStatisticsRegistry.getInstance().setEnabled(true);
+        SQLStageStatistics actual = SQLStatisticsRegistry.getInstance().start(mock(SQLStatement.class), "SELECT 1");
+        assertFalse(actual.findHistogram(SQLExecutionStage.ROUTE).isPresent());
+        actual.record(SQLExecutionStage.ROUTE, System.nanoTime());
+        assertThat(actual.findHistogram(SQLExecutionStage.ROUTE).map(LatencyHistogram::getCount).orElse(0L), is(1L));
+    }
+    
+    @Test
+    void assertRecordBindBeforeStart() {
+        SQLStatisticsRegistry.getInstance().setEnabled(true);
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        SQLStatisticsRegistry.getInstance().recordBind(sqlStatement, System.nanoTime());
+        SQLStageStatistics actual = SQLStatisticsRegistry.getInstance().start(sqlStatement, "SELECT 1");
+        assertThat(actual.findHistogram(SQLExecutionStage.BIND).map(LatencyHistogram::getCount).orElse(0L), is(1L));
+        SQLStatisticsRegistry.getInstance().recordBind(sqlStatement, System.nanoTime());
+        assertThat(actual.findHistogram(SQLExecutionStage.BIND).map(LatencyHistogram::getCount).orElse(0L), is(2L));
+    }
+    
+    @Test
+    void assertRecordBindOfAnotherStatement() {
+        SQLStatisticsRegistry.getInstance().setEnabled(true);
+        SQLStatisticsRegistry.getInstance().recordBind(mock(SQLStatement.class), System.nanoTime());
+        SQLStageStatistics actual = SQLStatisticsRegistry.getInstance().start(mock(SQLStatement.class), "SELECT 1");
+        assertFalse(actual.findHistogram(SQLExecutionStage.BIND).isPresent());
+    }
+    
+    @Test
+    void assertFinish() {
+        SQLStatisticsRegistry.getInstance().setEnabled(true);
+        SQLStatisticsRegistry.getInstance().start(mock(SQLStatement.class), "SELECT 1");
+        assertTrue(SQLStatisticsRegistry.getInstance().findCurrentStatistics().isPresent());
+        SQLStatisticsRegistry.getInstance().finish();
+        assertFalse(SQLStatisticsRegistry.getInstance().findCurrentStatistics().isPresent());
+    }
+}
@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.infra.connection.kernel;
 
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
-import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
@@ -30,6 +29,9 @@ import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.statistics.sql.SQLExecutionStage;
+import org.apache.shardingsphere.infra.statistics.sql.SQLStageStatistics;
+import org.apache.shardingsphere.infra.statistics.sql.SQLStatisticsRegistry;
 
 /**
  * Kernel processor.
@@ -48,11 +50,31 @@ public final class KernelProcessor {
      */
     public ExecutionContext generateExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database, final RuleMetaData globalRuleMetaData,
                                                      final ConfigurationProperties props, final ConnectionContext connectionContext) {
-        RouteContext routeContext = route(queryContext, database, globalRuleMetaData, props, connectionContext);
-        SQLRewriteResult rewriteResult = rewrite(queryContext, database, globalRuleMetaData, props, routeContext, connectionContext);
-        ExecutionContext result = createExecutionContext(queryContext, database, routeContext, rewriteResult);
-        logSQL(queryContext, props, result);
-        return result;
+        SQLStageStatistics statistics = startStatistics(queryContext, props);
+        try {
+            RouteContext routeContext = route(queryContext, database, globalRuleMetaData, props, connectionContext);
+            long rewriteStartNanos = System.nanoTime();
+            SQLRewriteResult rewriteResult = rewrite(queryContext, database, globalRuleMetaData, props, routeContext, connectionContext);
+            if (null != statistics) {
+                statistics.record(SQLExecutionStage.REWRITE, rewriteStartNanos);
+            }
+            ExecutionContext result = createExecutionContext(queryContext, database, routeContext, rewriteResult);
+            SQLLogger.logSQL(queryContext, props, result, connectionContext);
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            SQLStatisticsRegistry.getInstance().finish();
+            throw ex;
+        }
+    }
+    
+    private SQLStageStatistics startStatistics(final QueryContext queryContext, final ConfigurationProperties props) {
+        if (SQLStatisticsRegistry.getInstance().isEnabled(props)) {
+            return SQLStatisticsRegistry.getInstance().start(queryContext.getSqlStatementContext().getSqlStatement(), queryContext.getSql());
+        }
+        SQLStatisticsRegistry.getInstance().finish();
+        return null;
     }
     
     private RouteContext route(final QueryContext queryContext, final ShardingSphereDatabase database,
@@ -69,10 +91,4 @@ public final class KernelProcessor {
     private ExecutionContext createExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database, final RouteContext routeContext, final SQLRewriteResult rewriteResult) {
         return new ExecutionContext(queryContext, ExecutionContextBuilder.build(database, rewriteResult, queryContext.getSqlStatementContext()), routeContext);
     }
-    
-    private void logSQL(final QueryContext queryContext, final ConfigurationProperties props, final ExecutionContext executionContext) {
-        if (props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)) {
-            SQLLogger.logSQL(queryContext, props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SIMPLE), executionContext);
-        }
-    }
 }
@@ -36,6 +36,11 @@ public final class H2DatabaseMetaData implements DialectDatabaseMetaData {
         return NullsOrderType.FIRST;
     }
     
+    @Override
+    public boolean isSupportMultiRowInsertValues() {
+        return true;
+    }
+    
     @Override
     public String getDatabaseType() {
         return "H2";
@@ -93,6 +93,11 @@ public final class MySQLDatabaseMetaData implements DialectDatabaseMetaData {
         return true;
     }
     
+    @Override
+    public boolean isSupportMultiRowInsertValues() {
+        return true;
+    }
+    
     @Override
     public String getDatabaseType() {
         return "MySQL";
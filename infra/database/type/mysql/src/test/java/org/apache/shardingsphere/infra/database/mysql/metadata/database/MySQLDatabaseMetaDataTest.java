@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MySQLDatabaseMetaDataTest {
     
@@ -41,4 +42,9 @@ class MySQLDatabaseMetaDataTest {
     void assertGetDefaultNullsOrderType() {
         assertThat(dialectDatabaseMetaData.getDefaultNullsOrderType(), is(NullsOrderType.FIRST));
     }
+    
+    @Test
+    void assertIsSupportMultiRowInsertValues() {
+        assertTrue(dialectDatabaseMetaData.isSupportMultiRowInsertValues());
+    }
 }
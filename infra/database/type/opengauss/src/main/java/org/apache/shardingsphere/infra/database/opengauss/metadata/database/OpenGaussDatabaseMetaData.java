@@ -75,6 +75,11 @@ public final class OpenGaussDatabaseMetaData implements DialectDatabaseMetaData
         return true;
     }
     
+    @Override
+    public boolean isSupportMultiRowInsertValues() {
+        return true;
+    }
+    
     @Override
     public String getDatabaseType() {
         return "openGauss";
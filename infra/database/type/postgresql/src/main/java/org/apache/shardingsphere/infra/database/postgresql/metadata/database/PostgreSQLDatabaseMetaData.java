@@ -67,6 +67,11 @@ public final class PostgreSQLDatabaseMetaData implements DialectDatabaseMetaData
         return Optional.of("public");
     }
     
+    @Override
+    public boolean isSupportMultiRowInsertValues() {
+        return true;
+    }
+    
     @Override
     public String getDatabaseType() {
         return "PostgreSQL";
@@ -27,6 +27,8 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMod
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.hook.SPISQLExecutionHook;
 import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.sql.log.SQLLogContext;
+import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -56,14 +58,27 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
     
     private final ProcessEngine processEngine = new ProcessEngine();
     
+    private final SQLLogContext sqlLogContext = SQLLogger.getCurrentContext();
+    
+    private final String sqlLogDatabaseName = SQLLogger.getCurrentDatabaseName();
+    
+    private final String sqlLogUsername = SQLLogger.getCurrentUsername();
+    
     @Override
     public final Collection<T> execute(final Collection<JDBCExecutionUnit> executionUnits, final boolean isTrunkThread, final String processId) throws SQLException {
         // TODO It is better to judge whether need sane result before execute, can avoid exception thrown
         Collection<T> result = new LinkedList<>();
-        for (JDBCExecutionUnit each : executionUnits) {
-            T executeResult = execute(each, isTrunkThread, processId);
-            if (null != executeResult) {
-                result.add(executeResult);
+        SQLLogger.setCurrentContext(sqlLogContext, sqlLogDatabaseName, sqlLogUsername);
+        try {
+            for (JDBCExecutionUnit each : executionUnits) {
+                T executeResult = execute(each, isTrunkThread, processId);
+                if (null != executeResult) {
+                    result.add(executeResult);
+                }
+            }
+        } finally {
+            if (!isTrunkThread) {
+                SQLLogger.setCurrentContext(null, null, null);
             }
         }
         return result;
@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.log;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous SQL log writer.
+ * 
+ * <p>Query threads only put SQL log events into ring buffer, a background thread formats and writes them in batches.
+ * Events are dropped and counted instead of blocking query threads when ring buffer is full.
+ * Every SQL log context owns its writer, one shared daemon thread drains all writers which are still reachable
+ * and waits for new events with a bounded timeout when all of them are empty.
+ * Background thread puts database name and username of events into log MDC only when they are changed, instead of copying whole MDC for every event.</p>
+ */
+@Slf4j(topic = "ShardingSphere-SQL")
+public final class AsyncSQLLogWriter {
+    
+    /**
+     * MDC key of database name, which is the same as the key filled by proxy frontend.
+     */
+    public static final String DATABASE_MDC_KEY = "database";
+    
+    /**
+     * MDC key of username, which is the same as the key filled by proxy frontend.
+     */
+    public static final String USER_MDC_KEY = "user";
+    
+    private static final int BATCH_SIZE = 256;
+    
+    private static final long IDLE_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(100L);
+    
+    private static final Collection<WeakReference<AsyncSQLLogWriter>> WRITERS = new CopyOnWriteArrayList<>();
+    
+    private static volatile Thread consumerThread;
+    
+    private static volatile boolean consumerWaiting;
+    
+    private final SQLLogRingBuffer ringBuffer;
+    
+    private final LongAdder droppedCount = new LongAdder();
+    
+    private final LongAdder failedCount = new LongAdder();
+    
+    private long reportedDroppedCount;
+    
+    private long reportedFailedCount;
+    
+    public AsyncSQLLogWriter(final int bufferSize) {
+        ringBuffer = new SQLLogRingBuffer(bufferSize);
+    }
+    
+    /**
+     * Create new instance which is drained by the shared background thread.
+     *
+     * @param bufferSize buffer size
+     * @return created instance
+     */
+    public static AsyncSQLLogWriter newInstance(final int bufferSize) {
+        AsyncSQLLogWriter result = new AsyncSQLLogWriter(bufferSize);
+        WRITERS.add(new WeakReference<>(result));
+        if (null == consumerThread) {
+            startConsumerThread();
+        }
+        return result;
+    }
+    
+    private static synchronized void startConsumerThread() {
+        if (null != consumerThread) {
+            return;
+        }
+        Thread thread = new Thread(AsyncSQLLogWriter::consume, "ShardingSphere-SQL-Log-Writer");
+        thread.setDaemon(true);
+        thread.start();
+        consumerThread = thread;
+    }
+    
+    private static void consume() {
+        while (!Thread.currentThread().isInterrupted()) {
+            if (0 == flushAll()) {
+                consumerWaiting = true;
+                if (0 == flushAll()) {
+                    LockSupport.parkNanos(IDLE_TIMEOUT_NANOS);
+                }
+                consumerWaiting = false;
+            }
+        }
+    }
+    
+    private static int flushAll() {
+        int result = 0;
+        for (WeakReference<AsyncSQLLogWriter> each : WRITERS) {
+            AsyncSQLLogWriter writer = each.get();
+            if (null == writer) {
+                WRITERS.remove(each);
+                continue;
+            }
+            try {
+                result += writer.flush();
+                // CHECKSTYLE:OFF
+            } catch (final RuntimeException ignored) {
+                // CHECKSTYLE:ON
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Write SQL log without blocking.
+     *
+     * @param databaseName database name of log MDC
+     * @param username username of log MDC
+     * @param pattern log pattern
+     * @param argumentCount count of log arguments, which is from 1 to 4
+     * @param argument0 first log argument
+     * @param argument1 second log argument
+     * @param argument2 third log argument
+     * @param argument3 fourth log argument
+     * @return written or not, false means the event is dropped
+     */
+    public boolean write(final String databaseName, final String username, final String pattern, final int argumentCount,
+                         final Object argument0, final Object argument1, final Object argument2, final Object argument3) {
+        if (ringBuffer.offer(databaseName, username, pattern, argumentCount, argument0, argument1, argument2, argument3)) {
+            if (consumerWaiting) {
+                LockSupport.unpark(consumerThread);
+            }
+            return true;
+        }
+        droppedCount.increment();
+        return false;
+    }
+    
+    /**
+     * Get dropped count.
+     *
+     * @return dropped count
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+    
+    /**
+     * Get failed count.
+     *
+     * @return failed count
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+    
+    /**
+     * Flush one batch of SQL log events, only one thread is allowed to flush.
+     *
+     * @return flushed count
+     */
+    public int flush() {
+        int result = ringBuffer.drain(this::log, BATCH_SIZE);
+        if (0 == result) {
+            reportLostCount();
+        }
+        return result;
+    }
+    
+    private void log(final SQLLogEvent event) {
+        try {
+            putLogMDC(DATABASE_MDC_KEY, event.getDatabaseName());
+            putLogMDC(USER_MDC_KEY, event.getUsername());
+            switch (event.getArgumentCount()) {
+                case 1:
+                    log.info(event.getPattern(), event.getArgument0());
+                    break;
+                case 2:
+                    log.info(event.getPattern(), event.getArgument0(), event.getArgument1());
+                    break;
+                case 3:
+                    log.info(event.getPattern(), event.getArgument0(), event.getArgument1(), event.getArgument2());
+                    break;
+                default:
+                    log.info(event.getPattern(), event.getArgument0(), event.getArgument1(), event.getArgument2(), event.getArgument3());
+            }
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            failedCount.increment();
+        }
+    }
+    
+    private void putLogMDC(final String key, final String value) {
+        if (null == value) {
+            if (null != MDC.get(key)) {
+                MDC.remove(key);
+            }
+        } else if (!value.equals(MDC.get(key))) {
+            MDC.put(key, value);
+        }
+    }
+    
+    private void reportLostCount() {
+        putLogMDC(DATABASE_MDC_KEY, null);
+        putLogMDC(USER_MDC_KEY, null);
+        long currentDroppedCount = droppedCount.sum();
+        if (currentDroppedCount > reportedDroppedCount) {
+            log.warn("Dropped {} SQL log events because SQL log ring buffer is full.", currentDroppedCount - reportedDroppedCount);
+            reportedDroppedCount = currentDroppedCount;
+        }
+        long currentFailedCount = failedCount.sum();
+        if (currentFailedCount > reportedFailedCount) {
+            log.warn("Failed to write {} SQL log events.", currentFailedCount - reportedFailedCount);
+            reportedFailedCount = currentFailedCount;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.log;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SQL log context, which holds SQL log state of one configuration properties instance.
+ * 
+ * <p>Every context manager owns its own configuration properties, so slow SQL threshold, sample sequence and asynchronous writer are not shared across them.</p>
+ */
+public final class SQLLogContext {
+    
+    private final WeakReference<ConfigurationProperties> props;
+    
+    @Getter
+    private final long slowThresholdMillis;
+    
+    @Getter
+    private final AsyncSQLLogWriter asyncWriter;
+    
+    private final AtomicLong sampleSequence = new AtomicLong();
+    
+    public SQLLogContext(final ConfigurationProperties props) {
+        this.props = new WeakReference<>(props);
+        slowThresholdMillis = props.<Long>getValue(ConfigurationPropertyKey.SQL_SHOW_SLOW_THRESHOLD_MILLISECONDS);
+        int bufferSize = props.<Integer>getValue(ConfigurationPropertyKey.SQL_SHOW_ASYNC_BUFFER_SIZE);
+        asyncWriter = bufferSize > 0 ? AsyncSQLLogWriter.newInstance(bufferSize) : null;
+    }
+    
+    /**
+     * Judge whether context is created by configuration properties.
+     *
+     * @param props configuration properties
+     * @return created by configuration properties or not
+     */
+    public boolean isCreatedBy(final ConfigurationProperties props) {
+        return this.props.get() == props;
+    }
+    
+    /**
+     * Judge whether current SQL is sampled.
+     *
+     * @param sampleInterval sample interval
+     * @return sampled or not
+     */
+    public boolean isSampled(final int sampleInterval) {
+        return sampleInterval <= 1 || 0L == sampleSequence.getAndIncrement() % sampleInterval;
+    }
+}
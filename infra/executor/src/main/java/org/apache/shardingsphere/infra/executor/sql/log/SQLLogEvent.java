@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.log;
+
+import lombok.Getter;
+
+/**
+ * SQL log event, which is pre-allocated in ring buffer and reused.
+ * 
+ * <p>Event only carries log pattern, at most four log arguments and database name and username of log MDC, so writing SQL log allocates nothing on query threads.</p>
+ */
+@Getter
+public final class SQLLogEvent {
+    
+    private String databaseName;
+    
+    private String username;
+    
+    private String pattern;
+    
+    private int argumentCount;
+    
+    private Object argument0;
+    
+    private Object argument1;
+    
+    private Object argument2;
+    
+    private Object argument3;
+    
+    void set(final String databaseName, final String username, final String pattern, final int argumentCount, final Object argument0, final Object argument1, final Object argument2,
+             final Object argument3) {
+        this.databaseName = databaseName;
+        this.username = username;
+        this.pattern = pattern;
+        this.argumentCount = argumentCount;
+        this.argument0 = argument0;
+        this.argument1 = argument1;
+        this.argument2 = argument2;
+        this.argument3 = argument3;
+    }
+    
+    void clear() {
+        set(null, null, null, 0, null, null, null, null);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.log;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Lock-free bounded ring buffer of SQL log events with multiple producers and single consumer.
+ * 
+ * <p>Every slot carries a sequence, producers claim a slot by CAS on tail and publish it by advancing its sequence,
+ * consumer releases a slot by advancing its sequence to the next lap. Producers never block and fail fast when buffer is full.</p>
+ */
+public final class SQLLogRingBuffer {
+    
+    private final SQLLogEvent[] events;
+    
+    private final AtomicLongArray sequences;
+    
+    private final int mask;
+    
+    private final AtomicLong tail = new AtomicLong();
+    
+    private long head;
+    
+    public SQLLogRingBuffer(final int capacity) {
+        int actualCapacity = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        events = new SQLLogEvent[actualCapacity];
+        sequences = new AtomicLongArray(actualCapacity);
+        for (int i = 0; i < actualCapacity; i++) {
+            events[i] = new SQLLogEvent();
+            sequences.set(i, i);
+        }
+        mask = actualCapacity - 1;
+    }
+    
+    /**
+     * Get capacity.
+     *
+     * @return capacity
+     */
+    public int getCapacity() {
+        return events.length;
+    }
+    
+    /**
+     * Offer SQL log event.
+     *
+     * @param databaseName database name of log MDC
+     * @param username username of log MDC
+     * @param pattern log pattern
+     * @param argumentCount count of log arguments
+     * @param argument0 first log argument
+     * @param argument1 second log argument
+     * @param argument2 third log argument
+     * @param argument3 fourth log argument
+     * @return offered or not, false means buffer is full
+     */
+    public boolean offer(final String databaseName, final String username, final String pattern, final int argumentCount,
+                         final Object argument0, final Object argument1, final Object argument2, final Object argument3) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long distance = sequences.get(index) - position;
+            if (distance < 0L) {
+                return false;
+            }
+            if (0L == distance && tail.compareAndSet(position, position + 1L)) {
+                events[index].set(databaseName, username, pattern, argumentCount, argument0, argument1, argument2, argument3);
+                sequences.lazySet(index, position + 1L);
+                return true;
+            }
+        }
+    }
+    
+    /**
+     * Drain published SQL log events, only one consumer thread is allowed.
+     *
+     * @param consumer SQL log event consumer
+     * @param maxCount max count of events to be drained
+     * @return drained count
+     */
+    public int drain(final Consumer<SQLLogEvent> consumer, final int maxCount) {
+        int result = 0;
+        while (result < maxCount) {
+            int index = (int) head & mask;
+            if (sequences.get(index) != head + 1L) {
+                break;
+            }
+            SQLLogEvent event = events[index];
+            try {
+                consumer.accept(event);
+            } finally {
+                event.clear();
+                sequences.lazySet(index, head + events.length);
+                head++;
+            }
+            result++;
+        }
+        return result;
+    }
+}
@@ -20,21 +20,94 @@ package org.apache.shardingsphere.infra.executor.sql.log;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 /**
  * SQL logger.
+ * 
+ * <p>Parameters of actual SQL are created by SQL rewrite for every execution and never changed after that, so they are put into asynchronous writer without copying.</p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @Slf4j(topic = "ShardingSphere-SQL")
 public final class SQLLogger {
     
+    private static final Map<ConfigurationProperties, SQLLogContext> CONTEXTS = Collections.synchronizedMap(new WeakHashMap<>());
+    
+    private static final ThreadLocal<SQLLogBinding> CURRENT_BINDING = ThreadLocal.withInitial(SQLLogBinding::new);
+    
+    /**
+     * Log SQL with configuration properties.
+     *
+     * @param queryContext query context
+     * @param props configuration properties
+     * @param executionContext Execution context
+     * @param connectionContext connection context
+     */
+    public static void logSQL(final QueryContext queryContext, final ConfigurationProperties props, final ExecutionContext executionContext, final ConnectionContext connectionContext) {
+        SQLLogBinding binding = CURRENT_BINDING.get();
+        if (!props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)) {
+            binding.set(null, null, null);
+            return;
+        }
+        SQLLogContext context = null != binding.context && binding.context.isCreatedBy(props) ? binding.context : CONTEXTS.computeIfAbsent(props, SQLLogContext::new);
+        binding.set(context, connectionContext.getDatabaseName().orElse(null), null == connectionContext.getGrantee() ? null : connectionContext.getGrantee().toString());
+        if (context.getSlowThresholdMillis() > 0L || !context.isSampled(props.<Integer>getValue(ConfigurationPropertyKey.SQL_SHOW_SAMPLE_INTERVAL))) {
+            return;
+        }
+        logSQL(queryContext, props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SIMPLE), executionContext);
+    }
+    
+    /**
+     * Get SQL log context bound to current thread.
+     *
+     * @return SQL log context, null means SQL log is disabled
+     */
+    public static SQLLogContext getCurrentContext() {
+        return CURRENT_BINDING.get().context;
+    }
+    
+    /**
+     * Get database name of SQL log bound to current thread.
+     *
+     * @return database name
+     */
+    public static String getCurrentDatabaseName() {
+        return CURRENT_BINDING.get().databaseName;
+    }
+    
+    /**
+     * Get username of SQL log bound to current thread.
+     *
+     * @return username
+     */
+    public static String getCurrentUsername() {
+        return CURRENT_BINDING.get().username;
+    }
+    
+    /**
+     * Bind SQL log context to current thread.
+     *
+     * @param context SQL log context, null means unbind
+     * @param databaseName database name
+     * @param username username
+     */
+    public static void setCurrentContext(final SQLLogContext context, final String databaseName, final String username) {
+        CURRENT_BINDING.get().set(context, databaseName, username);
+    }
+    
     /**
      * Log SQL.
      *
@@ -69,7 +142,92 @@ public final class SQLLogger {
         }
     }
     
-    private static void log(final String pattern, final Object... args) {
-        log.info(pattern, args);
+    /**
+     * Judge whether slow SQL log is enabled for current thread.
+     *
+     * @return slow SQL log is enabled or not
+     */
+    public static boolean isSlowSQLLogEnabled() {
+        SQLLogContext context = CURRENT_BINDING.get().context;
+        return null != context && context.getSlowThresholdMillis() > 0L;
+    }
+    
+    /**
+     * Log actual SQL if it is executed slower than threshold.
+     *
+     * @param dataSourceName data source name
+     * @param sql actual SQL
+     * @param params SQL parameters
+     * @param elapsedMillis elapsed milliseconds
+     */
+    public static void logSlowSQL(final String dataSourceName, final String sql, final List<Object> params, final long elapsedMillis) {
+        SQLLogContext context = CURRENT_BINDING.get().context;
+        if (null == context || context.getSlowThresholdMillis() <= 0L || elapsedMillis < context.getSlowThresholdMillis()) {
+            return;
+        }
+        if (params.isEmpty()) {
+            log("Slow actual SQL: {} ::: {} ::: {} ms", dataSourceName, sql, elapsedMillis);
+        } else {
+            log("Slow actual SQL: {} ::: {} ::: {} ::: {} ms", dataSourceName, sql, params, elapsedMillis);
+        }
+    }
+    
+    private static void log(final String pattern, final Object argument0) {
+        SQLLogBinding binding = CURRENT_BINDING.get();
+        AsyncSQLLogWriter writer = binding.findAsyncWriter();
+        if (null == writer) {
+            log.info(pattern, argument0);
+        } else {
+            writer.write(binding.databaseName, binding.username, pattern, 1, argument0, null, null, null);
+        }
+    }
+    
+    private static void log(final String pattern, final Object argument0, final Object argument1) {
+        SQLLogBinding binding = CURRENT_BINDING.get();
+        AsyncSQLLogWriter writer = binding.findAsyncWriter();
+        if (null == writer) {
+            log.info(pattern, argument0, argument1);
+        } else {
+            writer.write(binding.databaseName, binding.username, pattern, 2, argument0, argument1, null, null);
+        }
+    }
+    
+    private static void log(final String pattern, final Object argument0, final Object argument1, final Object argument2) {
+        SQLLogBinding binding = CURRENT_BINDING.get();
+        AsyncSQLLogWriter writer = binding.findAsyncWriter();
+        if (null == writer) {
+            log.info(pattern, argument0, argument1, argument2);
+        } else {
+            writer.write(binding.databaseName, binding.username, pattern, 3, argument0, argument1, argument2, null);
+        }
+    }
+    
+    private static void log(final String pattern, final Object argument0, final Object argument1, final Object argument2, final Object argument3) {
+        SQLLogBinding binding = CURRENT_BINDING.get();
+        AsyncSQLLogWriter writer = binding.findAsyncWriter();
+        if (null == writer) {
+            log.info(pattern, argument0, argument1, argument2, argument3);
+        } else {
+            writer.write(binding.databaseName, binding.username, pattern, 4, argument0, argument1, argument2, argument3);
+        }
+    }
+    
+    private static final class SQLLogBinding {
+        
+        private SQLLogContext context;
+        
+        private String databaseName;
+        
+        private String username;
+        
+        private void set(final SQLLogContext context, final String databaseName, final String username) {
+            this.context = context;
+            this.databaseName = databaseName;
+            this.username = username;
+        }
+        
+        private AsyncSQLLogWriter findAsyncWriter() {
+            return null == context ? null : context.getAsyncWriter();
+        }
     }
 }
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.log;
+
+import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slow SQL log execution hook.
+ */
+public final class SlowSQLLogExecutionHook implements SQLExecutionHook {
+    
+    private String dataSourceName;
+    
+    private String sql;
+    
+    private List<Object> params;
+    
+    private long startNanos;
+    
+    @Override
+    public void start(final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps, final boolean isTrunkThread) {
+        if (!SQLLogger.isSlowSQLLogEnabled()) {
+            return;
+        }
+        this.dataSourceName = dataSourceName;
+        this.sql = sql;
+        this.params = params;
+        startNanos = System.nanoTime();
+    }
+    
+    @Override
+    public void finishSuccess() {
+        finish();
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        finish();
+    }
+    
+    private void finish() {
+        if (null == sql) {
+            return;
+        }
+        SQLLogger.logSlowSQL(dataSourceName, sql, params, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        dataSourceName = null;
+        sql = null;
+        params = null;
+    }
+}
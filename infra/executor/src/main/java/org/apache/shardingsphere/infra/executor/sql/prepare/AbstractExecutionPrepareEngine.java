@@ -26,6 +26,9 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMod
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
+import org.apache.shardingsphere.infra.statistics.sql.SQLExecutionStage;
+import org.apache.shardingsphere.infra.statistics.sql.SQLStageStatistics;
+import org.apache.shardingsphere.infra.statistics.sql.SQLStatisticsRegistry;
 
 import java.sql.SQLException;
 import java.util.Collection;
@@ -34,6 +37,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.TreeMap;
 
 /**
@@ -62,6 +66,7 @@ public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrep
     @Override
     public final ExecutionGroupContext<T> prepare(final String databaseName, final RouteContext routeContext, final Map<String, Integer> connectionOffsets,
                                                   final Collection<ExecutionUnit> executionUnits, final ExecutionGroupReportContext reportContext) throws SQLException {
+        long startNanos = System.nanoTime();
         Collection<ExecutionGroup<T>> result = new LinkedList<>();
         for (Entry<String, List<ExecutionUnit>> entry : aggregateExecutionUnitGroups(executionUnits).entrySet()) {
             String dataSourceName = entry.getKey();
@@ -69,7 +74,13 @@ public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrep
             ConnectionMode connectionMode = maxConnectionsSizePerQuery < entry.getValue().size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
             result.addAll(group(databaseName, dataSourceName, connectionOffsets.getOrDefault(dataSourceName, 0), executionUnitGroups, connectionMode));
         }
-        return decorate(routeContext, result, reportContext);
+        ExecutionGroupContext<T> executionGroupContext = decorate(routeContext, result, reportContext);
+        Optional<SQLStageStatistics> statistics = SQLStatisticsRegistry.getInstance().findCurrentStatistics();
+        if (statistics.isPresent()) {
+            statistics.get().record(SQLExecutionStage.PREPARE, startNanos);
+        }
+        SQLStatisticsRegistry.getInstance().finish();
+        return executionGroupContext;
     }
     
     private List<List<ExecutionUnit>> group(final List<ExecutionUnit> sqlUnits) {
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.read.ListAppender;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncSQLLogWriterTest {
+    
+    private static List<LoggingEvent> appenderList;
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @BeforeAll
+    static void setupLogger() {
+        ch.qos.logback.classic.Logger log = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger("ShardingSphere-SQL");
+        ListAppender<LoggingEvent> appender = (ListAppender) log.getAppender("SQLLoggerTestAppender");
+        appenderList = appender.list;
+    }
+    
+    @BeforeEach
+    void setUp() {
+        appenderList.clear();
+    }
+    
+    @Test
+    void assertWriteAndFlush() {
+        List<String> actualMDCValues = new LinkedList<>();
+        AppenderBase<ILoggingEvent> mdcAppender = new AppenderBase<ILoggingEvent>() {
+            
+            @Override
+            protected void append(final ILoggingEvent event) {
+                actualMDCValues.add(event.getMDCPropertyMap().get("database") + "/" + event.getMDCPropertyMap().get("user"));
+            }
+        };
+        mdcAppender.start();
+        ch.qos.logback.classic.Logger log = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger("ShardingSphere-SQL");
+        log.addAppender(mdcAppender);
+        try {
+            assertWriteAndFlush(new AsyncSQLLogWriter(4));
+        } finally {
+            log.detachAppender(mdcAppender);
+        }
+        assertThat(actualMDCValues, is(Arrays.asList("foo_db/root@%", "foo_db/root@%", "null/null")));
+    }
+    
+    private void assertWriteAndFlush(final AsyncSQLLogWriter writer) {
+        assertTrue(writer.write("foo_db", "root@%", "Logic SQL: {}", 1, "SELECT 1", null, null, null));
+        assertTrue(writer.write("foo_db", "root@%", "Actual SQL: {} ::: {} ::: {}", 3, "ds_0", "SELECT ?", Collections.singletonList(1), null));
+        assertTrue(writer.write(null, null, "Slow actual SQL: {} ::: {} ::: {} ::: {} ms", 4, "ds_0", "SELECT ?", Collections.singletonList(1), 200L));
+        assertTrue(appenderList.isEmpty());
+        assertThat(writer.flush(), is(3));
+        assertThat(appenderList.size(), is(3));
+        assertThat(appenderList.get(0).getFormattedMessage(), is("Logic SQL: SELECT 1"));
+        assertThat(appenderList.get(1).getFormattedMessage(), is("Actual SQL: ds_0 ::: SELECT ? ::: [1]"));
+        assertThat(appenderList.get(2).getFormattedMessage(), is("Slow actual SQL: ds_0 ::: SELECT ? ::: [1] ::: 200 ms"));
+        assertNull(MDC.get("database"));
+        assertNull(MDC.get("user"));
+    }
+    
+    @Test
+    void assertWriteWhenBufferIsFull() {
+        AsyncSQLLogWriter writer = new AsyncSQLLogWriter(2);
+        assertTrue(writer.write(null, null, "Logic SQL: {}", 1, "SELECT 1", null, null, null));
+        assertTrue(writer.write(null, null, "Logic SQL: {}", 1, "SELECT 2", null, null, null));
+        assertFalse(writer.write(null, null, "Logic SQL: {}", 1, "SELECT 3", null, null, null));
+        assertThat(writer.getDroppedCount(), is(1L));
+        assertThat(writer.flush(), is(2));
+        assertThat(writer.flush(), is(0));
+        assertThat(appenderList.size(), is(3));
+        assertThat(appenderList.get(2).getLevel(), is(Level.WARN));
+        assertThat(appenderList.get(2).getFormattedMessage(), is("Dropped 1 SQL log events because SQL log ring buffer is full."));
+        assertThat(writer.flush(), is(0));
+        assertThat(appenderList.size(), is(3));
+    }
+    
+    @Test
+    void assertWriteWithNewInstance() {
+        AsyncSQLLogWriter writer = AsyncSQLLogWriter.newInstance(2);
+        assertTrue(writer.write(null, null, "Logic SQL: {}", 1, "SELECT 1", null, null, null));
+        Awaitility.await().atMost(1L, TimeUnit.SECONDS).pollDelay(10L, TimeUnit.MILLISECONDS).until(() -> 1 == appenderList.size());
+        assertThat(appenderList.get(0).getFormattedMessage(), is("Logic SQL: SELECT 1"));
+        assertThat(writer.getFailedCount(), is(0L));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.log;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLLogRingBufferTest {
+    
+    @Test
+    void assertGetCapacity() {
+        assertThat(new SQLLogRingBuffer(0).getCapacity(), is(2));
+        assertThat(new SQLLogRingBuffer(8).getCapacity(), is(8));
+        assertThat(new SQLLogRingBuffer(10).getCapacity(), is(16));
+    }
+    
+    @Test
+    void assertOfferAndDrain() {
+        SQLLogRingBuffer ringBuffer = new SQLLogRingBuffer(2);
+        assertTrue(ringBuffer.offer(null, null, "foo {}", 1, 1, null, null, null));
+        assertTrue(ringBuffer.offer("foo_db", "root@%", "bar {}", 1, 2, null, null, null));
+        assertFalse(ringBuffer.offer(null, null, "baz {}", 1, 3, null, null, null));
+        List<String> actual = new LinkedList<>();
+        assertThat(ringBuffer.drain(each -> actual.add(each.getPattern()), 1), is(1));
+        assertTrue(ringBuffer.offer(null, null, "baz {}", 1, 3, null, null, null));
+        assertThat(ringBuffer.drain(each -> actual.add(each.getPattern()), 10), is(2));
+        assertThat(ringBuffer.drain(each -> actual.add(each.getPattern()), 10), is(0));
+        assertThat(actual, is(Arrays.asList("foo {}", "bar {}", "baz {}")));
+    }
+    
+    @Test
+    void assertOfferConcurrently() throws InterruptedException {
+        int producerCount = 4;
+        int eventCountPerProducer = 10000;
+        SQLLogRingBuffer ringBuffer = new SQLLogRingBuffer(1024);
+        ExecutorService executorService = Executors.newFixedThreadPool(producerCount);
+        CountDownLatch latch = new CountDownLatch(producerCount);
+        AtomicInteger droppedCount = new AtomicInteger();
+        for (int i = 0; i < producerCount; i++) {
+            executorService.submit(() -> {
+                for (int j = 0; j < eventCountPerProducer; j++) {
+                    if (!ringBuffer.offer(null, null, "foo {}", 1, j, null, null, null)) {
+                        droppedCount.incrementAndGet();
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        int drainedCount = 0;
+        while (latch.getCount() > 0L) {
+            drainedCount += ringBuffer.drain(each -> {
+            }, 256);
+        }
+        drainedCount += ringBuffer.drain(each -> {
+        }, Integer.MAX_VALUE);
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(1L, TimeUnit.SECONDS));
+        assertThat(drainedCount + droppedCount.get(), is(producerCount * eventCountPerProducer));
+    }
+}
@@ -21,12 +21,17 @@ import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.spi.LoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -37,10 +42,12 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Properties;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -103,4 +110,58 @@ class SQLLoggerTest {
         assertThat(appenderList.get(0).getFormattedMessage(), is("Logic SQL: SELECT * FROM t_user"));
         assertThat(appenderList.get(1).getFormattedMessage(), is("Actual SQL(simple): [db3, db2, db1] ::: 3"));
     }
+    
+    @Test
+    void assertLogSQLWithSampleInterval() {
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.SQL_SIMPLE.getKey(), Boolean.TRUE.toString()), new Property(ConfigurationPropertyKey.SQL_SHOW_SAMPLE_INTERVAL.getKey(), "3")));
+        ExecutionContext executionContext = new ExecutionContext(queryContext, executionUnits, mock(RouteContext.class));
+        for (int i = 0; i < 6; i++) {
+            SQLLogger.logSQL(queryContext, props, executionContext, mock(ConnectionContext.class));
+        }
+        assertThat(appenderList.size(), is(4));
+    }
+    
+    @Test
+    void assertLogSQLWithoutSQLShow() {
+        SQLLogger.logSQL(queryContext, new ConfigurationProperties(new Properties()), new ExecutionContext(queryContext, executionUnits, mock(RouteContext.class)), mock(ConnectionContext.class));
+        assertTrue(appenderList.isEmpty());
+        assertFalse(SQLLogger.isSlowSQLLogEnabled());
+    }
+    
+    @Test
+    void assertLogSlowSQL() {
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.SQL_SHOW_SLOW_THRESHOLD_MILLISECONDS.getKey(), "100")));
+        SQLLogger.logSQL(queryContext, props, new ExecutionContext(queryContext, executionUnits, mock(RouteContext.class)), mock(ConnectionContext.class));
+        assertTrue(appenderList.isEmpty());
+        assertTrue(SQLLogger.isSlowSQLLogEnabled());
+        SQLLogger.logSlowSQL("db1", SQL, Collections.emptyList(), 99L);
+        SQLLogger.logSlowSQL("db1", SQL, Collections.emptyList(), 100L);
+        SQLLogger.logSlowSQL("db2", SQL, Collections.singletonList("parameter"), 200L);
+        assertThat(appenderList.size(), is(2));
+        assertThat(appenderList.get(0).getFormattedMessage(), is("Slow actual SQL: db1 ::: SELECT * FROM t_user ::: 100 ms"));
+        assertThat(appenderList.get(1).getFormattedMessage(), is("Slow actual SQL: db2 ::: SELECT * FROM t_user ::: [parameter] ::: 200 ms"));
+        SQLLogger.logSQL(queryContext, new ConfigurationProperties(new Properties()), new ExecutionContext(queryContext, executionUnits, mock(RouteContext.class)), mock(ConnectionContext.class));
+        assertFalse(SQLLogger.isSlowSQLLogEnabled());
+    }
+    
+    @Test
+    void assertLogSlowSQLWithContextOfAnotherProperties() {
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.SQL_SHOW_SLOW_THRESHOLD_MILLISECONDS.getKey(), "100")));
+        SQLLogger.logSQL(queryContext, props, new ExecutionContext(queryContext, executionUnits, mock(RouteContext.class)), mock(ConnectionContext.class));
+        SQLLogContext context = SQLLogger.getCurrentContext();
+        ConfigurationProperties anotherProps = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.SQL_SHOW_SLOW_THRESHOLD_MILLISECONDS.getKey(), "500")));
+        SQLLogger.logSQL(queryContext, anotherProps, new ExecutionContext(queryContext, executionUnits, mock(RouteContext.class)), mock(ConnectionContext.class));
+        SQLLogger.logSlowSQL("db1", SQL, Collections.emptyList(), 200L);
+        assertTrue(appenderList.isEmpty());
+        SQLLogger.setCurrentContext(context, null, null);
+        SQLLogger.logSlowSQL("db1", SQL, Collections.emptyList(), 200L);
+        assertThat(appenderList.size(), is(1));
+        assertThat(appenderList.get(0).getFormattedMessage(), is("Slow actual SQL: db1 ::: SELECT * FROM t_user ::: 200 ms"));
+        SQLLogger.setCurrentContext(null, null, null);
+        assertFalse(SQLLogger.isSlowSQLLogEnabled());
+    }
 }
@@ -28,12 +28,15 @@ import org.apache.shardingsphere.infra.merge.engine.decorator.impl.TransparentRe
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMergerEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.statistics.StatisticsMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
+import org.apache.shardingsphere.infra.statistics.sql.SQLStageStatistics;
+import org.apache.shardingsphere.infra.statistics.sql.SQLStatisticsRegistry;
 
 import java.sql.SQLException;
 import java.util.List;
@@ -75,9 +78,12 @@ public final class MergeEngine {
      * @throws SQLException SQL exception
      */
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext) throws SQLException {
+        long startNanos = System.nanoTime();
         Optional<MergedResult> mergedResult = executeMerge(queryResults, sqlStatementContext);
         Optional<MergedResult> result = mergedResult.isPresent() ? Optional.of(decorate(mergedResult.get(), sqlStatementContext)) : decorate(queryResults.get(0), sqlStatementContext);
-        return result.orElseGet(() -> new TransparentMergedResult(queryResults.get(0)));
+        MergedResult actualResult = result.orElseGet(() -> new TransparentMergedResult(queryResults.get(0)));
+        Optional<SQLStageStatistics> statistics = SQLStatisticsRegistry.getInstance().findStatistics(sqlStatementContext.getSqlStatement());
+        return statistics.isPresent() ? new StatisticsMergedResult(actualResult, statistics.get(), System.nanoTime() - startNanos) : actualResult;
     }
     
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.statistics;
+
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.statistics.sql.SQLExecutionStage;
+import org.apache.shardingsphere.infra.statistics.sql.SQLStageStatistics;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.SQLException;
+import java.util.Calendar;
+
+/**
+ * Statistics merged result.
+ * 
+ * <p>Stream merged results merge rows lazily while iterating, so merge latency accumulates the time spent on building merged result,
+ * iterating and getting values, and is recorded when merged result is exhausted.</p>
+ */
+public final class StatisticsMergedResult implements MergedResult {
+    
+    private final MergedResult mergedResult;
+    
+    private final SQLStageStatistics statistics;
+    
+    private long elapsedNanos;
+    
+    private boolean recorded;
+    
+    public StatisticsMergedResult(final MergedResult mergedResult, final SQLStageStatistics statistics, final long buildElapsedNanos) {
+        this.mergedResult = mergedResult;
+        this.statistics = statistics;
+        elapsedNanos = buildElapsedNanos;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        long startNanos = System.nanoTime();
+        boolean result = mergedResult.next();
+        elapsedNanos += System.nanoTime() - startNanos;
+        if (!result && !recorded) {
+            recorded = true;
+            statistics.recordElapsed(SQLExecutionStage.MERGE, elapsedNanos);
+        }
+        return result;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        long startNanos = System.nanoTime();
+        Object result = mergedResult.getValue(columnIndex, type);
+        elapsedNanos += System.nanoTime() - startNanos;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        long startNanos = System.nanoTime();
+        Object result = mergedResult.getCalendarValue(columnIndex, type, calendar);
+        elapsedNanos += System.nanoTime() - startNanos;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return mergedResult.getInputStream(columnIndex, type);
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        return mergedResult.getCharacterStream(columnIndex);
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return mergedResult.wasNull();
+    }
+}
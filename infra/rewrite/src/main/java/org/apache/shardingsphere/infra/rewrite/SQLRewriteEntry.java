@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.rewrite;
 
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
@@ -27,15 +28,21 @@ import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorato
 import org.apache.shardingsphere.infra.rewrite.engine.GenericSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.plan.PreparedRewritePlan;
+import org.apache.shardingsphere.infra.rewrite.plan.PreparedRewritePlanCache;
+import org.apache.shardingsphere.infra.rewrite.sql.impl.RouteSQLBuilder;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 
 /**
  * SQL rewrite entry.
@@ -69,13 +76,41 @@ public final class SQLRewriteEntry {
      * @return route unit and SQL rewrite result map
      */
     public SQLRewriteResult rewrite(final QueryContext queryContext, final RouteContext routeContext, final ConnectionContext connectionContext) {
-        SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(queryContext, routeContext, connectionContext);
         SQLTranslatorRule rule = globalRuleMetaData.getSingleRule(SQLTranslatorRule.class);
+        if (isPreparedRewritePlanAvailable(queryContext, routeContext)) {
+            return rewriteWithPreparedPlan(queryContext, routeContext, connectionContext, new RouteSQLRewriteEngine(rule, database, globalRuleMetaData));
+        }
+        SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(queryContext, routeContext, connectionContext);
         return routeContext.getRouteUnits().isEmpty()
                 ? new GenericSQLRewriteEngine(rule, database, globalRuleMetaData).rewrite(sqlRewriteContext, queryContext)
                 : new RouteSQLRewriteEngine(rule, database, globalRuleMetaData).rewrite(sqlRewriteContext, routeContext, queryContext);
     }
     
+    private boolean isPreparedRewritePlanAvailable(final QueryContext queryContext, final RouteContext routeContext) {
+        return queryContext.isUseCache() && !routeContext.getRouteUnits().isEmpty() && !queryContext.getHintValueContext().isSkipSQLRewrite()
+                && props.<Boolean>getValue(ConfigurationPropertyKey.PREPARED_REWRITE_PLAN_ENABLED);
+    }
+    
+    private SQLRewriteResult rewriteWithPreparedPlan(final QueryContext queryContext, final RouteContext routeContext, final ConnectionContext connectionContext,
+                                                     final RouteSQLRewriteEngine rewriteEngine) {
+        PreparedRewritePlan plan = PreparedRewritePlanCache.getOrCreate(queryContext.getSqlStatementContext(), database, globalRuleMetaData);
+        Optional<Map<RouteUnit, String>> rewrittenSQLs = plan.isParameterDependent() ? Optional.empty() : plan.findRewrittenSQLs(routeContext.getRouteUnits());
+        if (rewrittenSQLs.isPresent()) {
+            return rewriteEngine.rewrite(rewrittenSQLs.get(), routeContext, queryContext);
+        }
+        SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(queryContext, routeContext, connectionContext);
+        if (plan.isParameterDependent() || !sqlRewriteContext.isParameterIndependent()) {
+            plan.markParameterDependent();
+            return rewriteEngine.rewrite(sqlRewriteContext, routeContext, queryContext);
+        }
+        Map<RouteUnit, String> result = new LinkedHashMap<>(routeContext.getRouteUnits().size(), 1F);
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            result.put(each, new RouteSQLBuilder(sqlRewriteContext.getSql(), sqlRewriteContext.getSqlTokens(), each).toSQL());
+        }
+        plan.putRewrittenSQLs(routeContext.getRouteUnits(), result);
+        return rewriteEngine.rewrite(result, routeContext, queryContext);
+    }
+    
     private SQLRewriteContext createSQLRewriteContext(final QueryContext queryContext, final RouteContext routeContext, final ConnectionContext connectionContext) {
         HintValueContext hintValueContext = queryContext.getHintValueContext();
         SQLRewriteContext result = new SQLRewriteContext(database, queryContext.getSqlStatementContext(), queryContext.getSql(), queryContext.getParameters(), connectionContext, hintValueContext);
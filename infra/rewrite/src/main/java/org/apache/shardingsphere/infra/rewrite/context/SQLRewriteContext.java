@@ -96,4 +96,13 @@ public final class SQLRewriteContext {
     public void generateSQLTokens() {
         sqlTokens.addAll(sqlTokenGenerators.generateSQLTokens(database.getName(), database.getSchemas(), sqlStatementContext, parameters, connectionContext));
     }
+    
+    /**
+     * Judge whether rewrite result is independent of parameters.
+     *
+     * @return rewrite result is independent of parameters or not
+     */
+    public boolean isParameterIndependent() {
+        return parameterBuilder instanceof StandardParameterBuilder && !((StandardParameterBuilder) parameterBuilder).isParametersChanged() && sqlTokenGenerators.isParameterIndependent();
+    }
 }
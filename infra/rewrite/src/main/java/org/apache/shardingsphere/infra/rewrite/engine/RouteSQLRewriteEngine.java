@@ -40,6 +40,7 @@ import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatem
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 import org.apache.shardingsphere.sqltranslator.context.SQLTranslatorContext;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -80,11 +81,47 @@ public final class RouteSQLRewriteEngine {
         return new RouteSQLRewriteResult(translate(queryContext, sqlRewriteUnits));
     }
     
+    /**
+     * Rewrite with SQL already rewritten for each route unit and original parameters.
+     *
+     * @param rewrittenSQLs rewritten SQL of each route unit
+     * @param routeContext route context
+     * @param queryContext query context
+     * @return SQL rewrite result
+     */
+    public RouteSQLRewriteResult rewrite(final Map<RouteUnit, String> rewrittenSQLs, final RouteContext routeContext, final QueryContext queryContext) {
+        Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = new LinkedHashMap<>(routeContext.getRouteUnits().size(), 1F);
+        for (Entry<String, Collection<RouteUnit>> entry : aggregateRouteUnitGroups(routeContext.getRouteUnits()).entrySet()) {
+            Collection<RouteUnit> routeUnits = entry.getValue();
+            if (isNeedAggregateRewrite(queryContext.getSqlStatementContext(), routeUnits)) {
+                sqlRewriteUnits.put(routeUnits.iterator().next(), createSQLRewriteUnit(rewrittenSQLs, queryContext, routeUnits));
+            } else {
+                for (RouteUnit each : routeUnits) {
+                    sqlRewriteUnits.put(each, new SQLRewriteUnit(rewrittenSQLs.get(each), new ArrayList<>(queryContext.getParameters())));
+                }
+            }
+        }
+        return new RouteSQLRewriteResult(translate(queryContext, sqlRewriteUnits));
+    }
+    
+    private SQLRewriteUnit createSQLRewriteUnit(final Map<RouteUnit, String> rewrittenSQLs, final QueryContext queryContext, final Collection<RouteUnit> routeUnits) {
+        Collection<String> sql = new LinkedList<>();
+        List<Object> params = new LinkedList<>();
+        boolean containsDollarMarker = isContainsDollarParameterMarker(queryContext.getSqlStatementContext());
+        for (RouteUnit each : routeUnits) {
+            sql.add(SQLUtils.trimSemicolon(rewrittenSQLs.get(each)));
+            if (containsDollarMarker && !params.isEmpty()) {
+                continue;
+            }
+            params.addAll(queryContext.getParameters());
+        }
+        return new SQLRewriteUnit(String.join(" UNION ALL ", sql), params);
+    }
+    
     private SQLRewriteUnit createSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
         Collection<String> sql = new LinkedList<>();
         List<Object> params = new LinkedList<>();
-        boolean containsDollarMarker = sqlRewriteContext.getSqlStatementContext() instanceof SelectStatementContext
-                && ((SelectStatementContext) (sqlRewriteContext.getSqlStatementContext())).isContainsDollarParameterMarker();
+        boolean containsDollarMarker = isContainsDollarParameterMarker(sqlRewriteContext.getSqlStatementContext());
         for (RouteUnit each : routeUnits) {
             sql.add(SQLUtils.trimSemicolon(new RouteSQLBuilder(sqlRewriteContext.getSql(), sqlRewriteContext.getSqlTokens(), each).toSQL()));
             if (containsDollarMarker && !params.isEmpty()) {
@@ -95,6 +132,10 @@ public final class RouteSQLRewriteEngine {
         return new SQLRewriteUnit(String.join(" UNION ALL ", sql), params);
     }
     
+    private boolean isContainsDollarParameterMarker(final SQLStatementContext sqlStatementContext) {
+        return sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).isContainsDollarParameterMarker();
+    }
+    
     private void addSQLRewriteUnits(final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits, final SQLRewriteContext sqlRewriteContext,
                                     final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
         for (RouteUnit each : routeUnits) {
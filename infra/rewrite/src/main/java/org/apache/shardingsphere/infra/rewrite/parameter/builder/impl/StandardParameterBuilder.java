@@ -68,9 +68,18 @@ public final class StandardParameterBuilder implements ParameterBuilder {
         replacedIndexAndParameters.put(index, param);
     }
     
+    /**
+     * Judge whether original parameters are changed.
+     *
+     * @return original parameters are changed or not
+     */
+    public boolean isParametersChanged() {
+        return !addedIndexAndParameters.isEmpty() || !replacedIndexAndParameters.isEmpty();
+    }
+    
     @Override
     public List<Object> getParameters() {
-        if (addedIndexAndParameters.isEmpty() && replacedIndexAndParameters.isEmpty()) {
+        if (!isParametersChanged()) {
             return new ArrayList<>(originalParameters);
         }
         List<Object> replacedParams = getReplacedParameters();
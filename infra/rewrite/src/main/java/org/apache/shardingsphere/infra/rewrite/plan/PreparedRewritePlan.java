@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.plan;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Prepared rewrite plan.
+ * 
+ * <p>Holds rewritten SQL of each route unit for a bound prepared statement, which is valid only for the meta data it was built with.
+ * Rewritten SQL of one route unit may vary with the other route units routed together, so they are cached by the whole route units.</p>
+ */
+@RequiredArgsConstructor
+public final class PreparedRewritePlan {
+    
+    private static final int MAX_ROUTE_SIZE = 1024;
+    
+    private final ShardingSphereDatabase database;
+    
+    private final RuleMetaData databaseRuleMetaData;
+    
+    private final RuleMetaData globalRuleMetaData;
+    
+    private final Map<List<RouteUnit>, Map<RouteUnit, String>> rewrittenSQLs = new ConcurrentHashMap<>();
+    
+    @Getter
+    private volatile boolean parameterDependent;
+    
+    public PreparedRewritePlan(final ShardingSphereDatabase database, final RuleMetaData globalRuleMetaData) {
+        this(database, database.getRuleMetaData(), globalRuleMetaData);
+    }
+    
+    /**
+     * Judge whether plan is built with the meta data.
+     *
+     * @param database database
+     * @param globalRuleMetaData global rule meta data
+     * @return plan is built with the meta data or not
+     */
+    public boolean isBuiltWith(final ShardingSphereDatabase database, final RuleMetaData globalRuleMetaData) {
+        return this.database == database && databaseRuleMetaData == database.getRuleMetaData() && this.globalRuleMetaData == globalRuleMetaData;
+    }
+    
+    /**
+     * Find rewritten SQLs.
+     *
+     * @param routeUnits route units
+     * @return rewritten SQL of each route unit
+     */
+    public Optional<Map<RouteUnit, String>> findRewrittenSQLs(final Collection<RouteUnit> routeUnits) {
+        return Optional.ofNullable(rewrittenSQLs.get(new ArrayList<>(routeUnits)));
+    }
+    
+    /**
+     * Put rewritten SQLs.
+     *
+     * @param routeUnits route units
+     * @param rewrittenSQLs rewritten SQL of each route unit
+     */
+    public void putRewrittenSQLs(final Collection<RouteUnit> routeUnits, final Map<RouteUnit, String> rewrittenSQLs) {
+        if (this.rewrittenSQLs.size() < MAX_ROUTE_SIZE) {
+            this.rewrittenSQLs.put(new ArrayList<>(routeUnits), rewrittenSQLs);
+        }
+    }
+    
+    /**
+     * Mark rewrite result as parameter dependent, the plan will not cache rewritten SQL any more.
+     */
+    public void markParameterDependent() {
+        parameterDependent = true;
+        rewrittenSQLs.clear();
+    }
+}
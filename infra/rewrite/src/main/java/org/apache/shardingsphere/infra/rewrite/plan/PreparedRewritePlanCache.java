@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.plan;
+
+import com.google.common.collect.MapMaker;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+
+import java.util.Map;
+
+/**
+ * Prepared rewrite plan cache.
+ * 
+ * <p>SQL statement context is bound once and reused by every execution of prepared statement, so plans are keyed by its identity and released with it.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PreparedRewritePlanCache {
+    
+    private static final Map<SQLStatementContext, PreparedRewritePlan> PLANS = new MapMaker().weakKeys().makeMap();
+    
+    /**
+     * Get or create prepared rewrite plan, plan built with stale meta data will be replaced.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param database database
+     * @param globalRuleMetaData global rule meta data
+     * @return prepared rewrite plan
+     */
+    public static PreparedRewritePlan getOrCreate(final SQLStatementContext sqlStatementContext, final ShardingSphereDatabase database, final RuleMetaData globalRuleMetaData) {
+        PreparedRewritePlan result = PLANS.get(sqlStatementContext);
+        if (null != result && result.isBuiltWith(database, globalRuleMetaData)) {
+            return result;
+        }
+        result = new PreparedRewritePlan(database, globalRuleMetaData);
+        PLANS.put(sqlStatementContext, result);
+        return result;
+    }
+}
@@ -47,6 +47,20 @@ public final class SQLTokenGenerators {
         generators.addAll(sqlTokenGenerators);
     }
     
+    /**
+     * Judge whether generated SQL tokens are independent of parameters, connection context and execution.
+     *
+     * @return generated SQL tokens are independent of parameters, connection context and execution or not
+     */
+    public boolean isParameterIndependent() {
+        for (SQLTokenGenerator each : generators) {
+            if (each instanceof ParametersAware || each instanceof ConnectionContextAware || each instanceof ExecutionDependentSQLTokenGenerator) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     /**
      * Generate SQL tokens.
      *
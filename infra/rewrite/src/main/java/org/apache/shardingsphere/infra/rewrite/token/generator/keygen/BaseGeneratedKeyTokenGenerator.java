@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.rewrite.token.generator.keygen;
 
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.ExecutionDependentSQLTokenGenerator;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.OptionalSQLTokenGenerator;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
@@ -24,7 +25,7 @@ import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatem
 /**
  * Base generated key token generator.
  */
-public abstract class BaseGeneratedKeyTokenGenerator implements OptionalSQLTokenGenerator<InsertStatementContext> {
+public abstract class BaseGeneratedKeyTokenGenerator implements OptionalSQLTokenGenerator<InsertStatementContext>, ExecutionDependentSQLTokenGenerator {
     
     @Override
     public final boolean isGenerateSQLToken(final SQLStatementContext sqlStatementContext) {
@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.infra.rewrite;
 
 import org.apache.shardingsphere.infra.binder.context.statement.CommonSQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
@@ -29,6 +31,9 @@ import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rewrite.engine.result.GenericSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.fixture.rule.RewriteRuleFixture;
+import org.apache.shardingsphere.infra.rewrite.plan.PreparedRewritePlan;
+import org.apache.shardingsphere.infra.rewrite.plan.PreparedRewritePlanCache;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
@@ -44,10 +49,13 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -96,6 +104,81 @@ class SQLRewriteEntryTest {
         assertThat(sqlRewriteResult.getSqlRewriteUnits().size(), is(2));
     }
     
+    @Test
+    void assertRewriteWithPreparedRewritePlan() {
+        ShardingSphereDatabase database = new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, TypedSPILoader.getService(DatabaseType.class, "H2"), mockResourceMetaData(),
+                mock(RuleMetaData.class), Collections.singletonMap("test", mock(ShardingSphereSchema.class)));
+        RuleMetaData globalRuleMetaData = new RuleMetaData(Collections.singleton(new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build())));
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PREPARED_REWRITE_PLAN_ENABLED.getKey(), Boolean.TRUE.toString());
+        SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(database, globalRuleMetaData, new ConfigurationProperties(props));
+        RouteContext routeContext = new RouteContext();
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.emptyList());
+        routeContext.getRouteUnits().add(routeUnit);
+        QueryContext firstQueryContext = createQueryContext();
+        when(firstQueryContext.isUseCache()).thenReturn(true);
+        RouteSQLRewriteResult firstResult = (RouteSQLRewriteResult) sqlRewriteEntry.rewrite(firstQueryContext, routeContext, mock(ConnectionContext.class));
+        assertThat(firstResult.getSqlRewriteUnits().get(routeUnit).getSql(), is("SELECT ?"));
+        SQLStatementContext sqlStatementContext = firstQueryContext.getSqlStatementContext();
+        PreparedRewritePlan plan = PreparedRewritePlanCache.getOrCreate(sqlStatementContext, database, globalRuleMetaData);
+        assertThat(plan.findRewrittenSQLs(routeContext.getRouteUnits()), is(Optional.of(Collections.singletonMap(routeUnit, "SELECT ?"))));
+        QueryContext secondQueryContext = mock(QueryContext.class);
+        when(secondQueryContext.getSqlStatementContext()).thenReturn(sqlStatementContext);
+        when(secondQueryContext.getParameters()).thenReturn(Collections.singletonList(2));
+        when(secondQueryContext.getHintValueContext()).thenReturn(new HintValueContext());
+        when(secondQueryContext.isUseCache()).thenReturn(true);
+        RouteSQLRewriteResult secondResult = (RouteSQLRewriteResult) sqlRewriteEntry.rewrite(secondQueryContext, routeContext, mock(ConnectionContext.class));
+        assertThat(secondResult.getSqlRewriteUnits().get(routeUnit).getSql(), is("SELECT ?"));
+        assertThat(secondResult.getSqlRewriteUnits().get(routeUnit).getParameters(), is(Collections.singletonList(2)));
+    }
+    
+    @Test
+    void assertRewriteWithPreparedRewritePlanForMultipleRouteUnits() {
+        ShardingSphereDatabase database = new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, TypedSPILoader.getService(DatabaseType.class, "H2"), mockResourceMetaData(),
+                mock(RuleMetaData.class), Collections.singletonMap("test", mock(ShardingSphereSchema.class)));
+        RuleMetaData globalRuleMetaData = new RuleMetaData(Collections.singleton(new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build())));
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PREPARED_REWRITE_PLAN_ENABLED.getKey(), Boolean.TRUE.toString());
+        SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(database, globalRuleMetaData, new ConfigurationProperties(props));
+        RouteContext routeContext = new RouteContext();
+        RouteUnit firstRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singleton(new RouteMapper("t_order", "t_order_0")));
+        RouteUnit secondRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singleton(new RouteMapper("t_order", "t_order_1")));
+        routeContext.getRouteUnits().addAll(Arrays.asList(firstRouteUnit, secondRouteUnit));
+        QueryContext firstQueryContext = createQueryContext();
+        when(firstQueryContext.isUseCache()).thenReturn(true);
+        sqlRewriteEntry.rewrite(firstQueryContext, routeContext, mock(ConnectionContext.class));
+        SQLStatementContext sqlStatementContext = firstQueryContext.getSqlStatementContext();
+        assertTrue(PreparedRewritePlanCache.getOrCreate(sqlStatementContext, database, globalRuleMetaData).findRewrittenSQLs(routeContext.getRouteUnits()).isPresent());
+        QueryContext secondQueryContext = mock(QueryContext.class);
+        when(secondQueryContext.getSqlStatementContext()).thenReturn(sqlStatementContext);
+        when(secondQueryContext.getParameters()).thenReturn(Collections.singletonList(2));
+        when(secondQueryContext.getHintValueContext()).thenReturn(new HintValueContext());
+        when(secondQueryContext.isUseCache()).thenReturn(true);
+        RouteSQLRewriteResult actual = (RouteSQLRewriteResult) sqlRewriteEntry.rewrite(secondQueryContext, routeContext, mock(ConnectionContext.class));
+        assertThat(actual.getSqlRewriteUnits().size(), is(2));
+        assertThat(actual.getSqlRewriteUnits().get(firstRouteUnit).getParameters(), is(Collections.singletonList(2)));
+        assertThat(actual.getSqlRewriteUnits().get(secondRouteUnit).getParameters(), is(Collections.singletonList(2)));
+    }
+    
+    @Test
+    void assertRewriteWithPreparedRewritePlanAndExecutionDependentSQLTokenGenerator() {
+        ShardingSphereDatabase database = new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, TypedSPILoader.getService(DatabaseType.class, "H2"), mockResourceMetaData(),
+                new RuleMetaData(Collections.singleton(new RewriteRuleFixture())), Collections.singletonMap("test", mock(ShardingSphereSchema.class)));
+        RuleMetaData globalRuleMetaData = new RuleMetaData(Collections.singleton(new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build())));
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PREPARED_REWRITE_PLAN_ENABLED.getKey(), Boolean.TRUE.toString());
+        SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(database, globalRuleMetaData, new ConfigurationProperties(props));
+        RouteContext routeContext = new RouteContext();
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.emptyList());
+        routeContext.getRouteUnits().add(routeUnit);
+        QueryContext queryContext = createQueryContext();
+        when(queryContext.isUseCache()).thenReturn(true);
+        String firstSQL = ((RouteSQLRewriteResult) sqlRewriteEntry.rewrite(queryContext, routeContext, mock(ConnectionContext.class))).getSqlRewriteUnits().get(routeUnit).getSql();
+        String secondSQL = ((RouteSQLRewriteResult) sqlRewriteEntry.rewrite(queryContext, routeContext, mock(ConnectionContext.class))).getSqlRewriteUnits().get(routeUnit).getSql();
+        assertThat(firstSQL, not(secondSQL));
+        assertTrue(PreparedRewritePlanCache.getOrCreate(queryContext.getSqlStatementContext(), database, globalRuleMetaData).isParameterDependent());
+    }
+    
     private ResourceMetaData mockResourceMetaData() {
         Map<String, StorageUnit> storageUnits = new LinkedHashMap<>(2, 1F);
         StorageUnit storageUnit1 = mock(StorageUnit.class);
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.fixture.generator;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.ExecutionDependentSQLTokenGenerator;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.OptionalSQLTokenGenerator;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class GeneratedKeySQLTokenGeneratorFixture implements OptionalSQLTokenGenerator<SQLStatementContext>, ExecutionDependentSQLTokenGenerator {
+    
+    private static final AtomicLong GENERATED_KEY = new AtomicLong();
+    
+    @Override
+    public boolean isGenerateSQLToken(final SQLStatementContext sqlStatementContext) {
+        return true;
+    }
+    
+    @Override
+    public SQLToken generateSQLToken(final SQLStatementContext sqlStatementContext) {
+        return new GeneratedKeySQLToken(GENERATED_KEY.incrementAndGet());
+    }
+    
+    private static final class GeneratedKeySQLToken extends SQLToken implements Substitutable {
+        
+        private final long generatedKey;
+        
+        private GeneratedKeySQLToken(final long generatedKey) {
+            super(7);
+            this.generatedKey = generatedKey;
+        }
+        
+        @Override
+        public int getStopIndex() {
+            return 7;
+        }
+        
+        @Override
+        public String toString() {
+            return String.valueOf(generatedKey);
+        }
+    }
+}
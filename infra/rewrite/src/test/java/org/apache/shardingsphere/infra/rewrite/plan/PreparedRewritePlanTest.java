@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.plan;
+
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PreparedRewritePlanTest {
+    
+    private final RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singleton(new RouteMapper("t_order", "t_order_0")));
+    
+    @Test
+    void assertIsBuiltWith() {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        RuleMetaData globalRuleMetaData = mock(RuleMetaData.class);
+        PreparedRewritePlan plan = new PreparedRewritePlan(database, globalRuleMetaData);
+        assertTrue(plan.isBuiltWith(database, globalRuleMetaData));
+        assertFalse(plan.isBuiltWith(mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS), globalRuleMetaData));
+        assertFalse(plan.isBuiltWith(database, mock(RuleMetaData.class)));
+        when(database.getRuleMetaData()).thenReturn(mock(RuleMetaData.class));
+        assertFalse(plan.isBuiltWith(database, globalRuleMetaData));
+    }
+    
+    @Test
+    void assertFindRewrittenSQLs() {
+        PreparedRewritePlan plan = new PreparedRewritePlan(mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS), mock(RuleMetaData.class));
+        Map<RouteUnit, String> rewrittenSQLs = Collections.singletonMap(routeUnit, "SELECT * FROM t_order_0 WHERE order_id = ?");
+        plan.putRewrittenSQLs(Collections.singleton(routeUnit), rewrittenSQLs);
+        assertThat(plan.findRewrittenSQLs(Collections.singleton(new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singleton(new RouteMapper("t_order", "t_order_0"))))),
+                is(Optional.of(rewrittenSQLs)));
+        assertFalse(plan.findRewrittenSQLs(Collections.singleton(new RouteUnit(new RouteMapper("ds", "ds_1"), Collections.singleton(new RouteMapper("t_order", "t_order_1"))))).isPresent());
+    }
+    
+    @Test
+    void assertFindRewrittenSQLsWithDifferentRouteUnits() {
+        PreparedRewritePlan plan = new PreparedRewritePlan(mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS), mock(RuleMetaData.class));
+        RouteUnit anotherRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_1"), Collections.singleton(new RouteMapper("t_order", "t_order_1")));
+        plan.putRewrittenSQLs(Arrays.asList(routeUnit, anotherRouteUnit), Collections.singletonMap(routeUnit, "SELECT * FROM t_order_0"));
+        assertTrue(plan.findRewrittenSQLs(Arrays.asList(routeUnit, anotherRouteUnit)).isPresent());
+        assertFalse(plan.findRewrittenSQLs(Collections.singleton(routeUnit)).isPresent());
+    }
+    
+    @Test
+    void assertMarkParameterDependent() {
+        PreparedRewritePlan plan = new PreparedRewritePlan(mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS), mock(RuleMetaData.class));
+        plan.putRewrittenSQLs(Collections.singleton(routeUnit), Collections.singletonMap(routeUnit, "SELECT * FROM t_order_0"));
+        plan.markParameterDependent();
+        assertTrue(plan.isParameterDependent());
+        assertFalse(plan.findRewrittenSQLs(Collections.singleton(routeUnit)).isPresent());
+    }
+}
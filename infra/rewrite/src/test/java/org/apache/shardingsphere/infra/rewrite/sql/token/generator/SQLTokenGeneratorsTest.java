@@ -29,10 +29,13 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 class SQLTokenGeneratorsTest {
     
@@ -63,4 +66,13 @@ class SQLTokenGeneratorsTest {
         assertThat(actualSQLTokens.size(), is(2));
         assertThat(actualSQLTokens, is(expectedTokens));
     }
+    
+    @Test
+    void assertIsParameterIndependentWithExecutionDependentSQLTokenGenerator() {
+        SQLTokenGenerators generators = new SQLTokenGenerators();
+        generators.addAll(Collections.singleton(mock(OptionalSQLTokenGenerator.class)));
+        assertTrue(generators.isParameterIndependent());
+        generators.addAll(Collections.singleton(mock(OptionalSQLTokenGenerator.class, withSettings().extraInterfaces(ExecutionDependentSQLTokenGenerator.class))));
+        assertFalse(generators.isParameterIndependent());
+    }
 }
@@ -28,11 +28,15 @@ import org.apache.shardingsphere.infra.route.engine.impl.PartialSQLRouteExecutor
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.statistics.sql.SQLExecutionStage;
+import org.apache.shardingsphere.infra.statistics.sql.SQLStageStatistics;
+import org.apache.shardingsphere.infra.statistics.sql.SQLStatisticsRegistry;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLShowTableStatusStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLShowTablesStatement;
 
 import java.util.Collection;
+import java.util.Optional;
 
 /**
  * SQL route engine.
@@ -55,8 +59,14 @@ public final class SQLRouteEngine {
      * @return route context
      */
     public RouteContext route(final ConnectionContext connectionContext, final QueryContext queryContext, final RuleMetaData globalRuleMetaData, final ShardingSphereDatabase database) {
+        long startNanos = System.nanoTime();
         SQLRouteExecutor executor = isNeedAllSchemas(queryContext.getSqlStatementContext().getSqlStatement()) ? new AllSQLRouteExecutor() : new PartialSQLRouteExecutor(rules, props);
-        return executor.route(connectionContext, queryContext, globalRuleMetaData, database);
+        RouteContext result = executor.route(connectionContext, queryContext, globalRuleMetaData, database);
+        Optional<SQLStageStatistics> statistics = SQLStatisticsRegistry.getInstance().findStatistics(queryContext.getSqlStatementContext().getSqlStatement());
+        if (statistics.isPresent()) {
+            statistics.get().record(SQLExecutionStage.ROUTE, startNanos);
+        }
+        return result;
     }
     
     // TODO use dynamic config to judge unconfigured schema
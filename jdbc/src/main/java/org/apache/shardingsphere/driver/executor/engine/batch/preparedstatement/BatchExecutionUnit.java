@@ -21,20 +21,24 @@ import com.google.common.collect.Lists;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.parser.SQLParserEngine;
 
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Batch execution unit.
  */
-@RequiredArgsConstructor
 @Getter
 @EqualsAndHashCode(of = "executionUnit")
 @ToString
@@ -42,11 +46,22 @@ public final class BatchExecutionUnit {
     
     private final ExecutionUnit executionUnit;
     
+    private final int valuesRowCount;
+    
     private final Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = new LinkedHashMap<>();
     
     @Getter(AccessLevel.NONE)
     private int actualCallAddBatchTimes;
     
+    public BatchExecutionUnit(final ExecutionUnit executionUnit) {
+        this(executionUnit, 1);
+    }
+    
+    private BatchExecutionUnit(final ExecutionUnit executionUnit, final int valuesRowCount) {
+        this.executionUnit = executionUnit;
+        this.valuesRowCount = valuesRowCount;
+    }
+    
     /**
      * Map times of use JDBC API call addBatch and times of actual call addBatch after route.
      *
@@ -70,4 +85,64 @@ public final class BatchExecutionUnit {
         }
         return result;
     }
+    
+    /**
+     * Get update count of one JDBC API call addBatch.
+     * 
+     * <p>All rows of one multi-row insert share the update count of actual addBatch, each row counts one if all rows are inserted, otherwise the count is unknown.</p>
+     *
+     * @param actualUpdateCount update count of actual addBatch
+     * @return update count of JDBC API call addBatch
+     */
+    public int getUpdateCount(final int actualUpdateCount) {
+        if (1 == valuesRowCount) {
+            return actualUpdateCount;
+        }
+        return actualUpdateCount == valuesRowCount ? 1 : Statement.SUCCESS_NO_INFO;
+    }
+    
+    /**
+     * Coalesce single-row inserts of every actual addBatch into multi-row inserts.
+     * 
+     * <p>Rows are split into chunks of max row count and the remaining rows, order of rows is kept so that generated keys of storage database are still in order of addBatch.</p>
+     *
+     * @param maxRowCount max row count of each multi-row insert
+     * @param sqlParserEngine SQL parser engine of storage database
+     * @return coalesced batch execution units, or itself if can not be coalesced
+     */
+    public Collection<BatchExecutionUnit> coalesceInsertValues(final int maxRowCount, final SQLParserEngine sqlParserEngine) {
+        List<Object> params = executionUnit.getSqlUnit().getParameters();
+        if (actualCallAddBatchTimes < 2 || params.isEmpty() || 0 != params.size() % actualCallAddBatchTimes) {
+            return Collections.singleton(this);
+        }
+        int rowParameterCount = params.size() / actualCallAddBatchTimes;
+        String sql = executionUnit.getSqlUnit().getSql();
+        Optional<MultiRowInsertSQLBuilder> sqlBuilder = MultiRowInsertSQLBuilder.newInstance(sql, sqlParserEngine.parse(sql, true), rowParameterCount);
+        if (!sqlBuilder.isPresent()) {
+            return Collections.singleton(this);
+        }
+        List<Integer> jdbcAddBatchTimes = new ArrayList<>(jdbcAndActualAddBatchCallTimesMap.keySet());
+        int chunkedRowCount = actualCallAddBatchTimes / maxRowCount * maxRowCount;
+        Collection<BatchExecutionUnit> result = new LinkedList<>();
+        if (chunkedRowCount > 0) {
+            result.add(createCoalescedBatchExecutionUnit(sqlBuilder.get(), rowParameterCount, jdbcAddBatchTimes.subList(0, chunkedRowCount), maxRowCount));
+        }
+        if (chunkedRowCount < actualCallAddBatchTimes) {
+            result.add(createCoalescedBatchExecutionUnit(
+                    sqlBuilder.get(), rowParameterCount, jdbcAddBatchTimes.subList(chunkedRowCount, actualCallAddBatchTimes), actualCallAddBatchTimes - chunkedRowCount));
+        }
+        return result;
+    }
+    
+    private BatchExecutionUnit createCoalescedBatchExecutionUnit(final MultiRowInsertSQLBuilder sqlBuilder, final int rowParameterCount, final List<Integer> jdbcAddBatchTimes, final int rowCount) {
+        int firstRowIndex = jdbcAndActualAddBatchCallTimesMap.get(jdbcAddBatchTimes.get(0));
+        List<Object> params = new ArrayList<>(executionUnit.getSqlUnit().getParameters().subList(firstRowIndex * rowParameterCount, (firstRowIndex + jdbcAddBatchTimes.size()) * rowParameterCount));
+        SQLUnit sqlUnit = new SQLUnit(sqlBuilder.build(rowCount), params, executionUnit.getSqlUnit().getTableRouteMappers());
+        BatchExecutionUnit result = new BatchExecutionUnit(new ExecutionUnit(executionUnit.getDataSourceName(), sqlUnit), rowCount);
+        for (int i = 0; i < jdbcAddBatchTimes.size(); i++) {
+            result.jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes.get(i), i / rowCount);
+        }
+        result.actualCallAddBatchTimes = jdbcAddBatchTimes.size() / rowCount;
+        return result;
+    }
 }
@@ -17,10 +17,11 @@
 
 package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
 
-import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
@@ -31,8 +32,10 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.SQLException;
@@ -40,11 +43,13 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 /**
  * Prepared statement executor to process add batch.
@@ -57,16 +62,17 @@ public final class BatchPreparedStatementExecutor {
     
     private ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
     
-    @Getter
-    private final Collection<BatchExecutionUnit> batchExecutionUnits;
+    private final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits;
     
     private int batchCount;
     
+    private boolean insertValuesCoalesced;
+    
     public BatchPreparedStatementExecutor(final ShardingSphereDatabase database, final JDBCExecutor jdbcExecutor, final String processId) {
         this.database = database;
         this.jdbcExecutor = jdbcExecutor;
         executionGroupContext = new ExecutionGroupContext<>(new LinkedList<>(), new ExecutionGroupReportContext(processId, database.getName(), new Grantee("", "")));
-        batchExecutionUnits = new LinkedList<>();
+        batchExecutionUnits = new LinkedHashMap<>();
     }
     
     /**
@@ -104,10 +110,9 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private void reviseBatchExecutionUnits(final BatchExecutionUnit batchExecutionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (each.equals(batchExecutionUnit)) {
-                reviseBatchExecutionUnit(each, batchExecutionUnit);
-            }
+        BatchExecutionUnit oldBatchExecutionUnit = batchExecutionUnits.get(batchExecutionUnit.getExecutionUnit());
+        if (null != oldBatchExecutionUnit) {
+            reviseBatchExecutionUnit(oldBatchExecutionUnit, batchExecutionUnit);
         }
     }
     
@@ -117,11 +122,58 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private void handleNewBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.removeAll(batchExecutionUnits);
         for (BatchExecutionUnit each : newExecutionUnits) {
-            each.mapAddBatchCount(batchCount);
+            if (!batchExecutionUnits.containsKey(each.getExecutionUnit())) {
+                each.mapAddBatchCount(batchCount);
+                batchExecutionUnits.put(each.getExecutionUnit(), each);
+            }
+        }
+    }
+    
+    /**
+     * Get batch execution units.
+     *
+     * @return batch execution units
+     */
+    public Collection<BatchExecutionUnit> getBatchExecutionUnits() {
+        return batchExecutionUnits.values();
+    }
+    
+    /**
+     * Coalesce accumulated single-row inserts of each data source into multi-row inserts.
+     *
+     * <p>Only execution units whose storage database supports multi-row insert values are coalesced.</p>
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param maxRowCount max row count of each multi-row insert
+     * @param sqlParserRule SQL parser rule
+     */
+    public void coalesceInsertValues(final SQLStatementContext sqlStatementContext, final int maxRowCount, final SQLParserRule sqlParserRule) {
+        if (maxRowCount < 2 || !isInsertValuesCoalescible(sqlStatementContext)) {
+            return;
         }
-        batchExecutionUnits.addAll(newExecutionUnits);
+        Collection<BatchExecutionUnit> coalescedBatchExecutionUnits = new LinkedList<>();
+        for (BatchExecutionUnit each : batchExecutionUnits.values()) {
+            StorageUnit storageUnit = database.getResourceMetaData().getStorageUnits().get(each.getExecutionUnit().getDataSourceName());
+            if (null != storageUnit && new DatabaseTypeRegistry(storageUnit.getStorageType()).getDialectDatabaseMetaData().isSupportMultiRowInsertValues()) {
+                coalescedBatchExecutionUnits.addAll(each.coalesceInsertValues(maxRowCount, sqlParserRule.getSQLParserEngine(storageUnit.getStorageType())));
+            } else {
+                coalescedBatchExecutionUnits.add(each);
+            }
+        }
+        batchExecutionUnits.clear();
+        for (BatchExecutionUnit each : coalescedBatchExecutionUnits) {
+            batchExecutionUnits.put(each.getExecutionUnit(), each);
+        }
+        insertValuesCoalesced = true;
+    }
+    
+    private boolean isInsertValuesCoalescible(final SQLStatementContext sqlStatementContext) {
+        if (!(sqlStatementContext instanceof InsertStatementContext)) {
+            return false;
+        }
+        InsertStatementContext insertStatementContext = (InsertStatementContext) sqlStatementContext;
+        return 1 == insertStatementContext.getValueListCount() && null == insertStatementContext.getInsertSelectContext() && null == insertStatementContext.getOnDuplicateKeyUpdateValueContext();
     }
     
     /**
@@ -150,7 +202,14 @@ public final class BatchPreparedStatementExecutor {
         if (results.isEmpty()) {
             return new int[0];
         }
-        return isNeedAccumulate(sqlStatementContext) ? accumulate(results) : results.get(0);
+        if (isNeedAccumulate(sqlStatementContext)) {
+            return accumulate(results, each -> true);
+        }
+        if (insertValuesCoalesced) {
+            String firstDataSourceName = executionGroupContext.getInputGroups().iterator().next().getInputs().get(0).getExecutionUnit().getDataSourceName();
+            return accumulate(results, each -> firstDataSourceName.equals(each.getExecutionUnit().getDataSourceName()));
+        }
+        return results.get(0);
     }
     
     private boolean isNeedAccumulate(final SQLStatementContext sqlStatementContext) {
@@ -165,12 +224,14 @@ public final class BatchPreparedStatementExecutor {
         return false;
     }
     
-    private int[] accumulate(final List<int[]> executeResults) {
+    private int[] accumulate(final List<int[]> executeResults, final Predicate<JDBCExecutionUnit> executionUnitFilter) {
         int[] result = new int[batchCount];
         int count = 0;
         for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
             for (JDBCExecutionUnit eachUnit : each.getInputs()) {
-                accumulate(executeResults.get(count), result, eachUnit);
+                if (executionUnitFilter.test(eachUnit)) {
+                    accumulate(executeResults.get(count), result, eachUnit);
+                }
                 count++;
             }
         }
@@ -178,24 +239,15 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private void accumulate(final int[] executeResult, final int[] addBatchCounts, final JDBCExecutionUnit executionUnit) {
-        for (Entry<Integer, Integer> entry : getJDBCAndActualAddBatchCallTimesMap(executionUnit).entrySet()) {
-            int value = null == executeResult ? 0 : executeResult[entry.getValue()];
-            addBatchCounts[entry.getKey()] += value;
+        BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(executionUnit.getExecutionUnit());
+        if (null == batchExecutionUnit) {
+            return;
         }
-    }
-    
-    private Map<Integer, Integer> getJDBCAndActualAddBatchCallTimesMap(final JDBCExecutionUnit executionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getJdbcAndActualAddBatchCallTimesMap();
-            }
+        for (Entry<Integer, Integer> entry : batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
+            int value = null == executeResult ? 0 : batchExecutionUnit.getUpdateCount(executeResult[entry.getValue()]);
+            int accumulatedValue = addBatchCounts[entry.getKey()];
+            addBatchCounts[entry.getKey()] = Statement.SUCCESS_NO_INFO == value || Statement.SUCCESS_NO_INFO == accumulatedValue ? Statement.SUCCESS_NO_INFO : accumulatedValue + value;
         }
-        return Collections.emptyMap();
-    }
-    
-    private boolean isSameDataSourceAndSQL(final BatchExecutionUnit batchExecutionUnit, final JDBCExecutionUnit jdbcExecutionUnit) {
-        return batchExecutionUnit.getExecutionUnit().getDataSourceName().equals(jdbcExecutionUnit.getExecutionUnit().getDataSourceName())
-                && batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql().equals(jdbcExecutionUnit.getExecutionUnit().getSqlUnit().getSql());
     }
     
     /**
@@ -240,12 +292,11 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private List<List<Object>> getParameterSets(final JDBCExecutionUnit executionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getParameterSets();
-            }
+        BatchExecutionUnit result = batchExecutionUnits.get(executionUnit.getExecutionUnit());
+        if (null == result) {
+            throw new IllegalStateException("Can not get value from parameter sets.");
         }
-        throw new IllegalStateException("Can not get value from parameter sets.");
+        return result.getParameterSets();
     }
     
     /**
@@ -255,5 +306,6 @@ public final class BatchPreparedStatementExecutor {
         executionGroupContext.getInputGroups().clear();
         batchCount = 0;
         batchExecutionUnits.clear();
+        insertValuesCoalesced = false;
     }
 }
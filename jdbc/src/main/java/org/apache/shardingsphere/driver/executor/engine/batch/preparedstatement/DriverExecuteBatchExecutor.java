@@ -41,6 +41,7 @@ import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.traffic.rule.TrafficRule;
 
 import java.sql.Connection;
@@ -146,6 +147,8 @@ public final class DriverExecuteBatchExecutor {
     
     private void initBatchPreparedStatementExecutor(final ShardingSphereDatabase database, final BatchPreparedStatementExecutor batchExecutor,
                                                     final ExecutionContext executionContext, final PreparedStatementParametersReplayCallback replayCallback) throws SQLException {
+        batchExecutor.coalesceInsertValues(executionContext.getSqlStatementContext(), metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCING_SIZE),
+                metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class));
         List<ExecutionUnit> executionUnits = new ArrayList<>(batchExecutor.getBatchExecutionUnits().size());
         for (BatchExecutionUnit each : batchExecutor.getBatchExecutionUnits()) {
             ExecutionUnit executionUnit = each.getExecutionUnit();
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.ParameterMarkerSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Multi-row insert SQL builder.
+ * 
+ * <p>Build multi-row insert SQL from actual single-row insert SQL by repeating its only values row, which is located by the start and stop indexes of the parsed insert values segment.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MultiRowInsertSQLBuilder {
+    
+    private final String sql;
+    
+    private final String prefix;
+    
+    private final String valuesRow;
+    
+    private final String suffix;
+    
+    /**
+     * Create multi-row insert SQL builder.
+     *
+     * @param sql actual single-row insert SQL
+     * @param sqlStatement SQL statement parsed from actual single-row insert SQL
+     * @param rowParameterCount parameter count of each row
+     * @return created multi-row insert SQL builder, empty if SQL can not be coalesced
+     */
+    public static Optional<MultiRowInsertSQLBuilder> newInstance(final String sql, final SQLStatement sqlStatement, final int rowParameterCount) {
+        if (!(sqlStatement instanceof InsertStatement)) {
+            return Optional.empty();
+        }
+        InsertStatement insertStatement = (InsertStatement) sqlStatement;
+        if (1 != insertStatement.getValues().size() || insertStatement.getInsertSelect().isPresent() || insertStatement.getParameterCount() != rowParameterCount) {
+            return Optional.empty();
+        }
+        InsertValuesSegment valuesSegment = insertStatement.getValues().iterator().next();
+        if (valuesSegment.getStopIndex() >= sql.length() || !isAllParameterMarkersInValuesRow(insertStatement, valuesSegment)) {
+            return Optional.empty();
+        }
+        return Optional.of(new MultiRowInsertSQLBuilder(sql, sql.substring(0, valuesSegment.getStartIndex()),
+                sql.substring(valuesSegment.getStartIndex(), valuesSegment.getStopIndex() + 1), sql.substring(valuesSegment.getStopIndex() + 1)));
+    }
+    
+    private static boolean isAllParameterMarkersInValuesRow(final InsertStatement insertStatement, final InsertValuesSegment valuesSegment) {
+        for (ParameterMarkerSegment each : insertStatement.getParameterMarkerSegments()) {
+            if (each.getStartIndex() < valuesSegment.getStartIndex() || each.getStopIndex() > valuesSegment.getStopIndex()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Build multi-row insert SQL.
+     *
+     * @param rowCount row count
+     * @return multi-row insert SQL
+     */
+    public String build(final int rowCount) {
+        return 1 == rowCount ? sql : prefix + String.join(", ", Collections.nCopies(rowCount, valuesRow)) + suffix;
+    }
+}
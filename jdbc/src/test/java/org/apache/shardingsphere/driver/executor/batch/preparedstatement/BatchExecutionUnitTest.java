@@ -18,11 +18,21 @@
 package org.apache.shardingsphere.driver.executor.batch.preparedstatement;
 
 import org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement.BatchExecutionUnit;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.parser.SQLParserEngine;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.junit.jupiter.api.Test;
 
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -35,6 +45,10 @@ class BatchExecutionUnitTest {
     
     private static final String SQL = "SELECT * FROM table WHERE id = ?";
     
+    private static final String INSERT_SQL = "INSERT INTO t_order_0 (order_id, status) VALUES (?, ?)";
+    
+    private final SQLParserEngine sqlParserEngine = new ShardingSphereSQLParserEngine(TypedSPILoader.getService(DatabaseType.class, "MySQL"), new CacheOption(0, 0L), new CacheOption(0, 0L));
+    
     @Test
     void assertGetParameterSets() {
         BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1))));
@@ -48,6 +62,60 @@ class BatchExecutionUnitTest {
         assertThat(actual.get(0).get(0), is(1));
     }
     
+    @Test
+    void assertCoalesceInsertValues() {
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(INSERT_SQL, new ArrayList<>())));
+        for (int i = 0; i < 5; i++) {
+            batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(Arrays.asList(i, "foo_" + i));
+            batchExecutionUnit.mapAddBatchCount(i * 2);
+        }
+        Collection<BatchExecutionUnit> actual = batchExecutionUnit.coalesceInsertValues(2, sqlParserEngine);
+        assertThat(actual.size(), is(2));
+        Iterator<BatchExecutionUnit> iterator = actual.iterator();
+        BatchExecutionUnit chunked = iterator.next();
+        assertThat(chunked.getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, status) VALUES (?, ?), (?, ?)"));
+        assertThat(chunked.getValuesRowCount(), is(2));
+        assertThat(chunked.getParameterSets(), is(Arrays.asList(Arrays.asList(0, "foo_0", 1, "foo_1"), Arrays.asList(2, "foo_2", 3, "foo_3"))));
+        assertThat(chunked.getJdbcAndActualAddBatchCallTimesMap().get(0), is(0));
+        assertThat(chunked.getJdbcAndActualAddBatchCallTimesMap().get(2), is(0));
+        assertThat(chunked.getJdbcAndActualAddBatchCallTimesMap().get(4), is(1));
+        assertThat(chunked.getJdbcAndActualAddBatchCallTimesMap().get(6), is(1));
+        BatchExecutionUnit remaining = iterator.next();
+        assertThat(remaining.getExecutionUnit().getSqlUnit().getSql(), is(INSERT_SQL));
+        assertThat(remaining.getValuesRowCount(), is(1));
+        assertThat(remaining.getParameterSets(), is(Collections.singletonList(Arrays.asList(4, "foo_4"))));
+        assertThat(remaining.getJdbcAndActualAddBatchCallTimesMap(), is(Collections.singletonMap(8, 0)));
+    }
+    
+    @Test
+    void assertCoalesceInsertValuesWithSingleRow() {
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(INSERT_SQL, new ArrayList<>(Arrays.asList(1, "foo_1")))));
+        batchExecutionUnit.mapAddBatchCount(0);
+        assertThat(batchExecutionUnit.coalesceInsertValues(2, sqlParserEngine), is(Collections.singleton(batchExecutionUnit)));
+    }
+    
+    @Test
+    void assertCoalesceInsertValuesWithUnsupportedSQL() {
+        String sql = "SELECT * FROM t_order_0 WHERE order_id = ?";
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(sql, new ArrayList<>(Arrays.asList(1, 2)))));
+        batchExecutionUnit.mapAddBatchCount(0);
+        batchExecutionUnit.mapAddBatchCount(1);
+        assertThat(batchExecutionUnit.coalesceInsertValues(2, sqlParserEngine).iterator().next().getExecutionUnit().getSqlUnit().getSql(), is(sql));
+    }
+    
+    @Test
+    void assertGetUpdateCount() {
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(INSERT_SQL, new ArrayList<>())));
+        for (int i = 0; i < 4; i++) {
+            batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(Arrays.asList(i, "foo_" + i));
+            batchExecutionUnit.mapAddBatchCount(i);
+        }
+        assertThat(batchExecutionUnit.getUpdateCount(3), is(3));
+        BatchExecutionUnit actual = batchExecutionUnit.coalesceInsertValues(4, sqlParserEngine).iterator().next();
+        assertThat(actual.getUpdateCount(4), is(1));
+        assertThat(actual.getUpdateCount(3), is(Statement.SUCCESS_NO_INFO));
+    }
+    
     @Test
     void assertEquals() {
         BatchExecutionUnit actual = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1))));
@@ -60,7 +128,7 @@ class BatchExecutionUnitTest {
         ExecutionUnit executionUnit = new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1)));
         BatchExecutionUnit actual = new BatchExecutionUnit(executionUnit);
         assertThat(actual.toString(), is(String.format("BatchExecutionUnit(executionUnit=ExecutionUnit"
-                + "(dataSourceName=%s, sqlUnit=SQLUnit(sql=%s, parameters=[%d], tableRouteMappers=[])), "
+                + "(dataSourceName=%s, sqlUnit=SQLUnit(sql=%s, parameters=[%d], tableRouteMappers=[])), valuesRowCount=1, "
                 + "jdbcAndActualAddBatchCallTimesMap={}, actualCallAddBatchTimes=0)", DATA_SOURCE_NAME, SQL, 1, "null")));
     }
 }
@@ -22,7 +22,9 @@ import org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement.
 import org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement.BatchPreparedStatementExecutor;
 import org.apache.shardingsphere.infra.binder.context.segment.table.TablesContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -39,6 +41,9 @@ import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -55,8 +60,11 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -75,6 +83,8 @@ class BatchPreparedStatementExecutorTest {
     
     private static final String SQL = "DELETE FROM table_x WHERE id=?";
     
+    private static final String INSERT_SQL = "INSERT INTO table_x (id) VALUES (?)";
+    
     private final ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithSize(Runtime.getRuntime().availableProcessors() * 2 - 1);
     
     private BatchPreparedStatementExecutor executor;
@@ -93,6 +103,7 @@ class BatchPreparedStatementExecutorTest {
     private ShardingSphereDatabase mockDatabase() {
         ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
         when(result.getName()).thenReturn("foo_db");
+        when(result.getResourceMetaData().getStorageUnits().get("ds_0").getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
         RuleMetaData ruleMetaData = new RuleMetaData(Collections.singleton(mockShardingRule()));
         when(result.getRuleMetaData()).thenReturn(ruleMetaData);
         return result;
@@ -160,6 +171,49 @@ class BatchPreparedStatementExecutorTest {
         assertThrows(SQLException.class, () -> executor.executeBatch(sqlStatementContext));
     }
     
+    @Test
+    void assertAddBatchForExecutionUnits() {
+        for (int i = 0; i < 3; i++) {
+            executor.addBatchForExecutionUnits(Arrays.asList(createExecutionUnit("ds_0", i), createExecutionUnit("ds_1", i)));
+        }
+        assertThat(executor.getBatchExecutionUnits().size(), is(2));
+        BatchExecutionUnit actual = executor.getBatchExecutionUnits().iterator().next();
+        assertThat(actual.getExecutionUnit().getDataSourceName(), is("ds_0"));
+        assertThat(actual.getParameterSets(), is(Arrays.asList(Collections.singletonList(0), Collections.singletonList(1), Collections.singletonList(2))));
+        assertThat(actual.getJdbcAndActualAddBatchCallTimesMap().size(), is(3));
+    }
+    
+    @Test
+    void assertExecuteBatchWithCoalescedInsertValues() throws SQLException {
+        for (int i = 0; i < 3; i++) {
+            executor.addBatchForExecutionUnits(Collections.singleton(new ExecutionUnit("ds_0", new SQLUnit(INSERT_SQL, new LinkedList<>(Collections.singletonList(i))))));
+        }
+        InsertStatementContext insertStatementContext = mock(InsertStatementContext.class);
+        when(insertStatementContext.getValueListCount()).thenReturn(1);
+        when(insertStatementContext.getTablesContext()).thenReturn(mock(TablesContext.class));
+        executor.coalesceInsertValues(insertStatementContext, 2, new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build()));
+        Iterator<BatchExecutionUnit> batchExecutionUnits = executor.getBatchExecutionUnits().iterator();
+        assertThat(batchExecutionUnits.next().getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO table_x (id) VALUES (?), (?)"));
+        assertThat(batchExecutionUnits.next().getExecutionUnit().getSqlUnit().getSql(), is(INSERT_SQL));
+        PreparedStatement multiRowStatement = getPreparedStatement();
+        when(multiRowStatement.executeBatch()).thenReturn(new int[]{2});
+        PreparedStatement singleRowStatement = getPreparedStatement();
+        when(singleRowStatement.executeBatch()).thenReturn(new int[]{1});
+        List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
+        Iterator<PreparedStatement> statements = Arrays.asList(multiRowStatement, singleRowStatement).iterator();
+        for (BatchExecutionUnit each : executor.getBatchExecutionUnits()) {
+            executionUnits.add(new JDBCExecutionUnit(each.getExecutionUnit(), ConnectionMode.MEMORY_STRICTLY, statements.next()));
+        }
+        executor.init(new ExecutionGroupContext<>(Collections.singleton(new ExecutionGroup<>(executionUnits)), new ExecutionGroupReportContext("foo_id", "foo_db", new Grantee("", ""))));
+        assertThat(executor.getParameterSet(multiRowStatement), is(Collections.singletonList(Arrays.asList(0, 1))));
+        assertThat(executor.getParameterSet(singleRowStatement), is(Collections.singletonList(Collections.singletonList(2))));
+        assertThat(executor.executeBatch(insertStatementContext), is(new int[]{1, 1, 1}));
+    }
+    
+    private ExecutionUnit createExecutionUnit(final String dataSourceName, final int parameter) {
+        return new ExecutionUnit(dataSourceName, new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(parameter))));
+    }
+    
     private PreparedStatement getPreparedStatement() throws SQLException {
         PreparedStatement result = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
         when(result.getConnection().getMetaData().getURL()).thenReturn("jdbc:h2:mem:primary_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL");
@@ -170,19 +224,19 @@ class BatchPreparedStatementExecutorTest {
         Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = new LinkedList<>();
         List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
         executionGroups.add(new ExecutionGroup<>(executionUnits));
-        Collection<BatchExecutionUnit> batchExecutionUnits = new LinkedList<>();
+        Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))));
             batchExecutionUnit.mapAddBatchCount(0);
             batchExecutionUnit.mapAddBatchCount(1);
-            batchExecutionUnits.add(batchExecutionUnit);
+            batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
             executionUnits.add(new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))), ConnectionMode.MEMORY_STRICTLY, each));
         }
         setFields(executionGroups, batchExecutionUnits);
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
+    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits) {
         String processId = new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong()).toString().replace("-", "");
         Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("executionGroupContext"), executor, new ExecutionGroupContext<>(executionGroups,
                 new ExecutionGroupReportContext(processId, "logic_db", new Grantee("", ""))));
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch.preparedstatement;
+
+import org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement.MultiRowInsertSQLBuilder;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class MultiRowInsertSQLBuilderTest {
+    
+    @Test
+    void assertBuild() {
+        MultiRowInsertSQLBuilder actual = newInstance("MySQL", "INSERT INTO t_order_0 (order_id, status) VALUES (?, ?)", 2).orElseThrow(IllegalStateException::new);
+        assertThat(actual.build(1), is("INSERT INTO t_order_0 (order_id, status) VALUES (?, ?)"));
+        assertThat(actual.build(3), is("INSERT INTO t_order_0 (order_id, status) VALUES (?, ?), (?, ?), (?, ?)"));
+    }
+    
+    @Test
+    void assertBuildWithLiteralAndFunction() {
+        MultiRowInsertSQLBuilder actual = newInstance("MySQL",
+                "insert into t_order_0 (order_id, status, remark) value (?, 'a)?', concat(?, '\\')'))", 2).orElseThrow(IllegalStateException::new);
+        assertThat(actual.build(2), is("insert into t_order_0 (order_id, status, remark) value (?, 'a)?', concat(?, '\\')')), "
+                + "(?, 'a)?', concat(?, '\\')'))"));
+    }
+    
+    @Test
+    void assertBuildWithComment() {
+        MultiRowInsertSQLBuilder actual = newInstance("MySQL", "INSERT /* (?) */ INTO t_order_0 (order_id) VALUES (?) -- (?)", 1).orElseThrow(IllegalStateException::new);
+        assertThat(actual.build(2), is("INSERT /* (?) */ INTO t_order_0 (order_id) VALUES (?), (?) -- (?)"));
+    }
+    
+    @Test
+    void assertBuildWithClauseAfterValues() {
+        MultiRowInsertSQLBuilder actual = newInstance("PostgreSQL", "INSERT INTO t_order_0 (order_id) VALUES (?) RETURNING order_id", 1).orElseThrow(IllegalStateException::new);
+        assertThat(actual.build(2), is("INSERT INTO t_order_0 (order_id) VALUES (?), (?) RETURNING order_id"));
+    }
+    
+    @Test
+    void assertNewInstanceWithParameterOutOfValues() {
+        assertFalse(newInstance("MySQL", "INSERT INTO t_order_0 (order_id, status) SELECT ?, status FROM t_order_1 WHERE order_id IN (?)", 1).isPresent());
+    }
+    
+    @Test
+    void assertNewInstanceWithMismatchedParameterCount() {
+        assertFalse(newInstance("MySQL", "INSERT INTO t_order_0 (order_id, status) VALUES (?, ?)", 1).isPresent());
+    }
+    
+    @Test
+    void assertNewInstanceWithoutInsertStatement() {
+        assertFalse(newInstance("MySQL", "UPDATE t_order_0 SET status = 'a' WHERE order_id IN (?)", 1).isPresent());
+    }
+    
+    private Optional<MultiRowInsertSQLBuilder> newInstance(final String databaseType, final String sql, final int rowParameterCount) {
+        ShardingSphereSQLParserEngine sqlParserEngine = new ShardingSphereSQLParserEngine(TypedSPILoader.getService(DatabaseType.class, databaseType), new CacheOption(0, 0L), new CacheOption(0, 0L));
+        return MultiRowInsertSQLBuilder.newInstance(sql, sqlParserEngine.parse(sql, false), rowParameterCount);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.result;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Digest single table inventory calculated result.
+ */
+@Getter
+@Slf4j
+public final class DigestSingleTableInventoryCalculatedResult implements SingleTableInventoryCalculatedResult {
+    
+    private final Object previousUniqueKeyValue;
+    
+    private final Object maxUniqueKeyValue;
+    
+    private final int recordsCount;
+    
+    private final MerkleTree merkleTree;
+    
+    private final List<Object> leafMaxUniqueKeyValues;
+    
+    public DigestSingleTableInventoryCalculatedResult(final Object previousUniqueKeyValue, final int recordsCount, final long[] leafDigests, final List<Object> leafMaxUniqueKeyValues) {
+        this.previousUniqueKeyValue = previousUniqueKeyValue;
+        maxUniqueKeyValue = leafMaxUniqueKeyValues.isEmpty() ? null : leafMaxUniqueKeyValues.get(leafMaxUniqueKeyValues.size() - 1);
+        this.recordsCount = recordsCount;
+        merkleTree = new MerkleTree(leafDigests);
+        this.leafMaxUniqueKeyValues = leafMaxUniqueKeyValues;
+    }
+    
+    @Override
+    public Optional<Object> getMaxUniqueKeyValue() {
+        return Optional.ofNullable(maxUniqueKeyValue);
+    }
+    
+    /**
+     * Find mismatched unique key ranges.
+     *
+     * @param other other calculated result
+     * @return mismatched unique key ranges
+     */
+    public List<UniqueKeyRange> findMismatchedRanges(final DigestSingleTableInventoryCalculatedResult other) {
+        List<UniqueKeyRange> result = new LinkedList<>();
+        for (int each : merkleTree.findMismatchedLeafIndexes(other.merkleTree)) {
+            Object lower = 0 == each ? previousUniqueKeyValue : getLeafMaxUniqueKeyValue(each - 1, other);
+            result.add(new UniqueKeyRange(lower, getLeafMaxUniqueKeyValue(each, other)));
+        }
+        return result;
+    }
+    
+    private Object getLeafMaxUniqueKeyValue(final int leafIndex, final DigestSingleTableInventoryCalculatedResult other) {
+        return leafIndex < leafMaxUniqueKeyValues.size() ? leafMaxUniqueKeyValues.get(leafIndex) : other.leafMaxUniqueKeyValues.get(leafIndex);
+    }
+    
+    @Override
+    public boolean equals(final Object o) {
+        if (null == o) {
+            return false;
+        }
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DigestSingleTableInventoryCalculatedResult)) {
+            log.warn("DigestSingleTableInventoryCalculatedResult type not match, o.className={}.", o.getClass().getName());
+            return false;
+        }
+        final DigestSingleTableInventoryCalculatedResult that = (DigestSingleTableInventoryCalculatedResult) o;
+        if (recordsCount != that.recordsCount || merkleTree.getRoot() != that.merkleTree.getRoot()) {
+            log.warn("Record count or digest not match, recordCount1={}, recordCount2={}, digest1={}, digest2={}.", recordsCount, that.recordsCount, merkleTree.getRoot(), that.merkleTree.getRoot());
+            return false;
+        }
+        return true;
+    }
+    
+    @Override
+    public int hashCode() {
+        return 31 * recordsCount + Long.hashCode(merkleTree.getRoot());
+    }
+    
+    /**
+     * Unique key range.
+     */
+    @RequiredArgsConstructor
+    @Getter
+    public static final class UniqueKeyRange {
+        
+        /**
+         * Exclusive lower bound, null means unbounded.
+         */
+        private final Object lowerBound;
+        
+        /**
+         * Inclusive upper bound.
+         */
+        private final Object upperBound;
+        
+        @Override
+        public String toString() {
+            return String.format("(%s, %s]", lowerBound, upperBound);
+        }
+    }
+}
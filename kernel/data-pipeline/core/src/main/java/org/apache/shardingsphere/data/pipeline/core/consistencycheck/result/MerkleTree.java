@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.result;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Merkle tree of digests.
+ * 
+ * <p>Leaves are digests of consecutive ranges ordered by unique key, each parent is digest of its two children.
+ * Two trees are compared from root and only mismatched subtrees are drilled down.</p>
+ */
+public final class MerkleTree {
+    
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    
+    private final List<long[]> levels = new ArrayList<>();
+    
+    public MerkleTree(final long[] leaves) {
+        long[] level = leaves;
+        levels.add(level);
+        while (level.length > 1) {
+            level = buildParentLevel(level);
+            levels.add(level);
+        }
+    }
+    
+    private long[] buildParentLevel(final long[] children) {
+        long[] result = new long[(children.length + 1) / 2];
+        for (int i = 0; i < result.length; i++) {
+            int leftIndex = i * 2;
+            result[i] = leftIndex + 1 < children.length ? HASH_FUNCTION.newHasher().putLong(children[leftIndex]).putLong(children[leftIndex + 1]).hash().asLong() : children[leftIndex];
+        }
+        return result;
+    }
+    
+    /**
+     * Get root digest.
+     *
+     * @return root digest, 0 if there is no leaf
+     */
+    public long getRoot() {
+        long[] root = levels.get(levels.size() - 1);
+        return 0 == root.length ? 0L : root[0];
+    }
+    
+    /**
+     * Get leaf count.
+     *
+     * @return leaf count
+     */
+    public int getLeafCount() {
+        return levels.get(0).length;
+    }
+    
+    /**
+     * Find indexes of mismatched leaves.
+     *
+     * @param other other Merkle tree
+     * @return indexes of mismatched leaves in ascending order
+     */
+    public List<Integer> findMismatchedLeafIndexes(final MerkleTree other) {
+        List<Integer> result = new LinkedList<>();
+        if (getLeafCount() != other.getLeafCount()) {
+            long[] leaves = levels.get(0);
+            long[] otherLeaves = other.levels.get(0);
+            for (int i = 0, count = Math.max(leaves.length, otherLeaves.length); i < count; i++) {
+                if (i >= leaves.length || i >= otherLeaves.length || leaves[i] != otherLeaves[i]) {
+                    result.add(i);
+                }
+            }
+            return result;
+        }
+        if (0 != getLeafCount()) {
+            collectMismatchedLeafIndexes(other, levels.size() - 1, 0, result);
+        }
+        return result;
+    }
+    
+    private void collectMismatchedLeafIndexes(final MerkleTree other, final int level, final int index, final Collection<Integer> mismatchedLeafIndexes) {
+        if (levels.get(level)[index] == other.levels.get(level)[index]) {
+            return;
+        }
+        if (0 == level) {
+            mismatchedLeafIndexes.add(index);
+            return;
+        }
+        int childCount = levels.get(level - 1).length;
+        for (int each = index * 2; each <= index * 2 + 1 && each < childCount; each++) {
+            collectMismatchedLeafIndexes(other, level - 1, each, mismatchedLeafIndexes);
+        }
+    }
+}
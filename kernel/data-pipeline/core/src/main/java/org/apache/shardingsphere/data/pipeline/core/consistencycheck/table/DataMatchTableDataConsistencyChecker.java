@@ -94,5 +94,10 @@ public final class DataMatchTableDataConsistencyChecker implements TableDataCons
         protected SingleTableInventoryCalculator buildSingleTableInventoryCalculator() {
             return new RecordSingleTableInventoryCalculator(chunkSize);
         }
+        
+        @Override
+        protected boolean isRangeCheckSupported() {
+            return true;
+        }
     }
 }
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import com.google.common.base.Strings;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.DataConsistencyCheckUtils;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.DigestSingleTableInventoryCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.DigestSingleTableInventoryCalculatedResult.UniqueKeyRange;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.RecordSingleTableInventoryCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.SingleTableInventoryCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.DigestSingleTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.RecordSingleTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.SingleTableInventoryCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.SingleTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineDataConsistencyCalculateSQLBuilder;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.caseinsensitive.CaseInsensitiveQualifiedTable;
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.infra.spi.annotation.SPIDescription;
+import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+
+/**
+ * Digest match table data consistency checker.
+ * 
+ * <p>Digests of chunks ordered by unique key are compared as Merkle tree, only mismatched ranges are drilled down.
+ * Digests are aggregated by database if both source and target are storage units of dialects which support it, otherwise they are calculated by streaming hash on client side.
+ * ShardingSphere logic data source, such as the target of migration, could not execute digest SQL of dialect, so it is always hashed on client side.
+ * Database versions which could not execute digest SQL of dialect, such as MySQL 5.7 without window functions, are hashed on client side too.
+ * Records of mismatched ranges are loaded and compared one by one, unique key values of mismatched records are logged.</p>
+ */
+@SPIDescription("Match Merkle tree digest of records.")
+@Slf4j
+public final class DigestMatchTableDataConsistencyChecker implements TableDataConsistencyChecker {
+    
+    private static final String CHUNK_SIZE_KEY = "chunk-size";
+    
+    private static final String LEAF_SIZE_KEY = "leaf-size";
+    
+    private static final String SERVER_SIDE_DIGEST_ENABLED_KEY = "server-side-digest-enabled";
+    
+    private static final int DEFAULT_CHUNK_SIZE = 10000;
+    
+    private static final int DEFAULT_LEAF_SIZE = 100;
+    
+    private static final int MAX_DRILL_DOWN_RANGES = 10;
+    
+    private int chunkSize;
+    
+    private int leafSize;
+    
+    private boolean serverSideDigestEnabled;
+    
+    @Override
+    public void init(final Properties props) {
+        chunkSize = getPositiveIntegerProperty(props, CHUNK_SIZE_KEY, DEFAULT_CHUNK_SIZE);
+        leafSize = getPositiveIntegerProperty(props, LEAF_SIZE_KEY, DEFAULT_LEAF_SIZE);
+        serverSideDigestEnabled = Boolean.parseBoolean(props.getProperty(SERVER_SIDE_DIGEST_ENABLED_KEY, Boolean.TRUE.toString()));
+    }
+    
+    private int getPositiveIntegerProperty(final Properties props, final String key, final int defaultValue) {
+        String valueText = props.getProperty(key);
+        if (Strings.isNullOrEmpty(valueText)) {
+            return defaultValue;
+        }
+        int result;
+        try {
+            result = Integer.parseInt(valueText);
+        } catch (final NumberFormatException ignore) {
+            throw new PipelineInvalidParameterException(String.format("'%s' is not a valid number: `%s`", key, valueText));
+        }
+        if (result <= 0) {
+            throw new PipelineInvalidParameterException(String.format("Invalid '%s': %d", key, result));
+        }
+        return result;
+    }
+    
+    @Override
+    public TableInventoryChecker buildTableInventoryChecker(final TableInventoryCheckParameter param) {
+        return new DigestMatchTableInventoryChecker(param, chunkSize, leafSize, serverSideDigestEnabled && isServerSideDigestSupported(param));
+    }
+    
+    private boolean isServerSideDigestSupported(final TableInventoryCheckParameter param) {
+        if (param.getSourceDataSource().isLogicDataSource() || param.getTargetDataSource().isLogicDataSource()) {
+            return false;
+        }
+        if (param.getUniqueKeys().isEmpty() || !param.getColumnNames().contains(param.getUniqueKeys().get(0).getName())) {
+            return false;
+        }
+        return isServerSideDigestSupported(param.getSourceDataSource(), param.getSourceTable(), param) && isServerSideDigestSupported(param.getTargetDataSource(), param.getTargetTable(), param);
+    }
+    
+    private boolean isServerSideDigestSupported(final PipelineDataSourceWrapper dataSource, final CaseInsensitiveQualifiedTable table, final TableInventoryCheckParameter param) {
+        PipelineDataConsistencyCalculateSQLBuilder sqlBuilder = new PipelineDataConsistencyCalculateSQLBuilder(dataSource.getDatabaseType());
+        if (!sqlBuilder.buildChunkDigestSQL(table.getSchemaName().toString(), table.getTableName().toString(),
+                param.getColumnNames(), param.getUniqueKeys().get(0).getName(), true, false, chunkSize, leafSize).isPresent()) {
+            return false;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            return sqlBuilder.isChunkDigestSupported(connection.getMetaData());
+        } catch (final SQLException ex) {
+            log.warn("Check chunk digest supported failed, digest will be calculated on client side, jobId={}, table={}", param.getJobId(), table, ex);
+            return false;
+        }
+    }
+    
+    @Override
+    public Collection<DatabaseType> getSupportedDatabaseTypes() {
+        return ShardingSphereServiceLoader.getServiceInstances(DatabaseType.class);
+    }
+    
+    @Override
+    public void close() {
+    }
+    
+    @Override
+    public String getType() {
+        return "DIGEST_MATCH";
+    }
+    
+    private static final class DigestMatchTableInventoryChecker extends MatchingTableInventoryChecker {
+        
+        private final TableInventoryCheckParameter param;
+        
+        private final int chunkSize;
+        
+        private final int leafSize;
+        
+        private final boolean serverSideDigest;
+        
+        DigestMatchTableInventoryChecker(final TableInventoryCheckParameter param, final int chunkSize, final int leafSize, final boolean serverSideDigest) {
+            super(param);
+            this.param = param;
+            this.chunkSize = chunkSize;
+            this.leafSize = leafSize;
+            this.serverSideDigest = serverSideDigest;
+        }
+        
+        @Override
+        protected SingleTableInventoryCalculator buildSingleTableInventoryCalculator() {
+            return new DigestSingleTableInventoryCalculator(chunkSize, leafSize, serverSideDigest);
+        }
+        
+        @Override
+        protected boolean isRangeCheckSupported() {
+            return true;
+        }
+        
+        @Override
+        protected void onCalculatedResultNotMatched(final SingleTableInventoryCalculatedResult sourceCalculatedResult, final SingleTableInventoryCalculatedResult targetCalculatedResult) {
+            if (!(sourceCalculatedResult instanceof DigestSingleTableInventoryCalculatedResult) || !(targetCalculatedResult instanceof DigestSingleTableInventoryCalculatedResult)) {
+                return;
+            }
+            List<UniqueKeyRange> ranges =
+                    ((DigestSingleTableInventoryCalculatedResult) sourceCalculatedResult).findMismatchedRanges((DigestSingleTableInventoryCalculatedResult) targetCalculatedResult);
+            log.info("Mismatched unique key ranges, jobId={}, sourceTable={}, ranges={}", param.getJobId(), param.getSourceTable(), ranges);
+            for (UniqueKeyRange each : ranges.subList(0, Math.min(ranges.size(), MAX_DRILL_DOWN_RANGES))) {
+                try {
+                    log.info("Mismatched records, jobId={}, sourceTable={}, range={}, uniqueKeyValues={}", param.getJobId(), param.getSourceTable(), each, findMismatchedUniqueKeyValues(each));
+                    // CHECKSTYLE:OFF
+                } catch (final RuntimeException ex) {
+                    // CHECKSTYLE:ON
+                    log.warn("Drill down mismatched range failed, jobId={}, sourceTable={}, range={}", param.getJobId(), param.getSourceTable(), each, ex);
+                }
+            }
+        }
+        
+        private Collection<String> findMismatchedUniqueKeyValues(final UniqueKeyRange range) {
+            Map<String, Map<String, Object>> sourceRecords = loadRecords(param.getSourceDataSource(), param.getSourceTable(), range);
+            Map<String, Map<String, Object>> targetRecords = loadRecords(param.getTargetDataSource(), param.getTargetTable(), range);
+            Collection<String> result = new LinkedList<>();
+            EqualsBuilder equalsBuilder = new EqualsBuilder();
+            for (Entry<String, Map<String, Object>> entry : sourceRecords.entrySet()) {
+                Map<String, Object> targetRecord = targetRecords.remove(entry.getKey());
+                if (null == targetRecord || !DataConsistencyCheckUtils.recordsEquals(entry.getValue(), targetRecord, equalsBuilder)) {
+                    result.add(entry.getKey());
+                }
+            }
+            result.addAll(targetRecords.keySet());
+            return result;
+        }
+        
+        private Map<String, Map<String, Object>> loadRecords(final PipelineDataSourceWrapper dataSource, final CaseInsensitiveQualifiedTable table, final UniqueKeyRange range) {
+            SingleTableInventoryCalculateParameter calculateParam = new SingleTableInventoryCalculateParameter(
+                    dataSource, table, param.getColumnNames(), param.getUniqueKeys(), range.getLowerBound(), range.getUpperBound());
+            Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+            try {
+                for (SingleTableInventoryCalculatedResult each : new RecordSingleTableInventoryCalculator(leafSize).calculate(calculateParam)) {
+                    for (Map<String, Object> record : ((RecordSingleTableInventoryCalculatedResult) each).getRecords()) {
+                        result.put(String.valueOf(getUniqueKeyValue(record)), record);
+                    }
+                }
+            } finally {
+                QuietlyCloser.close(calculateParam.getCalculationContext());
+            }
+            return result;
+        }
+        
+        private Object getUniqueKeyValue(final Map<String, Object> record) {
+            String uniqueKey = param.getUniqueKeys().get(0).getName();
+            for (Entry<String, Object> entry : record.entrySet()) {
+                if (uniqueKey.equalsIgnoreCase(entry.getKey())) {
+                    return entry.getValue();
+                }
+            }
+            return null;
+        }
+    }
+}
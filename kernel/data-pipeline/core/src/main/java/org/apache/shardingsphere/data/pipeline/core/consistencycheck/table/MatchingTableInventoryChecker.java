@@ -33,12 +33,16 @@ import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFact
 import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
 
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -46,6 +50,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Matching table inventory checker.
+ * 
+ * <p>Table could be split into unique key ranges which are checked in parallel, check position of each range is kept in progress to be resumable.</p>
  */
 @RequiredArgsConstructor
 @Slf4j
@@ -55,75 +61,112 @@ public abstract class MatchingTableInventoryChecker implements TableInventoryChe
     
     private final AtomicBoolean canceling = new AtomicBoolean(false);
     
-    private volatile SingleTableInventoryCalculator sourceCalculator;
-    
-    private volatile SingleTableInventoryCalculator targetCalculator;
+    private final Collection<SingleTableInventoryCalculator> runningCalculators = new CopyOnWriteArraySet<>();
     
     @Override
     public TableDataConsistencyCheckResult checkSingleTableInventoryData() {
+        List<TableInventoryCheckRange> ranges = isRangeCheckSupported() ? new TableInventoryCheckRangeSplitter(param).split() : Collections.singletonList(TableInventoryCheckRange.UNBOUNDED);
+        if (1 == ranges.size()) {
+            return createCheckResult(checkRange(ranges.get(0), new AtomicBoolean(false)));
+        }
+        initRangeCheckPositions(ranges);
         ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build("job-" + getJobIdDigest(param.getJobId()) + "-matching-check-%d");
-        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(2), threadFactory);
+        int threadCount = Math.min(param.getWorkerThread(), ranges.size());
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threadCount, threadCount, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
         try {
-            return checkSingleTableInventoryData(param, executor);
+            return createCheckResult(checkRanges(ranges, executor));
         } finally {
             executor.shutdown();
             executor.shutdownNow();
         }
     }
     
-    private TableDataConsistencyCheckResult checkSingleTableInventoryData(final TableInventoryCheckParameter param, final ThreadPoolExecutor executor) {
+    private void initRangeCheckPositions(final List<TableInventoryCheckRange> ranges) {
+        for (TableInventoryCheckRange each : ranges) {
+            if (null != each.getLowerBound()) {
+                param.getProgressContext().getSourceTableCheckPositions().putIfAbsent(each.getPositionKey(param.getSourceTable().getTableName().toString()), each.getLowerBound());
+                param.getProgressContext().getTargetTableCheckPositions().putIfAbsent(each.getPositionKey(param.getTargetTable().getTableName().toString()), each.getLowerBound());
+            }
+        }
+    }
+    
+    private boolean checkRanges(final List<TableInventoryCheckRange> ranges, final ThreadPoolExecutor executor) {
+        AtomicBoolean unmatched = new AtomicBoolean(false);
+        Collection<Future<Boolean>> futures = new LinkedList<>();
+        for (TableInventoryCheckRange each : ranges) {
+            futures.add(executor.submit(() -> checkRange(each, unmatched)));
+        }
+        boolean result = true;
+        try {
+            for (Future<Boolean> each : futures) {
+                result &= waitFuture(each);
+            }
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            runningCalculators.forEach(SingleTableInventoryCalculator::cancel);
+            throw ex;
+        }
+        return result && !unmatched.get();
+    }
+    
+    private boolean checkRange(final TableInventoryCheckRange range, final AtomicBoolean unmatched) {
+        String sourcePositionKey = range.getPositionKey(param.getSourceTable().getTableName().toString());
+        String targetPositionKey = range.getPositionKey(param.getTargetTable().getTableName().toString());
         SingleTableInventoryCalculateParameter sourceParam = new SingleTableInventoryCalculateParameter(param.getSourceDataSource(), param.getSourceTable(),
-                param.getColumnNames(), param.getUniqueKeys(), param.getProgressContext().getSourceTableCheckPositions().get(param.getSourceTable().getTableName().toString()));
+                param.getColumnNames(), param.getUniqueKeys(), param.getProgressContext().getSourceTableCheckPositions().get(sourcePositionKey), range.getUpperBound());
         SingleTableInventoryCalculateParameter targetParam = new SingleTableInventoryCalculateParameter(param.getTargetDataSource(), param.getTargetTable(),
-                param.getColumnNames(), param.getUniqueKeys(), param.getProgressContext().getTargetTableCheckPositions().get(param.getTargetTable().getTableName().toString()));
+                param.getColumnNames(), param.getUniqueKeys(), param.getProgressContext().getTargetTableCheckPositions().get(targetPositionKey), range.getUpperBound());
         SingleTableInventoryCalculator sourceCalculator = buildSingleTableInventoryCalculator();
-        this.sourceCalculator = sourceCalculator;
         SingleTableInventoryCalculator targetCalculator = buildSingleTableInventoryCalculator();
-        this.targetCalculator = targetCalculator;
+        runningCalculators.add(sourceCalculator);
+        runningCalculators.add(targetCalculator);
         try {
-            Iterator<SingleTableInventoryCalculatedResult> sourceCalculatedResults = waitFuture(executor.submit(() -> sourceCalculator.calculate(sourceParam))).iterator();
-            Iterator<SingleTableInventoryCalculatedResult> targetCalculatedResults = waitFuture(executor.submit(() -> targetCalculator.calculate(targetParam))).iterator();
-            return checkSingleTableInventoryData(sourceCalculatedResults, targetCalculatedResults, param, executor);
+            Iterator<SingleTableInventoryCalculatedResult> sourceCalculatedResults = sourceCalculator.calculate(sourceParam).iterator();
+            Iterator<SingleTableInventoryCalculatedResult> targetCalculatedResults = targetCalculator.calculate(targetParam).iterator();
+            boolean result = checkRange(sourceCalculatedResults, targetCalculatedResults, sourcePositionKey, targetPositionKey, unmatched);
+            if (!result) {
+                log.info("content matched false, jobId={}, sourceTable={}, targetTable={}, uniqueKeys={}, range={}",
+                        param.getJobId(), param.getSourceTable(), param.getTargetTable(), param.getUniqueKeys(), range);
+                unmatched.set(true);
+            }
+            return result;
         } finally {
             QuietlyCloser.close(sourceParam.getCalculationContext());
             QuietlyCloser.close(targetParam.getCalculationContext());
-            this.sourceCalculator = null;
-            this.targetCalculator = null;
+            runningCalculators.remove(sourceCalculator);
+            runningCalculators.remove(targetCalculator);
         }
     }
     
-    private TableDataConsistencyCheckResult checkSingleTableInventoryData(final Iterator<SingleTableInventoryCalculatedResult> sourceCalculatedResults,
-                                                                          final Iterator<SingleTableInventoryCalculatedResult> targetCalculatedResults,
-                                                                          final TableInventoryCheckParameter param, final ThreadPoolExecutor executor) {
-        YamlTableDataConsistencyCheckResult checkResult = new YamlTableDataConsistencyCheckResult(true);
+    private boolean checkRange(final Iterator<SingleTableInventoryCalculatedResult> sourceCalculatedResults, final Iterator<SingleTableInventoryCalculatedResult> targetCalculatedResults,
+                               final String sourcePositionKey, final String targetPositionKey, final AtomicBoolean unmatched) {
         while (sourceCalculatedResults.hasNext() && targetCalculatedResults.hasNext()) {
+            if (unmatched.get()) {
+                return true;
+            }
             if (null != param.getReadRateLimitAlgorithm()) {
                 param.getReadRateLimitAlgorithm().intercept(PipelineSQLOperationType.SELECT, 1);
             }
-            SingleTableInventoryCalculatedResult sourceCalculatedResult = waitFuture(executor.submit(sourceCalculatedResults::next));
-            SingleTableInventoryCalculatedResult targetCalculatedResult = waitFuture(executor.submit(targetCalculatedResults::next));
+            SingleTableInventoryCalculatedResult sourceCalculatedResult = sourceCalculatedResults.next();
+            SingleTableInventoryCalculatedResult targetCalculatedResult = targetCalculatedResults.next();
             if (!Objects.equals(sourceCalculatedResult, targetCalculatedResult)) {
-                checkResult.setMatched(false);
-                log.info("content matched false, jobId={}, sourceTable={}, targetTable={}, uniqueKeys={}", param.getJobId(), param.getSourceTable(), param.getTargetTable(), param.getUniqueKeys());
-                break;
+                onCalculatedResultNotMatched(sourceCalculatedResult, targetCalculatedResult);
+                return false;
             }
             if (sourceCalculatedResult.getMaxUniqueKeyValue().isPresent()) {
-                param.getProgressContext().getSourceTableCheckPositions().put(param.getSourceTable().getTableName().toString(), sourceCalculatedResult.getMaxUniqueKeyValue().get());
+                param.getProgressContext().getSourceTableCheckPositions().put(sourcePositionKey, sourceCalculatedResult.getMaxUniqueKeyValue().get());
             }
             if (targetCalculatedResult.getMaxUniqueKeyValue().isPresent()) {
-                param.getProgressContext().getTargetTableCheckPositions().put(param.getTargetTable().getTableName().toString(), targetCalculatedResult.getMaxUniqueKeyValue().get());
+                param.getProgressContext().getTargetTableCheckPositions().put(targetPositionKey, targetCalculatedResult.getMaxUniqueKeyValue().get());
             }
             param.getProgressContext().onProgressUpdated(new PipelineJobProgressUpdatedParameter(sourceCalculatedResult.getRecordsCount()));
         }
-        if (sourceCalculatedResults.hasNext()) {
-            checkResult.setMatched(false);
-            return new YamlTableDataConsistencyCheckResultSwapper().swapToObject(checkResult);
-        }
-        if (targetCalculatedResults.hasNext()) {
-            checkResult.setMatched(false);
-            return new YamlTableDataConsistencyCheckResultSwapper().swapToObject(checkResult);
-        }
-        return new YamlTableDataConsistencyCheckResultSwapper().swapToObject(checkResult);
+        return !sourceCalculatedResults.hasNext() && !targetCalculatedResults.hasNext();
+    }
+    
+    private TableDataConsistencyCheckResult createCheckResult(final boolean matched) {
+        return new YamlTableDataConsistencyCheckResultSwapper().swapToObject(new YamlTableDataConsistencyCheckResult(matched));
     }
     
     // TODO use digest (crc32, murmurhash)
@@ -147,11 +190,28 @@ public abstract class MatchingTableInventoryChecker implements TableInventoryChe
     
     protected abstract SingleTableInventoryCalculator buildSingleTableInventoryCalculator();
     
+    /**
+     * Whether unique key range check is supported by calculator.
+     *
+     * @return supported or not
+     */
+    protected boolean isRangeCheckSupported() {
+        return false;
+    }
+    
+    /**
+     * Handle calculated results which are not matched.
+     *
+     * @param sourceCalculatedResult source calculated result
+     * @param targetCalculatedResult target calculated result
+     */
+    protected void onCalculatedResultNotMatched(final SingleTableInventoryCalculatedResult sourceCalculatedResult, final SingleTableInventoryCalculatedResult targetCalculatedResult) {
+    }
+    
     @Override
     public void cancel() {
         canceling.set(true);
-        Optional.ofNullable(sourceCalculator).ifPresent(SingleTableInventoryCalculator::cancel);
-        Optional.ofNullable(targetCalculator).ifPresent(SingleTableInventoryCalculator::cancel);
+        runningCalculators.forEach(SingleTableInventoryCalculator::cancel);
     }
     
     @Override
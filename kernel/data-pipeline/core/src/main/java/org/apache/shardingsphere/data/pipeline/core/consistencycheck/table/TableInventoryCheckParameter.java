@@ -51,4 +51,21 @@ public final class TableInventoryCheckParameter {
     private final JobRateLimitAlgorithm readRateLimitAlgorithm;
     
     private final ConsistencyCheckJobItemProgressContext progressContext;
+    
+    /**
+     * Records count of each unique key range.
+     */
+    private final int shardingSize;
+    
+    /**
+     * Max count of unique key ranges checked in parallel.
+     */
+    private final int workerThread;
+    
+    public TableInventoryCheckParameter(final String jobId, final PipelineDataSourceWrapper sourceDataSource, final PipelineDataSourceWrapper targetDataSource,
+                                        final CaseInsensitiveQualifiedTable sourceTable, final CaseInsensitiveQualifiedTable targetTable, final List<String> columnNames,
+                                        final List<PipelineColumnMetaData> uniqueKeys, final JobRateLimitAlgorithm readRateLimitAlgorithm,
+                                        final ConsistencyCheckJobItemProgressContext progressContext) {
+        this(jobId, sourceDataSource, targetDataSource, sourceTable, targetTable, columnNames, uniqueKeys, readRateLimitAlgorithm, progressContext, Integer.MAX_VALUE, 1);
+    }
 }
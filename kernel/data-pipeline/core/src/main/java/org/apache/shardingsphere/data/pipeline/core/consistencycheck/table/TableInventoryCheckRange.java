@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Optional;
+
+/**
+ * Table inventory check range of unique key.
+ */
+@RequiredArgsConstructor
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class TableInventoryCheckRange {
+    
+    /**
+     * Range of whole table.
+     */
+    public static final TableInventoryCheckRange UNBOUNDED = new TableInventoryCheckRange(null, null);
+    
+    private static final String POSITION_KEY_DELIMITER = "#";
+    
+    /**
+     * Exclusive lower bound of unique key, null means unbounded.
+     */
+    private final Long lowerBound;
+    
+    /**
+     * Inclusive upper bound of unique key, null means unbounded.
+     */
+    private final Long upperBound;
+    
+    /**
+     * Get check position key.
+     * 
+     * <p>Position key of unbounded range is table name, to be compatible with check progress of whole table.</p>
+     *
+     * @param tableName table name
+     * @return check position key
+     */
+    public String getPositionKey(final String tableName) {
+        if (null == lowerBound && null == upperBound) {
+            return tableName;
+        }
+        return String.format("%s%s(%s,%s]", tableName, POSITION_KEY_DELIMITER, null == lowerBound ? "" : lowerBound, null == upperBound ? "" : upperBound);
+    }
+    
+    /**
+     * Parse check range from check position key.
+     *
+     * @param tableName table name
+     * @param positionKey check position key
+     * @return check range, empty if position key does not belong to any range of the table
+     */
+    public static Optional<TableInventoryCheckRange> parse(final String tableName, final String positionKey) {
+        String prefix = tableName + POSITION_KEY_DELIMITER + "(";
+        if (!positionKey.startsWith(prefix) || !positionKey.endsWith("]")) {
+            return Optional.empty();
+        }
+        String[] bounds = positionKey.substring(prefix.length(), positionKey.length() - 1).split(",", -1);
+        if (2 != bounds.length) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new TableInventoryCheckRange(parseBound(bounds[0]), parseBound(bounds[1])));
+        } catch (final NumberFormatException ignore) {
+            return Optional.empty();
+        }
+    }
+    
+    private static Long parseBound(final String bound) {
+        return bound.isEmpty() ? null : Long.parseLong(bound);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.Range;
+import org.apache.shardingsphere.data.pipeline.core.exception.job.SplitPipelineJobByUniqueKeyException;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.data.pipeline.core.preparer.inventory.InventoryRecordsCountCalculator;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelinePrepareSQLBuilder;
+import org.apache.shardingsphere.data.pipeline.core.util.IntervalToRangeIterator;
+import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Table inventory check range splitter.
+ * 
+ * <p>Source table is split by integer unique key as inventory task splitter does, ranges are restored from check progress if it's resumed.</p>
+ */
+@RequiredArgsConstructor
+public final class TableInventoryCheckRangeSplitter {
+    
+    private final TableInventoryCheckParameter param;
+    
+    /**
+     * Split table into check ranges.
+     *
+     * @return check ranges ordered by unique key
+     */
+    public List<TableInventoryCheckRange> split() {
+        String sourceTableName = param.getSourceTable().getTableName().toString();
+        Map<String, Object> checkPositions = param.getProgressContext().getSourceTableCheckPositions();
+        if (checkPositions.containsKey(sourceTableName)) {
+            return Collections.singletonList(TableInventoryCheckRange.UNBOUNDED);
+        }
+        List<TableInventoryCheckRange> checkedRanges = checkPositions.keySet().stream().map(each -> TableInventoryCheckRange.parse(sourceTableName, each))
+                .filter(Optional::isPresent).map(Optional::get).sorted(Comparator.comparing(TableInventoryCheckRange::getLowerBound, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .collect(Collectors.toList());
+        if (!checkedRanges.isEmpty()) {
+            return fillUncheckedRanges(checkedRanges);
+        }
+        if (param.getWorkerThread() <= 1 || 1 != param.getUniqueKeys().size() || !PipelineJdbcUtils.isIntegerColumn(param.getUniqueKeys().get(0).getDataType())) {
+            return Collections.singletonList(TableInventoryCheckRange.UNBOUNDED);
+        }
+        return splitByIntegerUniqueKey();
+    }
+    
+    private List<TableInventoryCheckRange> fillUncheckedRanges(final List<TableInventoryCheckRange> checkedRanges) {
+        List<TableInventoryCheckRange> result = new LinkedList<>();
+        Long expectedLowerBound = null;
+        for (TableInventoryCheckRange each : checkedRanges) {
+            if (!Objects.equals(expectedLowerBound, each.getLowerBound())) {
+                result.add(new TableInventoryCheckRange(expectedLowerBound, each.getLowerBound()));
+            }
+            result.add(each);
+            expectedLowerBound = each.getUpperBound();
+        }
+        if (null != expectedLowerBound) {
+            result.add(new TableInventoryCheckRange(expectedLowerBound, null));
+        }
+        return result;
+    }
+    
+    private List<TableInventoryCheckRange> splitByIntegerUniqueKey() {
+        PipelineColumnMetaData uniqueKey = param.getUniqueKeys().get(0);
+        String schemaName = param.getSourceTable().getSchemaName().toString();
+        String tableName = param.getSourceTable().getTableName().toString();
+        long tableRecordsCount = InventoryRecordsCountCalculator.getTableRecordsCount(schemaName, tableName, uniqueKey.getName(), param.getSourceDataSource());
+        if (tableRecordsCount <= param.getShardingSize()) {
+            return Collections.singletonList(TableInventoryCheckRange.UNBOUNDED);
+        }
+        Range<Long> uniqueKeyValuesRange = getUniqueKeyValuesRange(schemaName, tableName, uniqueKey.getName());
+        long splitCount = tableRecordsCount / param.getShardingSize() + (tableRecordsCount % param.getShardingSize() > 0L ? 1 : 0);
+        long interval = (uniqueKeyValuesRange.getMaximum() - uniqueKeyValuesRange.getMinimum()) / splitCount;
+        IntervalToRangeIterator rangeIterator = new IntervalToRangeIterator(uniqueKeyValuesRange.getMinimum(), uniqueKeyValuesRange.getMaximum(), interval);
+        List<TableInventoryCheckRange> result = new LinkedList<>();
+        Long lowerBound = null;
+        while (rangeIterator.hasNext()) {
+            Long upperBound = rangeIterator.next().getMaximum();
+            if (!rangeIterator.hasNext()) {
+                break;
+            }
+            result.add(new TableInventoryCheckRange(lowerBound, upperBound));
+            lowerBound = upperBound;
+        }
+        result.add(null == lowerBound ? TableInventoryCheckRange.UNBOUNDED : new TableInventoryCheckRange(lowerBound, null));
+        return result;
+    }
+    
+    private Range<Long> getUniqueKeyValuesRange(final String schemaName, final String tableName, final String uniqueKey) {
+        String sql = new PipelinePrepareSQLBuilder(param.getSourceDataSource().getDatabaseType()).buildUniqueKeyMinMaxValuesSQL(schemaName, tableName, uniqueKey);
+        try (
+                Connection connection = param.getSourceDataSource().getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return Range.between(resultSet.getLong(1), resultSet.getLong(2));
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(tableName, uniqueKey, ex);
+        }
+    }
+}
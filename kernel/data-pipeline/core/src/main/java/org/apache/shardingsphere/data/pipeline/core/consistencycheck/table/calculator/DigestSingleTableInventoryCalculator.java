@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.DigestSingleTableInventoryCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.SingleTableInventoryCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobCancelingException;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.column.ColumnValueReaderEngine;
+import org.apache.shardingsphere.data.pipeline.core.query.JDBCStreamQueryBuilder;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineDataConsistencyCalculateSQLBuilder;
+import org.apache.shardingsphere.infra.algorithm.core.exception.UnsupportedAlgorithmOnDatabaseTypeException;
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.database.mysql.type.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.kernel.category.PipelineSQLException;
+import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Digest single table inventory calculator.
+ * 
+ * <p>Records are split into chunks ordered by unique key, and every chunk is split into leaves of {@code leafSize} records.
+ * Leaf digests are aggregated by database when server side digest is used, otherwise they are calculated by streaming hash on client side.</p>
+ */
+@HighFrequencyInvocation
+@RequiredArgsConstructor
+public final class DigestSingleTableInventoryCalculator extends AbstractStreamingSingleTableInventoryCalculator {
+    
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    
+    private final int chunkSize;
+    
+    private final int leafSize;
+    
+    private final boolean serverSideDigest;
+    
+    private boolean started;
+    
+    private Object previousUniqueKeyValue;
+    
+    @Override
+    public Optional<SingleTableInventoryCalculatedResult> calculateChunk(final SingleTableInventoryCalculateParameter param) {
+        if (!started) {
+            previousUniqueKeyValue = param.getTableCheckPosition();
+            started = true;
+        }
+        Optional<SingleTableInventoryCalculatedResult> result = serverSideDigest ? calculateChunkOnServer(param) : calculateChunkOnClient(param);
+        result.flatMap(SingleTableInventoryCalculatedResult::getMaxUniqueKeyValue).ifPresent(optional -> previousUniqueKeyValue = optional);
+        return result;
+    }
+    
+    private Optional<SingleTableInventoryCalculatedResult> calculateChunkOnServer(final SingleTableInventoryCalculateParameter param) {
+        Optional<String> sql = new PipelineDataConsistencyCalculateSQLBuilder(param.getDatabaseType()).buildChunkDigestSQL(
+                param.getSchemaName(), param.getLogicTableName(), param.getColumnNames(), param.getFirstUniqueKey().getName(),
+                null == previousUniqueKeyValue, null != param.getTableCheckUpperBound(), chunkSize, leafSize);
+        ShardingSpherePreconditions.checkState(sql.isPresent(), () -> new UnsupportedAlgorithmOnDatabaseTypeException("DataConsistencyCalculate", "DIGEST", param.getDatabaseType()));
+        CalculationContext calculationContext = getOrCreateCalculationContext(param);
+        try {
+            List<Long> leafDigests = new ArrayList<>();
+            List<Object> leafMaxUniqueKeyValues = new ArrayList<>();
+            int recordsCount = queryChunkDigest(calculationContext, sql.get(), param, leafDigests, leafMaxUniqueKeyValues);
+            return createResult(calculationContext, recordsCount, leafDigests, leafMaxUniqueKeyValues);
+        } catch (final PipelineSQLException | PipelineJobCancelingException ex) {
+            calculationContext.close();
+            throw ex;
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            calculationContext.close();
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
+        }
+    }
+    
+    private int queryChunkDigest(final CalculationContext calculationContext, final String sql, final SingleTableInventoryCalculateParameter param,
+                                 final List<Long> leafDigests, final List<Object> leafMaxUniqueKeyValues) throws SQLException {
+        int result = 0;
+        try (PreparedStatement preparedStatement = calculationContext.getConnection().prepareStatement(sql)) {
+            setCurrentStatement(preparedStatement);
+            setParameters(preparedStatement, param);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    checkCanceling(param);
+                    leafDigests.add(resultSet.getLong(1));
+                    result += resultSet.getInt(2);
+                    leafMaxUniqueKeyValues.add(resultSet.getObject(3));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Optional<SingleTableInventoryCalculatedResult> calculateChunkOnClient(final SingleTableInventoryCalculateParameter param) {
+        CalculationContext calculationContext = getOrCreateCalculationContext(param);
+        try {
+            if (null == calculationContext.getResultSet()) {
+                fulfillCalculationContext(calculationContext, param);
+            }
+            ColumnValueReaderEngine columnValueReaderEngine = new ColumnValueReaderEngine(param.getDatabaseType());
+            ResultSet resultSet = calculationContext.getResultSet();
+            ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+            int columnCount = resultSetMetaData.getColumnCount();
+            List<Long> leafDigests = new ArrayList<>();
+            List<Object> leafMaxUniqueKeyValues = new ArrayList<>();
+            Hasher leafHasher = null;
+            int leafRecordsCount = 0;
+            int recordsCount = 0;
+            Object uniqueKeyValue = null;
+            while (recordsCount < chunkSize && resultSet.next()) {
+                checkCanceling(param);
+                if (null == leafHasher) {
+                    leafHasher = HASH_FUNCTION.newHasher();
+                }
+                for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                    putValue(leafHasher, columnValueReaderEngine.read(resultSet, resultSetMetaData, columnIndex));
+                }
+                uniqueKeyValue = columnValueReaderEngine.read(resultSet, resultSetMetaData, param.getFirstUniqueKey().getOrdinalPosition());
+                recordsCount++;
+                if (++leafRecordsCount == leafSize) {
+                    leafDigests.add(leafHasher.hash().asLong());
+                    leafMaxUniqueKeyValues.add(uniqueKeyValue);
+                    leafHasher = null;
+                    leafRecordsCount = 0;
+                }
+            }
+            if (null != leafHasher) {
+                leafDigests.add(leafHasher.hash().asLong());
+                leafMaxUniqueKeyValues.add(uniqueKeyValue);
+            }
+            return createResult(calculationContext, recordsCount, leafDigests, leafMaxUniqueKeyValues);
+        } catch (final PipelineSQLException | PipelineJobCancelingException ex) {
+            calculationContext.close();
+            throw ex;
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            calculationContext.close();
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
+        }
+    }
+    
+    private void checkCanceling(final SingleTableInventoryCalculateParameter param) {
+        ShardingSpherePreconditions.checkState(!isCanceling(), () -> new PipelineJobCancelingException(
+                "Calculate chunk canceled, schema name: %s, table name: %s", param.getSchemaName(), param.getLogicTableName()));
+    }
+    
+    private void putValue(final Hasher hasher, final Object value) {
+        if (null == value) {
+            hasher.putByte((byte) 0);
+        } else if (value instanceof byte[]) {
+            hasher.putByte((byte) 1).putInt(((byte[]) value).length).putBytes((byte[]) value);
+        } else {
+            String text = value instanceof Number ? normalizeNumber((Number) value) : value.toString();
+            hasher.putByte((byte) 2).putInt(text.length()).putString(text, StandardCharsets.UTF_8);
+        }
+    }
+    
+    private String normalizeNumber(final Number value) {
+        try {
+            return (value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString())).stripTrailingZeros().toPlainString();
+        } catch (final NumberFormatException ignore) {
+            return value.toString();
+        }
+    }
+    
+    private Optional<SingleTableInventoryCalculatedResult> createResult(final CalculationContext calculationContext, final int recordsCount,
+                                                                        final List<Long> leafDigests, final List<Object> leafMaxUniqueKeyValues) {
+        if (0 == recordsCount) {
+            calculationContext.close();
+            return Optional.empty();
+        }
+        return Optional.of(new DigestSingleTableInventoryCalculatedResult(previousUniqueKeyValue, recordsCount, leafDigests.stream().mapToLong(Long::longValue).toArray(), leafMaxUniqueKeyValues));
+    }
+    
+    private CalculationContext getOrCreateCalculationContext(final SingleTableInventoryCalculateParameter param) {
+        CalculationContext result = (CalculationContext) param.getCalculationContext();
+        if (null != result) {
+            return result;
+        }
+        try {
+            Connection connection = param.getDataSource().getConnection();
+            result = new CalculationContext();
+            result.setConnection(connection);
+            param.setCalculationContext(result);
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            QuietlyCloser.close(result);
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
+        }
+        return result;
+    }
+    
+    private void fulfillCalculationContext(final CalculationContext calculationContext, final SingleTableInventoryCalculateParameter param) throws SQLException {
+        PipelineDataConsistencyCalculateSQLBuilder pipelineSQLBuilder = new PipelineDataConsistencyCalculateSQLBuilder(param.getDatabaseType());
+        Collection<String> columnNames = param.getColumnNames().isEmpty() ? Collections.singleton("*") : param.getColumnNames();
+        String sql = null == param.getTableCheckUpperBound()
+                ? pipelineSQLBuilder.buildQueryAllOrderingSQL(param.getSchemaName(), param.getLogicTableName(), columnNames, param.getFirstUniqueKey().getName(), null == previousUniqueKeyValue)
+                : pipelineSQLBuilder.buildQueryRangeOrderingSQL(param.getSchemaName(), param.getLogicTableName(), columnNames, param.getFirstUniqueKey().getName(), null == previousUniqueKeyValue);
+        PreparedStatement preparedStatement = JDBCStreamQueryBuilder.build(param.getDatabaseType(), calculationContext.getConnection(), sql);
+        setCurrentStatement(preparedStatement);
+        if (!(param.getDatabaseType() instanceof MySQLDatabaseType)) {
+            preparedStatement.setFetchSize(chunkSize);
+        }
+        calculationContext.setPreparedStatement(preparedStatement);
+        setParameters(preparedStatement, param);
+        calculationContext.setResultSet(preparedStatement.executeQuery());
+    }
+    
+    private void setParameters(final PreparedStatement preparedStatement, final SingleTableInventoryCalculateParameter param) throws SQLException {
+        int parameterIndex = 1;
+        if (null != previousUniqueKeyValue) {
+            preparedStatement.setObject(parameterIndex++, previousUniqueKeyValue);
+        }
+        if (null != param.getTableCheckUpperBound()) {
+            preparedStatement.setObject(parameterIndex, param.getTableCheckUpperBound());
+        }
+    }
+}
@@ -135,13 +135,19 @@ public final class RecordSingleTableInventoryCalculator extends AbstractStreamin
         PipelineDataConsistencyCalculateSQLBuilder pipelineSQLBuilder = new PipelineDataConsistencyCalculateSQLBuilder(param.getDatabaseType());
         Collection<String> columnNames = param.getColumnNames().isEmpty() ? Collections.singleton("*") : param.getColumnNames();
         boolean firstQuery = null == param.getTableCheckPosition();
-        return pipelineSQLBuilder.buildQueryAllOrderingSQL(param.getSchemaName(), param.getLogicTableName(), columnNames, param.getFirstUniqueKey().getName(), firstQuery);
+        return null == param.getTableCheckUpperBound()
+                ? pipelineSQLBuilder.buildQueryAllOrderingSQL(param.getSchemaName(), param.getLogicTableName(), columnNames, param.getFirstUniqueKey().getName(), firstQuery)
+                : pipelineSQLBuilder.buildQueryRangeOrderingSQL(param.getSchemaName(), param.getLogicTableName(), columnNames, param.getFirstUniqueKey().getName(), firstQuery);
     }
     
     private void setParameters(final PreparedStatement preparedStatement, final SingleTableInventoryCalculateParameter param) throws SQLException {
+        int parameterIndex = 1;
         Object tableCheckPosition = param.getTableCheckPosition();
         if (null != tableCheckPosition) {
-            preparedStatement.setObject(1, tableCheckPosition);
+            preparedStatement.setObject(parameterIndex++, tableCheckPosition);
+        }
+        if (null != param.getTableCheckUpperBound()) {
+            preparedStatement.setObject(parameterIndex, param.getTableCheckUpperBound());
         }
     }
 }
@@ -52,8 +52,18 @@ public final class SingleTableInventoryCalculateParameter {
     
     private final Object tableCheckPosition;
     
+    /**
+     * Inclusive upper bound of unique key, null means unbounded.
+     */
+    private final Object tableCheckUpperBound;
+    
     private final AtomicReference<AutoCloseable> calculationContext = new AtomicReference<>();
     
+    public SingleTableInventoryCalculateParameter(final PipelineDataSourceWrapper dataSource, final CaseInsensitiveQualifiedTable table, final List<String> columnNames,
+                                                  final List<PipelineColumnMetaData> uniqueKeys, final Object tableCheckPosition) {
+        this(dataSource, table, columnNames, uniqueKeys, tableCheckPosition, null);
+    }
+    
     /**
      * Get database type.
      *
@@ -18,10 +18,10 @@
 package org.apache.shardingsphere.data.pipeline.core.datasource;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.PipelineDataSourceConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.type.ShardingSpherePipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.spi.PipelineDataSourceCreator;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.datasource.pool.destroyer.DataSourcePoolDestroyer;
@@ -38,7 +38,6 @@ import java.util.logging.Logger;
 /**
  * Pipeline data source wrapper.
  */
-@RequiredArgsConstructor
 @Slf4j
 public final class PipelineDataSourceWrapper implements DataSource, AutoCloseable {
     
@@ -47,12 +46,22 @@ public final class PipelineDataSourceWrapper implements DataSource, AutoCloseabl
     @Getter
     private final DatabaseType databaseType;
     
+    @Getter
+    private final boolean logicDataSource;
+    
     private final AtomicBoolean closed = new AtomicBoolean(false);
     
+    public PipelineDataSourceWrapper(final DataSource dataSource, final DatabaseType databaseType) {
+        this.dataSource = dataSource;
+        this.databaseType = databaseType;
+        logicDataSource = false;
+    }
+    
     @SneakyThrows(SQLException.class)
     public PipelineDataSourceWrapper(final PipelineDataSourceConfiguration pipelineDataSourceConfig) {
         dataSource = TypedSPILoader.getService(PipelineDataSourceCreator.class, pipelineDataSourceConfig.getType()).create(pipelineDataSourceConfig.getDataSourceConfiguration());
         databaseType = pipelineDataSourceConfig.getDatabaseType();
+        logicDataSource = ShardingSpherePipelineDataSourceConfiguration.TYPE.equals(pipelineDataSourceConfig.getType());
     }
     
     /**
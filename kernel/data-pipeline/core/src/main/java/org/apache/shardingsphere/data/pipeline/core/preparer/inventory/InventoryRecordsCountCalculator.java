@@ -53,7 +53,21 @@ public final class InventoryRecordsCountCalculator {
      */
     public static long getTableRecordsCount(final InventoryDumperContext dumperContext, final PipelineDataSourceWrapper dataSource) {
         String schemaName = dumperContext.getCommonContext().getTableAndSchemaNameMapper().getSchemaName(dumperContext.getLogicTableName());
-        String actualTableName = dumperContext.getActualTableName();
+        String uniqueKey = dumperContext.hasUniqueKey() ? dumperContext.getUniqueKeyColumns().get(0).getName() : "";
+        return getTableRecordsCount(schemaName, dumperContext.getActualTableName(), uniqueKey, dataSource);
+    }
+    
+    /**
+     * Get table records count.
+     *
+     * @param schemaName schema name
+     * @param actualTableName actual table name
+     * @param uniqueKey unique key
+     * @param dataSource data source
+     * @return table records count
+     * @throws SplitPipelineJobByUniqueKeyException if there's exception from database
+     */
+    public static long getTableRecordsCount(final String schemaName, final String actualTableName, final String uniqueKey, final PipelineDataSourceWrapper dataSource) {
         PipelinePrepareSQLBuilder pipelineSQLBuilder = new PipelinePrepareSQLBuilder(dataSource.getDatabaseType());
         Optional<String> sql = pipelineSQLBuilder.buildEstimatedCountSQL(schemaName, actualTableName);
         try {
@@ -64,8 +78,7 @@ public final class InventoryRecordsCountCalculator {
             }
             return getCount(dataSource, pipelineSQLBuilder.buildCountSQL(schemaName, actualTableName));
         } catch (final SQLException ex) {
-            String uniqueKey = dumperContext.hasUniqueKey() ? dumperContext.getUniqueKeyColumns().get(0).getName() : "";
-            throw new SplitPipelineJobByUniqueKeyException(dumperContext.getActualTableName(), uniqueKey, ex);
+            throw new SplitPipelineJobByUniqueKeyException(actualTableName, uniqueKey, ex);
         }
     }
     
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPI;
 
 import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Optional;
@@ -79,6 +80,37 @@ public interface DialectPipelineSQLBuilder extends DatabaseTypedSPI {
         return Optional.empty();
     }
     
+    /**
+     * Build chunk digest SQL.
+     * 
+     * <p>The SQL reads next chunk ordered by unique key and returns one row per leaf with digest, records count and max unique key value, ordered by leaf.
+     * Digest of leaf should be an order independent aggregate of row hashes, such as XOR, and fit in signed 64 bits.
+     * Changes of two rows could cancel out each other in XOR only if their hashes collide, so row hash should be wide and not linear like CRC32.</p>
+     *
+     * @param qualifiedTableName qualified table name
+     * @param columnNames escaped column names
+     * @param uniqueKey escaped unique key
+     * @param uniqueKeyCondition condition on unique key with lower bound and upper bound parameters, empty if no condition
+     * @param chunkSize chunk size
+     * @param leafSize leaf size
+     * @return built SQL
+     */
+    default Optional<String> buildChunkDigestSQL(final String qualifiedTableName, final Collection<String> columnNames, final String uniqueKey,
+                                                 final String uniqueKeyCondition, final int chunkSize, final int leafSize) {
+        return Optional.empty();
+    }
+    
+    /**
+     * Judge whether chunk digest SQL is supported by database version.
+     *
+     * @param databaseMetaData database meta data
+     * @return supported or not
+     * @throws SQLException SQL exception
+     */
+    default boolean isChunkDigestSupported(final DatabaseMetaData databaseMetaData) throws SQLException {
+        return true;
+    }
+    
     /**
      * Build create table SQLs.
      *
@@ -22,6 +22,8 @@ import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.segment.PipelineS
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -59,6 +61,30 @@ public final class PipelineDataConsistencyCalculateSQLBuilder {
                 : String.format("SELECT %s FROM %s WHERE %s>? ORDER BY %s ASC", queryColumns, qualifiedTableName, escapedUniqueKey, escapedUniqueKey);
     }
     
+    /**
+     * Build query range ordering SQL.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param columnNames column names
+     * @param uniqueKey unique key, it may be primary key, not null
+     * @param firstQuery first query
+     * @return built SQL
+     */
+    public String buildQueryRangeOrderingSQL(final String schemaName, final String tableName, final Collection<String> columnNames, final String uniqueKey, final boolean firstQuery) {
+        String qualifiedTableName = sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName);
+        String escapedUniqueKey = sqlSegmentBuilder.getEscapedIdentifier(uniqueKey);
+        String queryColumns = columnNames.stream().map(sqlSegmentBuilder::getEscapedIdentifier).collect(Collectors.joining(","));
+        return String.format("SELECT %s FROM %s WHERE %s ORDER BY %s ASC", queryColumns, qualifiedTableName, buildUniqueKeyCondition(escapedUniqueKey, firstQuery, true), escapedUniqueKey);
+    }
+    
+    private String buildUniqueKeyCondition(final String escapedUniqueKey, final boolean firstQuery, final boolean upperBounded) {
+        if (firstQuery) {
+            return upperBounded ? String.format("%s<=?", escapedUniqueKey) : "";
+        }
+        return upperBounded ? String.format("%s>? AND %s<=?", escapedUniqueKey, escapedUniqueKey) : String.format("%s>?", escapedUniqueKey);
+    }
+    
     /**
      * Build CRC32 SQL.
      *
@@ -70,4 +96,36 @@ public final class PipelineDataConsistencyCalculateSQLBuilder {
     public Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final String columnName) {
         return dialectSQLBuilder.buildCRC32SQL(sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName), sqlSegmentBuilder.getEscapedIdentifier(columnName));
     }
+    
+    /**
+     * Build chunk digest SQL.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param columnNames column names
+     * @param uniqueKey unique key, it may be primary key, not null
+     * @param firstQuery first query
+     * @param upperBounded whether unique key is upper bounded
+     * @param chunkSize chunk size
+     * @param leafSize leaf size
+     * @return built SQL
+     */
+    public Optional<String> buildChunkDigestSQL(final String schemaName, final String tableName, final Collection<String> columnNames, final String uniqueKey,
+                                                final boolean firstQuery, final boolean upperBounded, final int chunkSize, final int leafSize) {
+        String escapedUniqueKey = sqlSegmentBuilder.getEscapedIdentifier(uniqueKey);
+        Collection<String> escapedColumnNames = columnNames.stream().map(sqlSegmentBuilder::getEscapedIdentifier).collect(Collectors.toList());
+        return dialectSQLBuilder.buildChunkDigestSQL(sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName), escapedColumnNames,
+                escapedUniqueKey, buildUniqueKeyCondition(escapedUniqueKey, firstQuery, upperBounded), chunkSize, leafSize);
+    }
+    
+    /**
+     * Judge whether chunk digest SQL is supported by database version.
+     *
+     * @param databaseMetaData database meta data
+     * @return supported or not
+     * @throws SQLException SQL exception
+     */
+    public boolean isChunkDigestSupported(final DatabaseMetaData databaseMetaData) throws SQLException {
+        return dialectSQLBuilder.isChunkDigestSupported(databaseMetaData);
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.result;
+
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.DigestSingleTableInventoryCalculatedResult.UniqueKeyRange;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DigestSingleTableInventoryCalculatedResultTest {
+    
+    @Test
+    void assertEquals() {
+        DigestSingleTableInventoryCalculatedResult actual = new DigestSingleTableInventoryCalculatedResult(null, 4, new long[]{1L, 2L}, Arrays.asList(2, 4));
+        assertThat(actual, is(new DigestSingleTableInventoryCalculatedResult(null, 4, new long[]{1L, 2L}, Arrays.asList(2, 4))));
+        assertThat(actual, not(new DigestSingleTableInventoryCalculatedResult(null, 4, new long[]{1L, 3L}, Arrays.asList(2, 4))));
+        assertThat(actual, not(new DigestSingleTableInventoryCalculatedResult(null, 3, new long[]{1L, 2L}, Arrays.asList(2, 4))));
+        assertThat(actual.getMaxUniqueKeyValue().orElse(null), is(4));
+    }
+    
+    @Test
+    void assertFindMismatchedRanges() {
+        DigestSingleTableInventoryCalculatedResult actual = new DigestSingleTableInventoryCalculatedResult(10, 6, new long[]{1L, 2L, 3L}, Arrays.asList(12, 14, 16));
+        assertThat(actual.findMismatchedRanges(new DigestSingleTableInventoryCalculatedResult(10, 6, new long[]{0L, 2L, 0L}, Arrays.asList(12, 14, 16))).toString(),
+                is("[(10, 12], (14, 16]]"));
+        List<UniqueKeyRange> actualRanges = actual.findMismatchedRanges(new DigestSingleTableInventoryCalculatedResult(10, 6, new long[]{1L, 2L, 0L}, Arrays.asList(12, 14, 16)));
+        assertThat(actualRanges.size(), is(1));
+        assertThat(actualRanges.get(0).getLowerBound(), is(14));
+        assertThat(actualRanges.get(0).getUpperBound(), is(16));
+        assertTrue(actual.findMismatchedRanges(new DigestSingleTableInventoryCalculatedResult(10, 6, new long[]{1L, 2L, 3L}, Arrays.asList(12, 14, 16))).isEmpty());
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MerkleTreeTest {
+    
+    @Test
+    void assertGetRootWithoutLeaf() {
+        assertThat(new MerkleTree(new long[0]).getRoot(), is(0L));
+    }
+    
+    @Test
+    void assertGetRootWithSingleLeaf() {
+        assertThat(new MerkleTree(new long[]{5L}).getRoot(), is(5L));
+    }
+    
+    @Test
+    void assertGetRoot() {
+        assertThat(new MerkleTree(new long[]{1L, 2L, 3L}).getRoot(), is(new MerkleTree(new long[]{1L, 2L, 3L}).getRoot()));
+        assertThat(new MerkleTree(new long[]{1L, 2L, 3L}).getRoot(), not(new MerkleTree(new long[]{2L, 1L, 3L}).getRoot()));
+    }
+    
+    @Test
+    void assertFindMismatchedLeafIndexesWithSameTree() {
+        assertTrue(new MerkleTree(new long[]{1L, 2L, 3L, 4L, 5L}).findMismatchedLeafIndexes(new MerkleTree(new long[]{1L, 2L, 3L, 4L, 5L})).isEmpty());
+    }
+    
+    @Test
+    void assertFindMismatchedLeafIndexes() {
+        MerkleTree actual = new MerkleTree(new long[]{1L, 2L, 3L, 4L, 5L});
+        assertThat(actual.findMismatchedLeafIndexes(new MerkleTree(new long[]{1L, 2L, 0L, 4L, 0L})), is(Arrays.asList(2, 4)));
+        assertThat(actual.findMismatchedLeafIndexes(new MerkleTree(new long[]{1L, 2L, 3L, 4L, 6L})), is(Collections.singletonList(4)));
+    }
+    
+    @Test
+    void assertFindMismatchedLeafIndexesWithDifferentLeafCount() {
+        assertThat(new MerkleTree(new long[]{1L, 2L, 3L}).findMismatchedLeafIndexes(new MerkleTree(new long[]{1L, 0L})), is(Arrays.asList(1, 2)));
+    }
+}
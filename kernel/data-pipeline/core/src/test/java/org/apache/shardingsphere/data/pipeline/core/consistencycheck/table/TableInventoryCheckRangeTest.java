@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class TableInventoryCheckRangeTest {
+    
+    @Test
+    void assertGetPositionKey() {
+        assertThat(TableInventoryCheckRange.UNBOUNDED.getPositionKey("t_order"), is("t_order"));
+        assertThat(new TableInventoryCheckRange(null, 100L).getPositionKey("t_order"), is("t_order#(,100]"));
+        assertThat(new TableInventoryCheckRange(100L, 200L).getPositionKey("t_order"), is("t_order#(100,200]"));
+        assertThat(new TableInventoryCheckRange(200L, null).getPositionKey("t_order"), is("t_order#(200,]"));
+    }
+    
+    @Test
+    void assertParse() {
+        assertThat(TableInventoryCheckRange.parse("t_order", "t_order#(,100]"), is(Optional.of(new TableInventoryCheckRange(null, 100L))));
+        assertThat(TableInventoryCheckRange.parse("t_order", "t_order#(100,200]"), is(Optional.of(new TableInventoryCheckRange(100L, 200L))));
+        assertThat(TableInventoryCheckRange.parse("t_order", "t_order#(200,]"), is(Optional.of(new TableInventoryCheckRange(200L, null))));
+    }
+    
+    @Test
+    void assertParseWithoutRange() {
+        assertFalse(TableInventoryCheckRange.parse("t_order", "t_order").isPresent());
+        assertFalse(TableInventoryCheckRange.parse("t_order", "t_order_item#(100,200]").isPresent());
+        assertFalse(TableInventoryCheckRange.parse("t_order", "t_order#(foo,200]").isPresent());
+    }
+}
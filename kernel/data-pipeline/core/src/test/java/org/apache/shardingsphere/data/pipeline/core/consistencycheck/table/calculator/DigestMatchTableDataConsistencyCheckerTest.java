@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.DigestMatchTableDataConsistencyChecker;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.TableInventoryCheckParameter;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.TableInventoryChecker;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.caseinsensitive.CaseInsensitiveQualifiedTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DigestMatchTableDataConsistencyCheckerTest {
+    
+    @Test
+    void assertInitWithDefaultProperties() {
+        DigestMatchTableDataConsistencyChecker checker = new DigestMatchTableDataConsistencyChecker();
+        checker.init(new Properties());
+        assertThat(getFieldValue(checker, "chunkSize"), is(10000));
+        assertThat(getFieldValue(checker, "leafSize"), is(100));
+        assertThat(getFieldValue(checker, "serverSideDigestEnabled"), is(true));
+    }
+    
+    @Test
+    void assertInitSuccess() {
+        DigestMatchTableDataConsistencyChecker checker = new DigestMatchTableDataConsistencyChecker();
+        checker.init(buildAlgorithmProperties("1000", "10"));
+        assertThat(getFieldValue(checker, "chunkSize"), is(1000));
+        assertThat(getFieldValue(checker, "leafSize"), is(10));
+    }
+    
+    @Test
+    void assertInitFailure() {
+        assertThrows(PipelineInvalidParameterException.class, () -> new DigestMatchTableDataConsistencyChecker().init(buildAlgorithmProperties("xyz", "10")));
+        assertThrows(PipelineInvalidParameterException.class, () -> new DigestMatchTableDataConsistencyChecker().init(buildAlgorithmProperties("1000", "xyz")));
+        for (String each : Arrays.asList("0", "-1")) {
+            assertThrows(PipelineInvalidParameterException.class, () -> new DigestMatchTableDataConsistencyChecker().init(buildAlgorithmProperties(each, "10")));
+            assertThrows(PipelineInvalidParameterException.class, () -> new DigestMatchTableDataConsistencyChecker().init(buildAlgorithmProperties("1000", each)));
+        }
+    }
+    
+    @Test
+    void assertBuildTableInventoryCheckerWithLogicTargetDataSource() throws ReflectiveOperationException {
+        DigestMatchTableDataConsistencyChecker checker = new DigestMatchTableDataConsistencyChecker();
+        checker.init(new Properties());
+        PipelineDataSourceWrapper sourceDataSource = mock(PipelineDataSourceWrapper.class);
+        PipelineDataSourceWrapper targetDataSource = mock(PipelineDataSourceWrapper.class);
+        when(targetDataSource.isLogicDataSource()).thenReturn(true);
+        TableInventoryCheckParameter param = new TableInventoryCheckParameter("foo_job", sourceDataSource, targetDataSource, new CaseInsensitiveQualifiedTable("foo_schema", "t_order"),
+                new CaseInsensitiveQualifiedTable("foo_schema", "t_order"), Collections.singletonList("order_id"), Collections.emptyList(), null, null);
+        TableInventoryChecker actual = checker.buildTableInventoryChecker(param);
+        assertThat(Plugins.getMemberAccessor().get(actual.getClass().getDeclaredField("serverSideDigest"), actual), is(false));
+        verify(sourceDataSource, never()).getDatabaseType();
+    }
+    
+    @Test
+    void assertBuildTableInventoryCheckerWithServerSideDigest() throws ReflectiveOperationException, SQLException {
+        assertThat(isServerSideDigest(8), is(true));
+    }
+    
+    @Test
+    void assertBuildTableInventoryCheckerWithUnsupportedDatabaseVersion() throws ReflectiveOperationException, SQLException {
+        assertThat(isServerSideDigest(5), is(false));
+    }
+    
+    private boolean isServerSideDigest(final int databaseMajorVersion) throws ReflectiveOperationException, SQLException {
+        DigestMatchTableDataConsistencyChecker checker = new DigestMatchTableDataConsistencyChecker();
+        checker.init(new Properties());
+        PipelineDataSourceWrapper dataSource = mock(PipelineDataSourceWrapper.class, RETURNS_DEEP_STUBS);
+        when(dataSource.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(dataSource.getConnection().getMetaData().getDatabaseMajorVersion()).thenReturn(databaseMajorVersion);
+        List<PipelineColumnMetaData> uniqueKeys = Collections.singletonList(new PipelineColumnMetaData(1, "order_id", Types.INTEGER, "integer", false, true, true));
+        TableInventoryCheckParameter param = new TableInventoryCheckParameter("foo_job", dataSource, dataSource, new CaseInsensitiveQualifiedTable("foo_schema", "t_order"),
+                new CaseInsensitiveQualifiedTable("foo_schema", "t_order"), Collections.singletonList("order_id"), uniqueKeys, null, null);
+        TableInventoryChecker actual = checker.buildTableInventoryChecker(param);
+        return (boolean) Plugins.getMemberAccessor().get(actual.getClass().getDeclaredField("serverSideDigest"), actual);
+    }
+    
+    private Properties buildAlgorithmProperties(final String chunkSize, final String leafSize) {
+        Properties result = new Properties();
+        result.put("chunk-size", chunkSize);
+        result.put("leaf-size", leafSize);
+        return result;
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private Object getFieldValue(final DigestMatchTableDataConsistencyChecker checker, final String fieldName) {
+        return Plugins.getMemberAccessor().get(DigestMatchTableDataConsistencyChecker.class.getDeclaredField(fieldName), checker);
+    }
+}
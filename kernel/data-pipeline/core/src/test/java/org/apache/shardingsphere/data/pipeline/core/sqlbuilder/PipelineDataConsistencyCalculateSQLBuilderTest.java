@@ -47,4 +47,16 @@ class PipelineDataConsistencyCalculateSQLBuilderTest {
         actual = pipelineSQLBuilder.buildQueryAllOrderingSQL(null, "t_order", Arrays.asList("order_id", "user_id", "status"), "order_id", false);
         assertThat(actual, is("SELECT order_id,user_id,status FROM t_order WHERE order_id>? ORDER BY order_id ASC"));
     }
+    
+    @Test
+    void assertBuildQueryRangeOrderingSQLFirstQuery() {
+        String actual = pipelineSQLBuilder.buildQueryRangeOrderingSQL(null, "t_order", Arrays.asList("order_id", "user_id", "status"), "order_id", true);
+        assertThat(actual, is("SELECT order_id,user_id,status FROM t_order WHERE order_id<=? ORDER BY order_id ASC"));
+    }
+    
+    @Test
+    void assertBuildQueryRangeOrderingSQLNonFirstQuery() {
+        String actual = pipelineSQLBuilder.buildQueryRangeOrderingSQL(null, "t_order", Arrays.asList("order_id", "user_id", "status"), "order_id", false);
+        assertThat(actual, is("SELECT order_id,user_id,status FROM t_order WHERE order_id>? AND order_id<=? ORDER BY order_id ASC"));
+    }
 }
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.data.pipeline.core.sqlbuilder.fixture;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.dialect.DialectPipelineSQLBuilder;
 
 import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
@@ -36,6 +38,17 @@ public final class FixturePipelineSQLBuilder implements DialectPipelineSQLBuilde
         return Optional.of(String.format("SELECT CRC32(%s) FROM %s", columnName, qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildChunkDigestSQL(final String qualifiedTableName, final Collection<String> columnNames, final String uniqueKey,
+                                                final String uniqueKeyCondition, final int chunkSize, final int leafSize) {
+        return Optional.of(String.format("SELECT DIGEST(%s) FROM %s", uniqueKey, qualifiedTableName));
+    }
+    
+    @Override
+    public boolean isChunkDigestSupported(final DatabaseMetaData databaseMetaData) throws SQLException {
+        return databaseMetaData.getDatabaseMajorVersion() >= 8;
+    }
+    
     @Override
     public Collection<String> buildCreateTableSQLs(final DataSource dataSource, final String schemaName, final String tableName) {
         return Collections.emptyList();
@@ -29,7 +29,6 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.position.IngestPositi
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
-import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.metadata.caseinsensitive.CaseInsensitiveIdentifier;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
@@ -54,8 +53,9 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 
 import java.io.Serializable;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -67,6 +67,8 @@ import java.util.Optional;
 @Slf4j
 public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunnable implements IncrementalDumper {
     
+    private static final int RECORD_BUILD_PARALLEL_THRESHOLD = 256;
+    
     private final IncrementalDumperContext dumperContext;
     
     private final BinlogPosition binlogPosition;
@@ -79,6 +81,8 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
     
     private final String catalog;
     
+    private final MySQLParallelRecordBuilder recordBuilder;
+    
     public MySQLIncrementalDumper(final IncrementalDumperContext dumperContext, final IngestPosition binlogPosition,
                                   final PipelineChannel channel, final PipelineTableMetaDataLoader metaDataLoader) {
         Preconditions.checkArgument(dumperContext.getCommonContext().getDataSourceConfig() instanceof StandardPipelineDataSourceConfiguration,
@@ -95,6 +99,8 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
         log.info("incremental dump, jdbcUrl={}, serverId={}, hostname={}, port={}", pipelineDataSourceConfig.getUrl(), connectInfo.getServerId(), connectInfo.getHost(), connectInfo.getPort());
         client = new MySQLClient(connectInfo, dumperContext.isDecodeWithTX());
         catalog = connectionProps.getCatalog();
+        recordBuilder = new MySQLParallelRecordBuilder("mysql-binlog-record-build-" + connectInfo.getServerId() + "-%d",
+                Math.min(Runtime.getRuntime().availableProcessors(), 4), RECORD_BUILD_PARALLEL_THRESHOLD);
     }
     
     private int generateServerId() {
@@ -116,34 +122,33 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
     }
     
     private void handleEvents(final List<AbstractBinlogEvent> events) {
-        List<Record> dataRecords = new LinkedList<>();
+        List<MySQLRecordBuildTask> tasks = new ArrayList<>(events.size());
         for (AbstractBinlogEvent each : events) {
-            List<? extends Record> records = handleEvent(each);
-            dataRecords.addAll(records);
+            tasks.addAll(createRecordBuildTasks(each));
         }
-        if (dataRecords.isEmpty()) {
+        if (tasks.isEmpty()) {
             return;
         }
-        channel.push(dataRecords);
+        channel.push(recordBuilder.build(tasks));
     }
     
-    private List<? extends Record> handleEvent(final AbstractBinlogEvent event) {
+    private List<MySQLRecordBuildTask> createRecordBuildTasks(final AbstractBinlogEvent event) {
         if (!(event instanceof AbstractRowsEvent)) {
-            return Collections.singletonList(createPlaceholderRecord(event));
+            return Collections.singletonList(new MySQLRecordBuildTask(0, () -> createPlaceholderRecord(event)));
         }
         AbstractRowsEvent rowsEvent = (AbstractRowsEvent) event;
         if (!rowsEvent.getDatabaseName().equals(catalog) || !dumperContext.getCommonContext().getTableNameMapper().containsTable(rowsEvent.getTableName())) {
-            return Collections.singletonList(createPlaceholderRecord(event));
+            return Collections.singletonList(new MySQLRecordBuildTask(0, () -> createPlaceholderRecord(event)));
         }
         PipelineTableMetaData tableMetaData = getPipelineTableMetaData(rowsEvent.getTableName());
         if (event instanceof WriteRowsEvent) {
-            return handleWriteRowsEvent((WriteRowsEvent) event, tableMetaData);
+            return createWriteRowsRecordBuildTasks((WriteRowsEvent) event, tableMetaData);
         }
         if (event instanceof UpdateRowsEvent) {
-            return handleUpdateRowsEvent((UpdateRowsEvent) event, tableMetaData);
+            return createUpdateRowsRecordBuildTasks((UpdateRowsEvent) event, tableMetaData);
         }
         if (event instanceof DeleteRowsEvent) {
-            return handleDeleteRowsEvent((DeleteRowsEvent) event, tableMetaData);
+            return createDeleteRowsRecordBuildTasks((DeleteRowsEvent) event, tableMetaData);
         }
         return Collections.emptyList();
     }
@@ -159,48 +164,71 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
         return metaDataLoader.getTableMetaData(dumperContext.getCommonContext().getTableAndSchemaNameMapper().getSchemaName(logicTableName), actualTableName);
     }
     
-    private List<DataRecord> handleWriteRowsEvent(final WriteRowsEvent event, final PipelineTableMetaData tableMetaData) {
-        List<DataRecord> result = new LinkedList<>();
+    private List<MySQLRecordBuildTask> createWriteRowsRecordBuildTasks(final WriteRowsEvent event, final PipelineTableMetaData tableMetaData) {
+        List<MySQLRecordBuildTask> result = new ArrayList<>(event.getAfterRows().size());
         for (Serializable[] each : event.getAfterRows()) {
-            DataRecord dataRecord = createDataRecord(PipelineSQLOperationType.INSERT, event, each.length);
-            for (int i = 0; i < each.length; i++) {
-                PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i + 1);
-                dataRecord.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), true, columnMetaData.isUniqueKey()));
-            }
-            result.add(dataRecord);
+            result.add(new MySQLRecordBuildTask(getPartitionKey(event, tableMetaData, each), () -> createWriteDataRecord(event, tableMetaData, each)));
+        }
+        return result;
+    }
+    
+    private DataRecord createWriteDataRecord(final WriteRowsEvent event, final PipelineTableMetaData tableMetaData, final Serializable[] afterValues) {
+        DataRecord result = createDataRecord(PipelineSQLOperationType.INSERT, event, afterValues.length);
+        for (int i = 0; i < afterValues.length; i++) {
+            PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i + 1);
+            result.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, afterValues[i]), true, columnMetaData.isUniqueKey()));
         }
         return result;
     }
     
-    private List<DataRecord> handleUpdateRowsEvent(final UpdateRowsEvent event, final PipelineTableMetaData tableMetaData) {
-        List<DataRecord> result = new LinkedList<>();
+    private List<MySQLRecordBuildTask> createUpdateRowsRecordBuildTasks(final UpdateRowsEvent event, final PipelineTableMetaData tableMetaData) {
+        List<MySQLRecordBuildTask> result = new ArrayList<>(event.getBeforeRows().size());
         for (int i = 0; i < event.getBeforeRows().size(); i++) {
             Serializable[] beforeValues = event.getBeforeRows().get(i);
             Serializable[] afterValues = event.getAfterRows().get(i);
-            DataRecord dataRecord = createDataRecord(PipelineSQLOperationType.UPDATE, event, beforeValues.length);
-            for (int j = 0; j < beforeValues.length; j++) {
-                Serializable oldValue = beforeValues[j];
-                Serializable newValue = afterValues[j];
-                boolean updated = !Objects.deepEquals(newValue, oldValue);
-                PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(j + 1);
-                dataRecord.addColumn(new Column(columnMetaData.getName(),
-                        handleValue(columnMetaData, oldValue),
-                        handleValue(columnMetaData, newValue), updated, columnMetaData.isUniqueKey()));
-            }
-            result.add(dataRecord);
+            result.add(new MySQLRecordBuildTask(getPartitionKey(event, tableMetaData, beforeValues), () -> createUpdateDataRecord(event, tableMetaData, beforeValues, afterValues)));
+        }
+        return result;
+    }
+    
+    private DataRecord createUpdateDataRecord(final UpdateRowsEvent event, final PipelineTableMetaData tableMetaData, final Serializable[] beforeValues, final Serializable[] afterValues) {
+        DataRecord result = createDataRecord(PipelineSQLOperationType.UPDATE, event, beforeValues.length);
+        for (int i = 0; i < beforeValues.length; i++) {
+            Serializable oldValue = beforeValues[i];
+            Serializable newValue = afterValues[i];
+            boolean updated = !Objects.deepEquals(newValue, oldValue);
+            PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i + 1);
+            result.addColumn(new Column(columnMetaData.getName(),
+                    handleValue(columnMetaData, oldValue),
+                    handleValue(columnMetaData, newValue), updated, columnMetaData.isUniqueKey()));
         }
         return result;
     }
     
-    private List<DataRecord> handleDeleteRowsEvent(final DeleteRowsEvent event, final PipelineTableMetaData tableMetaData) {
-        List<DataRecord> result = new LinkedList<>();
+    private List<MySQLRecordBuildTask> createDeleteRowsRecordBuildTasks(final DeleteRowsEvent event, final PipelineTableMetaData tableMetaData) {
+        List<MySQLRecordBuildTask> result = new ArrayList<>(event.getBeforeRows().size());
         for (Serializable[] each : event.getBeforeRows()) {
-            DataRecord dataRecord = createDataRecord(PipelineSQLOperationType.DELETE, event, each.length);
-            for (int i = 0, length = each.length; i < length; i++) {
-                PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i + 1);
-                dataRecord.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), null, true, columnMetaData.isUniqueKey()));
+            result.add(new MySQLRecordBuildTask(getPartitionKey(event, tableMetaData, each), () -> createDeleteDataRecord(event, tableMetaData, each)));
+        }
+        return result;
+    }
+    
+    private DataRecord createDeleteDataRecord(final DeleteRowsEvent event, final PipelineTableMetaData tableMetaData, final Serializable[] beforeValues) {
+        DataRecord result = createDataRecord(PipelineSQLOperationType.DELETE, event, beforeValues.length);
+        for (int i = 0, length = beforeValues.length; i < length; i++) {
+            PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i + 1);
+            result.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, beforeValues[i]), null, true, columnMetaData.isUniqueKey()));
+        }
+        return result;
+    }
+    
+    private int getPartitionKey(final AbstractRowsEvent event, final PipelineTableMetaData tableMetaData, final Serializable[] values) {
+        int result = event.getTableName().hashCode();
+        for (int i = 0; i < values.length; i++) {
+            PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i + 1);
+            if (null != columnMetaData && columnMetaData.isUniqueKey()) {
+                result = 31 * result + (values[i] instanceof MySQLBinaryString ? Arrays.hashCode(((MySQLBinaryString) values[i]).getBytes()) : Objects.hashCode(values[i]));
             }
-            result.add(dataRecord);
         }
         return result;
     }
@@ -230,5 +258,6 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
         if (null != client) {
             client.closeChannel();
         }
+        recordBuilder.close();
     }
 }
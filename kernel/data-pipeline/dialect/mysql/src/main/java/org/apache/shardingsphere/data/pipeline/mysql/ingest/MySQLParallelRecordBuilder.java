@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.ingest;
+
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * MySQL parallel record builder.
+ *
+ * <p>
+ * Build tasks of one binlog event batch are partitioned by partition key (table and unique key of row), so records of the same row are always built by the same worker.
+ * Built records are reassembled in binlog order before they are pushed to channel.
+ * </p>
+ */
+@HighFrequencyInvocation
+public final class MySQLParallelRecordBuilder {
+    
+    private final int partitionCount;
+    
+    private final int parallelThreshold;
+    
+    private final ExecutorService executorService;
+    
+    public MySQLParallelRecordBuilder(final String threadNameFormat, final int partitionCount, final int parallelThreshold) {
+        this.partitionCount = Math.max(1, partitionCount);
+        this.parallelThreshold = parallelThreshold;
+        executorService = this.partitionCount > 1 ? Executors.newFixedThreadPool(this.partitionCount - 1, ExecutorThreadFactoryBuilder.build(threadNameFormat)) : null;
+    }
+    
+    /**
+     * Build records.
+     *
+     * @param tasks record build tasks in binlog order
+     * @return records in binlog order
+     * @throws PipelineInternalException if build record failed
+     */
+    public List<Record> build(final List<MySQLRecordBuildTask> tasks) {
+        if (null == executorService || tasks.size() < parallelThreshold) {
+            return buildSerially(tasks);
+        }
+        Record[] result = new Record[tasks.size()];
+        int[][] partitions = partition(tasks);
+        Collection<Future<?>> futures = new LinkedList<>();
+        for (int i = 1; i < partitionCount; i++) {
+            int[] taskIndexes = partitions[i];
+            if (0 != taskIndexes.length) {
+                futures.add(executorService.submit(() -> buildPartition(tasks, taskIndexes, result)));
+            }
+        }
+        try {
+            buildPartition(tasks, partitions[0], result);
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            futures.forEach(each -> each.cancel(true));
+            throw new PipelineInternalException(ex);
+        }
+        for (Future<?> each : futures) {
+            waitFuture(each);
+        }
+        return Arrays.asList(result);
+    }
+    
+    private List<Record> buildSerially(final List<MySQLRecordBuildTask> tasks) {
+        List<Record> result = new ArrayList<>(tasks.size());
+        for (MySQLRecordBuildTask each : tasks) {
+            result.add(each.getRecordSupplier().get());
+        }
+        return result;
+    }
+    
+    private int[][] partition(final List<MySQLRecordBuildTask> tasks) {
+        int[] partitionIndexes = new int[tasks.size()];
+        int[] partitionSizes = new int[partitionCount];
+        int taskIndex = 0;
+        for (MySQLRecordBuildTask each : tasks) {
+            int partitionIndex = Math.floorMod(each.getPartitionKey(), partitionCount);
+            partitionIndexes[taskIndex++] = partitionIndex;
+            partitionSizes[partitionIndex]++;
+        }
+        int[][] result = new int[partitionCount][];
+        for (int i = 0; i < partitionCount; i++) {
+            result[i] = new int[partitionSizes[i]];
+            partitionSizes[i] = 0;
+        }
+        for (int i = 0; i < partitionIndexes.length; i++) {
+            int partitionIndex = partitionIndexes[i];
+            result[partitionIndex][partitionSizes[partitionIndex]++] = i;
+        }
+        return result;
+    }
+    
+    private void buildPartition(final List<MySQLRecordBuildTask> tasks, final int[] taskIndexes, final Record[] result) {
+        for (int each : taskIndexes) {
+            result[each] = tasks.get(each).getRecordSupplier().get();
+        }
+    }
+    
+    private void waitFuture(final Future<?> future) {
+        try {
+            future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new PipelineInternalException(ex);
+        } catch (final ExecutionException ex) {
+            throw new PipelineInternalException(ex.getCause());
+        }
+    }
+    
+    /**
+     * Close.
+     */
+    public void close() {
+        if (null != executorService) {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -25,12 +25,14 @@ import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.dialect.DialectPi
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * MySQL pipeline SQL builder.
@@ -64,6 +66,23 @@ public final class MySQLPipelineSQLBuilder implements DialectPipelineSQLBuilder
         return Optional.of(String.format("SELECT BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM %s", columnName, qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildChunkDigestSQL(final String qualifiedTableName, final Collection<String> columnNames, final String uniqueKey,
+                                                final String uniqueKeyCondition, final int chunkSize, final int leafSize) {
+        String chunkSQL = uniqueKeyCondition.isEmpty()
+                ? String.format("SELECT %s FROM %s ORDER BY %s ASC LIMIT %d", String.join(",", columnNames), qualifiedTableName, uniqueKey, chunkSize)
+                : String.format("SELECT %s FROM %s WHERE %s ORDER BY %s ASC LIMIT %d", String.join(",", columnNames), qualifiedTableName, uniqueKeyCondition, uniqueKey, chunkSize);
+        String rowText = columnNames.stream().map(each -> String.format("%s,ISNULL(%s)", each, each)).collect(Collectors.joining(","));
+        String leafSQL = String.format("SELECT FLOOR((ROW_NUMBER() OVER (ORDER BY %s ASC) - 1) / %d) AS leaf_no, CAST(CONV(LEFT(MD5(CONCAT_WS('#',%s)),15),16,10) AS UNSIGNED) AS row_hash, "
+                + "%s AS unique_key FROM (%s) chunk", uniqueKey, leafSize, rowText, uniqueKey, chunkSQL);
+        return Optional.of(String.format("SELECT BIT_XOR(row_hash) AS digest, COUNT(1) AS cnt, MAX(unique_key) AS max_unique_key FROM (%s) leaves GROUP BY leaf_no ORDER BY leaf_no", leafSQL));
+    }
+    
+    @Override
+    public boolean isChunkDigestSupported(final DatabaseMetaData databaseMetaData) throws SQLException {
+        return databaseMetaData.getDatabaseMajorVersion() >= 8;
+    }
+    
     @Override
     public Collection<String> buildCreateTableSQLs(final DataSource dataSource, final String schemaName, final String tableName) throws SQLException {
         try (
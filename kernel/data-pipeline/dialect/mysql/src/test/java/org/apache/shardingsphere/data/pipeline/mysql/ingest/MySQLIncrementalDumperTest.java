@@ -145,8 +145,8 @@ class MySQLIncrementalDumperTest {
     }
     
     private List<Record> getRecordsByWriteRowsEvent(final WriteRowsEvent rowsEvent) throws ReflectiveOperationException {
-        Method method = MySQLIncrementalDumper.class.getDeclaredMethod("handleWriteRowsEvent", WriteRowsEvent.class, PipelineTableMetaData.class);
-        return (List<Record>) Plugins.getMemberAccessor().invoke(method, incrementalDumper, rowsEvent, pipelineTableMetaData);
+        Method method = MySQLIncrementalDumper.class.getDeclaredMethod("createWriteRowsRecordBuildTasks", WriteRowsEvent.class, PipelineTableMetaData.class);
+        return buildRecords((List<MySQLRecordBuildTask>) Plugins.getMemberAccessor().invoke(method, incrementalDumper, rowsEvent, pipelineTableMetaData));
     }
     
     @Test
@@ -168,8 +168,8 @@ class MySQLIncrementalDumperTest {
     }
     
     private List<Record> getRecordsByUpdateRowsEvent(final UpdateRowsEvent rowsEvent) throws ReflectiveOperationException {
-        Method method = MySQLIncrementalDumper.class.getDeclaredMethod("handleUpdateRowsEvent", UpdateRowsEvent.class, PipelineTableMetaData.class);
-        return (List<Record>) Plugins.getMemberAccessor().invoke(method, incrementalDumper, rowsEvent, pipelineTableMetaData);
+        Method method = MySQLIncrementalDumper.class.getDeclaredMethod("createUpdateRowsRecordBuildTasks", UpdateRowsEvent.class, PipelineTableMetaData.class);
+        return buildRecords((List<MySQLRecordBuildTask>) Plugins.getMemberAccessor().invoke(method, incrementalDumper, rowsEvent, pipelineTableMetaData));
     }
     
     @Test
@@ -190,21 +190,21 @@ class MySQLIncrementalDumperTest {
     }
     
     private List<Record> getRecordsByDeleteRowsEvent(final DeleteRowsEvent rowsEvent) throws ReflectiveOperationException {
-        Method method = MySQLIncrementalDumper.class.getDeclaredMethod("handleDeleteRowsEvent", DeleteRowsEvent.class, PipelineTableMetaData.class);
-        return (List<Record>) Plugins.getMemberAccessor().invoke(method, incrementalDumper, rowsEvent, pipelineTableMetaData);
+        Method method = MySQLIncrementalDumper.class.getDeclaredMethod("createDeleteRowsRecordBuildTasks", DeleteRowsEvent.class, PipelineTableMetaData.class);
+        return buildRecords((List<MySQLRecordBuildTask>) Plugins.getMemberAccessor().invoke(method, incrementalDumper, rowsEvent, pipelineTableMetaData));
     }
     
     @Test
     void assertPlaceholderEvent() throws ReflectiveOperationException {
-        List<Record> actual = (List<Record>) Plugins.getMemberAccessor().invoke(MySQLIncrementalDumper.class.getDeclaredMethod("handleEvent", AbstractBinlogEvent.class),
-                incrementalDumper, new PlaceholderEvent());
+        List<Record> actual = buildRecords((List<MySQLRecordBuildTask>) Plugins.getMemberAccessor().invoke(
+                MySQLIncrementalDumper.class.getDeclaredMethod("createRecordBuildTasks", AbstractBinlogEvent.class), incrementalDumper, new PlaceholderEvent()));
         assertThat(actual.size(), is(1));
     }
     
     @Test
     void assertRowsEventFiltered() throws ReflectiveOperationException {
-        List<Record> actual = (List<Record>) Plugins.getMemberAccessor().invoke(MySQLIncrementalDumper.class.getDeclaredMethod("handleEvent", AbstractBinlogEvent.class),
-                incrementalDumper, getFilteredWriteRowsEvent());
+        List<Record> actual = buildRecords((List<MySQLRecordBuildTask>) Plugins.getMemberAccessor().invoke(
+                MySQLIncrementalDumper.class.getDeclaredMethod("createRecordBuildTasks", AbstractBinlogEvent.class), incrementalDumper, getFilteredWriteRowsEvent()));
         assertThat(actual.size(), is(1));
         assertThat(actual.get(0), instanceOf(DataRecord.class));
     }
@@ -216,4 +216,8 @@ class MySQLIncrementalDumperTest {
         result.setAfterRows(Collections.singletonList(new Serializable[]{1}));
         return result;
     }
+    
+    private List<Record> buildRecords(final List<MySQLRecordBuildTask> tasks) {
+        return tasks.stream().map(each -> each.getRecordSupplier().get()).collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.ingest;
+
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogPosition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MySQLParallelRecordBuilderTest {
+    
+    private final MySQLParallelRecordBuilder recordBuilder = new MySQLParallelRecordBuilder("test-record-build-%d", 4, 8);
+    
+    @AfterEach
+    void tearDown() {
+        recordBuilder.close();
+    }
+    
+    @Test
+    void assertBuildSerially() {
+        List<Record> actual = recordBuilder.build(createTasks(4));
+        assertThat(actual.size(), is(4));
+        assertPositionsOrdered(actual);
+    }
+    
+    @Test
+    void assertBuildInParallelWithBinlogOrder() {
+        List<Record> actual = recordBuilder.build(createTasks(10000));
+        assertThat(actual.size(), is(10000));
+        assertPositionsOrdered(actual);
+    }
+    
+    @Test
+    void assertBuildInParallelWithSinglePartition() {
+        List<MySQLRecordBuildTask> tasks = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            long position = i;
+            tasks.add(new MySQLRecordBuildTask(7, () -> new PlaceholderRecord(new BinlogPosition("binlog-000001", position, 0L))));
+        }
+        List<Record> actual = recordBuilder.build(tasks);
+        assertThat(actual.size(), is(100));
+        assertPositionsOrdered(actual);
+    }
+    
+    @Test
+    void assertBuildFailed() {
+        List<MySQLRecordBuildTask> tasks = createTasks(100);
+        tasks.set(99, new MySQLRecordBuildTask(1, () -> {
+            throw new IllegalStateException("build failed");
+        }));
+        assertThrows(PipelineInternalException.class, () -> recordBuilder.build(tasks));
+    }
+    
+    @Test
+    void assertBuildFailedOnCallerThread() {
+        List<MySQLRecordBuildTask> tasks = createTasks(100);
+        tasks.set(99, new MySQLRecordBuildTask(0, () -> {
+            throw new IllegalStateException("build failed");
+        }));
+        PipelineInternalException actual = assertThrows(PipelineInternalException.class, () -> recordBuilder.build(tasks));
+        assertThat(actual.getCause().getMessage(), is("build failed"));
+    }
+    
+    @Test
+    void assertBuildWithoutWorkers() {
+        MySQLParallelRecordBuilder serialRecordBuilder = new MySQLParallelRecordBuilder("test-serial-record-build-%d", 1, 0);
+        assertThat(serialRecordBuilder.build(Collections.emptyList()).size(), is(0));
+        assertPositionsOrdered(serialRecordBuilder.build(createTasks(100)));
+        serialRecordBuilder.close();
+    }
+    
+    private List<MySQLRecordBuildTask> createTasks(final int count) {
+        List<MySQLRecordBuildTask> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long position = i;
+            result.add(new MySQLRecordBuildTask(i * 31, () -> new PlaceholderRecord(new BinlogPosition("binlog-000001", position, 0L))));
+        }
+        return result;
+    }
+    
+    private void assertPositionsOrdered(final List<Record> actual) {
+        for (int i = 0; i < actual.size(); i++) {
+            assertThat(((BinlogPosition) actual.get(i).getPosition()).getPosition(), is((long) i));
+        }
+    }
+}
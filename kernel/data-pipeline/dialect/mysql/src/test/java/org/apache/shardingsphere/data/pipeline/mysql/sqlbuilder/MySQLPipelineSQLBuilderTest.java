@@ -23,11 +23,17 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
 import org.junit.jupiter.api.Test;
 
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class MySQLPipelineSQLBuilderTest {
     
@@ -46,6 +52,25 @@ class MySQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(id) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM t2"));
     }
     
+    @Test
+    void assertBuildChunkDigestSQL() {
+        Optional<String> actual = sqlBuilder.buildChunkDigestSQL("t2", Arrays.asList("id", "name"), "id", "id>?", 1000, 100);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT BIT_XOR(row_hash) AS digest, COUNT(1) AS cnt, MAX(unique_key) AS max_unique_key FROM ("
+                + "SELECT FLOOR((ROW_NUMBER() OVER (ORDER BY id ASC) - 1) / 100) AS leaf_no, CAST(CONV(LEFT(MD5(CONCAT_WS('#',id,ISNULL(id),name,ISNULL(name))),15),16,10) AS UNSIGNED) AS row_hash, "
+                + "id AS unique_key FROM ("
+                + "SELECT id,name FROM t2 WHERE id>? ORDER BY id ASC LIMIT 1000) chunk) leaves GROUP BY leaf_no ORDER BY leaf_no"));
+    }
+    
+    @Test
+    void assertIsChunkDigestSupported() throws SQLException {
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(8);
+        assertTrue(sqlBuilder.isChunkDigestSupported(databaseMetaData));
+        when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(5);
+        assertFalse(sqlBuilder.isChunkDigestSupported(databaseMetaData));
+    }
+    
     private DataRecord mockDataRecord(final String tableName) {
         DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, tableName, new IngestPlaceholderPosition(), 4);
         result.addColumn(new Column("id", "", false, true));
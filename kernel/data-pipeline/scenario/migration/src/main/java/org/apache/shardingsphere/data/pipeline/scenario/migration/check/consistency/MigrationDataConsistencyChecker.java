@@ -45,18 +45,27 @@ import org.apache.shardingsphere.data.pipeline.scenario.migration.MigrationJobTy
 import org.apache.shardingsphere.data.pipeline.scenario.migration.config.MigrationJobConfiguration;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.kernel.category.PipelineSQLException;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.metadata.caseinsensitive.CaseInsensitiveQualifiedTable;
 
+import java.sql.SQLException;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
@@ -69,9 +78,13 @@ public final class MigrationDataConsistencyChecker implements PipelineDataConsis
     
     private final JobRateLimitAlgorithm readRateLimitAlgorithm;
     
+    private final int shardingSize;
+    
+    private final int workerThread;
+    
     private final ConsistencyCheckJobItemProgressContext progressContext;
     
-    private final AtomicReference<TableInventoryChecker> currentTableInventoryChecker = new AtomicReference<>();
+    private final Collection<TableInventoryChecker> runningTableInventoryCheckers = new CopyOnWriteArraySet<>();
     
     private final AtomicBoolean canceling = new AtomicBoolean(false);
     
@@ -79,6 +92,8 @@ public final class MigrationDataConsistencyChecker implements PipelineDataConsis
                                            final ConsistencyCheckJobItemProgressContext progressContext) {
         this.jobConfig = jobConfig;
         readRateLimitAlgorithm = null == processContext ? null : processContext.getReadRateLimitAlgorithm();
+        shardingSize = null == processContext ? Integer.MAX_VALUE : processContext.getProcessConfiguration().getRead().getShardingSize();
+        workerThread = null == processContext ? 1 : processContext.getProcessConfiguration().getRead().getWorkerThread();
         this.progressContext = progressContext;
     }
     
@@ -94,11 +109,7 @@ public final class MigrationDataConsistencyChecker implements PipelineDataConsis
         try (
                 PipelineDataSourceManager dataSourceManager = new PipelineDataSourceManager();
                 TableDataConsistencyChecker tableChecker = TableDataConsistencyCheckerFactory.newInstance(algorithmType, algorithmProps)) {
-            for (JobDataNodeLine each : jobConfig.getJobShardingDataNodes()) {
-                if (checkTableInventoryDataUnmatchedAndBreak(each, tableChecker, result, dataSourceManager)) {
-                    return result.entrySet().stream().collect(Collectors.toMap(entry -> entry.getKey().toString(), Entry::getValue));
-                }
-            }
+            checkTableInventoryData(tableChecker, result, dataSourceManager);
         }
         return result.entrySet().stream().collect(Collectors.toMap(entry -> entry.getKey().toString(), Entry::getValue));
     }
@@ -108,24 +119,61 @@ public final class MigrationDataConsistencyChecker implements PipelineDataConsis
         return jobProgress.values().stream().filter(Objects::nonNull).mapToLong(TransmissionJobItemProgress::getProcessedRecordsCount).sum();
     }
     
-    private boolean checkTableInventoryDataUnmatchedAndBreak(final JobDataNodeLine jobDataNodeLine, final TableDataConsistencyChecker tableChecker,
-                                                             final Map<CaseInsensitiveQualifiedTable, TableDataConsistencyCheckResult> checkResultMap,
-                                                             final PipelineDataSourceManager dataSourceManager) {
-        for (JobDataNodeEntry entry : jobDataNodeLine.getEntries()) {
-            for (DataNode each : entry.getDataNodes()) {
-                TableDataConsistencyCheckResult checkResult = checkSingleTableInventoryData(entry.getLogicTableName(), each, tableChecker, dataSourceManager);
-                checkResultMap.put(new CaseInsensitiveQualifiedTable(each.getSchemaName(), each.getTableName()), checkResult);
+    private void checkTableInventoryData(final TableDataConsistencyChecker tableChecker, final Map<CaseInsensitiveQualifiedTable, TableDataConsistencyCheckResult> checkResultMap,
+                                         final PipelineDataSourceManager dataSourceManager) {
+        Map<DataNode, String> targetTableNames = new LinkedHashMap<>();
+        for (JobDataNodeLine each : jobConfig.getJobShardingDataNodes()) {
+            for (JobDataNodeEntry entry : each.getEntries()) {
+                entry.getDataNodes().forEach(dataNode -> targetTableNames.put(dataNode, entry.getLogicTableName()));
+            }
+        }
+        if (targetTableNames.isEmpty()) {
+            return;
+        }
+        int tableWorkerThread = Math.max(1, Math.min(workerThread, targetTableNames.size()));
+        int rangeWorkerThread = Math.max(1, workerThread / tableWorkerThread);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(tableWorkerThread, tableWorkerThread, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                ExecutorThreadFactoryBuilder.build("migration-check-" + jobConfig.getJobId() + "-%d"));
+        try {
+            Map<DataNode, Future<TableDataConsistencyCheckResult>> futures = new LinkedHashMap<>();
+            targetTableNames.forEach((key, value) -> futures.put(key, executor.submit(() -> checkSingleTableInventoryData(value, key, tableChecker, dataSourceManager, rangeWorkerThread))));
+            for (Entry<DataNode, Future<TableDataConsistencyCheckResult>> entry : futures.entrySet()) {
+                TableDataConsistencyCheckResult checkResult = waitFuture(entry.getValue());
+                checkResultMap.put(new CaseInsensitiveQualifiedTable(entry.getKey().getSchemaName(), entry.getKey().getTableName()), checkResult);
                 if (!checkResult.isMatched() && tableChecker.isBreakOnInventoryCheckNotMatched()) {
-                    log.info("Unmatched on table '{}', ignore left tables", DataNodeUtils.formatWithSchema(each));
-                    return true;
+                    log.info("Unmatched on table '{}', ignore left tables", DataNodeUtils.formatWithSchema(entry.getKey()));
+                    futures.values().forEach(each -> each.cancel(false));
+                    runningTableInventoryCheckers.forEach(TableInventoryChecker::cancel);
+                    return;
                 }
             }
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            runningTableInventoryCheckers.forEach(TableInventoryChecker::cancel);
+            throw ex;
+        } finally {
+            executor.shutdown();
+            executor.shutdownNow();
+        }
+    }
+    
+    private <T> T waitFuture(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLWrapperException(new SQLException(ex));
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof PipelineSQLException) {
+                throw (PipelineSQLException) ex.getCause();
+            }
+            throw new SQLWrapperException(new SQLException(ex));
         }
-        return false;
     }
     
-    private TableDataConsistencyCheckResult checkSingleTableInventoryData(final String targetTableName, final DataNode dataNode,
-                                                                          final TableDataConsistencyChecker tableChecker, final PipelineDataSourceManager dataSourceManager) {
+    private TableDataConsistencyCheckResult checkSingleTableInventoryData(final String targetTableName, final DataNode dataNode, final TableDataConsistencyChecker tableChecker,
+                                                                          final PipelineDataSourceManager dataSourceManager, final int rangeWorkerThread) {
         CaseInsensitiveQualifiedTable sourceTable = new CaseInsensitiveQualifiedTable(dataNode.getSchemaName(), dataNode.getTableName());
         CaseInsensitiveQualifiedTable targetTable = new CaseInsensitiveQualifiedTable(dataNode.getSchemaName(), targetTableName);
         PipelineDataSourceWrapper sourceDataSource = dataSourceManager.getDataSource(jobConfig.getSources().get(dataNode.getDataSourceName()));
@@ -137,18 +185,20 @@ public final class MigrationDataConsistencyChecker implements PipelineDataConsis
         List<PipelineColumnMetaData> uniqueKeys = PipelineTableMetaDataUtils.getUniqueKeyColumns(
                 sourceTable.getSchemaName().toString(), sourceTable.getTableName().toString(), metaDataLoader);
         TableInventoryCheckParameter param = new TableInventoryCheckParameter(
-                jobConfig.getJobId(), sourceDataSource, targetDataSource, sourceTable, targetTable, columnNames, uniqueKeys, readRateLimitAlgorithm, progressContext);
+                jobConfig.getJobId(), sourceDataSource, targetDataSource, sourceTable, targetTable, columnNames, uniqueKeys, readRateLimitAlgorithm, progressContext, shardingSize, rangeWorkerThread);
         TableInventoryChecker tableInventoryChecker = tableChecker.buildTableInventoryChecker(param);
-        currentTableInventoryChecker.set(tableInventoryChecker);
-        TableDataConsistencyCheckResult result = tableInventoryChecker.checkSingleTableInventoryData();
-        currentTableInventoryChecker.set(null);
-        return result;
+        runningTableInventoryCheckers.add(tableInventoryChecker);
+        try {
+            return tableInventoryChecker.checkSingleTableInventoryData();
+        } finally {
+            runningTableInventoryCheckers.remove(tableInventoryChecker);
+        }
     }
     
     @Override
     public void cancel() {
         canceling.set(true);
-        Optional.ofNullable(currentTableInventoryChecker.get()).ifPresent(TableInventoryChecker::cancel);
+        runningTableInventoryCheckers.forEach(TableInventoryChecker::cancel);
     }
     
     @Override
@@ -23,4 +23,12 @@ import org.apache.shardingsphere.globalclock.provider.GlobalClockProvider;
  * Hybrid logical clock provider.
  */
 public interface HLCProvider extends GlobalClockProvider {
+    
+    /**
+     * Update timestamp with timestamp received from other compute node.
+     *
+     * @param remoteTimestamp remote timestamp
+     * @return whether remote timestamp is accepted, timestamp which clock offset exceeds the bound will be rejected
+     */
+    boolean updateTimestamp(long remoteTimestamp);
 }
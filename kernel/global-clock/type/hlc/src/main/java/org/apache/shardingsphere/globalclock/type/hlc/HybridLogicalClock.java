@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Hybrid logical clock.
+ * 
+ * <p>Timestamp is composed of physical time in milliseconds on the high 48 bits and logical counter on the low 16 bits,
+ * logical counter overflow carries into physical part so that timestamps keep strictly increasing.</p>
+ */
+@RequiredArgsConstructor
+public final class HybridLogicalClock {
+    
+    private static final int LOGICAL_BITS = 16;
+    
+    private static final long LOGICAL_MASK = (1L << LOGICAL_BITS) - 1L;
+    
+    private final LongSupplier physicalClock;
+    
+    private final long maxClockOffsetMillis;
+    
+    private final AtomicLong latestTimestamp = new AtomicLong();
+    
+    /**
+     * Get current timestamp, which is not less than any timestamp issued or received before.
+     *
+     * @return current timestamp
+     */
+    public long now() {
+        return latestTimestamp.accumulateAndGet(getPhysicalTimestamp(), Math::max);
+    }
+    
+    /**
+     * Advance clock and get next timestamp.
+     *
+     * @return next timestamp
+     */
+    public long tick() {
+        long physicalTimestamp = getPhysicalTimestamp();
+        return latestTimestamp.updateAndGet(each -> Math.max(each + 1L, physicalTimestamp));
+    }
+    
+    /**
+     * Update clock with timestamp received from other compute node.
+     *
+     * @param remoteTimestamp remote timestamp
+     * @return whether remote timestamp is accepted
+     */
+    public boolean update(final long remoteTimestamp) {
+        long physicalTimestamp = getPhysicalTimestamp();
+        if (getPhysicalTime(remoteTimestamp) - getPhysicalTime(physicalTimestamp) > maxClockOffsetMillis) {
+            return false;
+        }
+        latestTimestamp.updateAndGet(each -> Math.max(Math.max(each, remoteTimestamp) + 1L, physicalTimestamp));
+        return true;
+    }
+    
+    private long getPhysicalTimestamp() {
+        return physicalClock.getAsLong() << LOGICAL_BITS;
+    }
+    
+    /**
+     * Get physical time of timestamp.
+     *
+     * @param timestamp timestamp
+     * @return physical time in milliseconds
+     */
+    public static long getPhysicalTime(final long timestamp) {
+        return timestamp >>> LOGICAL_BITS;
+    }
+    
+    /**
+     * Get logical counter of timestamp.
+     *
+     * @param timestamp timestamp
+     * @return logical counter
+     */
+    public static int getLogicalCounter(final long timestamp) {
+        return (int) (timestamp & LOGICAL_MASK);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Local hybrid logical clock provider.
+ * 
+ * <p>Timestamps are generated locally without network round trip, compute nodes exchange timestamps through persist repository to keep clocks causally ordered.</p>
+ */
+@Slf4j
+public final class LocalHLCProvider implements HLCProvider {
+    
+    private final AtomicBoolean initialized = new AtomicBoolean(false);
+    
+    private HybridLogicalClock clock;
+    
+    @Override
+    public void init(final Properties props) {
+        if (initialized.compareAndSet(false, true)) {
+            clock = new HybridLogicalClock(System::currentTimeMillis, Long.parseLong(getValue(props, HLCPropertyKey.MAX_CLOCK_OFFSET_MILLISECONDS)));
+        }
+    }
+    
+    private String getValue(final Properties props, final HLCPropertyKey propertyKey) {
+        return props.containsKey(propertyKey.getKey()) ? props.getProperty(propertyKey.getKey()) : propertyKey.getDefaultValue();
+    }
+    
+    @Override
+    public long getCurrentTimestamp() {
+        return clock.now();
+    }
+    
+    @Override
+    public long getNextTimestamp() {
+        return clock.tick();
+    }
+    
+    @Override
+    public boolean updateTimestamp(final long remoteTimestamp) {
+        boolean result = clock.update(remoteTimestamp);
+        if (!result) {
+            log.warn("Reject remote HLC timestamp `{}`, clock offset exceeds the bound.", remoteTimestamp);
+        }
+        return result;
+    }
+    
+    @Override
+    public String getType() {
+        return "HLC.local";
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc.listener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.globalclock.provider.GlobalClockProvider;
+import org.apache.shardingsphere.globalclock.rule.GlobalClockRule;
+import org.apache.shardingsphere.globalclock.type.hlc.HLCPropertyKey;
+import org.apache.shardingsphere.globalclock.type.hlc.HLCProvider;
+import org.apache.shardingsphere.globalclock.type.hlc.synchronizer.HLCTimestampSynchronizer;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.manager.listener.ContextManagerLifecycleListener;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hybrid logical clock context manager lifecycle listener.
+ */
+@Slf4j
+public final class HLCContextManagerLifecycleListener implements ContextManagerLifecycleListener {
+    
+    private final Map<String, ScheduledExecutorService> synchronizeExecutors = new ConcurrentHashMap<>();
+    
+    @Override
+    public void onInitialized(final ContextManager contextManager) {
+        if (!contextManager.getComputeNodeInstanceContext().isCluster()) {
+            return;
+        }
+        Optional<GlobalClockRule> rule = contextManager.getMetaDataContexts().getMetaData().getGlobalRuleMetaData().findSingleRule(GlobalClockRule.class);
+        if (!rule.isPresent() || !rule.get().getConfiguration().isEnabled()) {
+            return;
+        }
+        Properties props = rule.get().getConfiguration().getProps();
+        GlobalClockProvider provider = TypedSPILoader.getService(GlobalClockProvider.class, rule.get().getGlobalClockProviderType(), props);
+        if (!(provider instanceof HLCProvider)) {
+            return;
+        }
+        String instanceId = contextManager.getComputeNodeInstanceContext().getInstance().getMetaData().getId();
+        HLCTimestampSynchronizer synchronizer = new HLCTimestampSynchronizer(contextManager.getRepository(), instanceId, (HLCProvider) provider);
+        long syncIntervalMillis = Long.parseLong(props.getOrDefault(HLCPropertyKey.SYNC_INTERVAL_MILLISECONDS.getKey(), HLCPropertyKey.SYNC_INTERVAL_MILLISECONDS.getDefaultValue()).toString());
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("HLCSynchronizer-%d"));
+        executor.scheduleWithFixedDelay(() -> synchronize(synchronizer), 0L, syncIntervalMillis, TimeUnit.MILLISECONDS);
+        Optional.ofNullable(synchronizeExecutors.put(instanceId, executor)).ifPresent(ScheduledExecutorService::shutdownNow);
+    }
+    
+    private void synchronize(final HLCTimestampSynchronizer synchronizer) {
+        try {
+            synchronizer.synchronize();
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.warn("Synchronize HLC timestamp failed.", ex);
+        }
+    }
+    
+    @Override
+    public void onDestroyed(final ContextManager contextManager) {
+        Optional.ofNullable(synchronizeExecutors.remove(contextManager.getComputeNodeInstanceContext().getInstance().getMetaData().getId())).ifPresent(ScheduledExecutorService::shutdownNow);
+    }
+}
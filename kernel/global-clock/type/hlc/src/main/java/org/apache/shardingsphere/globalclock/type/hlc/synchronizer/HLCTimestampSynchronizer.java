@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc.synchronizer;
+
+import com.google.common.base.Strings;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.globalclock.type.hlc.HLCProvider;
+import org.apache.shardingsphere.globalclock.type.hlc.node.HLCTimestampNode;
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+
+/**
+ * Hybrid logical clock timestamp synchronizer.
+ * 
+ * <p>Each compute node publishes its latest timestamp to persist repository and merges the largest timestamp published by other compute nodes.</p>
+ */
+@RequiredArgsConstructor
+public final class HLCTimestampSynchronizer {
+    
+    private final PersistRepository repository;
+    
+    private final String instanceId;
+    
+    private final HLCProvider provider;
+    
+    /**
+     * Synchronize timestamp with other compute nodes.
+     */
+    public void synchronize() {
+        long maxRemoteTimestamp = loadMaxRemoteTimestamp();
+        if (maxRemoteTimestamp > 0L) {
+            provider.updateTimestamp(maxRemoteTimestamp);
+        }
+        repository.persistEphemeral(HLCTimestampNode.getTimestampPath(instanceId), String.valueOf(provider.getCurrentTimestamp()));
+    }
+    
+    private long loadMaxRemoteTimestamp() {
+        long result = 0L;
+        for (String each : repository.getChildrenKeys(HLCTimestampNode.getTimestampsPath())) {
+            if (instanceId.equals(each)) {
+                continue;
+            }
+            String timestamp = repository.query(HLCTimestampNode.getTimestampPath(each));
+            if (!Strings.isNullOrEmpty(timestamp)) {
+                result = Math.max(result, Long.parseLong(timestamp));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HybridLogicalClockTest {
+    
+    private static final long MAX_CLOCK_OFFSET_MILLIS = 500L;
+    
+    @Test
+    void assertTickWhenPhysicalClockStalls() {
+        HybridLogicalClock clock = new HybridLogicalClock(() -> 1000L, MAX_CLOCK_OFFSET_MILLIS);
+        long first = clock.tick();
+        long second = clock.tick();
+        assertThat(HybridLogicalClock.getPhysicalTime(first), is(1000L));
+        assertThat(HybridLogicalClock.getLogicalCounter(first), is(0));
+        assertThat(HybridLogicalClock.getPhysicalTime(second), is(1000L));
+        assertThat(HybridLogicalClock.getLogicalCounter(second), is(1));
+        assertThat(clock.now(), is(second));
+    }
+    
+    @Test
+    void assertNowFollowsPhysicalClock() {
+        AtomicLong physicalClock = new AtomicLong(1000L);
+        HybridLogicalClock clock = new HybridLogicalClock(physicalClock::get, MAX_CLOCK_OFFSET_MILLIS);
+        clock.tick();
+        clock.tick();
+        physicalClock.set(2000L);
+        long actual = clock.now();
+        assertThat(HybridLogicalClock.getPhysicalTime(actual), is(2000L));
+        assertThat(HybridLogicalClock.getLogicalCounter(actual), is(0));
+    }
+    
+    @Test
+    void assertUpdateWithRemoteTimestampAhead() {
+        HybridLogicalClock clock = new HybridLogicalClock(() -> 1000L, MAX_CLOCK_OFFSET_MILLIS);
+        long remoteTimestamp = new HybridLogicalClock(() -> 1200L, MAX_CLOCK_OFFSET_MILLIS).tick();
+        assertTrue(clock.update(remoteTimestamp));
+        assertThat(clock.now(), greaterThan(remoteTimestamp));
+        assertThat(HybridLogicalClock.getPhysicalTime(clock.tick()), is(1200L));
+    }
+    
+    @Test
+    void assertUpdateWithRemoteTimestampExceedsClockOffset() {
+        HybridLogicalClock clock = new HybridLogicalClock(() -> 1000L, MAX_CLOCK_OFFSET_MILLIS);
+        long remoteTimestamp = new HybridLogicalClock(() -> 1000L + MAX_CLOCK_OFFSET_MILLIS + 1L, MAX_CLOCK_OFFSET_MILLIS).tick();
+        assertFalse(clock.update(remoteTimestamp));
+        assertThat(HybridLogicalClock.getPhysicalTime(clock.now()), is(1000L));
+    }
+    
+    @Test
+    void assertMultiNodeSimulation() {
+        Random random = new Random(7L);
+        int nodeCount = 5;
+        List<AtomicLong> physicalClocks = new ArrayList<>(nodeCount);
+        List<HybridLogicalClock> clocks = new ArrayList<>(nodeCount);
+        long[] lastTimestamps = new long[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            AtomicLong physicalClock = new AtomicLong(10000L + random.nextInt(200));
+            physicalClocks.add(physicalClock);
+            clocks.add(new HybridLogicalClock(physicalClock::get, MAX_CLOCK_OFFSET_MILLIS));
+        }
+        for (int round = 0; round < 100000; round++) {
+            if (0 == round % 10) {
+                physicalClocks.get(random.nextInt(nodeCount)).incrementAndGet();
+            }
+            int sender = random.nextInt(nodeCount);
+            long sentTimestamp = clocks.get(sender).tick();
+            assertThat(sentTimestamp, greaterThan(lastTimestamps[sender]));
+            lastTimestamps[sender] = sentTimestamp;
+            int receiver = random.nextInt(nodeCount);
+            if (receiver == sender) {
+                continue;
+            }
+            assertTrue(clocks.get(receiver).update(sentTimestamp));
+            long receivedTimestamp = clocks.get(receiver).now();
+            assertThat(receivedTimestamp, greaterThan(sentTimestamp));
+            assertThat(receivedTimestamp, greaterThan(lastTimestamps[receiver]));
+            lastTimestamps[receiver] = receivedTimestamp;
+        }
+        long maxPhysicalTime = physicalClocks.stream().mapToLong(AtomicLong::get).max().orElse(0L);
+        for (int i = 0; i < nodeCount; i++) {
+            long physicalTime = HybridLogicalClock.getPhysicalTime(clocks.get(i).now());
+            assertThat(physicalTime, lessThanOrEqualTo(maxPhysicalTime + 1L));
+            assertThat(physicalTime - physicalClocks.get(i).get(), lessThanOrEqualTo(MAX_CLOCK_OFFSET_MILLIS + 1L));
+        }
+    }
+}
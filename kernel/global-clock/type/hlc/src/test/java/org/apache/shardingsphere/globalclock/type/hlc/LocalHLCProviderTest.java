@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc;
+
+import org.apache.shardingsphere.globalclock.provider.GlobalClockProvider;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalHLCProviderTest {
+    
+    @Test
+    void assertGetNextTimestamp() {
+        GlobalClockProvider provider = TypedSPILoader.getService(GlobalClockProvider.class, "HLC.local");
+        assertThat(provider, instanceOf(LocalHLCProvider.class));
+        long currentTimestamp = provider.getCurrentTimestamp();
+        assertThat(provider.getNextTimestamp(), greaterThan(currentTimestamp));
+        assertThat(provider.getCurrentTimestamp(), greaterThan(currentTimestamp));
+    }
+    
+    @Test
+    void assertUpdateTimestamp() {
+        HLCProvider provider = (HLCProvider) TypedSPILoader.getService(GlobalClockProvider.class, "HLC.local");
+        long remoteTimestamp = provider.getNextTimestamp();
+        assertTrue(provider.updateTimestamp(remoteTimestamp));
+        assertThat(provider.getCurrentTimestamp(), greaterThan(remoteTimestamp));
+        assertFalse(provider.updateTimestamp((System.currentTimeMillis() + 60000L) << 16));
+    }
+}
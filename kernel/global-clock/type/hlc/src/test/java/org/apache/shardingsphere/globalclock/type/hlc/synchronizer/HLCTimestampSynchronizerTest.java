@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc.synchronizer;
+
+import org.apache.shardingsphere.globalclock.type.hlc.HLCProvider;
+import org.apache.shardingsphere.globalclock.type.hlc.HybridLogicalClock;
+import org.apache.shardingsphere.globalclock.type.hlc.node.HLCTimestampNode;
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HLCTimestampSynchronizerTest {
+    
+    private final Map<String, String> registry = new ConcurrentHashMap<>();
+    
+    @Test
+    void assertSynchronizeAcrossComputeNodes() {
+        PersistRepository repository = mockRepository();
+        List<AtomicLong> physicalClocks = Arrays.asList(new AtomicLong(1000L), new AtomicLong(1100L), new AtomicLong(1300L));
+        List<HybridLogicalClock> clocks = new ArrayList<>(physicalClocks.size());
+        List<HLCTimestampSynchronizer> synchronizers = new ArrayList<>(physicalClocks.size());
+        for (int i = 0; i < physicalClocks.size(); i++) {
+            HybridLogicalClock clock = new HybridLogicalClock(physicalClocks.get(i)::get, 500L);
+            clocks.add(clock);
+            synchronizers.add(new HLCTimestampSynchronizer(repository, "instance_" + i, mockProvider(clock)));
+        }
+        long fastestTimestamp = clocks.get(2).tick();
+        synchronizers.forEach(HLCTimestampSynchronizer::synchronize);
+        synchronizers.forEach(HLCTimestampSynchronizer::synchronize);
+        for (HybridLogicalClock each : clocks) {
+            assertThat(each.now(), greaterThanOrEqualTo(fastestTimestamp));
+        }
+        long committedTimestamp = clocks.get(0).tick();
+        synchronizers.forEach(HLCTimestampSynchronizer::synchronize);
+        assertThat(clocks.get(1).now(), greaterThan(committedTimestamp));
+        assertThat(clocks.get(2).now(), greaterThan(committedTimestamp));
+    }
+    
+    private PersistRepository mockRepository() {
+        PersistRepository result = mock(PersistRepository.class);
+        when(result.getChildrenKeys(HLCTimestampNode.getTimestampsPath())).thenAnswer(invocation -> {
+            List<String> children = new ArrayList<>(registry.size());
+            registry.keySet().forEach(each -> children.add(each.substring(HLCTimestampNode.getTimestampsPath().length() + 1)));
+            return children;
+        });
+        when(result.query(anyString())).thenAnswer(invocation -> registry.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> registry.put(invocation.getArgument(0), invocation.getArgument(1))).when(result).persistEphemeral(anyString(), anyString());
+        return result;
+    }
+    
+    private HLCProvider mockProvider(final HybridLogicalClock clock) {
+        HLCProvider result = mock(HLCProvider.class);
+        when(result.getCurrentTimestamp()).thenAnswer(invocation -> clock.now());
+        when(result.updateTimestamp(anyLong())).thenAnswer(invocation -> clock.update(invocation.getArgument(0)));
+        return result;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Grouped timestamp allocator.
+ * 
+ * <p>Callers arriving while a round trip is in flight are grouped and served by one increment of the whole group size,
+ * each caller gets a distinct timestamp of the allocated block. Blocks are never allocated ahead of callers,
+ * so timestamp got by caller is always greater than timestamps allocated by any compute node before the caller arrived.</p>
+ */
+@RequiredArgsConstructor
+public final class GroupedTimestampAllocator {
+    
+    private final LongUnaryOperator incrementer;
+    
+    private final int maxGroupSize;
+    
+    private final Queue<CompletableFuture<Long>> waiters = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicBoolean allocating = new AtomicBoolean(false);
+    
+    /**
+     * Allocate timestamp.
+     *
+     * @return allocated timestamp
+     */
+    public long allocate() {
+        CompletableFuture<Long> result = new CompletableFuture<>();
+        waiters.offer(result);
+        while (!waiters.isEmpty() && allocating.compareAndSet(false, true)) {
+            try {
+                allocateGroups();
+            } finally {
+                allocating.set(false);
+            }
+        }
+        try {
+            return result.join();
+        } catch (final CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : ex;
+        }
+    }
+    
+    private void allocateGroups() {
+        List<CompletableFuture<Long>> group = pollGroup();
+        while (!group.isEmpty()) {
+            try {
+                long lastTimestamp = incrementer.applyAsLong(group.size());
+                long timestamp = lastTimestamp - group.size();
+                for (CompletableFuture<Long> each : group) {
+                    each.complete(++timestamp);
+                }
+                // CHECKSTYLE:OFF
+            } catch (final RuntimeException ex) {
+                // CHECKSTYLE:ON
+                group.forEach(each -> each.completeExceptionally(ex));
+            }
+            group = pollGroup();
+        }
+    }
+    
+    private List<CompletableFuture<Long>> pollGroup() {
+        List<CompletableFuture<Long>> result = new ArrayList<>();
+        CompletableFuture<Long> waiter;
+        while (result.size() < maxGroupSize && null != (waiter = waiters.poll())) {
+            result.add(waiter);
+        }
+        return result;
+    }
+}
@@ -42,6 +42,8 @@ public final class RedisTSOProvider implements TSOProvider {
     
     private Properties props;
     
+    private GroupedTimestampAllocator groupedTimestampAllocator;
+    
     @Override
     public void init(final Properties props) {
         this.props = props;
@@ -49,6 +51,7 @@ public final class RedisTSOProvider implements TSOProvider {
             createJedisPool();
             checkJedisPool();
             initCSN();
+            initGroupedTimestampAllocator();
         }
     }
     
@@ -76,6 +79,13 @@ public final class RedisTSOProvider implements TSOProvider {
         }
     }
     
+    private void initGroupedTimestampAllocator() {
+        int maxGroupSize = Integer.parseInt(getValue(props, RedisTSOPropertyKey.MAX_GROUP_SIZE));
+        if (maxGroupSize > 1) {
+            groupedTimestampAllocator = new GroupedTimestampAllocator(this::incrementCSN, maxGroupSize);
+        }
+    }
+    
     private String getValue(final Properties props, final RedisTSOPropertyKey propertyKey) {
         return props.containsKey(propertyKey.getKey()) ? props.getProperty(propertyKey.getKey()) : propertyKey.getDefaultValue();
     }
@@ -89,11 +99,20 @@ public final class RedisTSOProvider implements TSOProvider {
     
     @Override
     public long getNextTimestamp() {
+        if (null != groupedTimestampAllocator) {
+            return groupedTimestampAllocator.allocate();
+        }
         try (Jedis jedis = jedisPool.getResource()) {
             return jedis.incr(CSN_KEY);
         }
     }
     
+    private long incrementCSN(final long increment) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            return jedis.incrBy(CSN_KEY, increment);
+        }
+    }
+    
     @Override
     public String getType() {
         return "TSO.redis";
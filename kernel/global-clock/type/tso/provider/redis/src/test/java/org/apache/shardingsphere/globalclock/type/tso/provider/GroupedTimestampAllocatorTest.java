@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupedTimestampAllocatorTest {
+    
+    @Test
+    void assertAllocateWithoutContention() {
+        AtomicLong counter = new AtomicLong(10L);
+        GroupedTimestampAllocator allocator = new GroupedTimestampAllocator(counter::addAndGet, 16);
+        assertThat(allocator.allocate(), is(11L));
+        assertThat(allocator.allocate(), is(12L));
+    }
+    
+    @Test
+    void assertAllocateWithContention() throws InterruptedException {
+        AtomicLong counter = new AtomicLong();
+        AtomicInteger roundTrips = new AtomicInteger();
+        GroupedTimestampAllocator allocator = new GroupedTimestampAllocator(increment -> {
+            roundTrips.incrementAndGet();
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1L));
+            return counter.addAndGet(increment);
+        }, 16);
+        Collection<Long> actual = allocateConcurrently(allocator, 8, 50);
+        assertThat(actual.size(), is(400));
+        assertThat(counter.get(), is(400L));
+        assertThat(roundTrips.get(), lessThan(400));
+    }
+    
+    private Collection<Long> allocateConcurrently(final GroupedTimestampAllocator allocator, final int threadCount, final int allocateCountPerThread) throws InterruptedException {
+        Set<Long> result = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                long previous = 0L;
+                for (int j = 0; j < allocateCountPerThread; j++) {
+                    long timestamp = allocator.allocate();
+                    assertTrue(timestamp > previous);
+                    previous = timestamp;
+                    result.add(timestamp);
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(30L, TimeUnit.SECONDS));
+        executorService.shutdown();
+        return result;
+    }
+    
+    @Test
+    void assertAllocateFailed() {
+        GroupedTimestampAllocator allocator = new GroupedTimestampAllocator(increment -> {
+            throw new IllegalStateException("Connection refused.");
+        }, 16);
+        assertThrows(IllegalStateException.class, allocator::allocate);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.when;
+
+class RedisTSOProviderTest {
+    
+    private static final int THREAD_COUNT = 16;
+    
+    private static final int ALLOCATE_COUNT_PER_THREAD = 50;
+    
+    private final AtomicLong csn = new AtomicLong();
+    
+    private final AtomicInteger roundTrips = new AtomicInteger();
+    
+    @Test
+    void assertGetNextTimestamp() {
+        try (MockedConstruction<JedisPool> ignored = mockRedis()) {
+            RedisTSOProvider provider = createProvider(1);
+            long currentTimestamp = provider.getCurrentTimestamp();
+            assertThat(currentTimestamp, is((long) Integer.MAX_VALUE));
+            assertThat(provider.getNextTimestamp(), is(currentTimestamp + 1L));
+        }
+    }
+    
+    @Test
+    void assertGetNextTimestampWithContention() throws InterruptedException {
+        try (MockedConstruction<JedisPool> ignored = mockRedis()) {
+            assertThat(getNextTimestampConcurrently(createProvider(1)), is(THREAD_COUNT * ALLOCATE_COUNT_PER_THREAD));
+            int singleAllocateRoundTrips = roundTrips.getAndSet(0);
+            assertThat(getNextTimestampConcurrently(createProvider(THREAD_COUNT)), is(THREAD_COUNT * ALLOCATE_COUNT_PER_THREAD));
+            int groupAllocateRoundTrips = roundTrips.get();
+            assertThat(singleAllocateRoundTrips, is(THREAD_COUNT * ALLOCATE_COUNT_PER_THREAD));
+            assertThat(groupAllocateRoundTrips, lessThan(singleAllocateRoundTrips));
+        }
+    }
+    
+    @Test
+    void assertGetNextTimestampAcrossComputeNodes() {
+        try (MockedConstruction<JedisPool> ignored = mockRedis()) {
+            RedisTSOProvider firstProvider = createProvider(THREAD_COUNT);
+            RedisTSOProvider secondProvider = createProvider(THREAD_COUNT);
+            long firstTimestamp = firstProvider.getNextTimestamp();
+            long secondTimestamp = secondProvider.getNextTimestamp();
+            assertThat(secondTimestamp, greaterThan(firstTimestamp));
+            assertThat(firstProvider.getNextTimestamp(), greaterThan(secondTimestamp));
+        }
+    }
+    
+    private RedisTSOProvider createProvider(final int maxGroupSize) {
+        RedisTSOProvider result = new RedisTSOProvider();
+        Properties props = new Properties();
+        props.setProperty(RedisTSOPropertyKey.MAX_GROUP_SIZE.getKey(), String.valueOf(maxGroupSize));
+        result.init(props);
+        return result;
+    }
+    
+    private int getNextTimestampConcurrently(final RedisTSOProvider provider) throws InterruptedException {
+        Set<Long> timestamps = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < ALLOCATE_COUNT_PER_THREAD; j++) {
+                    timestamps.add(provider.getNextTimestamp());
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(60L, TimeUnit.SECONDS));
+        executorService.shutdown();
+        return timestamps.size();
+    }
+    
+    private MockedConstruction<JedisPool> mockRedis() {
+        Jedis jedis = mockJedis();
+        return mockConstruction(JedisPool.class, (mock, context) -> when(mock.getResource()).thenReturn(jedis));
+    }
+    
+    private Jedis mockJedis() {
+        Jedis result = mock(Jedis.class);
+        when(result.get("csn")).thenAnswer(invocation -> 0L == csn.get() ? null : String.valueOf(csn.get()));
+        when(result.set(anyString(), anyString())).thenAnswer(invocation -> {
+            csn.set(Long.parseLong(invocation.getArgument(1)));
+            return "OK";
+        });
+        when(result.incr("csn")).thenAnswer(invocation -> execute(1L));
+        when(result.incrBy(anyString(), anyLong())).thenAnswer(invocation -> execute(invocation.getArgument(1)));
+        return result;
+    }
+    
+    private synchronized long execute(final long increment) {
+        roundTrips.incrementAndGet();
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(200L));
+        return csn.addAndGet(increment);
+    }
+}
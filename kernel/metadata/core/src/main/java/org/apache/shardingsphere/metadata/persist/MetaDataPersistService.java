@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.datasource.pool.props.creator.DataSourceP
 import org.apache.shardingsphere.infra.datasource.pool.props.domain.DataSourcePoolProperties;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.metadata.persist.codec.TableMetaDataCodec;
 import org.apache.shardingsphere.metadata.persist.data.ShardingSphereDataPersistService;
 import org.apache.shardingsphere.metadata.persist.service.config.database.DataSourceNodePersistService;
 import org.apache.shardingsphere.metadata.persist.service.config.database.DataSourceUnitPersistService;
@@ -34,6 +35,7 @@ import org.apache.shardingsphere.metadata.persist.service.config.global.GlobalRu
 import org.apache.shardingsphere.metadata.persist.service.config.global.PropertiesPersistService;
 import org.apache.shardingsphere.metadata.persist.service.database.DatabaseMetaDataPersistService;
 import org.apache.shardingsphere.metadata.persist.service.version.MetaDataVersionPersistService;
+import org.apache.shardingsphere.metadata.persist.snapshot.TableMetaDataSnapshot;
 import org.apache.shardingsphere.mode.spi.PersistRepository;
 
 import javax.sql.DataSource;
@@ -71,11 +73,15 @@ public final class MetaDataPersistService {
     private final ShardingSphereDataPersistService shardingSphereDataPersistService;
     
     public MetaDataPersistService(final PersistRepository repository) {
+        this(repository, "", TableMetaDataCodec.yaml());
+    }
+    
+    public MetaDataPersistService(final PersistRepository repository, final String metaDataSnapshotPath, final TableMetaDataCodec tableMetaDataCodec) {
         this.repository = repository;
         metaDataVersionPersistService = new MetaDataVersionPersistService(repository);
         dataSourceUnitService = new DataSourceUnitPersistService(repository);
         dataSourceNodeService = new DataSourceNodePersistService(repository);
-        databaseMetaDataService = new DatabaseMetaDataPersistService(repository, metaDataVersionPersistService);
+        databaseMetaDataService = new DatabaseMetaDataPersistService(repository, metaDataVersionPersistService, new TableMetaDataSnapshot(metaDataSnapshotPath), tableMetaDataCodec);
         databaseRulePersistService = new DatabaseRulePersistService(repository);
         globalRuleService = new GlobalRulePersistService(repository, metaDataVersionPersistService);
         propsService = new PropertiesPersistService(repository, metaDataVersionPersistService);
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.codec;
+
+import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.TableType;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereColumn;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereConstraint;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereIndex;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereTable;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
+/**
+ * Binary table meta data serializer.
+ * 
+ * <p>Table meta data is written as a format version followed by length prefixed fields, integers are varint encoded, column flags are packed into one byte and table type is written by its name.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BinaryTableMetaDataSerializer {
+    
+    private static final int FORMAT_VERSION = 1;
+    
+    private static final int PRIMARY_KEY_FLAG = 1;
+    
+    private static final int GENERATED_FLAG = 1 << 1;
+    
+    private static final int CASE_SENSITIVE_FLAG = 1 << 2;
+    
+    private static final int VISIBLE_FLAG = 1 << 3;
+    
+    private static final int UNSIGNED_FLAG = 1 << 4;
+    
+    private static final int NULLABLE_FLAG = 1 << 5;
+    
+    /**
+     * Serialize table meta data.
+     *
+     * @param table YAML table meta data to be serialized
+     * @return serialized bytes
+     */
+    public static byte[] serialize(final YamlShardingSphereTable table) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream(256);
+        writeVarInt(result, FORMAT_VERSION);
+        writeNullableString(result, table.getName());
+        writeNullableString(result, null == table.getType() ? null : table.getType().name());
+        Collection<YamlShardingSphereColumn> columns = null == table.getColumns() ? Collections.emptyList() : table.getColumns().values();
+        writeVarInt(result, columns.size());
+        for (YamlShardingSphereColumn each : columns) {
+            writeColumn(result, each);
+        }
+        Collection<YamlShardingSphereIndex> indexes = null == table.getIndexes() ? Collections.emptyList() : table.getIndexes().values();
+        writeVarInt(result, indexes.size());
+        for (YamlShardingSphereIndex each : indexes) {
+            writeIndex(result, each);
+        }
+        Collection<YamlShardingSphereConstraint> constraints = null == table.getConstraints() ? Collections.emptyList() : table.getConstraints().values();
+        writeVarInt(result, constraints.size());
+        for (YamlShardingSphereConstraint each : constraints) {
+            writeNullableString(result, each.getName());
+            writeNullableString(result, each.getReferencedTableName());
+        }
+        return result.toByteArray();
+    }
+    
+    private static void writeColumn(final ByteArrayOutputStream outputStream, final YamlShardingSphereColumn column) {
+        writeNullableString(outputStream, column.getName());
+        writeVarInt(outputStream, (column.getDataType() << 1) ^ (column.getDataType() >> 31));
+        int flags = 0;
+        flags |= column.isPrimaryKey() ? PRIMARY_KEY_FLAG : 0;
+        flags |= column.isGenerated() ? GENERATED_FLAG : 0;
+        flags |= column.isCaseSensitive() ? CASE_SENSITIVE_FLAG : 0;
+        flags |= column.isVisible() ? VISIBLE_FLAG : 0;
+        flags |= column.isUnsigned() ? UNSIGNED_FLAG : 0;
+        flags |= column.isNullable() ? NULLABLE_FLAG : 0;
+        outputStream.write(flags);
+    }
+    
+    private static void writeIndex(final ByteArrayOutputStream outputStream, final YamlShardingSphereIndex index) {
+        writeNullableString(outputStream, index.getName());
+        Collection<String> columns = null == index.getColumns() ? Collections.emptyList() : index.getColumns();
+        writeVarInt(outputStream, columns.size());
+        for (String each : columns) {
+            writeNullableString(outputStream, each);
+        }
+        outputStream.write(index.isUnique() ? 1 : 0);
+    }
+    
+    private static void writeNullableString(final ByteArrayOutputStream outputStream, final String value) {
+        if (null == value) {
+            writeVarInt(outputStream, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(outputStream, bytes.length + 1);
+        outputStream.write(bytes, 0, bytes.length);
+    }
+    
+    private static void writeVarInt(final ByteArrayOutputStream outputStream, final int value) {
+        int remaining = value;
+        while (0 != (remaining & ~0x7F)) {
+            outputStream.write((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        outputStream.write(remaining);
+    }
+    
+    /**
+     * Deserialize table meta data.
+     *
+     * @param bytes bytes to be deserialized
+     * @return deserialized YAML table meta data
+     * @throws IllegalArgumentException if format version is unsupported
+     */
+    public static YamlShardingSphereTable deserialize(final byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int formatVersion = readVarInt(buffer);
+        Preconditions.checkArgument(FORMAT_VERSION == formatVersion, "Unsupported binary table meta data format version `%s`.", formatVersion);
+        YamlShardingSphereTable result = new YamlShardingSphereTable();
+        result.setName(readNullableString(buffer));
+        String type = readNullableString(buffer);
+        result.setType(null == type ? null : TableType.valueOf(type));
+        int columnSize = readVarInt(buffer);
+        Map<String, YamlShardingSphereColumn> columns = new LinkedHashMap<>(columnSize, 1F);
+        for (int i = 0; i < columnSize; i++) {
+            YamlShardingSphereColumn column = readColumn(buffer);
+            columns.put(getKey(column.getName()), column);
+        }
+        result.setColumns(columns);
+        int indexSize = readVarInt(buffer);
+        Map<String, YamlShardingSphereIndex> indexes = new LinkedHashMap<>(indexSize, 1F);
+        for (int i = 0; i < indexSize; i++) {
+            YamlShardingSphereIndex index = readIndex(buffer);
+            indexes.put(getKey(index.getName()), index);
+        }
+        result.setIndexes(indexes);
+        int constraintSize = readVarInt(buffer);
+        Map<String, YamlShardingSphereConstraint> constraints = new LinkedHashMap<>(constraintSize, 1F);
+        for (int i = 0; i < constraintSize; i++) {
+            YamlShardingSphereConstraint constraint = new YamlShardingSphereConstraint();
+            constraint.setName(readNullableString(buffer));
+            constraint.setReferencedTableName(readNullableString(buffer));
+            constraints.put(getKey(constraint.getName()), constraint);
+        }
+        result.setConstraints(constraints);
+        return result;
+    }
+    
+    private static YamlShardingSphereColumn readColumn(final ByteBuffer buffer) {
+        YamlShardingSphereColumn result = new YamlShardingSphereColumn();
+        result.setName(readNullableString(buffer));
+        int dataType = readVarInt(buffer);
+        result.setDataType((dataType >>> 1) ^ -(dataType & 1));
+        int flags = buffer.get();
+        result.setPrimaryKey(0 != (flags & PRIMARY_KEY_FLAG));
+        result.setGenerated(0 != (flags & GENERATED_FLAG));
+        result.setCaseSensitive(0 != (flags & CASE_SENSITIVE_FLAG));
+        result.setVisible(0 != (flags & VISIBLE_FLAG));
+        result.setUnsigned(0 != (flags & UNSIGNED_FLAG));
+        result.setNullable(0 != (flags & NULLABLE_FLAG));
+        return result;
+    }
+    
+    private static YamlShardingSphereIndex readIndex(final ByteBuffer buffer) {
+        YamlShardingSphereIndex result = new YamlShardingSphereIndex();
+        result.setName(readNullableString(buffer));
+        int columnSize = readVarInt(buffer);
+        Collection<String> columns = new LinkedList<>();
+        for (int i = 0; i < columnSize; i++) {
+            columns.add(readNullableString(buffer));
+        }
+        result.setColumns(columns);
+        result.setUnique(0 != buffer.get());
+        return result;
+    }
+    
+    private static String getKey(final String name) {
+        return null == name ? null : name.toLowerCase();
+    }
+    
+    private static String readNullableString(final ByteBuffer buffer) {
+        int length = readVarInt(buffer) - 1;
+        if (length < 0) {
+            return null;
+        }
+        String result = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return result;
+    }
+    
+    private static int readVarInt(final ByteBuffer buffer) {
+        int result = 0;
+        int shift = 0;
+        byte each;
+        do {
+            Preconditions.checkArgument(shift < 32, "Malformed varint in binary table meta data.");
+            each = buffer.get();
+            result |= (each & 0x7F) << shift;
+            shift += 7;
+        } while (0 != (each & 0x80));
+        return result;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.codec;
+
+import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.mode.PersistRepositoryConfiguration;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereTable;
+import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlTableSwapper;
+
+import java.util.Base64;
+
+/**
+ * Table meta data codec.
+ * 
+ * <p>Table meta data is encoded as YAML by default, or as base64 of compact binary content when binary codec is configured in repository props.
+ * Content is decoded by its prefix, so repositories with both formats can be loaded.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class TableMetaDataCodec {
+    
+    /**
+     * Key of meta data codec in repository props.
+     */
+    public static final String CODEC_KEY = "metaDataCodec";
+    
+    private static final String YAML_CODEC = "YAML";
+    
+    private static final String BINARY_CODEC = "BINARY";
+    
+    private static final String BINARY_CONTENT_PREFIX = "binary:";
+    
+    private static final TableMetaDataCodec YAML_INSTANCE = new TableMetaDataCodec(false);
+    
+    private static final TableMetaDataCodec BINARY_INSTANCE = new TableMetaDataCodec(true);
+    
+    private final boolean binary;
+    
+    /**
+     * Get table meta data codec.
+     *
+     * @param repositoryConfig persist repository configuration
+     * @return table meta data codec
+     * @throws IllegalArgumentException if codec type is unsupported
+     */
+    public static TableMetaDataCodec valueOf(final PersistRepositoryConfiguration repositoryConfig) {
+        String codec = null == repositoryConfig || null == repositoryConfig.getProps() ? YAML_CODEC : repositoryConfig.getProps().getProperty(CODEC_KEY, YAML_CODEC).trim().toUpperCase();
+        Preconditions.checkArgument(YAML_CODEC.equals(codec) || BINARY_CODEC.equals(codec), "Unsupported meta data codec `%s`, the optional value is YAML or BINARY.", codec);
+        return BINARY_CODEC.equals(codec) ? BINARY_INSTANCE : YAML_INSTANCE;
+    }
+    
+    /**
+     * Get YAML table meta data codec.
+     *
+     * @return YAML table meta data codec
+     */
+    public static TableMetaDataCodec yaml() {
+        return YAML_INSTANCE;
+    }
+    
+    /**
+     * Encode table meta data.
+     *
+     * @param table table meta data to be encoded
+     * @return encoded content
+     */
+    public String encode(final ShardingSphereTable table) {
+        YamlShardingSphereTable yamlTable = new YamlTableSwapper().swapToYamlConfiguration(table);
+        return binary ? BINARY_CONTENT_PREFIX + Base64.getEncoder().encodeToString(BinaryTableMetaDataSerializer.serialize(yamlTable)) : YamlEngine.marshal(yamlTable);
+    }
+    
+    /**
+     * Decode table meta data.
+     *
+     * @param content content to be decoded, either YAML or binary content
+     * @return decoded table meta data
+     */
+    public ShardingSphereTable decode(final String content) {
+        return new YamlTableSwapper().swapToObject(decodeToYamlTable(content));
+    }
+    
+    /**
+     * Convert content to YAML, content in YAML is returned as it is.
+     *
+     * @param content content to be converted, either YAML or binary content
+     * @return YAML content
+     */
+    public static String convertToYaml(final String content) {
+        return isBinaryContent(content) ? YamlEngine.marshal(decodeToYamlTable(content)) : content;
+    }
+    
+    private static YamlShardingSphereTable decodeToYamlTable(final String content) {
+        return isBinaryContent(content)
+                ? BinaryTableMetaDataSerializer.deserialize(Base64.getDecoder().decode(content.substring(BINARY_CONTENT_PREFIX.length())))
+                : YamlEngine.unmarshal(content, YamlShardingSphereTable.class);
+    }
+    
+    private static boolean isBinaryContent(final String content) {
+        return content.startsWith(BINARY_CONTENT_PREFIX);
+    }
+}
@@ -21,10 +21,12 @@ import lombok.Getter;
 import org.apache.shardingsphere.infra.metadata.database.schema.manager.GenericSchemaManager;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.metadata.persist.codec.TableMetaDataCodec;
 import org.apache.shardingsphere.metadata.persist.node.DatabaseMetaDataNode;
 import org.apache.shardingsphere.metadata.persist.service.schema.TableMetaDataPersistService;
 import org.apache.shardingsphere.metadata.persist.service.schema.ViewMetaDataPersistService;
 import org.apache.shardingsphere.metadata.persist.service.version.MetaDataVersionPersistService;
+import org.apache.shardingsphere.metadata.persist.snapshot.TableMetaDataSnapshot;
 import org.apache.shardingsphere.mode.spi.PersistRepository;
 
 import java.util.Collection;
@@ -45,10 +47,11 @@ public final class DatabaseMetaDataPersistService {
     
     private final MetaDataVersionPersistService metaDataVersionPersistService;
     
-    public DatabaseMetaDataPersistService(final PersistRepository repository, final MetaDataVersionPersistService metaDataVersionPersistService) {
+    public DatabaseMetaDataPersistService(final PersistRepository repository, final MetaDataVersionPersistService metaDataVersionPersistService, final TableMetaDataSnapshot tableMetaDataSnapshot,
+                                          final TableMetaDataCodec tableMetaDataCodec) {
         this.repository = repository;
         this.metaDataVersionPersistService = metaDataVersionPersistService;
-        tableMetaDataPersistService = new TableMetaDataPersistService(repository, metaDataVersionPersistService);
+        tableMetaDataPersistService = new TableMetaDataPersistService(repository, metaDataVersionPersistService, tableMetaDataSnapshot, tableMetaDataCodec);
         viewMetaDataPersistService = new ViewMetaDataPersistService(repository, metaDataVersionPersistService);
     }
     
@@ -107,12 +110,13 @@ public final class DatabaseMetaDataPersistService {
      * @param schema schema meta data
      */
     public void compareAndPersist(final String databaseName, final String schemaName, final ShardingSphereSchema schema) {
-        if (schema.getTables().isEmpty() && schema.getViews().isEmpty()) {
+        if (schema.getAllTableNames().isEmpty() && schema.getViews().isEmpty()) {
             addSchema(databaseName, schemaName);
         }
         Map<String, ShardingSphereTable> currentTables = tableMetaDataPersistService.load(databaseName, schemaName);
         tableMetaDataPersistService.persist(databaseName, schemaName, GenericSchemaManager.getToBeAddedTables(schema.getTables(), currentTables));
-        GenericSchemaManager.getToBeDeletedTables(schema.getTables(), currentTables).forEach((key, value) -> tableMetaDataPersistService.delete(databaseName, schemaName, key));
+        GenericSchemaManager.getToBeDeletedTables(schema.getTables(), currentTables).keySet().stream()
+                .filter(each -> !schema.containsTable(each)).forEach(each -> tableMetaDataPersistService.delete(databaseName, schemaName, each));
     }
     
     /**
@@ -123,7 +127,7 @@ public final class DatabaseMetaDataPersistService {
      * @param schema schema meta data
      */
     public void persistByAlterConfiguration(final String databaseName, final String schemaName, final ShardingSphereSchema schema) {
-        if (schema.getTables().isEmpty() && schema.getViews().isEmpty()) {
+        if (schema.getAllTableNames().isEmpty() && schema.getViews().isEmpty()) {
             addSchema(databaseName, schemaName);
         }
         tableMetaDataPersistService.persist(databaseName, schemaName, schema.getTables());
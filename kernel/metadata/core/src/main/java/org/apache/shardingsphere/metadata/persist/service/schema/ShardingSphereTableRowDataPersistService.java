@@ -21,14 +21,18 @@ import com.google.common.base.Strings;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.statistics.collect.StatisticsCollectMetrics;
 import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
 import org.apache.shardingsphere.infra.yaml.data.pojo.YamlShardingSphereRowData;
 import org.apache.shardingsphere.infra.yaml.data.swapper.YamlShardingSphereRowDataSwapper;
 import org.apache.shardingsphere.metadata.persist.node.ShardingSphereDataNode;
 import org.apache.shardingsphere.mode.spi.PersistRepository;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * ShardingSphere table row data persist service.
@@ -50,8 +54,17 @@ public final class ShardingSphereTableRowDataPersistService implements TableRowD
     public void persist(final String databaseName, final String schemaName, final String tableName, final Collection<YamlShardingSphereRowData> rows) {
         if (rows.isEmpty()) {
             persistTable(databaseName, schemaName, tableName);
+            return;
         }
-        rows.forEach(each -> repository.persist(ShardingSphereDataNode.getTableRowPath(databaseName, schemaName, tableName.toLowerCase(), each.getUniqueKey()), YamlEngine.marshal(each)));
+        Map<String, String> keyValues = new LinkedHashMap<>(rows.size(), 1F);
+        long bytes = 0L;
+        for (YamlShardingSphereRowData each : rows) {
+            String value = YamlEngine.marshal(each);
+            keyValues.put(ShardingSphereDataNode.getTableRowPath(databaseName, schemaName, tableName.toLowerCase(), each.getUniqueKey()), value);
+            bytes += value.getBytes(StandardCharsets.UTF_8).length;
+        }
+        repository.batchPersist(keyValues);
+        StatisticsCollectMetrics.getInstance().recordPersisted(rows.size(), bytes);
     }
     
     private void persistTable(final String databaseName, final String schemaName, final String tableName) {
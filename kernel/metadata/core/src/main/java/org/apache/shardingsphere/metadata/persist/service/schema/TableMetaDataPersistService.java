@@ -21,20 +21,22 @@ import com.google.common.base.Strings;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.version.MetaDataVersion;
-import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
-import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereTable;
-import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlTableSwapper;
+import org.apache.shardingsphere.metadata.persist.codec.TableMetaDataCodec;
 import org.apache.shardingsphere.metadata.persist.node.metadata.TableMetaDataNode;
 import org.apache.shardingsphere.metadata.persist.service.version.MetaDataVersionPersistService;
+import org.apache.shardingsphere.metadata.persist.snapshot.TableMetaDataSnapshot;
+import org.apache.shardingsphere.metadata.persist.snapshot.TableMetaDataSnapshotItem;
 import org.apache.shardingsphere.mode.spi.PersistRepository;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.stream.Collectors;
 
 /**
  * Table meta data persist service.
@@ -46,23 +48,43 @@ public final class TableMetaDataPersistService implements SchemaMetaDataPersistS
     
     private final MetaDataVersionPersistService metaDataVersionPersistService;
     
+    private final TableMetaDataSnapshot snapshot;
+    
+    private final TableMetaDataCodec codec;
+    
     @Override
     public void persist(final String databaseName, final String schemaName, final Map<String, ShardingSphereTable> tables) {
-        Collection<MetaDataVersion> metaDataVersions = new LinkedList<>();
+        Collection<String> existedTableNames = new HashSet<>(repository.getChildrenKeys(TableMetaDataNode.getMetaDataTablesNode(databaseName, schemaName)));
+        Map<String, String> keyValues = new LinkedHashMap<>(tables.size() * 2, 1F);
+        Map<MetaDataVersion, String> metaDataVersions = new LinkedHashMap<>(tables.size(), 1F);
         for (Entry<String, ShardingSphereTable> entry : tables.entrySet()) {
             String tableName = entry.getKey().toLowerCase();
-            List<String> versions = repository.getChildrenKeys(TableMetaDataNode.getTableVersionsNode(databaseName, schemaName, tableName));
+            List<String> versions = existedTableNames.contains(tableName)
+                    ? repository.getChildrenKeys(TableMetaDataNode.getTableVersionsNode(databaseName, schemaName, tableName))
+                    : Collections.emptyList();
             String nextActiveVersion = versions.isEmpty() ? MetaDataVersion.DEFAULT_VERSION : String.valueOf(Integer.parseInt(versions.get(0)) + 1);
+            String versionNode = TableMetaDataNode.getTableVersionNode(databaseName, schemaName, tableName, nextActiveVersion);
             if (entry.getValue() != null) {
-                repository.persist(TableMetaDataNode.getTableVersionNode(databaseName, schemaName, tableName, nextActiveVersion),
-                        YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(entry.getValue())));
+                keyValues.put(versionNode, codec.encode(entry.getValue()));
             }
-            if (Strings.isNullOrEmpty(getActiveVersion(databaseName, schemaName, tableName))) {
-                repository.persist(TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName), MetaDataVersion.DEFAULT_VERSION);
+            String activeVersion = existedTableNames.contains(tableName) ? getActiveVersion(databaseName, schemaName, tableName) : null;
+            if (Strings.isNullOrEmpty(activeVersion)) {
+                keyValues.put(TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName), MetaDataVersion.DEFAULT_VERSION);
+                activeVersion = MetaDataVersion.DEFAULT_VERSION;
             }
-            metaDataVersions.add(new MetaDataVersion(TableMetaDataNode.getTableNode(databaseName, schemaName, tableName), getActiveVersion(databaseName, schemaName, tableName), nextActiveVersion));
+            metaDataVersions.put(new MetaDataVersion(TableMetaDataNode.getTableNode(databaseName, schemaName, tableName), activeVersion, nextActiveVersion), versionNode);
+        }
+        try {
+            repository.batchPersist(keyValues);
+        } catch (final RuntimeException ex) {
+            metaDataVersionPersistService.switchActiveVersion(getPersistedMetaDataVersions(metaDataVersions));
+            throw ex;
         }
-        metaDataVersionPersistService.switchActiveVersion(metaDataVersions);
+        metaDataVersionPersistService.switchActiveVersion(metaDataVersions.keySet());
+    }
+    
+    private Collection<MetaDataVersion> getPersistedMetaDataVersions(final Map<MetaDataVersion, String> metaDataVersions) {
+        return metaDataVersions.entrySet().stream().filter(entry -> repository.isExisted(entry.getValue())).map(Entry::getKey).collect(Collectors.toList());
     }
     
     private String getActiveVersion(final String databaseName, final String schemaName, final String tableName) {
@@ -72,23 +94,74 @@ public final class TableMetaDataPersistService implements SchemaMetaDataPersistS
     @Override
     public Map<String, ShardingSphereTable> load(final String databaseName, final String schemaName) {
         Collection<String> tableNames = repository.getChildrenKeys(TableMetaDataNode.getMetaDataTablesNode(databaseName, schemaName));
-        return tableNames.isEmpty() ? Collections.emptyMap() : getTableMetaDataByTableNames(databaseName, schemaName, tableNames);
+        if (tableNames.isEmpty()) {
+            snapshot.delete(databaseName, schemaName);
+            return Collections.emptyMap();
+        }
+        Map<String, TableMetaDataSnapshotItem> snapshotItems = snapshot.load(databaseName, schemaName);
+        Map<String, TableMetaDataSnapshotItem> loadedItems = loadTableMetaDataSnapshotItems(databaseName, schemaName, tableNames, snapshotItems);
+        if (snapshot.isEnabled() && isSnapshotChanged(snapshotItems, loadedItems)) {
+            snapshot.persist(databaseName, schemaName, loadedItems);
+        }
+        return swapToTables(loadedItems);
     }
     
     @Override
     public Map<String, ShardingSphereTable> load(final String databaseName, final String schemaName, final String tableName) {
-        return getTableMetaDataByTableNames(databaseName, schemaName, Collections.singletonList(tableName));
+        return swapToTables(loadTableMetaDataSnapshotItems(databaseName, schemaName, Collections.singletonList(tableName), Collections.emptyMap()));
     }
     
-    private Map<String, ShardingSphereTable> getTableMetaDataByTableNames(final String databaseName, final String schemaName, final Collection<String> tableNames) {
-        Map<String, ShardingSphereTable> result = new LinkedHashMap<>(tableNames.size(), 1F);
-        tableNames.forEach(each -> {
-            String table = repository.query(TableMetaDataNode.getTableVersionNode(databaseName, schemaName, each,
-                    repository.query(TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, each))));
-            if (!Strings.isNullOrEmpty(table)) {
-                result.put(each.toLowerCase(), new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(table, YamlShardingSphereTable.class)));
+    private Map<String, TableMetaDataSnapshotItem> loadTableMetaDataSnapshotItems(final String databaseName, final String schemaName, final Collection<String> tableNames,
+                                                                                  final Map<String, TableMetaDataSnapshotItem> snapshotItems) {
+        Collection<String> activeVersionNodes = tableNames.stream().map(each -> TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, each)).collect(Collectors.toList());
+        Map<String, String> revisions = snapshot.isEnabled() ? repository.batchQueryRevisions(activeVersionNodes) : Collections.emptyMap();
+        Map<String, String> activeVersions = repository.batchQuery(activeVersionNodes);
+        Map<String, String> toBeLoadedVersionNodes = new LinkedHashMap<>(tableNames.size(), 1F);
+        for (String each : tableNames) {
+            String activeVersionNode = TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, each);
+            String activeVersion = activeVersions.get(activeVersionNode);
+            if (!Strings.isNullOrEmpty(activeVersion) && !isSnapshotItemValid(snapshotItems.get(each), activeVersion, revisions.get(activeVersionNode))) {
+                toBeLoadedVersionNodes.put(each, TableMetaDataNode.getTableVersionNode(databaseName, schemaName, each, activeVersion));
+            }
+        }
+        Map<String, String> loadedContents = toBeLoadedVersionNodes.isEmpty() ? Collections.emptyMap() : repository.batchQuery(new ArrayList<>(toBeLoadedVersionNodes.values()));
+        Map<String, TableMetaDataSnapshotItem> result = new LinkedHashMap<>(tableNames.size(), 1F);
+        for (String each : tableNames) {
+            String activeVersionNode = TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, each);
+            String activeVersion = activeVersions.get(activeVersionNode);
+            if (toBeLoadedVersionNodes.containsKey(each)) {
+                String content = loadedContents.get(toBeLoadedVersionNodes.get(each));
+                if (!Strings.isNullOrEmpty(content)) {
+                    result.put(each, new TableMetaDataSnapshotItem(activeVersion, Strings.nullToEmpty(revisions.get(activeVersionNode)), content));
+                }
+            } else if (!Strings.isNullOrEmpty(activeVersion)) {
+                result.put(each, snapshotItems.get(each));
             }
-        });
+        }
+        return result;
+    }
+    
+    private boolean isSnapshotItemValid(final TableMetaDataSnapshotItem snapshotItem, final String activeVersion, final String revision) {
+        return null != snapshotItem && activeVersion.equals(snapshotItem.getActiveVersion()) && !Strings.isNullOrEmpty(revision) && revision.equals(snapshotItem.getRevision());
+    }
+    
+    private boolean isSnapshotChanged(final Map<String, TableMetaDataSnapshotItem> snapshotItems, final Map<String, TableMetaDataSnapshotItem> loadedItems) {
+        if (snapshotItems.size() != loadedItems.size()) {
+            return true;
+        }
+        for (Entry<String, TableMetaDataSnapshotItem> entry : loadedItems.entrySet()) {
+            if (entry.getValue() != snapshotItems.get(entry.getKey())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private Map<String, ShardingSphereTable> swapToTables(final Map<String, TableMetaDataSnapshotItem> items) {
+        Map<String, ShardingSphereTable> result = new LinkedHashMap<>(items.size(), 1F);
+        for (Entry<String, TableMetaDataSnapshotItem> entry : items.entrySet()) {
+            result.put(entry.getKey().toLowerCase(), codec.decode(entry.getValue().getContent()));
+        }
         return result;
     }
     
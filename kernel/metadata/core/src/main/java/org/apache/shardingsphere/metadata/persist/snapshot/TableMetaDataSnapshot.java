@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.snapshot;
+
+import com.google.common.base.Strings;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Table meta data snapshot.
+ * 
+ * <p>Keep a compressed local copy of table meta data content with its active version and revision of active version for each schema,
+ * tables whose active version and revision in registry center are unchanged can be loaded from the snapshot in one sequential read.
+ * Revision is checked because active version restarts from the default version when table is dropped and created again.</p>
+ */
+@Slf4j
+public final class TableMetaDataSnapshot {
+    
+    private static final int FORMAT_VERSION = 2;
+    
+    private static final String FILE_SUFFIX = ".snapshot";
+    
+    private final Path snapshotPath;
+    
+    public TableMetaDataSnapshot(final String snapshotPath) {
+        this.snapshotPath = Strings.isNullOrEmpty(snapshotPath) ? null : Paths.get(snapshotPath);
+    }
+    
+    /**
+     * Judge whether snapshot is enabled.
+     *
+     * @return snapshot is enabled or not
+     */
+    public boolean isEnabled() {
+        return null != snapshotPath;
+    }
+    
+    /**
+     * Load snapshot items.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @return snapshot items, key is table name and value is snapshot item
+     */
+    public Map<String, TableMetaDataSnapshotItem> load(final String databaseName, final String schemaName) {
+        if (!isEnabled()) {
+            return Collections.emptyMap();
+        }
+        Path file = getSnapshotFile(databaseName, schemaName);
+        if (!Files.isRegularFile(file)) {
+            return Collections.emptyMap();
+        }
+        try (DataInputStream inputStream = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+            if (FORMAT_VERSION != inputStream.readInt()) {
+                return Collections.emptyMap();
+            }
+            int size = inputStream.readInt();
+            Map<String, TableMetaDataSnapshotItem> result = new LinkedHashMap<>(size, 1F);
+            for (int i = 0; i < size; i++) {
+                String tableName = readString(inputStream);
+                result.put(tableName, new TableMetaDataSnapshotItem(readString(inputStream), readString(inputStream), readString(inputStream)));
+            }
+            return result;
+        } catch (final IOException ex) {
+            log.warn("Load table meta data snapshot `{}` failed, ignore it.", file, ex);
+            return Collections.emptyMap();
+        }
+    }
+    
+    /**
+     * Persist snapshot items.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param items snapshot items, key is table name and value is snapshot item
+     */
+    public void persist(final String databaseName, final String schemaName, final Map<String, TableMetaDataSnapshotItem> items) {
+        if (!isEnabled()) {
+            return;
+        }
+        Path file = getSnapshotFile(databaseName, schemaName);
+        try {
+            Files.createDirectories(file.getParent());
+            Path tempFile = Files.createTempFile(file.getParent(), schemaName, FILE_SUFFIX);
+            try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(tempFile))))) {
+                outputStream.writeInt(FORMAT_VERSION);
+                outputStream.writeInt(items.size());
+                for (Entry<String, TableMetaDataSnapshotItem> entry : items.entrySet()) {
+                    writeString(outputStream, entry.getKey());
+                    writeString(outputStream, entry.getValue().getActiveVersion());
+                    writeString(outputStream, entry.getValue().getRevision());
+                    writeString(outputStream, entry.getValue().getContent());
+                }
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            log.warn("Persist table meta data snapshot `{}` failed.", file, ex);
+        }
+    }
+    
+    /**
+     * Delete snapshot of schema.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     */
+    public void delete(final String databaseName, final String schemaName) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(getSnapshotFile(databaseName, schemaName));
+        } catch (final IOException ex) {
+            log.warn("Delete table meta data snapshot of `{}.{}` failed.", databaseName, schemaName, ex);
+        }
+    }
+    
+    private Path getSnapshotFile(final String databaseName, final String schemaName) {
+        return snapshotPath.resolve(databaseName).resolve(schemaName + FILE_SUFFIX);
+    }
+    
+    private String readString(final DataInputStream inputStream) throws IOException {
+        byte[] bytes = new byte[inputStream.readInt()];
+        inputStream.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    private void writeString(final DataOutputStream outputStream, final String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        outputStream.writeInt(bytes.length);
+        outputStream.write(bytes);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.codec;
+
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.TableType;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereColumn;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereTable;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryTableMetaDataSerializerTest {
+    
+    @Test
+    void assertSerializeAndDeserialize() {
+        YamlShardingSphereColumn column = new YamlShardingSphereColumn();
+        column.setName("Order_Id");
+        column.setDataType(Types.BIT);
+        column.setNullable(true);
+        YamlShardingSphereTable table = new YamlShardingSphereTable();
+        table.setName("t_order");
+        table.setColumns(Collections.singletonMap("order_id", column));
+        YamlShardingSphereTable actual = BinaryTableMetaDataSerializer.deserialize(BinaryTableMetaDataSerializer.serialize(table));
+        assertThat(actual.getName(), is("t_order"));
+        assertNull(actual.getType());
+        assertThat(actual.getColumns().size(), is(1));
+        YamlShardingSphereColumn actualColumn = actual.getColumns().get("order_id");
+        assertThat(actualColumn.getName(), is("Order_Id"));
+        assertThat(actualColumn.getDataType(), is(Types.BIT));
+        assertTrue(actualColumn.isNullable());
+        assertTrue(actual.getIndexes().isEmpty());
+        assertTrue(actual.getConstraints().isEmpty());
+    }
+    
+    @Test
+    void assertSerializeAndDeserializeWithTableType() {
+        YamlShardingSphereTable table = new YamlShardingSphereTable();
+        table.setName("t_order_view");
+        table.setType(TableType.VIEW);
+        byte[] actual = BinaryTableMetaDataSerializer.serialize(table);
+        assertTrue(new String(actual, StandardCharsets.UTF_8).contains(TableType.VIEW.name()));
+        assertThat(BinaryTableMetaDataSerializer.deserialize(actual).getType(), is(TableType.VIEW));
+    }
+    
+    @Test
+    void assertDeserializeWithUnsupportedFormatVersion() {
+        assertThrows(IllegalArgumentException.class, () -> BinaryTableMetaDataSerializer.deserialize(new byte[]{2}));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.codec;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.mode.PersistRepositoryConfiguration;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmark of persist and load throughput of table meta data codecs, run with {@code -Dmeta-data-codec-benchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "meta-data-codec-benchmark", matches = "true")
+@Slf4j
+class TableMetaDataCodecBenchmarkTest {
+    
+    private static final int TABLE_COUNT = 2000;
+    
+    private static final int COLUMN_COUNT = 50;
+    
+    private static final int ROUNDS = 5;
+    
+    @Test
+    void assertBenchmark() {
+        List<ShardingSphereTable> tables = createTables();
+        benchmark("YAML", TableMetaDataCodec.yaml(), tables);
+        benchmark("BINARY", TableMetaDataCodec.valueOf(createRepositoryConfiguration()), tables);
+    }
+    
+    private void benchmark(final String codecName, final TableMetaDataCodec codec, final List<ShardingSphereTable> tables) {
+        List<String> contents = new ArrayList<>(tables.size());
+        long persistNanos = 0L;
+        long loadNanos = 0L;
+        for (int round = 0; round < ROUNDS; round++) {
+            contents.clear();
+            long startNanos = System.nanoTime();
+            for (ShardingSphereTable each : tables) {
+                contents.add(codec.encode(each));
+            }
+            persistNanos += System.nanoTime() - startNanos;
+            startNanos = System.nanoTime();
+            for (int i = 0; i < contents.size(); i++) {
+                assertThat(codec.decode(contents.get(i)).getName(), is(tables.get(i).getName()));
+            }
+            loadNanos += System.nanoTime() - startNanos;
+        }
+        long contentBytes = contents.stream().mapToLong(String::length).sum();
+        log.info("Codec `{}`: persist {} tables/s, load {} tables/s, {} bytes per table.",
+                codecName, getThroughput(persistNanos), getThroughput(loadNanos), contentBytes / tables.size());
+    }
+    
+    private long getThroughput(final long nanos) {
+        return (long) TABLE_COUNT * ROUNDS * 1000000000L / Math.max(nanos, 1L);
+    }
+    
+    private List<ShardingSphereTable> createTables() {
+        List<ShardingSphereTable> result = new ArrayList<>(TABLE_COUNT);
+        for (int i = 0; i < TABLE_COUNT; i++) {
+            Collection<ShardingSphereColumn> columns = new ArrayList<>(COLUMN_COUNT);
+            for (int j = 0; j < COLUMN_COUNT; j++) {
+                columns.add(new ShardingSphereColumn("column_" + j, 0 == j ? Types.BIGINT : Types.VARCHAR, 0 == j, false, false, true, false, 0 != j));
+            }
+            ShardingSphereIndex index = new ShardingSphereIndex("idx_column_1");
+            index.getColumns().add("column_1");
+            result.add(new ShardingSphereTable("t_table_" + i, columns, Collections.singleton(index), Collections.emptyList()));
+        }
+        return result;
+    }
+    
+    private PersistRepositoryConfiguration createRepositoryConfiguration() {
+        PersistRepositoryConfiguration result = mock(PersistRepositoryConfiguration.class);
+        Properties props = PropertiesBuilder.build(new Property(TableMetaDataCodec.CODEC_KEY, "BINARY"));
+        when(result.getProps()).thenReturn(props);
+        return result;
+    }
+}
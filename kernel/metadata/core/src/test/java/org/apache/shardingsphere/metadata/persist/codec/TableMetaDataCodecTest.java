@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.codec;
+
+import org.apache.shardingsphere.infra.config.mode.PersistRepositoryConfiguration;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.TableType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereConstraint;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TableMetaDataCodecTest {
+    
+    @Test
+    void assertValueOfWithoutRepositoryConfiguration() {
+        assertFalse(TableMetaDataCodec.valueOf(null).isBinary());
+    }
+    
+    @Test
+    void assertValueOfWithBinaryCodec() {
+        assertTrue(TableMetaDataCodec.valueOf(createRepositoryConfiguration("binary")).isBinary());
+    }
+    
+    @Test
+    void assertValueOfWithUnsupportedCodec() {
+        assertThrows(IllegalArgumentException.class, () -> TableMetaDataCodec.valueOf(createRepositoryConfiguration("json")));
+    }
+    
+    @Test
+    void assertEncodeAndDecodeWithBinaryCodec() {
+        TableMetaDataCodec codec = TableMetaDataCodec.valueOf(createRepositoryConfiguration("BINARY"));
+        ShardingSphereTable table = createTable();
+        String actual = codec.encode(table);
+        assertTrue(actual.startsWith("binary:"));
+        assertTrue(actual.length() < TableMetaDataCodec.yaml().encode(table).length());
+        assertThat(codec.decode(actual), is(table));
+    }
+    
+    @Test
+    void assertDecodeYamlContentWithBinaryCodec() {
+        assertThat(TableMetaDataCodec.valueOf(createRepositoryConfiguration("BINARY")).decode(TableMetaDataCodec.yaml().encode(createTable())), is(createTable()));
+    }
+    
+    @Test
+    void assertConvertToYaml() {
+        String yamlContent = TableMetaDataCodec.yaml().encode(createTable());
+        assertThat(TableMetaDataCodec.convertToYaml(TableMetaDataCodec.valueOf(createRepositoryConfiguration("BINARY")).encode(createTable())), is(yamlContent));
+        assertThat(TableMetaDataCodec.convertToYaml(yamlContent), is(yamlContent));
+    }
+    
+    private PersistRepositoryConfiguration createRepositoryConfiguration(final String codec) {
+        PersistRepositoryConfiguration result = mock(PersistRepositoryConfiguration.class);
+        Properties props = PropertiesBuilder.build(new Property(TableMetaDataCodec.CODEC_KEY, codec));
+        when(result.getProps()).thenReturn(props);
+        return result;
+    }
+    
+    private ShardingSphereTable createTable() {
+        ShardingSphereIndex index = new ShardingSphereIndex("idx_user_id");
+        index.getColumns().add("user_id");
+        index.setUnique(true);
+        return new ShardingSphereTable("t_order", Arrays.asList(new ShardingSphereColumn("order_id", Types.BIGINT, true, true, false, true, true, false),
+                new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false, true)), Collections.singleton(index),
+                Collections.singleton(new ShardingSphereConstraint("fk_user_id", "t_user")), TableType.TABLE);
+    }
+}
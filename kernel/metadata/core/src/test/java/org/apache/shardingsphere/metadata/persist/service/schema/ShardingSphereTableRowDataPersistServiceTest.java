@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.service.schema;
+
+import org.apache.shardingsphere.infra.statistics.collect.StatisticsCollectMetrics;
+import org.apache.shardingsphere.infra.yaml.data.pojo.YamlShardingSphereRowData;
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ShardingSphereTableRowDataPersistServiceTest {
+    
+    @Mock
+    private PersistRepository repository;
+    
+    @AfterEach
+    void reset() {
+        StatisticsCollectMetrics.getInstance().clear();
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertPersistWithRows() {
+        new ShardingSphereTableRowDataPersistService(repository).persist("foo_db", "foo_schema", "FOO_TBL", Arrays.asList(createRowData("key1"), createRowData("key2")));
+        ArgumentCaptor<Map<String, String>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(repository).batchPersist(captor.capture());
+        assertThat(captor.getValue().size(), is(2));
+        assertTrue(captor.getValue().containsKey("/statistics/databases/foo_db/schemas/foo_schema/tables/foo_tbl/key1"));
+        assertThat(StatisticsCollectMetrics.getInstance().getPersistedRowCount(), is(2L));
+        assertTrue(StatisticsCollectMetrics.getInstance().getPersistedBytes() > 0L);
+    }
+    
+    @Test
+    void assertPersistWithoutRows() {
+        new ShardingSphereTableRowDataPersistService(repository).persist("foo_db", "foo_schema", "foo_tbl", Collections.emptyList());
+        verify(repository).persist("/statistics/databases/foo_db/schemas/foo_schema/tables/foo_tbl", "");
+        verify(repository, never()).batchPersist(anyMap());
+    }
+    
+    private YamlShardingSphereRowData createRowData(final String uniqueKey) {
+        YamlShardingSphereRowData result = new YamlShardingSphereRowData();
+        result.setUniqueKey(uniqueKey);
+        result.setRows(Collections.singletonList(1));
+        return result;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.service.schema;
+
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.metadata.persist.codec.TableMetaDataCodec;
+import org.apache.shardingsphere.metadata.persist.service.version.MetaDataVersionPersistService;
+import org.apache.shardingsphere.metadata.persist.snapshot.TableMetaDataSnapshot;
+import org.apache.shardingsphere.metadata.persist.snapshot.TableMetaDataSnapshotItem;
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TableMetaDataPersistServiceTest {
+    
+    private static final String TABLES_NODE = "/metadata/foo_db/schemas/foo_schema/tables";
+    
+    @Mock
+    private PersistRepository repository;
+    
+    @TempDir
+    private Path snapshotPath;
+    
+    @Test
+    void assertLoadWithSnapshot() {
+        TableMetaDataSnapshot snapshot = new TableMetaDataSnapshot(snapshotPath.toString());
+        snapshot.persist("foo_db", "foo_schema", Collections.singletonMap("t_order", new TableMetaDataSnapshotItem("0", "1:1", "name: t_order")));
+        when(repository.getChildrenKeys(TABLES_NODE)).thenReturn(Arrays.asList("t_order", "t_order_item"));
+        Map<String, String> revisions = new LinkedHashMap<>(2, 1F);
+        revisions.put(TABLES_NODE + "/t_order/active_version", "1:1");
+        revisions.put(TABLES_NODE + "/t_order_item/active_version", "2:4");
+        when(repository.batchQueryRevisions(Arrays.asList(TABLES_NODE + "/t_order/active_version", TABLES_NODE + "/t_order_item/active_version"))).thenReturn(revisions);
+        Map<String, String> activeVersions = new LinkedHashMap<>(2, 1F);
+        activeVersions.put(TABLES_NODE + "/t_order/active_version", "0");
+        activeVersions.put(TABLES_NODE + "/t_order_item/active_version", "1");
+        when(repository.batchQuery(Arrays.asList(TABLES_NODE + "/t_order/active_version", TABLES_NODE + "/t_order_item/active_version"))).thenReturn(activeVersions);
+        when(repository.batchQuery(Collections.singletonList(TABLES_NODE + "/t_order_item/versions/1")))
+                .thenReturn(Collections.singletonMap(TABLES_NODE + "/t_order_item/versions/1", "name: t_order_item"));
+        Map<String, ShardingSphereTable> actual = new TableMetaDataPersistService(repository, mock(MetaDataVersionPersistService.class), snapshot, TableMetaDataCodec.yaml())
+                .load("foo_db", "foo_schema");
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("t_order").getName(), is("t_order"));
+        assertThat(actual.get("t_order_item").getName(), is("t_order_item"));
+        Map<String, TableMetaDataSnapshotItem> actualSnapshotItems = snapshot.load("foo_db", "foo_schema");
+        assertThat(actualSnapshotItems.size(), is(2));
+        assertThat(actualSnapshotItems.get("t_order_item").getActiveVersion(), is("1"));
+        assertThat(actualSnapshotItems.get("t_order_item").getRevision(), is("2:4"));
+    }
+    
+    @Test
+    void assertLoadWithSnapshotOfRecreatedTable() {
+        TableMetaDataSnapshot snapshot = new TableMetaDataSnapshot(snapshotPath.toString());
+        snapshot.persist("foo_db", "foo_schema", Collections.singletonMap("t_order", new TableMetaDataSnapshotItem("0", "1:1", "name: t_order_old")));
+        when(repository.getChildrenKeys(TABLES_NODE)).thenReturn(Collections.singletonList("t_order"));
+        when(repository.batchQueryRevisions(Collections.singletonList(TABLES_NODE + "/t_order/active_version")))
+                .thenReturn(Collections.singletonMap(TABLES_NODE + "/t_order/active_version", "5:5"));
+        when(repository.batchQuery(Collections.singletonList(TABLES_NODE + "/t_order/active_version"))).thenReturn(Collections.singletonMap(TABLES_NODE + "/t_order/active_version", "0"));
+        when(repository.batchQuery(Collections.singletonList(TABLES_NODE + "/t_order/versions/0"))).thenReturn(Collections.singletonMap(TABLES_NODE + "/t_order/versions/0", "name: t_order"));
+        Map<String, ShardingSphereTable> actual = new TableMetaDataPersistService(repository, mock(MetaDataVersionPersistService.class), snapshot, TableMetaDataCodec.yaml())
+                .load("foo_db", "foo_schema");
+        assertThat(actual.get("t_order").getName(), is("t_order"));
+        assertThat(snapshot.load("foo_db", "foo_schema").get("t_order").getRevision(), is("5:5"));
+    }
+    
+    @Test
+    void assertLoadWithoutSnapshot() {
+        when(repository.getChildrenKeys(TABLES_NODE)).thenReturn(Collections.singletonList("t_order"));
+        when(repository.batchQuery(Collections.singletonList(TABLES_NODE + "/t_order/active_version"))).thenReturn(Collections.singletonMap(TABLES_NODE + "/t_order/active_version", "0"));
+        when(repository.batchQuery(Collections.singletonList(TABLES_NODE + "/t_order/versions/0"))).thenReturn(Collections.singletonMap(TABLES_NODE + "/t_order/versions/0", "name: t_order"));
+        Map<String, ShardingSphereTable> actual = new TableMetaDataPersistService(repository, mock(MetaDataVersionPersistService.class), new TableMetaDataSnapshot(""), TableMetaDataCodec.yaml())
+                .load("foo_db", "foo_schema");
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("t_order").getName(), is("t_order"));
+    }
+    
+    @Test
+    void assertPersistWhenBatchPersistFailed() {
+        when(repository.getChildrenKeys(TABLES_NODE)).thenReturn(Arrays.asList("t_order", "t_order_item"));
+        when(repository.getChildrenKeys(TABLES_NODE + "/t_order/versions")).thenReturn(Collections.singletonList("0"));
+        when(repository.getChildrenKeys(TABLES_NODE + "/t_order_item/versions")).thenReturn(Collections.singletonList("0"));
+        when(repository.query(TABLES_NODE + "/t_order/active_version")).thenReturn("0");
+        when(repository.query(TABLES_NODE + "/t_order_item/active_version")).thenReturn("0");
+        doThrow(IllegalStateException.class).when(repository).batchPersist(any());
+        when(repository.isExisted(TABLES_NODE + "/t_order/versions/1")).thenReturn(true);
+        MetaDataVersionPersistService metaDataVersionPersistService = mock(MetaDataVersionPersistService.class);
+        Map<String, ShardingSphereTable> tables = new LinkedHashMap<>(2, 1F);
+        tables.put("t_order", new ShardingSphereTable("t_order", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        tables.put("t_order_item", new ShardingSphereTable("t_order_item", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        assertThrows(IllegalStateException.class,
+                () -> new TableMetaDataPersistService(repository, metaDataVersionPersistService, new TableMetaDataSnapshot(""), TableMetaDataCodec.yaml()).persist("foo_db", "foo_schema", tables));
+        verify(metaDataVersionPersistService).switchActiveVersion(argThat(actual -> 1 == actual.size() && (TABLES_NODE + "/t_order").equals(actual.iterator().next().getKey())));
+    }
+}
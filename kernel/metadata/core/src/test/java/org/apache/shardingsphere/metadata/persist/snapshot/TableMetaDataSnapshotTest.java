@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TableMetaDataSnapshotTest {
+    
+    @TempDir
+    private Path snapshotPath;
+    
+    @Test
+    void assertLoadWhenDisabled() {
+        TableMetaDataSnapshot snapshot = new TableMetaDataSnapshot("");
+        assertFalse(snapshot.isEnabled());
+        snapshot.persist("foo_db", "foo_schema", Collections.singletonMap("t_order", new TableMetaDataSnapshotItem("0", "1:1", "name: t_order")));
+        assertTrue(snapshot.load("foo_db", "foo_schema").isEmpty());
+    }
+    
+    @Test
+    void assertLoadWithoutSnapshotFile() {
+        assertTrue(new TableMetaDataSnapshot(snapshotPath.toString()).load("foo_db", "foo_schema").isEmpty());
+    }
+    
+    @Test
+    void assertPersistAndLoad() {
+        TableMetaDataSnapshot snapshot = new TableMetaDataSnapshot(snapshotPath.toString());
+        Map<String, TableMetaDataSnapshotItem> items = new LinkedHashMap<>(2, 1F);
+        items.put("t_order", new TableMetaDataSnapshotItem("0", "1:1", "name: t_order"));
+        items.put("t_order_item", new TableMetaDataSnapshotItem("3", "2:4", "name: t_order_item"));
+        snapshot.persist("foo_db", "foo_schema", items);
+        Map<String, TableMetaDataSnapshotItem> actual = snapshot.load("foo_db", "foo_schema");
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("t_order").getActiveVersion(), is("0"));
+        assertThat(actual.get("t_order").getRevision(), is("1:1"));
+        assertThat(actual.get("t_order").getContent(), is("name: t_order"));
+        assertThat(actual.get("t_order_item").getActiveVersion(), is("3"));
+        assertThat(actual.get("t_order_item").getRevision(), is("2:4"));
+        assertThat(actual.get("t_order_item").getContent(), is("name: t_order_item"));
+    }
+    
+    @Test
+    void assertDelete() {
+        TableMetaDataSnapshot snapshot = new TableMetaDataSnapshot(snapshotPath.toString());
+        snapshot.persist("foo_db", "foo_schema", Collections.singletonMap("t_order", new TableMetaDataSnapshotItem("0", "1:1", "name: t_order")));
+        snapshot.delete("foo_db", "foo_schema");
+        assertTrue(snapshot.load("foo_db", "foo_schema").isEmpty());
+    }
+}
@@ -33,19 +33,25 @@ import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatist
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
 import org.apache.shardingsphere.infra.metadata.statistics.collector.ShardingSphereStatisticsCollector;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.statistics.collect.StatisticsCollectMetrics;
 import org.apache.shardingsphere.infra.yaml.data.swapper.YamlShardingSphereRowDataSwapper;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.service.pojo.ShardingSphereSchemaDataAlteredPOJO;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Statistics collect job.
+ * 
+ * <p>Each table is collected on its own schedule, only row level delta of changed tables is persisted.</p>
  */
 @RequiredArgsConstructor
 @Slf4j
@@ -53,19 +59,23 @@ public final class StatisticsCollectJob implements SimpleJob {
     
     private final ContextManager contextManager;
     
+    private final Map<String, TableStatisticsCollectSchedule> schedules = new ConcurrentHashMap<>();
+    
     @Override
     public void execute(final ShardingContext shardingContext) {
         try {
             if (contextManager.getMetaDataContexts().getMetaData().getTemporaryProps().getValue(TemporaryConfigurationPropertyKey.PROXY_META_DATA_COLLECTOR_ENABLED)) {
+                long startMillis = System.currentTimeMillis();
                 ShardingSphereStatistics statistics = contextManager.getMetaDataContexts().getStatistics();
                 ShardingSphereMetaData metaData = contextManager.getMetaDataContexts().getMetaData();
-                ShardingSphereStatistics changedStatistics = new ShardingSphereStatistics();
+                CollectResult collectResult = new CollectResult();
                 statistics.getDatabaseData().forEach((key, value) -> {
                     if (metaData.containsDatabase(key)) {
-                        collectForDatabase(key, value, metaData.getDatabases(), changedStatistics);
+                        collectForDatabase(key, value, metaData.getDatabases(), collectResult);
                     }
                 });
-                compareUpdateAndSendEvent(statistics, changedStatistics, metaData.getDatabases());
+                schedules.keySet().retainAll(collectResult.visitedTables);
+                StatisticsCollectMetrics.getInstance().recordCollect(System.currentTimeMillis() - startMillis, collectResult.collectedCount, collectResult.skippedCount, collectResult.changedCount);
             }
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
@@ -74,68 +84,63 @@ public final class StatisticsCollectJob implements SimpleJob {
         }
     }
     
-    private void collectForDatabase(final String databaseName, final ShardingSphereDatabaseData databaseData,
-                                    final Map<String, ShardingSphereDatabase> databases, final ShardingSphereStatistics statistics) {
+    private void collectForDatabase(final String databaseName, final ShardingSphereDatabaseData databaseData, final Map<String, ShardingSphereDatabase> databases, final CollectResult collectResult) {
         databaseData.getSchemaData().forEach((key, value) -> {
             if (databases.get(databaseName.toLowerCase()).containsSchema(key)) {
-                collectForSchema(databaseName, key, value, databases, statistics);
+                collectForSchema(databaseName, key, value, databases, collectResult);
             }
         });
     }
     
     private void collectForSchema(final String databaseName, final String schemaName, final ShardingSphereSchemaData schemaData,
-                                  final Map<String, ShardingSphereDatabase> databases, final ShardingSphereStatistics statistics) {
+                                  final Map<String, ShardingSphereDatabase> databases, final CollectResult collectResult) {
+        ShardingSphereSchema schema = databases.get(databaseName.toLowerCase()).getSchema(schemaName);
         schemaData.getTableData().forEach((key, value) -> {
-            if (databases.get(databaseName.toLowerCase()).getSchema(schemaName).containsTable(key)) {
-                collectForTable(databaseName, schemaName, databases.get(databaseName).getSchema(schemaName).getTable(key), databases, statistics);
+            if (schema.containsTable(key)) {
+                collectForTable(databaseName, schemaName, schema.getTable(key), value, databases, collectResult);
             }
         });
     }
     
-    private void collectForTable(final String databaseName, final String schemaName, final ShardingSphereTable table,
-                                 final Map<String, ShardingSphereDatabase> databases, final ShardingSphereStatistics statistics) {
+    private void collectForTable(final String databaseName, final String schemaName, final ShardingSphereTable table, final ShardingSphereTableData tableData,
+                                 final Map<String, ShardingSphereDatabase> databases, final CollectResult collectResult) {
         Optional<ShardingSphereStatisticsCollector> dataCollector = TypedSPILoader.findService(ShardingSphereStatisticsCollector.class, table.getName());
-        if (!dataCollector.isPresent()) {
+        if (!dataCollector.isPresent() || dataCollector.get().isInstanceLocal()) {
+            return;
+        }
+        String scheduleKey = String.join(".", databaseName, schemaName, table.getName()).toLowerCase();
+        collectResult.visitedTables.add(scheduleKey);
+        TableStatisticsCollectSchedule schedule = schedules.computeIfAbsent(scheduleKey, key -> new TableStatisticsCollectSchedule());
+        if (!schedule.isDue(table)) {
+            collectResult.skippedCount++;
             return;
         }
-        Optional<ShardingSphereTableData> tableData = Optional.empty();
+        Optional<ShardingSphereTableData> changedTableData = Optional.empty();
         try {
-            tableData = dataCollector.get().collect(databaseName, table, databases, contextManager.getMetaDataContexts().getMetaData().getGlobalRuleMetaData());
+            changedTableData = dataCollector.get().collect(databaseName, table, databases, contextManager.getMetaDataContexts().getMetaData().getGlobalRuleMetaData());
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
             log.error(String.format("Collect %s.%s.%s data failed", databaseName, schemaName, table.getName()), ex);
         }
-        tableData.ifPresent(optional -> statistics.getDatabaseData().computeIfAbsent(databaseName.toLowerCase(), key -> new ShardingSphereDatabaseData())
-                .getSchemaData().computeIfAbsent(schemaName, key -> new ShardingSphereSchemaData()).getTableData().put(table.getName().toLowerCase(), optional));
-    }
-    
-    private void compareUpdateAndSendEvent(final ShardingSphereStatistics statistics, final ShardingSphereStatistics changedStatistics,
-                                           final Map<String, ShardingSphereDatabase> databases) {
-        changedStatistics.getDatabaseData().forEach((key, value) -> compareUpdateAndSendEventForDatabase(key, statistics.getDatabaseData().get(key), value, statistics,
-                databases.get(key.toLowerCase())));
-    }
-    
-    private void compareUpdateAndSendEventForDatabase(final String databaseName, final ShardingSphereDatabaseData databaseData, final ShardingSphereDatabaseData changedDatabaseData,
-                                                      final ShardingSphereStatistics statistics, final ShardingSphereDatabase database) {
-        changedDatabaseData.getSchemaData().forEach((key, value) -> compareUpdateAndSendEventForSchema(databaseName, key, databaseData.getSchemaData().get(key), value, statistics,
-                database.getSchema(key)));
-    }
-    
-    private void compareUpdateAndSendEventForSchema(final String databaseName, final String schemaName, final ShardingSphereSchemaData schemaData,
-                                                    final ShardingSphereSchemaData changedSchemaData, final ShardingSphereStatistics statistics, final ShardingSphereSchema schema) {
-        changedSchemaData.getTableData().forEach((key, value) -> compareUpdateAndSendEventForTable(databaseName, schemaName, schemaData.getTableData().get(key), value, statistics,
-                schema.getTable(key)));
+        collectResult.collectedCount++;
+        boolean changed = changedTableData.isPresent() && updateAndPersist(databaseName, schemaName, tableData, changedTableData.get(), table);
+        if (changed) {
+            collectResult.changedCount++;
+        }
+        schedule.collected(table, changed);
     }
     
-    private void compareUpdateAndSendEventForTable(final String databaseName, final String schemaName, final ShardingSphereTableData tableData,
-                                                   final ShardingSphereTableData changedTableData, final ShardingSphereStatistics statistics, final ShardingSphereTable table) {
-        if (tableData.equals(changedTableData)) {
-            return;
-        }
-        statistics.getDatabaseData().get(databaseName).getSchemaData().get(schemaName).getTableData().put(changedTableData.getName().toLowerCase(), changedTableData);
+    private boolean updateAndPersist(final String databaseName, final String schemaName, final ShardingSphereTableData tableData,
+                                     final ShardingSphereTableData changedTableData, final ShardingSphereTable table) {
         ShardingSphereSchemaDataAlteredPOJO schemaDataAlteredPOJO = getShardingSphereSchemaDataAlteredPOJO(databaseName, schemaName, tableData, changedTableData, table);
+        if (schemaDataAlteredPOJO.getAddedRows().isEmpty() && schemaDataAlteredPOJO.getUpdatedRows().isEmpty() && schemaDataAlteredPOJO.getDeletedRows().isEmpty()) {
+            return false;
+        }
+        contextManager.getMetaDataContexts().getStatistics().getDatabaseData().get(databaseName).getSchemaData().get(schemaName).getTableData()
+                .put(changedTableData.getName().toLowerCase(), changedTableData);
         contextManager.getPersistServiceFacade().persist(schemaDataAlteredPOJO);
+        return true;
     }
     
     private ShardingSphereSchemaDataAlteredPOJO getShardingSphereSchemaDataAlteredPOJO(final String databaseName, final String schemaName, final ShardingSphereTableData tableData,
@@ -147,7 +152,7 @@ public final class StatisticsCollectJob implements SimpleJob {
         for (Entry<String, ShardingSphereRowData> entry : changedTableDataMap.entrySet()) {
             if (!tableDataMap.containsKey(entry.getKey())) {
                 result.getAddedRows().add(swapper.swapToYamlConfiguration(entry.getValue()));
-            } else if (!tableDataMap.get(entry.getKey()).equals(entry.getValue())) {
+            } else if (!tableDataMap.get(entry.getKey()).getRows().equals(entry.getValue().getRows())) {
                 result.getUpdatedRows().add(swapper.swapToYamlConfiguration(entry.getValue()));
             }
         }
@@ -158,4 +163,15 @@ public final class StatisticsCollectJob implements SimpleJob {
         }
         return result;
     }
+    
+    private static final class CollectResult {
+        
+        private final Collection<String> visitedTables = new HashSet<>();
+        
+        private int collectedCount;
+        
+        private int skippedCount;
+        
+        private int changedCount;
+    }
 }
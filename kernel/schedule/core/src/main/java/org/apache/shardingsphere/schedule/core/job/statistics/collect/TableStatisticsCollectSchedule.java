@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.schedule.core.job.statistics.collect;
+
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+
+/**
+ * Table statistics collect schedule.
+ * 
+ * <p>Table whose statistics keep unchanged is collected less and less frequently, the skipped ticks double on each unchanged collection up to {@code MAX_SKIPPED_TICKS}.
+ * Table becomes dirty and is collected on next tick once its data changed or its meta data is altered.</p>
+ */
+public final class TableStatisticsCollectSchedule {
+    
+    private static final int MAX_SKIPPED_TICKS = 8;
+    
+    private ShardingSphereTable table;
+    
+    private int skippedTicks;
+    
+    private int remainingTicks;
+    
+    /**
+     * Judge whether table is due to collect on current tick.
+     *
+     * @param currentTable current table meta data
+     * @return is due or not
+     */
+    public boolean isDue(final ShardingSphereTable currentTable) {
+        if (currentTable != table || remainingTicks <= 0) {
+            return true;
+        }
+        remainingTicks--;
+        return false;
+    }
+    
+    /**
+     * Mark table collected.
+     *
+     * @param currentTable current table meta data
+     * @param changed whether statistics data changed
+     */
+    public void collected(final ShardingSphereTable currentTable, final boolean changed) {
+        table = currentTable;
+        skippedTicks = changed ? 0 : Math.min(Math.max(skippedTicks * 2, 1), MAX_SKIPPED_TICKS);
+        remainingTicks = skippedTicks;
+    }
+}
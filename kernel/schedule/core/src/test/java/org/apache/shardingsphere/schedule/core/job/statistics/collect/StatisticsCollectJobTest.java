@@ -29,10 +29,12 @@ import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabas
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+import org.apache.shardingsphere.infra.statistics.collect.StatisticsCollectMetrics;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.service.pojo.ShardingSphereSchemaDataAlteredPOJO;
 import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.Types;
@@ -41,6 +43,8 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.Properties;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -49,18 +53,43 @@ import static org.mockito.Mockito.when;
 
 class StatisticsCollectJobTest {
     
+    @AfterEach
+    void reset() {
+        StatisticsCollectMetrics.getInstance().clear();
+    }
+    
     @Test
     void assertCollect() {
-        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        ContextManager contextManager = mockContextManager();
+        new StatisticsCollectJob(contextManager).execute(null);
+        verify(contextManager.getPersistServiceFacade()).persist(any(ShardingSphereSchemaDataAlteredPOJO.class));
+        assertThat(StatisticsCollectMetrics.getInstance().getCollectCount(), is(1L));
+        assertThat(StatisticsCollectMetrics.getInstance().getChangedTableCount(), is(1L));
+    }
+    
+    @Test
+    void assertCollectWithUnchangedData() {
+        ContextManager contextManager = mockContextManager();
+        StatisticsCollectJob job = new StatisticsCollectJob(contextManager);
+        job.execute(null);
+        job.execute(null);
+        job.execute(null);
+        verify(contextManager.getPersistServiceFacade()).persist(any(ShardingSphereSchemaDataAlteredPOJO.class));
+        assertThat(StatisticsCollectMetrics.getInstance().getCollectedTableCount(), is(2L));
+        assertThat(StatisticsCollectMetrics.getInstance().getSkippedTableCount(), is(1L));
+        assertThat(StatisticsCollectMetrics.getInstance().getChangedTableCount(), is(1L));
+    }
+    
+    private ContextManager mockContextManager() {
+        ContextManager result = mock(ContextManager.class, RETURNS_DEEP_STUBS);
         ShardingSphereStatistics statistics = mockStatistics();
-        when(contextManager.getMetaDataContexts().getStatistics()).thenReturn(statistics);
+        when(result.getMetaDataContexts().getStatistics()).thenReturn(statistics);
         ShardingSphereMetaData metaData = mockMetaData();
-        when(contextManager.getMetaDataContexts().getMetaData()).thenReturn(metaData);
-        when(contextManager.getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
-        when(contextManager.getMetaDataContexts().getMetaData().getTemporaryProps()).thenReturn(new TemporaryConfigurationProperties(
+        when(result.getMetaDataContexts().getMetaData()).thenReturn(metaData);
+        when(result.getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
+        when(result.getMetaDataContexts().getMetaData().getTemporaryProps()).thenReturn(new TemporaryConfigurationProperties(
                 PropertiesBuilder.build(new Property(TemporaryConfigurationPropertyKey.PROXY_META_DATA_COLLECTOR_ENABLED.getKey(), Boolean.TRUE.toString()))));
-        new StatisticsCollectJob(contextManager).execute(null);
-        verify(contextManager.getPersistServiceFacade()).persist(any(ShardingSphereSchemaDataAlteredPOJO.class));
+        return result;
     }
     
     private ShardingSphereStatistics mockStatistics() {
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.schedule.core.job.statistics.collect;
+
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class TableStatisticsCollectScheduleTest {
+    
+    @Test
+    void assertIsDueWithChangedData() {
+        ShardingSphereTable table = mock(ShardingSphereTable.class);
+        TableStatisticsCollectSchedule schedule = new TableStatisticsCollectSchedule();
+        assertTrue(schedule.isDue(table));
+        schedule.collected(table, true);
+        assertTrue(schedule.isDue(table));
+    }
+    
+    @Test
+    void assertIsDueWithUnchangedData() {
+        ShardingSphereTable table = mock(ShardingSphereTable.class);
+        TableStatisticsCollectSchedule schedule = new TableStatisticsCollectSchedule();
+        schedule.collected(table, false);
+        assertFalse(schedule.isDue(table));
+        assertTrue(schedule.isDue(table));
+        schedule.collected(table, false);
+        assertFalse(schedule.isDue(table));
+        assertFalse(schedule.isDue(table));
+        assertTrue(schedule.isDue(table));
+    }
+    
+    @Test
+    void assertIsDueWithAlteredTable() {
+        TableStatisticsCollectSchedule schedule = new TableStatisticsCollectSchedule();
+        schedule.collected(mock(ShardingSphereTable.class), false);
+        assertTrue(schedule.isDue(mock(ShardingSphereTable.class)));
+    }
+}
@@ -52,10 +52,12 @@ import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+import org.apache.shardingsphere.infra.metadata.statistics.collector.ShardingSphereStatisticsCollector;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sqlfederation.executor.constant.EnumerableConstants;
 import org.apache.shardingsphere.sqlfederation.executor.context.SQLFederationContext;
@@ -161,11 +163,23 @@ public final class EnumerableScanExecutor implements ScanExecutor {
         if (databaseType instanceof OpenGaussDatabaseType && EnumerableConstants.SYSTEM_CATALOG_TABLES.contains(table.getName())) {
             return createMemoryEnumerator(StatisticsAssembleUtils.assembleTableData(table, federationContext.getMetaData()), table, databaseType);
         }
+        Optional<ShardingSphereStatisticsCollector> instanceLocalCollector = TypedSPILoader.findService(ShardingSphereStatisticsCollector.class, table.getName())
+                .filter(ShardingSphereStatisticsCollector::isInstanceLocal);
+        if (instanceLocalCollector.isPresent()) {
+            return collectInstanceLocalTableData(instanceLocalCollector.get(), databaseName, table).map(optional -> createMemoryEnumerator(optional, table, databaseType))
+                    .orElseGet(this::createEmptyEnumerable);
+        }
         Optional<ShardingSphereTableData> tableData = Optional.ofNullable(statistics.getDatabase(databaseName))
                 .map(optional -> optional.getSchema(schemaName)).map(optional -> optional.getTable(table.getName()));
         return tableData.map(optional -> createMemoryEnumerator(optional, table, databaseType)).orElseGet(this::createEmptyEnumerable);
     }
     
+    @SneakyThrows(SQLException.class)
+    private Optional<ShardingSphereTableData> collectInstanceLocalTableData(final ShardingSphereStatisticsCollector collector, final String databaseName, final ShardingSphereTable table) {
+        ShardingSphereMetaData metaData = federationContext.getMetaData();
+        return collector.collect(databaseName, table, metaData.getDatabases(), metaData.getGlobalRuleMetaData());
+    }
+    
     private Enumerable<Object> createMemoryEnumerator(final ShardingSphereTableData tableData, final ShardingSphereTable table, final DatabaseType databaseType) {
         return new AbstractEnumerable<Object>() {
             
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
 import org.apache.shardingsphere.infra.yaml.config.swapper.resource.YamlDataSourceConfigurationSwapper;
 import org.apache.shardingsphere.timeservice.spi.TimestampService;
+import org.apache.shardingsphere.timeservice.type.database.clock.ExtrapolatedTimestampClock;
 import org.apache.shardingsphere.timeservice.type.database.exception.DatetimeLoadingException;
 import org.apache.shardingsphere.timeservice.type.database.provider.TimestampLoadingSQLProvider;
 
@@ -32,6 +33,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.stream.Collectors;
@@ -45,15 +47,29 @@ public final class DatabaseTimestampService implements TimestampService {
     
     private DatabaseType storageType;
     
+    private ExtrapolatedTimestampClock extrapolatedClock;
+    
     @Override
     public void init(final Properties props) {
-        dataSource = DataSourcePoolCreator.create(new YamlDataSourceConfigurationSwapper().swapToDataSourcePoolProperties(
-                props.entrySet().stream().collect(Collectors.toMap(entry -> entry.getKey().toString(), Entry::getValue))));
+        Map<String, Object> dataSourceProps = props.entrySet().stream().collect(Collectors.toMap(entry -> entry.getKey().toString(), Entry::getValue));
+        long syncIntervalMillis = Long.parseLong(removeValue(dataSourceProps, DatabaseTimestampPropertyKey.SYNC_INTERVAL_MILLISECONDS));
+        long maxDriftMillis = Long.parseLong(removeValue(dataSourceProps, DatabaseTimestampPropertyKey.MAX_DRIFT_MILLISECONDS));
+        dataSource = DataSourcePoolCreator.create(new YamlDataSourceConfigurationSwapper().swapToDataSourcePoolProperties(dataSourceProps));
         storageType = DatabaseTypeEngine.getStorageType(dataSource);
+        extrapolatedClock = syncIntervalMillis > 0L ? new ExtrapolatedTimestampClock(this::loadTimestamp, syncIntervalMillis, maxDriftMillis) : null;
+    }
+    
+    private String removeValue(final Map<String, Object> props, final DatabaseTimestampPropertyKey propertyKey) {
+        Object result = props.remove(propertyKey.getKey());
+        return null == result ? propertyKey.getDefaultValue() : result.toString();
     }
     
     @Override
     public Timestamp getTimestamp() {
+        return null == extrapolatedClock ? loadTimestamp() : extrapolatedClock.getTimestamp();
+    }
+    
+    private Timestamp loadTimestamp() {
         try {
             return loadDatetime(dataSource, DatabaseTypedSPILoader.getService(TimestampLoadingSQLProvider.class, storageType).getTimestampLoadingSQL());
         } catch (final SQLException ex) {
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.timeservice.type.database.clock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Extrapolated timestamp clock.
+ * 
+ * <p>Samples remote clock periodically and serves timestamps from local monotonic clock plus the sampled offset in between.
+ * Offset is corrected with half of the round trip time, estimated error grows with sample age by the assumed local clock drift rate,
+ * remote clock is sampled again when sample age exceeds sync interval or estimated error exceeds max drift.
+ * Sample whose half round trip time already reaches max drift can never satisfy the drift bound, so it is used until sync interval exceeds.
+ * Precision of remote timestamp is not part of estimated error, so timestamp loading SQL of every dialect loads sub-millisecond timestamp:
+ * {@code NOW(6)} of MySQL, {@code NOW()} of PostgreSQL and {@code SYSTIMESTAMP} of Oracle in microseconds, {@code SYSDATETIME()} of SQLServer in 100 nanoseconds.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class ExtrapolatedTimestampClock {
+    
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1L);
+    
+    private static final long NANOS_PER_MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1L);
+    
+    private static final long DRIFT_RATE_DIVISOR = 5000L;
+    
+    private final Supplier<Timestamp> remoteClock;
+    
+    private final LongSupplier localMonotonicClock;
+    
+    private final long syncIntervalNanos;
+    
+    private final long maxDriftNanos;
+    
+    private final AtomicLong lastEpochNanos = new AtomicLong(Long.MIN_VALUE);
+    
+    private volatile ClockSample sample;
+    
+    public ExtrapolatedTimestampClock(final Supplier<Timestamp> remoteClock, final long syncIntervalMillis, final long maxDriftMillis) {
+        this(remoteClock, System::nanoTime, TimeUnit.MILLISECONDS.toNanos(syncIntervalMillis), TimeUnit.MILLISECONDS.toNanos(maxDriftMillis));
+    }
+    
+    /**
+     * Get timestamp.
+     *
+     * @return timestamp
+     */
+    public Timestamp getTimestamp() {
+        ClockSample currentSample = sample;
+        long now = localMonotonicClock.getAsLong();
+        if (null == currentSample || isExpired(currentSample, now)) {
+            currentSample = resync();
+            now = localMonotonicClock.getAsLong();
+        }
+        long epochNanos = currentSample.getRemoteEpochNanos() + Math.max(0L, now - currentSample.getLocalNanos());
+        return toTimestamp(lastEpochNanos.accumulateAndGet(epochNanos, Math::max));
+    }
+    
+    private boolean isExpired(final ClockSample sample, final long now) {
+        long age = now - sample.getLocalNanos();
+        if (age > syncIntervalNanos) {
+            return true;
+        }
+        return sample.getHalfRoundTripNanos() < maxDriftNanos && sample.getHalfRoundTripNanos() + age / DRIFT_RATE_DIVISOR > maxDriftNanos;
+    }
+    
+    private synchronized ClockSample resync() {
+        ClockSample currentSample = sample;
+        if (null != currentSample && !isExpired(currentSample, localMonotonicClock.getAsLong())) {
+            return currentSample;
+        }
+        long sendNanos = localMonotonicClock.getAsLong();
+        Timestamp remoteTimestamp = remoteClock.get();
+        long receiveNanos = localMonotonicClock.getAsLong();
+        long halfRoundTripNanos = (receiveNanos - sendNanos) / 2L;
+        if (halfRoundTripNanos >= maxDriftNanos) {
+            log.warn("Half round trip time `{}` ns of remote clock reaches max drift `{}` ns, use the sample until sync interval exceeds.", halfRoundTripNanos, maxDriftNanos);
+        }
+        ClockSample result = new ClockSample(toEpochNanos(remoteTimestamp) + halfRoundTripNanos, receiveNanos, halfRoundTripNanos);
+        sample = result;
+        return result;
+    }
+    
+    private long toEpochNanos(final Timestamp timestamp) {
+        return Math.floorDiv(timestamp.getTime(), 1000L) * NANOS_PER_SECOND + timestamp.getNanos();
+    }
+    
+    private Timestamp toTimestamp(final long epochNanos) {
+        Timestamp result = new Timestamp(Math.floorDiv(epochNanos, NANOS_PER_MILLISECOND));
+        result.setNanos((int) Math.floorMod(epochNanos, NANOS_PER_SECOND));
+        return result;
+    }
+}
@@ -26,7 +26,7 @@ public final class MySQLTimestampLoadingSQLProvider implements TimestampLoadingS
     
     @Override
     public String getTimestampLoadingSQL() {
-        return "SELECT NOW()";
+        return "SELECT NOW(6)";
     }
     
     @Override
@@ -26,7 +26,7 @@ public final class OracleTimestampLoadingSQLProvider implements TimestampLoading
     
     @Override
     public String getTimestampLoadingSQL() {
-        return "SELECT sysdate FROM DUAL";
+        return "SELECT SYSTIMESTAMP FROM DUAL";
     }
     
     @Override
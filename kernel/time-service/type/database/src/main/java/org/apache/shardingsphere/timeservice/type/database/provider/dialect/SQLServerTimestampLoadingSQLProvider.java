@@ -26,7 +26,7 @@ public final class SQLServerTimestampLoadingSQLProvider implements TimestampLoad
     
     @Override
     public String getTimestampLoadingSQL() {
-        return "SELECT GETDATE()";
+        return "SELECT SYSDATETIME()";
     }
     
     @Override
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.timeservice.type.database.clock;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ExtrapolatedTimestampClockTest {
+    
+    private final AtomicLong localClock = new AtomicLong();
+    
+    private final AtomicLong remoteMillis = new AtomicLong(1000000L);
+    
+    private final AtomicInteger syncCount = new AtomicInteger();
+    
+    @Test
+    void assertGetTimestampWithinSyncInterval() {
+        ExtrapolatedTimestampClock clock = new ExtrapolatedTimestampClock(this::loadRemoteTimestamp, localClock::get, toNanos(1000L), toNanos(10L));
+        assertThat(clock.getTimestamp().getTime(), is(1000001L));
+        localClock.addAndGet(toNanos(500L));
+        assertThat(clock.getTimestamp().getTime(), is(1000501L));
+        assertThat(syncCount.get(), is(1));
+    }
+    
+    @Test
+    void assertGetTimestampWhenSyncIntervalExceeded() {
+        ExtrapolatedTimestampClock clock = new ExtrapolatedTimestampClock(this::loadRemoteTimestamp, localClock::get, toNanos(1000L), toNanos(10L));
+        clock.getTimestamp();
+        localClock.addAndGet(toNanos(1001L));
+        remoteMillis.addAndGet(1200L);
+        assertThat(clock.getTimestamp().getTime(), is(1001201L));
+        assertThat(syncCount.get(), is(2));
+    }
+    
+    @Test
+    void assertGetTimestampWhenRoundTripExceedsMaxDrift() {
+        ExtrapolatedTimestampClock clock = new ExtrapolatedTimestampClock(this::loadRemoteTimestamp, localClock::get, toNanos(1000L), TimeUnit.MICROSECONDS.toNanos(500L));
+        clock.getTimestamp();
+        localClock.addAndGet(toNanos(500L));
+        clock.getTimestamp();
+        assertThat(syncCount.get(), is(1));
+        localClock.addAndGet(toNanos(501L));
+        clock.getTimestamp();
+        assertThat(syncCount.get(), is(2));
+    }
+    
+    @Test
+    void assertGetTimestampWhenEstimatedDriftExceedsMaxDrift() {
+        ExtrapolatedTimestampClock clock = new ExtrapolatedTimestampClock(this::loadRemoteTimestamp, localClock::get, toNanos(100000L), toNanos(10L));
+        clock.getTimestamp();
+        localClock.addAndGet(toNanos(40000L));
+        clock.getTimestamp();
+        assertThat(syncCount.get(), is(1));
+        localClock.addAndGet(toNanos(10000L));
+        clock.getTimestamp();
+        assertThat(syncCount.get(), is(2));
+    }
+    
+    @Test
+    void assertGetTimestampKeepsMonotonicWhenRemoteClockGoesBack() {
+        ExtrapolatedTimestampClock clock = new ExtrapolatedTimestampClock(this::loadRemoteTimestamp, localClock::get, toNanos(1000L), toNanos(10L));
+        Timestamp expected = clock.getTimestamp();
+        localClock.addAndGet(toNanos(1001L));
+        remoteMillis.addAndGet(-1100L);
+        assertThat(clock.getTimestamp(), is(expected));
+        assertThat(syncCount.get(), is(2));
+    }
+    
+    private Timestamp loadRemoteTimestamp() {
+        syncCount.incrementAndGet();
+        localClock.addAndGet(toNanos(2L));
+        return new Timestamp(remoteMillis.get());
+    }
+    
+    private long toNanos(final long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
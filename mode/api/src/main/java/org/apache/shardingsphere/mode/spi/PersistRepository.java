@@ -19,7 +19,11 @@ package org.apache.shardingsphere.mode.spi;
 
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPI;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Persist repository.
@@ -39,6 +43,38 @@ public interface PersistRepository extends TypedSPI, AutoCloseable {
      */
     String query(String key);
     
+    /**
+     * Query data in batch.
+     * 
+     * <p>Repositories which support pipelined or multiple reads in one round trip should override it, the default implementation queries data one by one.</p>
+     *
+     * @param keys keys to be queried
+     * @return queried data map, key is key of data and value is data, keys without data are absent
+     */
+    default Map<String, String> batchQuery(Collection<String> keys) {
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        for (String each : keys) {
+            String value = query(each);
+            if (null != value) {
+                result.put(each, value);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Query revisions of data in batch.
+     * 
+     * <p>Revision changes whenever data is written, even if data is the same as before, such as data deleted and created again.
+     * Repositories which keep revision of data should override it, the default implementation returns no revision, so data can not be validated by revision.</p>
+     *
+     * @param keys keys to be queried
+     * @return queried revision map, key is key of data and value is revision, keys without data or revision are absent
+     */
+    default Map<String, String> batchQueryRevisions(Collection<String> keys) {
+        return Collections.emptyMap();
+    }
+    
     /**
      * Get names of sub-node.
      *
@@ -63,6 +99,17 @@ public interface PersistRepository extends TypedSPI, AutoCloseable {
      */
     void persist(String key, String value);
     
+    /**
+     * Persist data in batch.
+     * 
+     * <p>Repositories which support multiple operations in one round trip should override it, the default implementation persists data one by one.</p>
+     *
+     * @param keyValues keys and values of data, parent keys should be placed before child keys
+     */
+    default void batchPersist(Map<String, String> keyValues) {
+        keyValues.forEach(this::persist);
+    }
+    
     /**
      * Persist ephemeral data.
      *
@@ -20,7 +20,10 @@ package org.apache.shardingsphere.mode.service;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.yaml.data.pojo.YamlShardingSphereRowData;
 import org.apache.shardingsphere.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.metadata.persist.codec.TableMetaDataCodec;
+import org.apache.shardingsphere.metadata.persist.service.schema.ShardingSphereTableRowDataPersistService;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.service.persist.ComputeNodePersistService;
 import org.apache.shardingsphere.mode.service.persist.MetaDataManagerPersistService;
@@ -32,6 +35,9 @@ import org.apache.shardingsphere.mode.service.pojo.ShardingSphereSchemaDataAlter
 import org.apache.shardingsphere.mode.spi.PersistRepository;
 import org.apache.shardingsphere.mode.state.StatePersistService;
 
+import java.util.Collection;
+import java.util.LinkedList;
+
 /**
  * Persist service facade.
  */
@@ -53,7 +59,7 @@ public final class PersistServiceFacade {
     private final QualifiedDataSourceStatePersistService qualifiedDataSourceStatePersistService;
     
     public PersistServiceFacade(final PersistRepository repository, final ModeConfiguration modeConfiguration, final ContextManager contextManager) {
-        metaDataPersistService = new MetaDataPersistService(repository);
+        metaDataPersistService = new MetaDataPersistService(repository, "", TableMetaDataCodec.valueOf(modeConfiguration.getRepository()));
         computeNodePersistService = new ComputeNodePersistService(repository);
         statePersistService = new StatePersistService(repository);
         qualifiedDataSourceStatePersistService = new QualifiedDataSourceStatePersistService(repository);
@@ -71,11 +77,14 @@ public final class PersistServiceFacade {
     public void persist(final ShardingSphereSchemaDataAlteredPOJO schemaDataAlteredPOJO) {
         String databaseName = schemaDataAlteredPOJO.getDatabaseName();
         String schemaName = schemaDataAlteredPOJO.getSchemaName();
-        metaDataPersistService.getShardingSphereDataPersistService().getTableRowDataPersistService().persist(databaseName, schemaName, schemaDataAlteredPOJO.getTableName(),
-                schemaDataAlteredPOJO.getAddedRows());
-        metaDataPersistService.getShardingSphereDataPersistService().getTableRowDataPersistService().persist(databaseName, schemaName, schemaDataAlteredPOJO.getTableName(),
-                schemaDataAlteredPOJO.getUpdatedRows());
-        metaDataPersistService.getShardingSphereDataPersistService().getTableRowDataPersistService().delete(databaseName, schemaName, schemaDataAlteredPOJO.getTableName(),
-                schemaDataAlteredPOJO.getDeletedRows());
+        ShardingSphereTableRowDataPersistService tableRowDataPersistService = metaDataPersistService.getShardingSphereDataPersistService().getTableRowDataPersistService();
+        Collection<YamlShardingSphereRowData> changedRows = new LinkedList<>(schemaDataAlteredPOJO.getAddedRows());
+        changedRows.addAll(schemaDataAlteredPOJO.getUpdatedRows());
+        if (!changedRows.isEmpty()) {
+            tableRowDataPersistService.persist(databaseName, schemaName, schemaDataAlteredPOJO.getTableName(), changedRows);
+        }
+        if (!schemaDataAlteredPOJO.getDeletedRows().isEmpty()) {
+            tableRowDataPersistService.delete(databaseName, schemaName, schemaDataAlteredPOJO.getTableName(), schemaDataAlteredPOJO.getDeletedRows());
+        }
     }
 }
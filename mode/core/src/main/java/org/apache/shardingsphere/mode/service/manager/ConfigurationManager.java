@@ -56,6 +56,7 @@ import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
@@ -138,7 +139,7 @@ public final class ConfigurationManager {
                         .persist(databaseName, schemaName, schemaData, metaDataContexts.get().getMetaData().getDatabases())));
         alterSchemaMetaData(databaseName, reloadMetaDataContexts.getMetaData().getDatabase(databaseName), metaDataContexts.get().getMetaData().getDatabase(databaseName), isDropConfig);
         metaDataContexts.set(reloadMetaDataContexts);
-        metaDataContexts.get().getMetaData().getDatabases().putAll(newShardingSphereDatabase(metaDataContexts.get().getMetaData().getDatabase(databaseName)));
+        metaDataContexts.get().getMetaData().putDatabases(newShardingSphereDatabase(metaDataContexts.get().getMetaData().getDatabase(databaseName)));
         switchingResource.closeStaleDataSources();
     }
     
@@ -204,13 +205,72 @@ public final class ConfigurationManager {
         }
     }
     
+    /**
+     * Alter rule configurations.
+     *
+     * <p>Rules of all changed rule configurations are rebuilt together, and meta data contexts of the database are refreshed only once.
+     * Rules of empty dropped rule configurations are removed, schemas are persisted as dropped configuration only if there is no altered rule configuration.</p>
+     *
+     * @param databaseName database name
+     * @param alteredRuleConfigs altered rule configurations
+     * @param droppedRuleConfigs dropped rule configurations
+     */
+    public synchronized void alterRuleConfigurations(final String databaseName, final Collection<RuleConfiguration> alteredRuleConfigs, final Collection<RuleConfiguration> droppedRuleConfigs) {
+        ShardingSphereDatabase database = metaDataContexts.get().getMetaData().getDatabase(databaseName);
+        Collection<ShardingSphereRule> rules = new LinkedList<>(database.getRuleMetaData().getRules());
+        boolean isRefreshRequired = false;
+        for (RuleConfiguration each : alteredRuleConfigs) {
+            isRefreshRequired = changeRules(databaseName, database, rules, each, false) || isRefreshRequired;
+        }
+        for (RuleConfiguration each : droppedRuleConfigs) {
+            isRefreshRequired = changeRules(databaseName, database, rules, each, true) || isRefreshRequired;
+        }
+        if (!isRefreshRequired) {
+            return;
+        }
+        try {
+            refreshMetadata(databaseName, database, rules, alteredRuleConfigs.isEmpty());
+        } catch (final SQLException ex) {
+            log.error("Alter database: {} rule configurations failed", databaseName, ex);
+        }
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private boolean changeRules(final String databaseName, final ShardingSphereDatabase database, final Collection<ShardingSphereRule> rules,
+                                final RuleConfiguration ruleConfig, final boolean isDropConfig) {
+        Optional<ShardingSphereRule> toBeChangedRule = rules.stream().filter(each -> each.getConfiguration().getClass().equals(ruleConfig.getClass())).findFirst();
+        if (toBeChangedRule.isPresent() && toBeChangedRule.get() instanceof PartialRuleUpdateSupported && ((PartialRuleUpdateSupported) toBeChangedRule.get()).partialUpdate(ruleConfig)) {
+            ((PartialRuleUpdateSupported) toBeChangedRule.get()).updateConfiguration(ruleConfig);
+            return false;
+        }
+        rules.removeIf(each -> each.getConfiguration().getClass().isAssignableFrom(ruleConfig.getClass()));
+        if (!isDropConfig || !(ruleConfig instanceof DatabaseRuleConfiguration) || !((DatabaseRuleConfiguration) ruleConfig).isEmpty()) {
+            rules.addAll(DatabaseRulesBuilder.build(databaseName, database.getProtocolType(), new LinkedList<>(rules), ruleConfig, computeNodeInstanceContext, database.getResourceMetaData()));
+        }
+        return true;
+    }
+    
     private void refreshMetadata(final String databaseName, final ShardingSphereDatabase database, final Collection<ShardingSphereRule> rules, final boolean isDropConfig) throws SQLException {
+        Collection<ShardingSphereRule> staleRules = new LinkedList<>(database.getRuleMetaData().getRules());
+        staleRules.addAll(rules);
         database.getRuleMetaData().getRules().clear();
         database.getRuleMetaData().getRules().addAll(rules);
         MetaDataContexts reloadMetaDataContexts = createMetaDataContextsByAlterRule(databaseName, database.getRuleMetaData().getConfigurations());
         alterSchemaMetaData(databaseName, reloadMetaDataContexts.getMetaData().getDatabase(databaseName), metaDataContexts.get().getMetaData().getDatabase(databaseName), isDropConfig);
         metaDataContexts.set(reloadMetaDataContexts);
         metaDataContexts.get().getMetaData().getDatabase(databaseName).getSchemas().putAll(newShardingSphereSchemas(metaDataContexts.get().getMetaData().getDatabase(databaseName)));
+        closeReplacedRules(staleRules, metaDataContexts.get().getMetaData().getDatabase(databaseName).getRuleMetaData().getRules());
+    }
+    
+    @SneakyThrows(Exception.class)
+    private void closeReplacedRules(final Collection<ShardingSphereRule> staleRules, final Collection<ShardingSphereRule> effectiveRules) {
+        Collection<ShardingSphereRule> handledRules = Collections.newSetFromMap(new IdentityHashMap<>());
+        handledRules.addAll(effectiveRules);
+        for (ShardingSphereRule each : staleRules) {
+            if (handledRules.add(each) && each instanceof AutoCloseable) {
+                ((AutoCloseable) each).close();
+            }
+        }
     }
     
     private MetaDataContexts createMetaDataContextsByAlterRule(final String databaseName, final Collection<RuleConfiguration> ruleConfigs) throws SQLException {
@@ -20,13 +20,22 @@ package org.apache.shardingsphere.mode.subsciber;
 import com.google.common.eventbus.Subscribe;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rule.event.rule.RuleItemChangedEvent;
 import org.apache.shardingsphere.infra.rule.event.rule.alter.AlterRuleItemEvent;
 import org.apache.shardingsphere.infra.rule.event.rule.drop.DropRuleItemEvent;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.infra.util.eventbus.EventSubscriber;
+import org.apache.shardingsphere.mode.event.config.RuleItemsChangedEvent;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.spi.RuleItemConfigurationChangedProcessor;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
 /**
  * Rule item changed subscriber.
  */
@@ -78,4 +87,65 @@ public final class RuleItemChangedSubscriber implements EventSubscriber {
             contextManager.getMetaDataContextManager().getConfigurationManager().dropRuleConfiguration(databaseName, currentRuleConfig);
         }
     }
+    
+    /**
+     * Renew with rule items changed in one batch.
+     * 
+     * <p>Rule configuration changed by any drop rule item event is regarded as dropped, others are regarded as altered.</p>
+     *
+     * @param event rule items changed event
+     */
+    @SuppressWarnings("unused")
+    @Subscribe
+    public synchronized void renew(final RuleItemsChangedEvent event) {
+        String databaseName = event.getDatabaseName();
+        if (!contextManager.getMetaDataContexts().getMetaData().containsDatabase(databaseName)) {
+            return;
+        }
+        ShardingSphereDatabase database = contextManager.getMetaDataContexts().getMetaData().getDatabase(databaseName);
+        Map<Class<?>, RuleConfiguration> changedRuleConfigs = new LinkedHashMap<>();
+        Collection<Class<?>> droppedRuleConfigTypes = new HashSet<>();
+        for (RuleItemChangedEvent each : event.getRuleItemChangedEvents()) {
+            if (each instanceof AlterRuleItemEvent) {
+                changeRuleItem((AlterRuleItemEvent) each, database, changedRuleConfigs);
+            } else if (each instanceof DropRuleItemEvent) {
+                droppedRuleConfigTypes.add(dropRuleItem((DropRuleItemEvent) each, database, changedRuleConfigs).getClass());
+            }
+        }
+        if (changedRuleConfigs.isEmpty()) {
+            return;
+        }
+        Collection<RuleConfiguration> alteredRuleConfigs = new LinkedList<>();
+        Collection<RuleConfiguration> droppedRuleConfigs = new LinkedList<>();
+        changedRuleConfigs.forEach((key, value) -> (droppedRuleConfigTypes.contains(key) ? droppedRuleConfigs : alteredRuleConfigs).add(value));
+        contextManager.getMetaDataContextManager().getConfigurationManager().alterRuleConfigurations(databaseName, alteredRuleConfigs, droppedRuleConfigs);
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void changeRuleItem(final AlterRuleItemEvent event, final ShardingSphereDatabase database, final Map<Class<?>, RuleConfiguration> changedRuleConfigs) {
+        if (!event.getActiveVersion().equals(contextManager.getPersistServiceFacade().getMetaDataPersistService().getMetaDataVersionPersistService()
+                .getActiveVersionByFullPath(event.getActiveVersionKey()))) {
+            return;
+        }
+        RuleItemConfigurationChangedProcessor processor = TypedSPILoader.getService(RuleItemConfigurationChangedProcessor.class, event.getType());
+        String yamlContent = contextManager.getPersistServiceFacade().getMetaDataPersistService().getMetaDataVersionPersistService()
+                .getVersionPathByActiveVersion(event.getActiveVersionKey(), event.getActiveVersion());
+        RuleConfiguration currentRuleConfig = findChangedRuleConfiguration(processor, database, changedRuleConfigs);
+        processor.changeRuleItemConfiguration(event, currentRuleConfig, processor.swapRuleItemConfiguration(event, yamlContent));
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private RuleConfiguration dropRuleItem(final DropRuleItemEvent event, final ShardingSphereDatabase database, final Map<Class<?>, RuleConfiguration> changedRuleConfigs) {
+        RuleItemConfigurationChangedProcessor processor = TypedSPILoader.getService(RuleItemConfigurationChangedProcessor.class, event.getType());
+        RuleConfiguration result = findChangedRuleConfiguration(processor, database, changedRuleConfigs);
+        processor.dropRuleItemConfiguration(event, result);
+        return result;
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private RuleConfiguration findChangedRuleConfiguration(final RuleItemConfigurationChangedProcessor processor, final ShardingSphereDatabase database,
+                                                           final Map<Class<?>, RuleConfiguration> changedRuleConfigs) {
+        RuleConfiguration result = processor.findRuleConfiguration(database);
+        return changedRuleConfigs.computeIfAbsent(result.getClass(), key -> result);
+    }
 }
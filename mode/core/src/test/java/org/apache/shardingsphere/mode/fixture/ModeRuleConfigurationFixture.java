@@ -17,7 +17,14 @@
 
 package org.apache.shardingsphere.mode.fixture;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.config.rule.function.DistributedRuleConfiguration;
+import org.apache.shardingsphere.infra.config.rule.scope.DatabaseRuleConfiguration;
 
-public final class ModeRuleConfigurationFixture implements DistributedRuleConfiguration {
+@RequiredArgsConstructor
+@Getter
+public final class ModeRuleConfigurationFixture implements DatabaseRuleConfiguration, DistributedRuleConfiguration {
+    
+    private final boolean empty;
 }
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.service.manager;
+
+import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.metadata.factory.ExternalMetaDataFactory;
+import org.apache.shardingsphere.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.metadata.persist.service.database.DatabaseMetaDataPersistService;
+import org.apache.shardingsphere.mode.fixture.ModeRuleConfigurationFixture;
+import org.apache.shardingsphere.mode.fixture.ModeRuleFixture;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.mode.metadata.MetaDataContextsFactory;
+import org.apache.shardingsphere.mode.service.PersistServiceFacade;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings({ExternalMetaDataFactory.class, MetaDataContextsFactory.class})
+class ConfigurationManagerTest {
+    
+    private final DatabaseMetaDataPersistService databaseMetaDataPersistService = mock(DatabaseMetaDataPersistService.class);
+    
+    private ShardingSphereDatabase database;
+    
+    private ConfigurationManager configurationManager;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        database = mockDatabase();
+        when(ExternalMetaDataFactory.create(eq("foo_db"), any(DatabaseConfiguration.class), any(ConfigurationProperties.class), any())).thenReturn(mockDatabase());
+        MetaDataContexts reloadMetaDataContexts = mockMetaDataContexts(mockDatabase());
+        when(MetaDataContextsFactory.create(any(MetaDataPersistService.class), any(ShardingSphereMetaData.class))).thenReturn(reloadMetaDataContexts);
+        PersistServiceFacade persistServiceFacade = mock(PersistServiceFacade.class, RETURNS_DEEP_STUBS);
+        when(persistServiceFacade.getMetaDataPersistService().getDatabaseMetaDataService()).thenReturn(databaseMetaDataPersistService);
+        configurationManager = new ConfigurationManager(new AtomicReference<>(mockMetaDataContexts(database)), mock(ComputeNodeInstanceContext.class), persistServiceFacade);
+    }
+    
+    private ShardingSphereDatabase mockDatabase() {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class);
+        when(result.getName()).thenReturn("foo_db");
+        when(result.getProtocolType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(result.getResourceMetaData()).thenReturn(new ResourceMetaData(Collections.emptyMap()));
+        when(result.getRuleMetaData()).thenReturn(new RuleMetaData(new LinkedList<>()));
+        when(result.getSchemas()).thenReturn(new HashMap<>(Collections.singletonMap("foo_schema", new ShardingSphereSchema())));
+        return result;
+    }
+    
+    private MetaDataContexts mockMetaDataContexts(final ShardingSphereDatabase database) {
+        MetaDataContexts result = mock(MetaDataContexts.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getDatabase("foo_db")).thenReturn(database);
+        when(result.getMetaData().getDatabases()).thenReturn(new HashMap<>(Collections.singletonMap("foo_db", database)));
+        when(result.getMetaData().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
+        return result;
+    }
+    
+    @Test
+    void assertAlterRuleConfigurationsWithAlteredAndDroppedRuleConfigurations() {
+        configurationManager.alterRuleConfigurations("foo_db", Arrays.asList(new ModeRuleConfigurationFixture(false), new ModeRuleConfigurationFixture(true)),
+                Collections.singletonList(new ModeRuleConfigurationFixture(true)));
+        assertThat(database.getRuleMetaData().getRules().size(), is(2));
+        assertThat(database.getRuleMetaData().getRules().iterator().next(), instanceOf(ModeRuleFixture.class));
+        verify(databaseMetaDataPersistService).persistByAlterConfiguration(eq("foo_db"), eq("foo_schema"), any(ShardingSphereSchema.class));
+        verify(databaseMetaDataPersistService, never()).persistByDropConfiguration(anyString(), anyString(), any(ShardingSphereSchema.class));
+    }
+    
+    @Test
+    void assertAlterRuleConfigurationsWithDroppedRuleConfigurationsOnly() {
+        configurationManager.alterRuleConfigurations("foo_db", Collections.emptyList(), Arrays.asList(new ModeRuleConfigurationFixture(false), new ModeRuleConfigurationFixture(true)));
+        assertThat(database.getRuleMetaData().getRules().size(), is(1));
+        verify(databaseMetaDataPersistService).persistByDropConfiguration(eq("foo_db"), eq("foo_schema"), any(ShardingSphereSchema.class));
+        verify(databaseMetaDataPersistService, never()).persistByAlterConfiguration(anyString(), anyString(), any(ShardingSphereSchema.class));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.subsciber;
+
+import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rule.event.rule.alter.AlterUniqueRuleItemEvent;
+import org.apache.shardingsphere.infra.rule.event.rule.drop.DropUniqueRuleItemEvent;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.mode.event.config.RuleItemsChangedEvent;
+import org.apache.shardingsphere.mode.fixture.ModeRuleConfigurationFixture;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.service.manager.ConfigurationManager;
+import org.apache.shardingsphere.mode.spi.RuleItemConfigurationChangedProcessor;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(TypedSPILoader.class)
+class RuleItemChangedSubscriberTest {
+    
+    private final RuleConfiguration fooRuleConfig = new ModeRuleConfigurationFixture(false);
+    
+    private final RuleConfiguration barRuleConfig = mock(RuleConfiguration.class);
+    
+    private final ConfigurationManager configurationManager = mock(ConfigurationManager.class);
+    
+    private RuleItemConfigurationChangedProcessor<RuleConfiguration, Object> fooProcessor;
+    
+    private RuleItemConfigurationChangedProcessor<RuleConfiguration, Object> barProcessor;
+    
+    private RuleItemChangedSubscriber subscriber;
+    
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        when(contextManager.getMetaDataContexts().getMetaData().containsDatabase("foo_db")).thenReturn(true);
+        when(contextManager.getMetaDataContexts().getMetaData().getDatabase("foo_db")).thenReturn(database);
+        when(contextManager.getPersistServiceFacade().getMetaDataPersistService().getMetaDataVersionPersistService().getActiveVersionByFullPath(anyString())).thenReturn("0");
+        when(contextManager.getMetaDataContextManager().getConfigurationManager()).thenReturn(configurationManager);
+        fooProcessor = mock(RuleItemConfigurationChangedProcessor.class);
+        when(fooProcessor.findRuleConfiguration(database)).thenReturn(fooRuleConfig);
+        when(TypedSPILoader.getService(RuleItemConfigurationChangedProcessor.class, "foo.type")).thenReturn(fooProcessor);
+        barProcessor = mock(RuleItemConfigurationChangedProcessor.class);
+        when(barProcessor.findRuleConfiguration(database)).thenReturn(barRuleConfig);
+        when(TypedSPILoader.getService(RuleItemConfigurationChangedProcessor.class, "bar.type")).thenReturn(barProcessor);
+        subscriber = new RuleItemChangedSubscriber(contextManager);
+    }
+    
+    @Test
+    void assertRenewWithAlterAndDropRuleItemsOfDifferentRuleConfigurations() {
+        subscriber.renew(new RuleItemsChangedEvent("foo_db", Arrays.asList(new AlterUniqueRuleItemEvent("foo_db", "/foo/tables/active_version", "0", "foo.type"),
+                new DropUniqueRuleItemEvent("foo_db", "bar.type"), new AlterUniqueRuleItemEvent("foo_db", "/foo/default/active_version", "0", "foo.type"))));
+        verify(fooProcessor, times(2)).changeRuleItemConfiguration(any(), eq(fooRuleConfig), any());
+        verify(barProcessor).dropRuleItemConfiguration(any(), eq(barRuleConfig));
+        verify(configurationManager).alterRuleConfigurations("foo_db", Collections.singletonList(fooRuleConfig), Collections.singletonList(barRuleConfig));
+        verify(configurationManager, never()).alterRuleConfiguration(anyString(), any());
+        verify(configurationManager, never()).dropRuleConfiguration(anyString(), any());
+    }
+    
+    @Test
+    void assertRenewWithAlterAndDropRuleItemsOfSameRuleConfiguration() {
+        subscriber.renew(new RuleItemsChangedEvent("foo_db", Arrays.asList(
+                new AlterUniqueRuleItemEvent("foo_db", "/foo/tables/active_version", "0", "foo.type"), new DropUniqueRuleItemEvent("foo_db", "foo.type"))));
+        verify(configurationManager).alterRuleConfigurations("foo_db", Collections.emptyList(), Collections.singletonList(fooRuleConfig));
+    }
+    
+    @Test
+    void assertRenewWithAlterRuleItemsOnly() {
+        subscriber.renew(new RuleItemsChangedEvent("foo_db", Arrays.asList(
+                new AlterUniqueRuleItemEvent("foo_db", "/foo/tables/active_version", "0", "foo.type"), new AlterUniqueRuleItemEvent("foo_db", "/bar/tables/active_version", "0", "bar.type"))));
+        verify(configurationManager).alterRuleConfigurations("foo_db", Arrays.asList(fooRuleConfig, barRuleConfig), Collections.emptyList());
+    }
+    
+    @Test
+    void assertRenewWithStaleActiveVersion() {
+        subscriber.renew(new RuleItemsChangedEvent("foo_db", Collections.singletonList(new AlterUniqueRuleItemEvent("foo_db", "/foo/tables/active_version", "1", "foo.type"))));
+        verify(fooProcessor, never()).changeRuleItemConfiguration(any(), any(), any());
+        verify(configurationManager, never()).alterRuleConfigurations(anyString(), anyCollection(), anyCollection());
+    }
+}
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.mode.manager.cluster;
 
 import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
@@ -26,6 +28,7 @@ import org.apache.shardingsphere.infra.instance.metadata.jdbc.JDBCInstanceMetaDa
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.metadata.persist.codec.TableMetaDataCodec;
 import org.apache.shardingsphere.metadata.persist.node.DatabaseMetaDataNode;
 import org.apache.shardingsphere.mode.lock.GlobalLockContext;
 import org.apache.shardingsphere.mode.manager.ContextManager;
@@ -35,6 +38,7 @@ import org.apache.shardingsphere.mode.manager.cluster.coordinator.listener.MetaD
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.listener.MetaDataWatchListenerManager;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.lock.GlobalLockPersistService;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceWatcherFactory;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.keygen.ClusterKeySegmentAllocator;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.workerid.generator.ClusterWorkerIdGenerator;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.subscriber.ClusterEventSubscriberRegistry;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.subscriber.InternalEventSubscriberRegistry;
@@ -59,7 +63,8 @@ public final class ClusterContextManagerBuilder implements ContextManagerBuilder
         ClusterPersistRepository repository = getClusterPersistRepository(config);
         ComputeNodeInstanceContext computeNodeInstanceContext = buildComputeNodeInstanceContext(modeConfig, param.getInstanceMetaData(), repository, eventBusContext, param.getLabels());
         repository.init(config, computeNodeInstanceContext);
-        MetaDataPersistService metaDataPersistService = new MetaDataPersistService(repository);
+        String metaDataSnapshotPath = new ConfigurationProperties(param.getProps()).getValue(ConfigurationPropertyKey.META_DATA_SNAPSHOT_PATH);
+        MetaDataPersistService metaDataPersistService = new MetaDataPersistService(repository, metaDataSnapshotPath, TableMetaDataCodec.valueOf(config));
         MetaDataContexts metaDataContexts = MetaDataContextsFactory.create(metaDataPersistService, param, computeNodeInstanceContext);
         ContextManager result = new ContextManager(metaDataContexts, computeNodeInstanceContext, repository);
         registerOnline(eventBusContext, computeNodeInstanceContext, repository, param, result);
@@ -74,23 +79,25 @@ public final class ClusterContextManagerBuilder implements ContextManagerBuilder
     private ComputeNodeInstanceContext buildComputeNodeInstanceContext(final ModeConfiguration modeConfig, final InstanceMetaData instanceMetaData,
                                                                        final ClusterPersistRepository repository, final EventBusContext eventBusContext, final Collection<String> labels) {
         return new ComputeNodeInstanceContext(new ComputeNodeInstance(instanceMetaData, labels),
-                new ClusterWorkerIdGenerator(repository, instanceMetaData.getId()), modeConfig,
+                new ClusterWorkerIdGenerator(repository, instanceMetaData.getId()), new ClusterKeySegmentAllocator(repository), modeConfig,
                 new GlobalLockContext(new GlobalLockPersistService(repository)), eventBusContext);
     }
     
     private void registerOnline(final EventBusContext eventBusContext, final ComputeNodeInstanceContext computeNodeInstanceContext,
                                 final ClusterPersistRepository repository, final ContextManagerBuilderParameter param, final ContextManager contextManager) {
         contextManager.getPersistServiceFacade().getComputeNodePersistService().registerOnline(computeNodeInstanceContext.getInstance());
-        new GovernanceWatcherFactory(repository, eventBusContext).watchListeners();
-        watchDatabaseMetaDataListener(param, contextManager.getPersistServiceFacade().getMetaDataPersistService(), eventBusContext);
+        long coalescingMilliseconds = contextManager.getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.GOVERNANCE_EVENT_COALESCING_MILLISECONDS);
+        new GovernanceWatcherFactory(repository, eventBusContext, coalescingMilliseconds).watchListeners();
+        watchDatabaseMetaDataListener(param, contextManager.getPersistServiceFacade().getMetaDataPersistService(), eventBusContext, coalescingMilliseconds);
         contextManager.getComputeNodeInstanceContext().getAllClusterInstances().addAll(contextManager.getPersistServiceFacade().getComputeNodePersistService().loadAllComputeNodeInstances());
         new InternalEventSubscriberRegistry(contextManager, repository).register();
         new ClusterEventSubscriberRegistry(contextManager, repository).register();
     }
     
-    private void watchDatabaseMetaDataListener(final ContextManagerBuilderParameter param, final MetaDataPersistService metaDataPersistService, final EventBusContext eventBusContext) {
+    private void watchDatabaseMetaDataListener(final ContextManagerBuilderParameter param, final MetaDataPersistService metaDataPersistService,
+                                               final EventBusContext eventBusContext, final long coalescingMilliseconds) {
         getDatabaseNames(param, metaDataPersistService).forEach(each -> new MetaDataWatchListenerManager((ClusterPersistRepository) metaDataPersistService.getRepository())
-                .addListener(DatabaseMetaDataNode.getDatabaseNamePath(each), new MetaDataChangedListener(eventBusContext)));
+                .addListener(DatabaseMetaDataNode.getDatabaseNamePath(each), new MetaDataChangedListener(eventBusContext), coalescingMilliseconds));
     }
     
     private Collection<String> getDatabaseNames(final ContextManagerBuilderParameter param, final MetaDataPersistService metaDataPersistService) {
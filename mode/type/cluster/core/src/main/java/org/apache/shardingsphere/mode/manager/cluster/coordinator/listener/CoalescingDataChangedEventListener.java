@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.listener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.mode.event.DataChangedEvent;
+import org.apache.shardingsphere.mode.event.DataChangedEvent.Type;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Coalescing data changed event listener.
+ * 
+ * <p>Data changed events are collected within the coalescing window which is opened by the first event, and de-duplicated by key.
+ * Only the latest event of each key is dispatched, in the order of their first changes, as one batch when the window closes.
+ * Key added and then updated within the window is dispatched as added with the latest value, key added and then deleted within the window is not dispatched.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class CoalescingDataChangedEventListener implements DataChangedEventListener {
+    
+    private final ScheduledExecutorService dispatchExecutor;
+    
+    private final long coalescingMilliseconds;
+    
+    private final Consumer<Collection<DataChangedEvent>> batchListener;
+    
+    private final Map<String, DataChangedEvent> pendingEvents = new LinkedHashMap<>();
+    
+    private boolean windowOpened;
+    
+    @Override
+    public void onChange(final DataChangedEvent event) {
+        if (dispatchExecutor.isShutdown()) {
+            return;
+        }
+        synchronized (pendingEvents) {
+            coalesce(event);
+            if (windowOpened) {
+                return;
+            }
+            windowOpened = true;
+        }
+        dispatchExecutor.schedule(this::dispatch, coalescingMilliseconds, TimeUnit.MILLISECONDS);
+    }
+    
+    private void coalesce(final DataChangedEvent event) {
+        DataChangedEvent pendingEvent = pendingEvents.get(event.getKey());
+        if (null != pendingEvent && Type.ADDED == pendingEvent.getType() && Type.DELETED == event.getType()) {
+            pendingEvents.remove(event.getKey());
+        } else if (null != pendingEvent && Type.ADDED == pendingEvent.getType() && Type.UPDATED == event.getType()) {
+            pendingEvents.put(event.getKey(), new DataChangedEvent(event.getKey(), event.getValue(), Type.ADDED));
+        } else {
+            pendingEvents.put(event.getKey(), event);
+        }
+    }
+    
+    private void dispatch() {
+        Collection<DataChangedEvent> events;
+        synchronized (pendingEvents) {
+            events = new ArrayList<>(pendingEvents.values());
+            pendingEvents.clear();
+            windowOpened = false;
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+        try {
+            batchListener.accept(events);
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.error("Dispatch coalesced data changed events failed", ex);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.listener;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Coalescing dispatch executor holder.
+ * 
+ * <p>Coalesced data changed events of the same repository are dispatched by one thread, which is shut down when the context manager is destroyed.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CoalescingDispatchExecutorHolder {
+    
+    private static final Map<ClusterPersistRepository, ScheduledExecutorService> EXECUTORS = new ConcurrentHashMap<>();
+    
+    /**
+     * Get dispatch executor.
+     *
+     * @param repository cluster persist repository
+     * @return dispatch executor
+     */
+    public static ScheduledExecutorService getExecutor(final ClusterPersistRepository repository) {
+        return EXECUTORS.computeIfAbsent(repository, key -> Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("governance-event-coalescing-%d")));
+    }
+    
+    /**
+     * Shutdown dispatch executor.
+     *
+     * @param repository cluster persist repository
+     */
+    public static void shutdown(final ClusterPersistRepository repository) {
+        Optional.ofNullable(EXECUTORS.remove(repository)).ifPresent(ExecutorService::shutdownNow);
+    }
+}
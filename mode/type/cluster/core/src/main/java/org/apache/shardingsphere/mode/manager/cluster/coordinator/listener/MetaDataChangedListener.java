@@ -20,6 +20,9 @@ package org.apache.shardingsphere.mode.manager.cluster.coordinator.listener;
 import com.google.common.base.Preconditions;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.rule.event.GovernanceEvent;
+import org.apache.shardingsphere.infra.rule.event.rule.RuleItemChangedEvent;
+import org.apache.shardingsphere.infra.rule.event.rule.alter.AlterRuleItemEvent;
+import org.apache.shardingsphere.infra.rule.event.rule.drop.DropRuleItemEvent;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.metadata.persist.node.DatabaseMetaDataNode;
 import org.apache.shardingsphere.metadata.persist.node.metadata.DataSourceMetaDataNode;
@@ -27,6 +30,7 @@ import org.apache.shardingsphere.metadata.persist.node.metadata.TableMetaDataNod
 import org.apache.shardingsphere.metadata.persist.node.metadata.ViewMetaDataNode;
 import org.apache.shardingsphere.mode.event.DataChangedEvent;
 import org.apache.shardingsphere.mode.event.DataChangedEvent.Type;
+import org.apache.shardingsphere.mode.event.config.RuleItemsChangedEvent;
 import org.apache.shardingsphere.mode.event.datasource.nodes.AlterStorageNodeEvent;
 import org.apache.shardingsphere.mode.event.datasource.nodes.RegisterStorageNodeEvent;
 import org.apache.shardingsphere.mode.event.datasource.nodes.UnregisterStorageNodeEvent;
@@ -42,6 +46,9 @@ import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metad
 import org.apache.shardingsphere.mode.metadata.builder.RuleConfigurationEventBuilder;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
 
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -59,6 +66,51 @@ public final class MetaDataChangedListener implements DataChangedEventListener {
         createGovernanceEvent(event).ifPresent(eventBusContext::post);
     }
     
+    /**
+     * Handle coalesced data changed events.
+     * 
+     * <p>Consecutive rule item changed events of the same database are posted as one {@link RuleItemsChangedEvent}, other events are posted one by one in order.</p>
+     *
+     * @param events data changed events
+     */
+    public void onChange(final Collection<DataChangedEvent> events) {
+        List<RuleItemChangedEvent> ruleItemChangedEvents = new LinkedList<>();
+        for (DataChangedEvent each : events) {
+            Optional<GovernanceEvent> governanceEvent = createGovernanceEvent(each);
+            if (!governanceEvent.isPresent()) {
+                continue;
+            }
+            if (governanceEvent.get() instanceof RuleItemChangedEvent && (ruleItemChangedEvents.isEmpty()
+                    || getDatabaseName(ruleItemChangedEvents.get(0)).equals(getDatabaseName((RuleItemChangedEvent) governanceEvent.get())))) {
+                ruleItemChangedEvents.add((RuleItemChangedEvent) governanceEvent.get());
+                continue;
+            }
+            postRuleItemChangedEvents(ruleItemChangedEvents);
+            if (governanceEvent.get() instanceof RuleItemChangedEvent) {
+                ruleItemChangedEvents.add((RuleItemChangedEvent) governanceEvent.get());
+            } else {
+                eventBusContext.post(governanceEvent.get());
+            }
+        }
+        postRuleItemChangedEvents(ruleItemChangedEvents);
+    }
+    
+    private void postRuleItemChangedEvents(final List<RuleItemChangedEvent> ruleItemChangedEvents) {
+        if (ruleItemChangedEvents.isEmpty()) {
+            return;
+        }
+        if (1 == ruleItemChangedEvents.size()) {
+            eventBusContext.post(ruleItemChangedEvents.get(0));
+        } else {
+            eventBusContext.post(new RuleItemsChangedEvent(getDatabaseName(ruleItemChangedEvents.get(0)), new LinkedList<>(ruleItemChangedEvents)));
+        }
+        ruleItemChangedEvents.clear();
+    }
+    
+    private String getDatabaseName(final RuleItemChangedEvent event) {
+        return event instanceof AlterRuleItemEvent ? ((AlterRuleItemEvent) event).getDatabaseName() : ((DropRuleItemEvent) event).getDatabaseName();
+    }
+    
     private Optional<GovernanceEvent> createGovernanceEvent(final DataChangedEvent event) {
         String key = event.getKey();
         Optional<String> databaseName = DatabaseMetaDataNode.getDatabaseNameBySchemaNode(key);
@@ -39,6 +39,19 @@ public final class MetaDataWatchListenerManager {
         repository.watch(listenerKey, dataChangedEventListener);
     }
     
+    /**
+     * Add meta data changed listener.
+     *
+     * @param listenerKey listener key
+     * @param metaDataChangedListener meta data changed listener
+     * @param coalescingMilliseconds coalescing window milliseconds, less than or equal to 0 means dispatch each event immediately
+     */
+    public void addListener(final String listenerKey, final MetaDataChangedListener metaDataChangedListener, final long coalescingMilliseconds) {
+        addListener(listenerKey, coalescingMilliseconds > 0
+                ? new CoalescingDataChangedEventListener(CoalescingDispatchExecutorHolder.getExecutor(repository), coalescingMilliseconds, metaDataChangedListener::onChange)
+                : metaDataChangedListener);
+    }
+    
     /**
      * Remove listener.
      *
@@ -20,7 +20,11 @@ package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.mode.event.DataChangedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.listener.CoalescingDataChangedEventListener;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.listener.CoalescingDispatchExecutorHolder;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
 
 /**
  * Governance watcher factory.
@@ -32,6 +36,8 @@ public final class GovernanceWatcherFactory {
     
     private final EventBusContext eventBusContext;
     
+    private final long coalescingMilliseconds;
+    
     /**
      * Watch listeners.
      */
@@ -48,10 +54,15 @@ public final class GovernanceWatcherFactory {
     }
     
     private void watch(final String watchingKey, final GovernanceWatcher<?> listener) {
-        repository.watch(watchingKey, dataChangedEventListener -> {
-            if (listener.getWatchingTypes().contains(dataChangedEventListener.getType())) {
-                listener.createGovernanceEvent(dataChangedEventListener).ifPresent(eventBusContext::post);
-            }
-        });
+        DataChangedEventListener dataChangedEventListener = event -> onChange(listener, event);
+        repository.watch(watchingKey, coalescingMilliseconds > 0
+                ? new CoalescingDataChangedEventListener(CoalescingDispatchExecutorHolder.getExecutor(repository), coalescingMilliseconds, events -> events.forEach(dataChangedEventListener::onChange))
+                : dataChangedEventListener);
+    }
+    
+    private void onChange(final GovernanceWatcher<?> listener, final DataChangedEvent event) {
+        if (listener.getWatchingTypes().contains(event.getType())) {
+            listener.createGovernanceEvent(event).ifPresent(eventBusContext::post);
+        }
     }
 }
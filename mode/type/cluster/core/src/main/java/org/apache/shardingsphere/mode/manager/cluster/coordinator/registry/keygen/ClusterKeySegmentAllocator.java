@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.keygen;
+
+import com.google.common.base.Strings;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.instance.keygen.KeySegmentAllocatedException;
+import org.apache.shardingsphere.infra.instance.keygen.KeySegmentAllocator;
+import org.apache.shardingsphere.metadata.persist.node.KeySegmentNode;
+import org.apache.shardingsphere.mode.lock.GlobalLockDefinition;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.lock.DistributedLock;
+
+/**
+ * Cluster key segment allocator.
+ */
+@RequiredArgsConstructor
+public final class ClusterKeySegmentAllocator implements KeySegmentAllocator {
+    
+    private static final long LOCK_TIMEOUT_MILLIS = 3000L;
+    
+    private final ClusterPersistRepository repository;
+    
+    @Override
+    public long allocate(final String segmentName, final int step) {
+        DistributedLock lock = repository.getDistributedLockHolder().getDistributedLock(new GlobalLockDefinition("key_segment_" + segmentName).getLockKey());
+        ShardingSpherePreconditions.checkState(lock.tryLock(LOCK_TIMEOUT_MILLIS), () -> new KeySegmentAllocatedException(segmentName));
+        try {
+            String path = KeySegmentNode.getKeySegmentPath(segmentName);
+            String currentMaxKey = repository.query(path);
+            long result = (Strings.isNullOrEmpty(currentMaxKey) ? 0L : Long.parseLong(currentMaxKey)) + step;
+            repository.persist(path, String.valueOf(result));
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
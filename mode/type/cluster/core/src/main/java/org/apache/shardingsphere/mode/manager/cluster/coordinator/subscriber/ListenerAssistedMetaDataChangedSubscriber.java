@@ -19,6 +19,7 @@ package org.apache.shardingsphere.mode.manager.cluster.coordinator.subscriber;
 
 import com.google.common.eventbus.Subscribe;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.infra.util.eventbus.EventSubscriber;
 import org.apache.shardingsphere.mode.manager.ContextManager;
@@ -52,7 +53,8 @@ public final class ListenerAssistedMetaDataChangedSubscriber implements EventSub
             return;
         }
         new MetaDataWatchListenerManager((ClusterPersistRepository) contextManager.getRepository())
-                .addListener(processor.get().getListenerKey(event), new MetaDataChangedListener(contextManager.getComputeNodeInstanceContext().getEventBusContext()));
+                .addListener(processor.get().getListenerKey(event), new MetaDataChangedListener(contextManager.getComputeNodeInstanceContext().getEventBusContext()),
+                        contextManager.getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.GOVERNANCE_EVENT_COALESCING_MILLISECONDS));
         processor.get().processor(contextManager, event);
     }
     
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.listener;
+
+import org.apache.shardingsphere.mode.event.DataChangedEvent;
+import org.apache.shardingsphere.mode.event.DataChangedEvent.Type;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoalescingDataChangedEventListenerTest {
+    
+    private final ScheduledExecutorService dispatchExecutor = Executors.newSingleThreadScheduledExecutor();
+    
+    @AfterEach
+    void tearDown() {
+        dispatchExecutor.shutdownNow();
+    }
+    
+    @Test
+    void assertOnChangeWithCoalescedEvents() {
+        List<Collection<DataChangedEvent>> actual = new CopyOnWriteArrayList<>();
+        CoalescingDataChangedEventListener listener = new CoalescingDataChangedEventListener(dispatchExecutor, 200L, actual::add);
+        listener.onChange(new DataChangedEvent("/foo", "foo_value_1", Type.UPDATED));
+        listener.onChange(new DataChangedEvent("/bar", "bar_value", Type.UPDATED));
+        listener.onChange(new DataChangedEvent("/foo", "foo_value_2", Type.UPDATED));
+        Awaitility.await().atMost(5L, TimeUnit.SECONDS).until(() -> !actual.isEmpty());
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).size(), is(2));
+        Iterator<DataChangedEvent> iterator = actual.get(0).iterator();
+        DataChangedEvent fooEvent = iterator.next();
+        assertThat(fooEvent.getValue(), is("foo_value_2"));
+        assertThat(fooEvent.getType(), is(Type.UPDATED));
+        assertThat(iterator.next().getValue(), is("bar_value"));
+    }
+    
+    @Test
+    void assertOnChangeWithAddedAndUpdatedEvents() {
+        List<Collection<DataChangedEvent>> actual = new CopyOnWriteArrayList<>();
+        CoalescingDataChangedEventListener listener = new CoalescingDataChangedEventListener(dispatchExecutor, 200L, actual::add);
+        listener.onChange(new DataChangedEvent("/foo", "foo_value_1", Type.ADDED));
+        listener.onChange(new DataChangedEvent("/bar", "bar_value", Type.UPDATED));
+        listener.onChange(new DataChangedEvent("/foo", "foo_value_2", Type.UPDATED));
+        Awaitility.await().atMost(5L, TimeUnit.SECONDS).until(() -> !actual.isEmpty());
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).size(), is(2));
+        Iterator<DataChangedEvent> iterator = actual.get(0).iterator();
+        DataChangedEvent fooEvent = iterator.next();
+        assertThat(fooEvent.getValue(), is("foo_value_2"));
+        assertThat(fooEvent.getType(), is(Type.ADDED));
+        assertThat(iterator.next().getKey(), is("/bar"));
+    }
+    
+    @Test
+    void assertOnChangeWithAddedAndDeletedEvents() {
+        List<Collection<DataChangedEvent>> actual = new CopyOnWriteArrayList<>();
+        CoalescingDataChangedEventListener listener = new CoalescingDataChangedEventListener(dispatchExecutor, 200L, actual::add);
+        listener.onChange(new DataChangedEvent("/foo", "foo_value", Type.ADDED));
+        listener.onChange(new DataChangedEvent("/bar", "bar_value", Type.UPDATED));
+        listener.onChange(new DataChangedEvent("/foo", "", Type.DELETED));
+        Awaitility.await().atMost(5L, TimeUnit.SECONDS).until(() -> !actual.isEmpty());
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).size(), is(1));
+        assertThat(actual.get(0).iterator().next().getKey(), is("/bar"));
+    }
+    
+    @Test
+    void assertOnChangeWithNextWindow() {
+        List<Collection<DataChangedEvent>> actual = new CopyOnWriteArrayList<>();
+        CoalescingDataChangedEventListener listener = new CoalescingDataChangedEventListener(dispatchExecutor, 10L, actual::add);
+        listener.onChange(new DataChangedEvent("/foo", "foo_value_1", Type.ADDED));
+        Awaitility.await().atMost(5L, TimeUnit.SECONDS).until(() -> 1 == actual.size());
+        listener.onChange(new DataChangedEvent("/foo", "foo_value_2", Type.UPDATED));
+        Awaitility.await().atMost(5L, TimeUnit.SECONDS).until(() -> 2 == actual.size());
+        assertThat(actual.get(0).iterator().next().getValue(), is("foo_value_1"));
+        assertThat(actual.get(1).iterator().next().getValue(), is("foo_value_2"));
+    }
+    
+    @Test
+    void assertOnChangeAfterDispatchExecutorShutdown() {
+        List<Collection<DataChangedEvent>> actual = new CopyOnWriteArrayList<>();
+        CoalescingDataChangedEventListener listener = new CoalescingDataChangedEventListener(dispatchExecutor, 10L, actual::add);
+        dispatchExecutor.shutdownNow();
+        listener.onChange(new DataChangedEvent("/foo", "foo_value", Type.ADDED));
+        assertTrue(actual.isEmpty());
+    }
+}
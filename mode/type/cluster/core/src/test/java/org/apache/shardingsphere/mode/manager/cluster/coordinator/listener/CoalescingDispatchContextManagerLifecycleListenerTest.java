@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.listener;
+
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CoalescingDispatchContextManagerLifecycleListenerTest {
+    
+    @Test
+    void assertOnDestroyed() {
+        ClusterPersistRepository repository = mock(ClusterPersistRepository.class);
+        ScheduledExecutorService dispatchExecutor = CoalescingDispatchExecutorHolder.getExecutor(repository);
+        assertThat(CoalescingDispatchExecutorHolder.getExecutor(repository), sameInstance(dispatchExecutor));
+        ContextManager contextManager = mock(ContextManager.class);
+        when(contextManager.getRepository()).thenReturn(repository);
+        new CoalescingDispatchContextManagerLifecycleListener().onDestroyed(contextManager);
+        assertTrue(dispatchExecutor.isShutdown());
+        ScheduledExecutorService actual = CoalescingDispatchExecutorHolder.getExecutor(repository);
+        assertThat(actual, not(sameInstance(dispatchExecutor)));
+        assertFalse(actual.isShutdown());
+        CoalescingDispatchExecutorHolder.shutdown(repository);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.listener;
+
+import org.apache.shardingsphere.infra.rule.event.rule.alter.AlterUniqueRuleItemEvent;
+import org.apache.shardingsphere.infra.rule.event.rule.drop.DropUniqueRuleItemEvent;
+import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
+import org.apache.shardingsphere.mode.event.DataChangedEvent;
+import org.apache.shardingsphere.mode.event.DataChangedEvent.Type;
+import org.apache.shardingsphere.mode.event.config.RuleItemsChangedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.event.SchemaAddedEvent;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class MetaDataChangedListenerTest {
+    
+    private final EventBusContext eventBusContext = mock(EventBusContext.class);
+    
+    private final MetaDataChangedListener listener = new MetaDataChangedListener(eventBusContext);
+    
+    @Test
+    void assertOnChangeWithRuleItemChangedEventsOfSameDatabase() {
+        listener.onChange(Arrays.asList(new DataChangedEvent("/metadata/foo_db/rules/single/tables/active_version", "0", Type.UPDATED),
+                new DataChangedEvent("/metadata/foo_db/rules/single/default_data_source/active_version", "", Type.DELETED)));
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(eventBusContext).post(captor.capture());
+        assertThat(captor.getValue(), instanceOf(RuleItemsChangedEvent.class));
+        RuleItemsChangedEvent actual = (RuleItemsChangedEvent) captor.getValue();
+        assertThat(actual.getDatabaseName(), is("foo_db"));
+        assertThat(actual.getRuleItemChangedEvents().size(), is(2));
+        Iterator<?> iterator = actual.getRuleItemChangedEvents().iterator();
+        assertThat(iterator.next(), instanceOf(AlterUniqueRuleItemEvent.class));
+        assertThat(iterator.next(), instanceOf(DropUniqueRuleItemEvent.class));
+    }
+    
+    @Test
+    void assertOnChangeWithRuleItemChangedEventsSplitByOtherEventsAndDatabases() {
+        listener.onChange(Arrays.asList(new DataChangedEvent("/metadata/foo_db/rules/single/tables/active_version", "0", Type.UPDATED),
+                new DataChangedEvent("/metadata/foo_db/rules/single/default_data_source/active_version", "0", Type.UPDATED),
+                new DataChangedEvent("/metadata/foo_db/schemas/foo_schema", "", Type.ADDED),
+                new DataChangedEvent("/metadata/foo_db/rules/single/tables/active_version", "1", Type.UPDATED),
+                new DataChangedEvent("/metadata/bar_db/rules/single/tables/active_version", "0", Type.UPDATED)));
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(eventBusContext, times(4)).post(captor.capture());
+        List<Object> actual = captor.getAllValues();
+        assertThat(actual.get(0), instanceOf(RuleItemsChangedEvent.class));
+        assertThat(((RuleItemsChangedEvent) actual.get(0)).getDatabaseName(), is("foo_db"));
+        assertThat(((RuleItemsChangedEvent) actual.get(0)).getRuleItemChangedEvents().size(), is(2));
+        assertThat(actual.get(1), instanceOf(SchemaAddedEvent.class));
+        assertThat(actual.get(2), instanceOf(AlterUniqueRuleItemEvent.class));
+        assertThat(((AlterUniqueRuleItemEvent) actual.get(2)).getDatabaseName(), is("foo_db"));
+        assertThat(actual.get(3), instanceOf(AlterUniqueRuleItemEvent.class));
+        assertThat(((AlterUniqueRuleItemEvent) actual.get(3)).getDatabaseName(), is("bar_db"));
+    }
+    
+    @Test
+    void assertOnChangeWithoutGovernanceEvent() {
+        listener.onChange(Collections.singleton(new DataChangedEvent("/metadata/foo_db/rules/unknown/active_version", "0", Type.UPDATED)));
+        verify(eventBusContext, never()).post(any());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.keygen;
+
+import org.apache.shardingsphere.infra.instance.keygen.KeySegmentAllocatedException;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.lock.DistributedLock;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterKeySegmentAllocatorTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ClusterPersistRepository repository;
+    
+    @Test
+    void assertAllocateFirstSegment() {
+        DistributedLock lock = mockLock(true);
+        assertThat(new ClusterKeySegmentAllocator(repository).allocate("foo_segment", 100), is(100L));
+        verify(repository).persist("/key_segments/foo_segment", "100");
+        verify(lock).unlock();
+    }
+    
+    @Test
+    void assertAllocateNextSegment() {
+        when(repository.query("/key_segments/foo_segment")).thenReturn("100");
+        DistributedLock lock = mockLock(true);
+        assertThat(new ClusterKeySegmentAllocator(repository).allocate("foo_segment", 100), is(200L));
+        verify(repository).persist("/key_segments/foo_segment", "200");
+        verify(lock).unlock();
+    }
+    
+    @Test
+    void assertAllocateWithLockTimeout() {
+        DistributedLock lock = mockLock(false);
+        assertThrows(KeySegmentAllocatedException.class, () -> new ClusterKeySegmentAllocator(repository).allocate("foo_segment", 100));
+        verify(lock, never()).unlock();
+    }
+    
+    private DistributedLock mockLock(final boolean locked) {
+        DistributedLock result = mock(DistributedLock.class);
+        when(result.tryLock(anyLong())).thenReturn(locked);
+        when(repository.getDistributedLockHolder().getDistributedLock("/lock/exclusive/locks/key_segment_foo_segment")).thenReturn(result);
+        return result;
+    }
+}
@@ -24,6 +24,10 @@ import io.etcd.jetcd.ByteSequence;
 import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.kv.GetResponse;
+import io.etcd.jetcd.op.Cmp;
+import io.etcd.jetcd.op.CmpTarget;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.OptionsUtil;
@@ -46,7 +50,14 @@ import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEve
 import org.apache.shardingsphere.mode.repository.cluster.lock.holder.DistributedLockHolder;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -59,6 +70,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class EtcdRepository implements ClusterPersistRepository {
     
+    private static final int MAX_TXN_OPERATIONS = 128;
+    
     private static final ExecutorService EVENT_LISTENER_EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Etcd-EventListener-%d").build());
     
     private Client client;
@@ -85,6 +98,24 @@ public final class EtcdRepository implements ClusterPersistRepository {
         return keyValues.isEmpty() ? null : keyValues.iterator().next().getValue().toString(StandardCharsets.UTF_8);
     }
     
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public Map<String, String> batchQueryRevisions(final Collection<String> keys) {
+        Map<String, CompletableFuture<GetResponse>> responses = new LinkedHashMap<>(keys.size(), 1F);
+        GetOption getOption = GetOption.newBuilder().withKeysOnly(true).build();
+        for (String each : keys) {
+            responses.put(each, client.getKVClient().get(ByteSequence.from(each, StandardCharsets.UTF_8), getOption));
+        }
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        for (Entry<String, CompletableFuture<GetResponse>> entry : responses.entrySet()) {
+            List<KeyValue> keyValues = entry.getValue().get().getKvs();
+            if (!keyValues.isEmpty()) {
+                result.put(entry.getKey(), keyValues.get(0).getCreateRevision() + ":" + keyValues.get(0).getModRevision());
+            }
+        }
+        return result;
+    }
+    
     @SneakyThrows({InterruptedException.class, ExecutionException.class})
     @Override
     public List<String> getChildrenKeys(final String key) {
@@ -134,16 +165,57 @@ public final class EtcdRepository implements ClusterPersistRepository {
     }
     
     private void buildParentPath(final String key) throws ExecutionException, InterruptedException {
+        for (String each : getParentPaths(key)) {
+            List<KeyValue> keyValues = client.getKVClient().get(ByteSequence.from(each, StandardCharsets.UTF_8)).get().getKvs();
+            if (keyValues.isEmpty()) {
+                client.getKVClient().put(ByteSequence.from(each, StandardCharsets.UTF_8), ByteSequence.from("", StandardCharsets.UTF_8)).get();
+            }
+        }
+    }
+    
+    private Collection<String> getParentPaths(final String key) {
+        Collection<String> result = new LinkedList<>();
         StringBuilder parentPath = new StringBuilder();
         String[] partPath = key.split(PATH_SEPARATOR);
         for (int index = 1; index < partPath.length - 1; index++) {
             parentPath.append(PATH_SEPARATOR);
             parentPath.append(partPath[index]);
-            String path = parentPath.toString();
-            List<KeyValue> keyValues = client.getKVClient().get(ByteSequence.from(path, StandardCharsets.UTF_8)).get().getKvs();
-            if (keyValues.isEmpty()) {
-                client.getKVClient().put(ByteSequence.from(path, StandardCharsets.UTF_8), ByteSequence.from("", StandardCharsets.UTF_8)).get();
-            }
+            result.add(parentPath.toString());
+        }
+        return result;
+    }
+    
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        Collection<String> parentPaths = new LinkedHashSet<>();
+        for (String each : keyValues.keySet()) {
+            parentPaths.addAll(getParentPaths(each));
+        }
+        parentPaths.removeAll(keyValues.keySet());
+        List<Op> operations = new ArrayList<>(Math.min(parentPaths.size() + keyValues.size(), MAX_TXN_OPERATIONS));
+        for (String each : parentPaths) {
+            ByteSequence key = ByteSequence.from(each, StandardCharsets.UTF_8);
+            addOperation(operations, Op.txn(new Cmp[]{new Cmp(key, Cmp.Op.EQUAL, CmpTarget.createRevision(0L))},
+                    new Op[]{Op.put(key, ByteSequence.from("", StandardCharsets.UTF_8), PutOption.DEFAULT)}, new Op[0]));
+        }
+        for (Entry<String, String> entry : keyValues.entrySet()) {
+            addOperation(operations, Op.put(ByteSequence.from(entry.getKey(), StandardCharsets.UTF_8), ByteSequence.from(entry.getValue(), StandardCharsets.UTF_8), PutOption.DEFAULT));
+        }
+        commitOperations(operations);
+    }
+    
+    private void addOperation(final List<Op> operations, final Op operation) throws ExecutionException, InterruptedException {
+        operations.add(operation);
+        if (operations.size() >= MAX_TXN_OPERATIONS) {
+            commitOperations(operations);
+        }
+    }
+    
+    private void commitOperations(final List<Op> operations) throws ExecutionException, InterruptedException {
+        if (!operations.isEmpty()) {
+            client.getKVClient().txn().Then(operations.toArray(new Op[0])).commit().get();
+            operations.clear();
         }
     }
     
@@ -23,6 +23,7 @@ import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KV;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Lease;
+import io.etcd.jetcd.Txn;
 import io.etcd.jetcd.Watch;
 import io.etcd.jetcd.kv.GetResponse;
 import io.etcd.jetcd.lease.LeaseGrantResponse;
@@ -47,6 +48,7 @@ import org.mockito.quality.Strictness;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -57,6 +59,8 @@ import java.util.concurrent.ExecutionException;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
@@ -98,6 +102,12 @@ class EtcdRepositoryTest {
     @Mock
     private CompletableFuture putFuture;
     
+    @Mock
+    private Txn txn;
+    
+    @Mock
+    private CompletableFuture txnFuture;
+    
     @BeforeEach
     void setUp() {
         setClient();
@@ -131,6 +141,9 @@ class EtcdRepositoryTest {
         when(leaseFuture.get()).thenReturn(leaseGrantResponse);
         when(leaseGrantResponse.getID()).thenReturn(123L);
         when(client.getWatchClient()).thenReturn(watch);
+        when(kv.txn()).thenReturn(txn);
+        when(txn.Then(any())).thenReturn(txn);
+        when(txn.commit()).thenReturn(txnFuture);
     }
     
     @Test
@@ -158,6 +171,19 @@ class EtcdRepositoryTest {
         assertThat(iterator.next(), is("key2"));
     }
     
+    @Test
+    void assertBatchQueryRevisions() {
+        io.etcd.jetcd.api.KeyValue keyValue = io.etcd.jetcd.api.KeyValue.newBuilder().setKey(ByteString.copyFromUtf8("/key")).setCreateRevision(10L).setModRevision(20L).build();
+        when(getResponse.getKvs()).thenReturn(Collections.singletonList(new KeyValue(keyValue, ByteSequence.EMPTY)));
+        assertThat(repository.batchQueryRevisions(Collections.singletonList("/key")), is(Collections.singletonMap("/key", "10:20")));
+    }
+    
+    @Test
+    void assertBatchQueryRevisionsWithoutData() {
+        when(getResponse.getKvs()).thenReturn(Collections.emptyList());
+        assertTrue(repository.batchQueryRevisions(Collections.singletonList("/key")).isEmpty());
+    }
+    
     @Test
     @SuppressWarnings("unchecked")
     void assertPersistEphemeral() {
@@ -215,6 +241,19 @@ class EtcdRepositoryTest {
         verify(kv).put(any(ByteSequence.class), any(ByteSequence.class));
     }
     
+    @Test
+    void assertBatchPersist() throws ExecutionException, InterruptedException {
+        repository.batchPersist(Collections.singletonMap("/key/key1", "value1"));
+        verify(txn).commit();
+        verify(txnFuture).get();
+    }
+    
+    @Test
+    void assertBatchPersistWhenThrowExecutionException() throws ExecutionException, InterruptedException {
+        doThrow(ExecutionException.class).when(txnFuture).get();
+        assertThrows(ExecutionException.class, () -> repository.batchPersist(Collections.singletonMap("/key/key1", "value1")));
+    }
+    
     @Test
     void assertClose() {
         repository.close();
@@ -19,10 +19,13 @@ package org.apache.shardingsphere.mode.repository.cluster.zookeeper;
 
 import com.google.common.base.Strings;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.BackgroundCallback;
+import org.apache.curator.framework.api.transaction.CuratorOp;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
 import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
 import org.apache.curator.retry.ExponentialBackoffRetry;
@@ -45,15 +48,23 @@ import org.apache.zookeeper.KeeperException.NodeExistsException;
 import org.apache.zookeeper.KeeperException.OperationTimeoutException;
 import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
+import org.apache.zookeeper.data.Stat;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -61,6 +72,14 @@ import java.util.concurrent.TimeUnit;
  */
 public final class ZookeeperRepository implements ClusterPersistRepository {
     
+    private static final int MAX_BATCH_OPERATIONS = 1000;
+    
+    private static final int MAX_BATCH_BYTES = Integer.getInteger("jute.maxbuffer", 0xfffff) / 2;
+    
+    private static final int OPERATION_OVERHEAD_BYTES = 64;
+    
+    private static final int DEFAULT_BATCH_QUERY_TIMEOUT_SECONDS = 60;
+    
     private final Map<String, CuratorCache> caches = new ConcurrentHashMap<>();
     
     private final Map<String, CuratorCacheListener> dataListeners = new ConcurrentHashMap<>();
@@ -69,12 +88,16 @@ public final class ZookeeperRepository implements ClusterPersistRepository {
     
     private CuratorFramework client;
     
+    private long batchQueryTimeoutMilliseconds;
+    
     @Getter
     private DistributedLockHolder distributedLockHolder;
     
     @Override
     public void init(final ClusterPersistRepositoryConfiguration config, final ComputeNodeInstanceContext computeNodeInstanceContext) {
         ZookeeperProperties zookeeperProps = new ZookeeperProperties(config.getProps());
+        int timeToLiveSeconds = zookeeperProps.getValue(ZookeeperPropertyKey.TIME_TO_LIVE_SECONDS);
+        batchQueryTimeoutMilliseconds = TimeUnit.SECONDS.toMillis(0 == timeToLiveSeconds ? DEFAULT_BATCH_QUERY_TIMEOUT_SECONDS : timeToLiveSeconds);
         client = buildCuratorClient(config, zookeeperProps);
         distributedLockHolder = new DistributedLockHolder(getType(), client, zookeeperProps);
         client.getConnectionStateListenable().addListener(new SessionConnectionReconnectListener(computeNodeInstanceContext, this));
@@ -160,6 +183,114 @@ public final class ZookeeperRepository implements ClusterPersistRepository {
         }
     }
     
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        try {
+            Map<String, Collection<String>> childrenKeys = new HashMap<>();
+            Collection<String> createdPaths = new HashSet<>(keyValues.size() * 2, 1F);
+            OperationChunk chunk = new OperationChunk();
+            for (Entry<String, String> entry : keyValues.entrySet()) {
+                for (String each : getMissingParentPaths(entry.getKey(), childrenKeys, createdPaths)) {
+                    addOperation(chunk, new PersistOperation(each, new byte[0], true, false));
+                }
+                boolean existed = createdPaths.contains(entry.getKey()) || isExistedPath(entry.getKey(), childrenKeys);
+                if (!existed) {
+                    createdPaths.add(entry.getKey());
+                }
+                addOperation(chunk, new PersistOperation(entry.getKey(), entry.getValue().getBytes(StandardCharsets.UTF_8), !existed, true));
+            }
+            commitOperations(chunk);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            if (ex instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new ClusterPersistRepositoryException(ex);
+        }
+    }
+    
+    private Collection<String> getMissingParentPaths(final String key, final Map<String, Collection<String>> childrenKeys, final Collection<String> createdPaths) throws Exception {
+        LinkedList<String> result = new LinkedList<>();
+        String parentPath = getParentPath(key);
+        while (!PATH_SEPARATOR.equals(parentPath) && !createdPaths.contains(parentPath) && !isExistedPath(parentPath, childrenKeys)) {
+            result.addFirst(parentPath);
+            parentPath = getParentPath(parentPath);
+        }
+        createdPaths.addAll(result);
+        return result;
+    }
+    
+    private boolean isExistedPath(final String path, final Map<String, Collection<String>> childrenKeys) throws Exception {
+        String parentPath = getParentPath(path);
+        if (!PATH_SEPARATOR.equals(parentPath) && !isExistedPath(parentPath, childrenKeys)) {
+            return false;
+        }
+        Collection<String> children = childrenKeys.get(parentPath);
+        if (null == children) {
+            children = loadChildrenKeys(parentPath);
+            childrenKeys.put(parentPath, children);
+        }
+        return children.contains(path.substring(path.lastIndexOf(PATH_SEPARATOR) + 1));
+    }
+    
+    private Collection<String> loadChildrenKeys(final String path) throws Exception {
+        try {
+            return new HashSet<>(client.getChildren().forPath(path));
+        } catch (final KeeperException.NoNodeException ignored) {
+            return Collections.emptySet();
+        }
+    }
+    
+    private String getParentPath(final String path) {
+        int index = path.lastIndexOf(PATH_SEPARATOR);
+        return index <= 0 ? PATH_SEPARATOR : path.substring(0, index);
+    }
+    
+    private void addOperation(final OperationChunk chunk, final PersistOperation operation) throws Exception {
+        int operationBytes = operation.path.getBytes(StandardCharsets.UTF_8).length + operation.data.length + OPERATION_OVERHEAD_BYTES;
+        if (!chunk.operations.isEmpty() && (chunk.operations.size() >= MAX_BATCH_OPERATIONS || chunk.bytes + operationBytes > MAX_BATCH_BYTES)) {
+            commitOperations(chunk);
+        }
+        chunk.operations.add(operation);
+        chunk.bytes += operationBytes;
+    }
+    
+    private void commitOperations(final OperationChunk chunk) throws Exception {
+        if (chunk.operations.isEmpty()) {
+            return;
+        }
+        try {
+            client.transaction().forOperations(toCuratorOperations(chunk.operations));
+        } catch (final NodeExistsException ignored) {
+            client.transaction().forOperations(toCuratorOperations(resolveExistedPaths(chunk.operations)));
+        }
+        chunk.operations.clear();
+        chunk.bytes = 0;
+    }
+    
+    private List<CuratorOp> toCuratorOperations(final Collection<PersistOperation> operations) throws Exception {
+        List<CuratorOp> result = new ArrayList<>(operations.size());
+        for (PersistOperation each : operations) {
+            result.add(each.create
+                    ? client.transactionOp().create().withMode(CreateMode.PERSISTENT).forPath(each.path, each.data)
+                    : client.transactionOp().setData().forPath(each.path, each.data));
+        }
+        return result;
+    }
+    
+    private Collection<PersistOperation> resolveExistedPaths(final Collection<PersistOperation> operations) throws Exception {
+        Collection<PersistOperation> result = new LinkedList<>();
+        for (PersistOperation each : operations) {
+            if (!each.create || null == client.checkExists().forPath(each.path)) {
+                result.add(each);
+            } else if (each.withValue) {
+                result.add(new PersistOperation(each.path, each.data, false, true));
+            }
+        }
+        return result;
+    }
+    
     @Override
     public void update(final String key, final String value) {
         try {
@@ -184,6 +315,48 @@ public final class ZookeeperRepository implements ClusterPersistRepository {
         }
     }
     
+    @Override
+    public Map<String, String> batchQuery(final Collection<String> keys) {
+        return batchQuery(keys, false);
+    }
+    
+    @Override
+    public Map<String, String> batchQueryRevisions(final Collection<String> keys) {
+        return batchQuery(keys, true);
+    }
+    
+    private Map<String, String> batchQuery(final Collection<String> keys, final boolean revision) {
+        Map<String, String> result = new ConcurrentHashMap<>(keys.size(), 1F);
+        CountDownLatch latch = new CountDownLatch(keys.size());
+        try {
+            for (String each : keys) {
+                BackgroundCallback callback = (curatorFramework, event) -> {
+                    if (KeeperException.Code.OK.intValue() == event.getResultCode()) {
+                        result.put(each, revision ? getRevision(event.getStat()) : new String(event.getData(), StandardCharsets.UTF_8));
+                    }
+                    latch.countDown();
+                };
+                if (revision) {
+                    client.checkExists().inBackground(callback).forPath(each);
+                } else {
+                    client.getData().inBackground(callback).forPath(each);
+                }
+            }
+            if (!latch.await(batchQueryTimeoutMilliseconds, TimeUnit.MILLISECONDS)) {
+                throw new OperationTimeoutException();
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            ZookeeperExceptionHandler.handleException(ex);
+        }
+        return result;
+    }
+    
+    private String getRevision(final Stat stat) {
+        return stat.getCzxid() + ":" + stat.getMzxid();
+    }
+    
     @Override
     public boolean isExisted(final String key) {
         try {
@@ -294,4 +467,23 @@ public final class ZookeeperRepository implements ClusterPersistRepository {
     public String getType() {
         return "ZooKeeper";
     }
+    
+    @RequiredArgsConstructor
+    private static final class PersistOperation {
+        
+        private final String path;
+        
+        private final byte[] data;
+        
+        private final boolean create;
+        
+        private final boolean withValue;
+    }
+    
+    private static final class OperationChunk {
+        
+        private final List<PersistOperation> operations = new LinkedList<>();
+        
+        private int bytes;
+    }
 }
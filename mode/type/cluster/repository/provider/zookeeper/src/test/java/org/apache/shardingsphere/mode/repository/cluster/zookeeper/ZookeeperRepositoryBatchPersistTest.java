@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.cluster.zookeeper;
+
+import org.apache.curator.test.TestingServer;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ZookeeperRepositoryBatchPersistTest {
+    
+    private static final String TABLES_NODE = "/metadata/foo_db/schemas/foo_schema/tables";
+    
+    private static TestingServer testingServer;
+    
+    private ZookeeperRepository repository;
+    
+    @BeforeAll
+    static void startServer() throws Exception {
+        testingServer = new TestingServer(true);
+    }
+    
+    @AfterAll
+    static void stopServer() throws IOException {
+        testingServer.close();
+    }
+    
+    @BeforeEach
+    void setUp() {
+        repository = new ZookeeperRepository();
+        repository.init(new ClusterPersistRepositoryConfiguration("ZooKeeper", "batch_persist", testingServer.getConnectString(), new Properties()), mock(ComputeNodeInstanceContext.class));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        repository.delete("/metadata");
+        repository.close();
+    }
+    
+    @Test
+    void assertBatchPersist() {
+        repository.persist(TABLES_NODE + "/t_order/active_version", "0");
+        Map<String, String> keyValues = new LinkedHashMap<>(4, 1F);
+        keyValues.put(TABLES_NODE + "/t_order/versions/1", "name: t_order");
+        keyValues.put(TABLES_NODE + "/t_order/active_version", "1");
+        keyValues.put(TABLES_NODE + "/t_order_item/versions/0", "name: t_order_item");
+        keyValues.put(TABLES_NODE + "/t_order_item/active_version", "0");
+        repository.batchPersist(keyValues);
+        assertThat(repository.getChildrenKeys(TABLES_NODE), is(Arrays.asList("t_order_item", "t_order")));
+        assertThat(repository.query(TABLES_NODE + "/t_order/active_version"), is("1"));
+        assertThat(repository.query(TABLES_NODE + "/t_order/versions/1"), is("name: t_order"));
+        assertThat(repository.query(TABLES_NODE + "/t_order_item/active_version"), is("0"));
+        assertThat(repository.query(TABLES_NODE + "/t_order_item/versions/0"), is("name: t_order_item"));
+    }
+    
+    @Test
+    void assertBatchPersistMoreThanOneTransaction() {
+        Map<String, String> keyValues = new LinkedHashMap<>(1500, 1F);
+        for (int i = 0; i < 500; i++) {
+            keyValues.put(TABLES_NODE + "/t_order_" + i + "/active_version", "0");
+        }
+        repository.batchPersist(keyValues);
+        assertThat(repository.getChildrenKeys(TABLES_NODE).size(), is(500));
+        assertThat(repository.query(TABLES_NODE + "/t_order_499/active_version"), is("0"));
+    }
+    
+    @Test
+    void assertBatchQuery() {
+        repository.persist(TABLES_NODE + "/t_order/active_version", "0");
+        repository.persist(TABLES_NODE + "/t_order_item/active_version", "1");
+        Map<String, String> actual = repository.batchQuery(
+                Arrays.asList(TABLES_NODE + "/t_order/active_version", TABLES_NODE + "/t_order_item/active_version", TABLES_NODE + "/t_user/active_version"));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(TABLES_NODE + "/t_order/active_version"), is("0"));
+        assertThat(actual.get(TABLES_NODE + "/t_order_item/active_version"), is("1"));
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.mode.repository.cluster.zookeeper;
 
+import com.google.common.base.Strings;
 import lombok.SneakyThrows;
 import org.apache.curator.RetryPolicy;
 import org.apache.curator.framework.CuratorFramework;
@@ -27,11 +28,15 @@ import org.apache.curator.framework.api.CreateBuilder;
 import org.apache.curator.framework.api.DeleteBuilder;
 import org.apache.curator.framework.api.ExistsBuilder;
 import org.apache.curator.framework.api.GetChildrenBuilder;
+import org.apache.curator.framework.api.GetDataBuilder;
 import org.apache.curator.framework.api.ProtectACLCreateModeStatPathAndBytesable;
 import org.apache.curator.framework.api.SetDataBuilder;
+import org.apache.curator.framework.api.transaction.CuratorMultiTransaction;
+import org.apache.curator.framework.api.transaction.TransactionOp;
 import org.apache.curator.framework.listen.Listenable;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
+import org.apache.shardingsphere.mode.repository.cluster.exception.ClusterPersistRepositoryException;
 import org.apache.shardingsphere.mode.repository.cluster.lock.holder.DistributedLockHolder;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.lock.ZookeeperDistributedLock;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperProperties;
@@ -39,6 +44,7 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.Zookeep
 import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException.ConnectionLossException;
 import org.apache.zookeeper.data.Stat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -52,18 +58,23 @@ import org.mockito.quality.Strictness;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -229,4 +240,33 @@ class ZookeeperRepositoryTest {
         REPOSITORY.delete("/test/children/1");
         verify(backgroundVersionable).forPath("/test/children/1");
     }
+    
+    @Test
+    void assertBatchPersistWithValuesExceedMaxBatchBytes() throws Exception {
+        when(client.transactionOp()).thenReturn(mock(TransactionOp.class, RETURNS_DEEP_STUBS));
+        CuratorMultiTransaction transaction = mock(CuratorMultiTransaction.class);
+        when(client.transaction()).thenReturn(transaction);
+        Map<String, String> keyValues = new LinkedHashMap<>(3, 1F);
+        for (int i = 0; i < 3; i++) {
+            keyValues.put("/test/batch/" + i, Strings.repeat("x", 400 * 1024));
+        }
+        REPOSITORY.batchPersist(keyValues);
+        verify(transaction, times(3)).forOperations(anyList());
+    }
+    
+    @Test
+    void assertBatchPersistFailed() throws Exception {
+        when(client.transactionOp()).thenReturn(mock(TransactionOp.class, RETURNS_DEEP_STUBS));
+        CuratorMultiTransaction transaction = mock(CuratorMultiTransaction.class);
+        when(client.transaction()).thenReturn(transaction);
+        when(transaction.forOperations(anyList())).thenThrow(new ConnectionLossException());
+        assertThrows(ClusterPersistRepositoryException.class, () -> REPOSITORY.batchPersist(Collections.singletonMap("/test/batch/0", "value")));
+    }
+    
+    @Test
+    void assertBatchQueryTimeout() throws ReflectiveOperationException {
+        when(client.getData()).thenReturn(mock(GetDataBuilder.class, RETURNS_DEEP_STUBS));
+        Plugins.getMemberAccessor().set(ZookeeperRepository.class.getDeclaredField("batchQueryTimeoutMilliseconds"), REPOSITORY, 10L);
+        assertThrows(ClusterPersistRepositoryException.class, () -> REPOSITORY.batchQuery(Collections.singletonList("/test/batch/0")));
+    }
 }
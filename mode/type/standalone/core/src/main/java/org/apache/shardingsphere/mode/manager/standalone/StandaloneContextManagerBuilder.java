@@ -23,10 +23,12 @@ import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.metadata.persist.codec.TableMetaDataCodec;
 import org.apache.shardingsphere.mode.lock.GlobalLockContext;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.manager.ContextManagerBuilder;
 import org.apache.shardingsphere.mode.manager.ContextManagerBuilderParameter;
+import org.apache.shardingsphere.mode.manager.standalone.keygen.StandaloneKeySegmentAllocator;
 import org.apache.shardingsphere.mode.manager.standalone.subscriber.StandaloneEventSubscriberRegistry;
 import org.apache.shardingsphere.mode.manager.standalone.workerid.generator.StandaloneWorkerIdGenerator;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
@@ -46,17 +48,18 @@ public final class StandaloneContextManagerBuilder implements ContextManagerBuil
         PersistRepositoryConfiguration repositoryConfig = param.getModeConfiguration().getRepository();
         StandalonePersistRepository repository = TypedSPILoader.getService(
                 StandalonePersistRepository.class, null == repositoryConfig ? null : repositoryConfig.getType(), null == repositoryConfig ? new Properties() : repositoryConfig.getProps());
-        MetaDataPersistService persistService = new MetaDataPersistService(repository);
-        ComputeNodeInstanceContext computeNodeInstanceContext = buildComputeNodeInstanceContext(param, eventBusContext);
+        MetaDataPersistService persistService = new MetaDataPersistService(repository, "", TableMetaDataCodec.valueOf(repositoryConfig));
+        ComputeNodeInstanceContext computeNodeInstanceContext = buildComputeNodeInstanceContext(param, repository, eventBusContext);
         MetaDataContexts metaDataContexts = MetaDataContextsFactory.create(persistService, param, computeNodeInstanceContext);
         ContextManager result = new ContextManager(metaDataContexts, computeNodeInstanceContext, repository);
         new StandaloneEventSubscriberRegistry(result).register();
         return result;
     }
     
-    private ComputeNodeInstanceContext buildComputeNodeInstanceContext(final ContextManagerBuilderParameter param, final EventBusContext eventBusContext) {
+    private ComputeNodeInstanceContext buildComputeNodeInstanceContext(final ContextManagerBuilderParameter param,
+                                                                       final StandalonePersistRepository repository, final EventBusContext eventBusContext) {
         return new ComputeNodeInstanceContext(new ComputeNodeInstance(param.getInstanceMetaData()),
-                new StandaloneWorkerIdGenerator(), param.getModeConfiguration(), new GlobalLockContext(null), eventBusContext);
+                new StandaloneWorkerIdGenerator(), new StandaloneKeySegmentAllocator(repository), param.getModeConfiguration(), new GlobalLockContext(null), eventBusContext);
     }
     
     @Override
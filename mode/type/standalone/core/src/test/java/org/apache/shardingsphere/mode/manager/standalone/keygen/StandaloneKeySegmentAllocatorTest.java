@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.standalone.keygen;
+
+import org.apache.shardingsphere.mode.repository.standalone.StandalonePersistRepository;
+import org.apache.shardingsphere.mode.repository.standalone.jdbc.JDBCRepository;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class StandaloneKeySegmentAllocatorTest {
+    
+    private final StandalonePersistRepository repository = new JDBCRepository();
+    
+    @BeforeEach
+    void setUp() {
+        repository.init(PropertiesBuilder.build(new Property("jdbc_url", "jdbc:h2:mem:key_segment;DB_CLOSE_DELAY=0;DATABASE_TO_UPPER=false;MODE=MYSQL")));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+    
+    @Test
+    void assertAllocate() {
+        StandaloneKeySegmentAllocator allocator = new StandaloneKeySegmentAllocator(repository);
+        assertThat(allocator.allocate("foo_db.t_order.order_id", 100), is(100L));
+        assertThat(allocator.allocate("foo_db.t_order.order_id", 100), is(200L));
+        assertThat(allocator.allocate("foo_db.t_order_item.item_id", 50), is(50L));
+        assertThat(repository.query("/key_segments/foo_db.t_order.order_id"), is("200"));
+    }
+    
+    @Test
+    void assertAllocateAfterRestart() {
+        assertThat(new StandaloneKeySegmentAllocator(repository).allocate("foo_db.t_order.order_id", 100), is(100L));
+        assertThat(new StandaloneKeySegmentAllocator(repository).allocate("foo_db.t_order.order_id", 100), is(200L));
+    }
+}
@@ -21,6 +21,7 @@ import com.google.common.base.Strings;
 import com.zaxxer.hikari.HikariDataSource;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
 import org.apache.shardingsphere.mode.repository.standalone.StandalonePersistRepository;
 import org.apache.shardingsphere.mode.repository.standalone.jdbc.props.JDBCRepositoryProperties;
 import org.apache.shardingsphere.mode.repository.standalone.jdbc.props.JDBCRepositoryPropertyKey;
@@ -34,10 +35,14 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.UUID;
 
@@ -160,6 +165,70 @@ public final class JDBCRepository implements StandalonePersistRepository {
         }
     }
     
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (
+                    PreparedStatement selectStatement = connection.prepareStatement(repositorySQL.getSelectByKeySQL());
+                    PreparedStatement insertStatement = connection.prepareStatement(repositorySQL.getInsertSQL());
+                    PreparedStatement updateStatement = connection.prepareStatement(repositorySQL.getUpdateSQL())) {
+                Collection<String> existedKeys = new HashSet<>(keyValues.size() * 2, 1F);
+                for (Entry<String, String> entry : keyValues.entrySet()) {
+                    String parent = addParentInsertBatch(selectStatement, insertStatement, entry.getKey(), existedKeys);
+                    if (existedKeys.contains(entry.getKey()) || isExistedKey(selectStatement, entry.getKey())) {
+                        updateStatement.setString(1, entry.getValue());
+                        updateStatement.setString(2, entry.getKey());
+                        updateStatement.addBatch();
+                    } else {
+                        addInsertBatch(insertStatement, entry.getKey(), entry.getValue(), parent);
+                        existedKeys.add(entry.getKey());
+                    }
+                }
+                insertStatement.executeBatch();
+                updateStatement.executeBatch();
+                connection.commit();
+            } catch (final SQLException ex) {
+                connection.rollback();
+                throw ex;
+            }
+        } catch (final SQLException ex) {
+            log.error("Batch persist {} data failed", getType(), ex);
+            throw new SQLWrapperException(ex);
+        }
+    }
+    
+    private String addParentInsertBatch(final PreparedStatement selectStatement, final PreparedStatement insertStatement, final String key, final Collection<String> existedKeys) throws SQLException {
+        String tempPrefix = "";
+        String parent = SEPARATOR;
+        String[] paths = Arrays.stream(key.split(SEPARATOR)).filter(each -> !Strings.isNullOrEmpty(each)).toArray(String[]::new);
+        for (int i = 0; i < paths.length - 1; i++) {
+            String tempKey = tempPrefix + SEPARATOR + paths[i];
+            if (!existedKeys.contains(tempKey) && !isExistedKey(selectStatement, tempKey)) {
+                addInsertBatch(insertStatement, tempKey, "", parent);
+            }
+            existedKeys.add(tempKey);
+            tempPrefix = tempKey;
+            parent = tempKey;
+        }
+        return parent;
+    }
+    
+    private boolean isExistedKey(final PreparedStatement selectStatement, final String key) throws SQLException {
+        selectStatement.setString(1, key);
+        try (ResultSet resultSet = selectStatement.executeQuery()) {
+            return resultSet.next();
+        }
+    }
+    
+    private void addInsertBatch(final PreparedStatement insertStatement, final String key, final String value, final String parent) throws SQLException {
+        insertStatement.setString(1, UUID.randomUUID().toString());
+        insertStatement.setString(2, key);
+        insertStatement.setString(3, value);
+        insertStatement.setString(4, parent);
+        insertStatement.addBatch();
+    }
+    
     private void insert(final String key, final String value, final String parent) throws SQLException {
         try (
                 Connection connection = dataSource.getConnection();
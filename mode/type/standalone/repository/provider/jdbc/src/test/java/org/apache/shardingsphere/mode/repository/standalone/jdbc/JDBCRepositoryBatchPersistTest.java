@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.standalone.jdbc;
+
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class JDBCRepositoryBatchPersistTest {
+    
+    private static final String TABLES_NODE = "/metadata/foo_db/schemas/foo_schema/tables";
+    
+    private final JDBCRepository repository = new JDBCRepository();
+    
+    @BeforeEach
+    void setUp() {
+        repository.init(PropertiesBuilder.build(new Property("jdbc_url", "jdbc:h2:mem:batch_persist;DB_CLOSE_DELAY=0;DATABASE_TO_UPPER=false;MODE=MYSQL"),
+                new Property("username", "sa"), new Property("password", ""), new Property("provider", "H2")));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+    
+    @Test
+    void assertBatchPersist() {
+        repository.persist(TABLES_NODE + "/t_order/active_version", "0");
+        Map<String, String> keyValues = new LinkedHashMap<>(4, 1F);
+        keyValues.put(TABLES_NODE + "/t_order/versions/1", "name: t_order");
+        keyValues.put(TABLES_NODE + "/t_order/active_version", "1");
+        keyValues.put(TABLES_NODE + "/t_order_item/versions/0", "name: t_order_item");
+        keyValues.put(TABLES_NODE + "/t_order_item/active_version", "0");
+        repository.batchPersist(keyValues);
+        assertThat(repository.getChildrenKeys(TABLES_NODE), is(Arrays.asList("t_order_item", "t_order")));
+        assertThat(repository.getChildrenKeys(TABLES_NODE + "/t_order/versions"), is(Collections.singletonList("1")));
+        assertThat(repository.query(TABLES_NODE + "/t_order/active_version"), is("1"));
+        assertThat(repository.query(TABLES_NODE + "/t_order/versions/1"), is("name: t_order"));
+        assertThat(repository.query(TABLES_NODE + "/t_order_item/active_version"), is("0"));
+        assertThat(repository.query(TABLES_NODE + "/t_order_item/versions/0"), is("name: t_order_item"));
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.mode.repository.standalone.jdbc;
 
 import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
 import org.apache.shardingsphere.mode.repository.standalone.jdbc.sql.JDBCRepositorySQL;
 import org.apache.shardingsphere.mode.repository.standalone.jdbc.sql.JDBCRepositorySQLLoader;
 import org.apache.shardingsphere.test.util.PropertiesBuilder;
@@ -35,11 +36,13 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.eq;
@@ -230,6 +233,18 @@ class JDBCRepositoryTest {
         verify(mockPreparedStatementForPersist, times(0)).executeUpdate();
     }
     
+    @Test
+    void assertBatchPersistFailure() throws SQLException {
+        when(mockJdbcConnection.prepareStatement(repositorySQL.getSelectByKeySQL())).thenReturn(mockPreparedStatement);
+        when(mockJdbcConnection.prepareStatement(repositorySQL.getInsertSQL())).thenReturn(mockPreparedStatementForPersist);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(false);
+        when(mockPreparedStatementForPersist.executeBatch()).thenThrow(SQLException.class);
+        assertThrows(SQLWrapperException.class, () -> repository.batchPersist(Collections.singletonMap("key", "value")));
+        verify(mockJdbcConnection).rollback();
+        verify(mockJdbcConnection, times(0)).commit();
+    }
+    
     @Test
     void assertDelete() throws SQLException {
         String key = "key";
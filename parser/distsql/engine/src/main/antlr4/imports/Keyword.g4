@@ -267,6 +267,22 @@ NODES
     : N O D E S
     ;
 
+SQL
+    : S Q L
+    ;
+
+STATISTICS
+    : S T A T I S T I C S
+    ;
+
+FINGERPRINTS
+    : F I N G E R P R I N T S
+    ;
+
+LIMIT
+    : L I M I T
+    ;
+
 USAGE_COUNT
     : U S A G E UL_ C O U N T
     ;
@@ -47,6 +47,14 @@ showComputeNodes
     : SHOW COMPUTE NODES
     ;
 
+showSQLStatistics
+    : SHOW SQL STATISTICS
+    ;
+
+showSQLFingerprints
+    : SHOW SQL FINGERPRINTS (LIMIT INT_)?
+    ;
+
 refreshDatabaseMetadata
     : FORCE? REFRESH DATABASE METADATA databaseName?
     ;
@@ -31,6 +31,8 @@ execute
     | enableComputeNode
     | disableComputeNode
     | showComputeNodes
+    | showSQLStatistics
+    | showSQLFingerprints
     | showComputeNodeInfo
     | showComputeNodeMode
     | labelComputeNode
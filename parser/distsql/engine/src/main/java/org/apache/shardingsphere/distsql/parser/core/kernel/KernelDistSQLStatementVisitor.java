@@ -55,6 +55,8 @@ import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementPa
 import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.ShowLogicalTablesContext;
 import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.ShowPluginImplementationsContext;
 import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.ShowRulesUsedStorageUnitContext;
+import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.ShowSQLFingerprintsContext;
+import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.ShowSQLStatisticsContext;
 import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.ShowStorageUnitsContext;
 import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.ShowTableMetadataContext;
 import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.StorageUnitDefinitionContext;
@@ -75,6 +77,8 @@ import org.apache.shardingsphere.distsql.statement.ral.queryable.show.ShowComput
 import org.apache.shardingsphere.distsql.statement.ral.queryable.show.ShowDistVariableStatement;
 import org.apache.shardingsphere.distsql.statement.ral.queryable.show.ShowDistVariablesStatement;
 import org.apache.shardingsphere.distsql.statement.ral.queryable.show.ShowPluginsStatement;
+import org.apache.shardingsphere.distsql.statement.ral.queryable.show.ShowSQLFingerprintsStatement;
+import org.apache.shardingsphere.distsql.statement.ral.queryable.show.ShowSQLStatisticsStatement;
 import org.apache.shardingsphere.distsql.statement.ral.queryable.show.ShowTableMetaDataStatement;
 import org.apache.shardingsphere.distsql.statement.ral.updatable.AlterComputeNodeStatement;
 import org.apache.shardingsphere.distsql.statement.ral.updatable.ImportDatabaseConfigurationStatement;
@@ -145,6 +149,16 @@ public final class KernelDistSQLStatementVisitor extends KernelDistSQLStatementB
         return new ShowComputeNodesStatement();
     }
     
+    @Override
+    public ASTNode visitShowSQLStatistics(final ShowSQLStatisticsContext ctx) {
+        return new ShowSQLStatisticsStatement();
+    }
+    
+    @Override
+    public ASTNode visitShowSQLFingerprints(final ShowSQLFingerprintsContext ctx) {
+        return new ShowSQLFingerprintsStatement(null == ctx.INT_() ? null : Integer.parseInt(ctx.INT_().getText()));
+    }
+    
     @Override
     public ASTNode visitShowComputeNodeInfo(final ShowComputeNodeInfoContext ctx) {
         return new ShowComputeNodeInfoStatement();
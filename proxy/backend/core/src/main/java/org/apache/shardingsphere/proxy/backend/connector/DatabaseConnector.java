@@ -28,6 +28,7 @@ import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatem
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.binder.context.type.CursorAvailable;
 import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -51,6 +52,7 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.util.SystemSchemaUtils;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.statistics.sql.SQLFingerprintStatisticsStore;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.refresher.MetaDataRefreshEngine;
@@ -90,6 +92,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Database connector.
@@ -116,6 +119,14 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     
     private MergedResult mergedResult;
     
+    private boolean statisticsEnabled;
+    
+    private long statisticsStartNanos;
+    
+    private int statisticsShards;
+    
+    private long statisticsRows;
+    
     public DatabaseConnector(final String driverType, final ShardingSphereDatabase database, final QueryContext queryContext, final ProxyDatabaseConnectionManager databaseConnectionManager) {
         SQLStatementContext sqlStatementContext = queryContext.getSqlStatementContext();
         failedIfBackendNotReady(databaseConnectionManager.getConnectionSession(), sqlStatementContext);
@@ -167,6 +178,7 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     @Override
     public ResponseHeader execute() throws SQLException {
         MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+        startStatistics(metaDataContexts.getMetaData().getProps());
         String defaultDatabaseName = databaseConnectionManager.getConnectionSession().getDefaultDatabaseName();
         ShardingSphereDatabase defaultDatabase = Strings.isNullOrEmpty(defaultDatabaseName) ? database : metaDataContexts.getMetaData().getDatabase(defaultDatabaseName);
         if (proxySQLExecutor.getSqlFederationEngine().decide(queryContext.getSqlStatementContext(), queryContext.getParameters(), defaultDatabase,
@@ -180,6 +192,13 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
                 : doExecute(executionContext);
     }
     
+    private void startStatistics(final ConfigurationProperties props) {
+        statisticsEnabled = props.<Boolean>getValue(ConfigurationPropertyKey.SQL_STATISTICS_ENABLED);
+        if (statisticsEnabled) {
+            statisticsStartNanos = System.nanoTime();
+        }
+    }
+    
     private ExecutionContext generateExecutionContext() {
         ShardingSphereMetaData metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
         return new KernelProcessor().generateExecutionContext(queryContext, database, metaData.getGlobalRuleMetaData(), metaData.getProps(),
@@ -225,6 +244,7 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
             return new UpdateResponseHeader(queryContext.getSqlStatementContext().getSqlStatement());
         }
         proxySQLExecutor.checkExecutePrerequisites(executionContext);
+        statisticsShards = executionContext.getExecutionUnits().size();
         List result = proxySQLExecutor.execute(executionContext);
         refreshMetaData(executionContext);
         Object executeResultSample = result.iterator().next();
@@ -334,6 +354,11 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         Collection<Comparable<?>> autoIncrementGeneratedValues =
                 generatedKeyContext.filter(GeneratedKeyContext::isSupportAutoIncrement).map(GeneratedKeyContext::getGeneratedValues).orElseGet(Collections::emptyList);
         UpdateResponseHeader result = new UpdateResponseHeader(queryContext.getSqlStatementContext().getSqlStatement(), updateResults, autoIncrementGeneratedValues);
+        if (statisticsEnabled) {
+            for (UpdateResult each : updateResults) {
+                statisticsRows += each.getUpdateCount();
+            }
+        }
         mergeUpdateCount(queryContext.getSqlStatementContext(), result);
         return result;
     }
@@ -358,7 +383,11 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
      */
     @Override
     public boolean next() throws SQLException {
-        return null != mergedResult && mergedResult.next();
+        boolean result = null != mergedResult && mergedResult.next();
+        if (result && statisticsEnabled) {
+            statisticsRows++;
+        }
+        return result;
     }
     
     /**
@@ -379,6 +408,7 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     
     @Override
     public void close() throws SQLException {
+        recordStatistics();
         Collection<SQLException> result = new LinkedList<>();
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
@@ -391,6 +421,15 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         throw ex;
     }
     
+    private void recordStatistics() {
+        if (!statisticsEnabled) {
+            return;
+        }
+        statisticsEnabled = false;
+        SQLFingerprintStatisticsStore.getInstance().record(database.getName(), queryContext.getSqlStatementContext().getSqlStatement(), queryContext.getSql(),
+                TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - statisticsStartNanos), statisticsRows, statisticsShards);
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
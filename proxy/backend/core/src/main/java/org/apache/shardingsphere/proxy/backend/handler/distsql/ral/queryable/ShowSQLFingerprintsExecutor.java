@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler.distsql.ral.queryable;
+
+import org.apache.shardingsphere.distsql.handler.engine.query.DistSQLQueryExecutor;
+import org.apache.shardingsphere.distsql.statement.ral.queryable.show.ShowSQLFingerprintsStatement;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+import org.apache.shardingsphere.infra.statistics.sql.SQLFingerprintStatistics;
+import org.apache.shardingsphere.infra.statistics.sql.SQLFingerprintStatisticsStore;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * Show SQL fingerprints executor.
+ */
+public final class ShowSQLFingerprintsExecutor implements DistSQLQueryExecutor<ShowSQLFingerprintsStatement> {
+    
+    @Override
+    public Collection<String> getColumnNames(final ShowSQLFingerprintsStatement sqlStatement) {
+        return Arrays.asList("database_name", "sql_fingerprint", "calls", "overestimated_calls", "total_time_us", "mean_time_us", "max_time_us", "row_count", "shard_count");
+    }
+    
+    @Override
+    public Collection<LocalDataQueryResultRow> getRows(final ShowSQLFingerprintsStatement sqlStatement, final ContextManager contextManager) {
+        return SQLFingerprintStatisticsStore.getInstance().getTopStatistics(sqlStatement.getLimit().orElse(Integer.MAX_VALUE)).stream().map(this::buildRow).collect(Collectors.toList());
+    }
+    
+    private LocalDataQueryResultRow buildRow(final SQLFingerprintStatistics statistics) {
+        return new LocalDataQueryResultRow(statistics.getDatabaseName(), statistics.getFingerprint(), statistics.getCalls(), statistics.getOverestimatedCalls(), statistics.getTotalTimeMicros(),
+                String.format("%.2f", statistics.getMeanTimeMicros()), statistics.getMaxTimeMicros(), statistics.getRows(), statistics.getShards());
+    }
+    
+    @Override
+    public Class<ShowSQLFingerprintsStatement> getType() {
+        return ShowSQLFingerprintsStatement.class;
+    }
+}
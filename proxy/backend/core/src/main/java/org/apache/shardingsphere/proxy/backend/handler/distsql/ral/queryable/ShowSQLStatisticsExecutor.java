@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler.distsql.ral.queryable;
+
+import org.apache.shardingsphere.distsql.handler.engine.query.DistSQLQueryExecutor;
+import org.apache.shardingsphere.distsql.statement.ral.queryable.show.ShowSQLStatisticsStatement;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+import org.apache.shardingsphere.infra.statistics.sql.LatencyHistogram;
+import org.apache.shardingsphere.infra.statistics.sql.SQLExecutionStage;
+import org.apache.shardingsphere.infra.statistics.sql.SQLStageStatistics;
+import org.apache.shardingsphere.infra.statistics.sql.SQLStatisticsRegistry;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.Optional;
+
+/**
+ * Show SQL statistics executor.
+ */
+public final class ShowSQLStatisticsExecutor implements DistSQLQueryExecutor<ShowSQLStatisticsStatement> {
+    
+    @Override
+    public Collection<String> getColumnNames(final ShowSQLStatisticsStatement sqlStatement) {
+        return Arrays.asList("sql_fingerprint", "stage", "count", "avg_latency_us", "p50_latency_us", "p90_latency_us", "p99_latency_us", "max_latency_us");
+    }
+    
+    @Override
+    public Collection<LocalDataQueryResultRow> getRows(final ShowSQLStatisticsStatement sqlStatement, final ContextManager contextManager) {
+        Collection<LocalDataQueryResultRow> result = new LinkedList<>();
+        SQLStatisticsRegistry.getInstance().getAllStatistics().stream().sorted(Comparator.comparing(SQLStageStatistics::getFingerprint)).forEach(each -> addRows(each, result));
+        return result;
+    }
+    
+    private void addRows(final SQLStageStatistics statistics, final Collection<LocalDataQueryResultRow> rows) {
+        for (SQLExecutionStage each : SQLExecutionStage.values()) {
+            Optional<LatencyHistogram> histogram = statistics.findHistogram(each);
+            if (histogram.isPresent() && histogram.get().getCount() > 0L) {
+                rows.add(new LocalDataQueryResultRow(statistics.getFingerprint(), each.name(), histogram.get().getCount(), String.format("%.2f", histogram.get().getMean()),
+                        histogram.get().getValueAtPercentile(50D), histogram.get().getValueAtPercentile(90D), histogram.get().getValueAtPercentile(99D), histogram.get().getMax()));
+            }
+        }
+    }
+    
+    @Override
+    public Class<ShowSQLStatisticsStatement> getType() {
+        return ShowSQLStatisticsStatement.class;
+    }
+}
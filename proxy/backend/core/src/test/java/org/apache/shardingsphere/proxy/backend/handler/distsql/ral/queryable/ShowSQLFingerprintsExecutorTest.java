@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler.distsql.ral.queryable;
+
+import org.apache.shardingsphere.distsql.statement.ral.queryable.show.ShowSQLFingerprintsStatement;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+import org.apache.shardingsphere.infra.statistics.sql.SQLFingerprintStatisticsStore;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ShowSQLFingerprintsExecutorTest {
+    
+    @AfterEach
+    void tearDown() {
+        SQLFingerprintStatisticsStore.getInstance().clear();
+    }
+    
+    @Test
+    void assertGetRows() {
+        SQLFingerprintStatisticsStore.getInstance().record("foo_db", null, "SELECT * FROM t_order WHERE order_id = 1", 100L, 1L, 1);
+        SQLFingerprintStatisticsStore.getInstance().record("foo_db", null, "SELECT * FROM t_order", 300L, 10L, 4);
+        Collection<LocalDataQueryResultRow> actual = new ShowSQLFingerprintsExecutor().getRows(new ShowSQLFingerprintsStatement(1), mock(ContextManager.class));
+        assertThat(actual.size(), is(1));
+        LocalDataQueryResultRow row = actual.iterator().next();
+        assertThat(row.getCell(1), is("foo_db"));
+        assertThat(row.getCell(2), is("SELECT * FROM t_order"));
+        assertThat(row.getCell(3), is("1"));
+        assertThat(row.getCell(5), is("300"));
+        assertThat(row.getCell(8), is("10"));
+        assertThat(row.getCell(9), is("4"));
+    }
+}
@@ -17,18 +17,77 @@
 
 package org.apache.shardingsphere.proxy.backend.hbase.bean;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.hadoop.hbase.TableName;
 import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Table;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * HBase cluster.
+ * 
+ * <p>Table handles are not thread safe, so they are reused by the thread which gets them, and closed together with the cluster.</p>
  */
 @RequiredArgsConstructor
 @Getter
-public final class HBaseCluster {
+public final class HBaseCluster implements Closeable {
     
     private final String clusterName;
     
     private final Connection connection;
+    
+    @Getter(AccessLevel.NONE)
+    private final ThreadLocal<Map<String, Table>> tables = ThreadLocal.withInitial(HashMap::new);
+    
+    @Getter(AccessLevel.NONE)
+    private final Queue<Table> openedTables = new ConcurrentLinkedQueue<>();
+    
+    /**
+     * Get table handle.
+     *
+     * @param tableName table name
+     * @return table handle
+     * @throws IOException IO exception
+     */
+    public Table getTable(final String tableName) throws IOException {
+        Map<String, Table> tables = this.tables.get();
+        Table result = tables.get(tableName);
+        if (null == result) {
+            result = connection.getTable(TableName.valueOf(tableName));
+            tables.put(tableName, result);
+            openedTables.add(result);
+        }
+        return result;
+    }
+    
+    /**
+     * Close table handles opened by all threads.
+     *
+     * @throws IOException IO exception
+     */
+    public void closeTables() throws IOException {
+        tables.remove();
+        Table each = openedTables.poll();
+        while (null != each) {
+            each.close();
+            each = openedTables.poll();
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        try {
+            closeTables();
+        } finally {
+            connection.close();
+        }
+    }
 }
@@ -25,8 +25,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.hadoop.hbase.HTableDescriptor;
 import org.apache.hadoop.hbase.client.Admin;
 import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Table;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.kernel.metadata.TableNotFoundException;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.proxy.backend.hbase.bean.HBaseCluster;
 import org.apache.shardingsphere.proxy.backend.hbase.executor.HBaseBackgroundExecutorManager;
 import org.apache.shardingsphere.proxy.backend.hbase.executor.HBaseExecutor;
@@ -38,10 +40,13 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 /**
@@ -69,6 +74,8 @@ public final class HBaseContext implements AutoCloseable {
     
     private final Map<String, HBaseCluster> tableConnectionMap = new ConcurrentHashMap<>();
     
+    private ExecutorService scanPrefetchExecutorService;
+    
     /**
      * Get instance of HBase context.
      *
@@ -81,10 +88,20 @@ public final class HBaseContext implements AutoCloseable {
     /**
      * Initialize HBase context.
      * 
+     * <p>When reloaded, table handles of previous clusters are closed, and so are previous connections which are not reused.</p>
+     * 
      * @param connections A connection for per HBase cluster
      * @throws SQLException SQL exception
      */
     public void init(final Map<String, Connection> connections) throws SQLException {
+        if (null != this.connections) {
+            tableConnectionMap.clear();
+            closeClusters(connections.values());
+        }
+        if (null != scanPrefetchExecutorService) {
+            scanPrefetchExecutorService.shutdownNow();
+        }
+        scanPrefetchExecutorService = Executors.newCachedThreadPool(ExecutorThreadFactoryBuilder.build("hbase-scan-prefetch-%d"));
         this.connections = new ArrayList<>(connections.size());
         warmUpContext = HBaseRegionWarmUpContext.getInstance();
         warmUpContext.init(getWarmUpThreadSize());
@@ -142,6 +159,18 @@ public final class HBaseContext implements AutoCloseable {
         return tableConnectionMap.get(tableName).getConnection();
     }
     
+    /**
+     * Get table handle via table name.
+     * 
+     * @param tableName table name
+     * @return table handle
+     * @throws IOException IO exception
+     */
+    public Table getTable(final String tableName) throws IOException {
+        ShardingSpherePreconditions.checkContainsKey(tableConnectionMap, tableName, () -> new TableNotFoundException(tableName));
+        return tableConnectionMap.get(tableName).getTable(tableName);
+    }
+    
     /**
      * Is table exists.
      * 
@@ -167,15 +196,29 @@ public final class HBaseContext implements AutoCloseable {
     
     @Override
     public void close() throws SQLException {
-        connections.clear();
         tableConnectionMap.clear();
         executorManager.close();
-        for (Connection connection : connections.stream().map(HBaseCluster::getConnection).collect(Collectors.toList())) {
-            try {
-                connection.close();
-            } catch (final IOException ex) {
-                throw new SQLException(ex);
+        if (null != scanPrefetchExecutorService) {
+            scanPrefetchExecutorService.shutdownNow();
+        }
+        if (null != connections) {
+            closeClusters(Collections.emptyList());
+        }
+    }
+    
+    private void closeClusters(final Collection<Connection> reusedConnections) throws SQLException {
+        try {
+            for (HBaseCluster each : connections) {
+                if (reusedConnections.contains(each.getConnection())) {
+                    each.closeTables();
+                } else {
+                    each.close();
+                }
             }
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        } finally {
+            connections.clear();
         }
     }
 }
@@ -19,10 +19,8 @@ package org.apache.shardingsphere.proxy.backend.hbase.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.apache.hadoop.hbase.TableName;
 import org.apache.hadoop.hbase.client.Admin;
 import org.apache.hadoop.hbase.client.Connection;
-import org.apache.hadoop.hbase.client.Table;
 import org.apache.shardingsphere.proxy.backend.hbase.context.HBaseContext;
 import org.apache.shardingsphere.proxy.backend.hbase.result.HBaseAdminCallback;
 import org.apache.shardingsphere.proxy.backend.hbase.result.HBaseQueryCallback;
@@ -34,7 +32,7 @@ import java.sql.SQLException;
 /**
  * HBase executor.
  * 
- * <p>Do not cache table here.</p>
+ * <p>Table handles are reused per HBase cluster and thread, do not close them here.</p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class HBaseExecutor {
@@ -47,16 +45,8 @@ public final class HBaseExecutor {
      * @throws SQLException SQL exception
      */
     public static void executeUpdate(final String tableName, final HBaseUpdateCallback operation) throws SQLException {
-        try (Table table = HBaseContext.getInstance().getConnection(tableName).getTable(TableName.valueOf(tableName))) {
-            executeUpdate(table, operation);
-        } catch (final IOException ex) {
-            throw new SQLException(ex);
-        }
-    }
-    
-    private static void executeUpdate(final Table table, final HBaseUpdateCallback operation) throws SQLException {
         try {
-            operation.executeInHBase(table);
+            operation.executeInHBase(HBaseContext.getInstance().getTable(tableName));
         } catch (final IOException ex) {
             throw new SQLException(ex);
         }
@@ -72,17 +62,8 @@ public final class HBaseExecutor {
      * @throws SQLException SQL exception
      */
     public static <T> T executeQuery(final String tableName, final HBaseQueryCallback<T> operation) throws SQLException {
-        TableName backendTableName = TableName.valueOf(tableName);
-        try (Table table = HBaseContext.getInstance().getConnection(tableName).getTable(backendTableName)) {
-            return executeQuery(table, operation);
-        } catch (final IOException ex) {
-            throw new SQLException(ex);
-        }
-    }
-    
-    private static <T> T executeQuery(final Table table, final HBaseQueryCallback<T> operation) throws SQLException {
         try {
-            return operation.executeInHBase(table);
+            return operation.executeInHBase(HBaseContext.getInstance().getTable(tableName));
         } catch (final IOException ex) {
             throw new SQLException(ex);
         }
@@ -63,4 +63,9 @@ public final class HBaseBackendQueryHandler implements HBaseBackendHandler {
     public Collection<Object> getRowDataObjects() {
         return resultSet.getRowData();
     }
+    
+    @Override
+    public void close() {
+        resultSet.close();
+    }
 }
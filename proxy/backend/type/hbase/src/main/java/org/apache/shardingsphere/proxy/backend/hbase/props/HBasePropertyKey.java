@@ -51,7 +51,22 @@ public enum HBasePropertyKey implements TypedPropertyKey {
     /**
      * HBase execute out time.
      */
-    EXECUTE_TIME_OUT("execute-time-out", String.valueOf(2000), Long.class);
+    EXECUTE_TIME_OUT("execute-time-out", String.valueOf(2000), Long.class),
+    
+    /**
+     * Number of rows fetched per scanner RPC, 0 means using HBase client default.
+     */
+    SCAN_CACHING("scan-caching", String.valueOf(0), int.class),
+    
+    /**
+     * Is prefetch next rows of scanner asynchronously.
+     */
+    IS_SCAN_ASYNC_PREFETCH("is-scan-async-prefetch", String.valueOf(false), boolean.class),
+    
+    /**
+     * Maximum number of gets per multi-get request, 0 means no limit.
+     */
+    MULTI_GET_BATCH_SIZE("multi-get-batch-size", String.valueOf(0), int.class);
     
     private final String key;
     
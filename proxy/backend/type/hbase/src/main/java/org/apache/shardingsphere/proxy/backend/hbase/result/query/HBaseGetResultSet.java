@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.backend.hbase.result.query;
 
 import com.cedarsoftware.util.CaseInsensitiveMap;
+import com.google.common.collect.Lists;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.hadoop.hbase.Cell;
@@ -26,6 +27,7 @@ import org.apache.hadoop.hbase.client.Get;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.ResultScanner;
 import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.client.Table;
 import org.apache.hadoop.hbase.util.Bytes;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
@@ -44,8 +46,10 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.li
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -68,6 +72,8 @@ public final class HBaseGetResultSet implements HBaseQueryResultSet {
     
     private static final String TIMESTAMP_COLUMN_NAME = "timestamp";
     
+    private static final int DEFAULT_PREFETCH_SIZE = 100;
+    
     private SelectStatementContext statementContext;
     
     private long resultNum;
@@ -81,6 +87,8 @@ public final class HBaseGetResultSet implements HBaseQueryResultSet {
     
     private Iterator<Result> rows;
     
+    private HBasePrefetchResultIterator prefetchRows;
+    
     /**
      * Init data.
      *
@@ -117,7 +125,8 @@ public final class HBaseGetResultSet implements HBaseQueryResultSet {
     }
     
     private void executeGetsRequest(final HBaseOperation operation) throws SQLException {
-        List<Result> results = Arrays.asList(HBaseExecutor.executeQuery(operation.getTableName(), table -> table.get(((HBaseSelectOperation) operation.getOperation()).getGets())));
+        List<Get> gets = ((HBaseSelectOperation) operation.getOperation()).getGets();
+        List<Result> results = HBaseExecutor.executeQuery(operation.getTableName(), table -> getResults(table, gets));
         results = results.stream().filter(result -> result.rawCells().length > 0).collect(Collectors.toList());
         if (statementContext.getOrderByContext().isGenerated()) {
             results.sort(this::compareResult);
@@ -126,6 +135,18 @@ public final class HBaseGetResultSet implements HBaseQueryResultSet {
         setColumnNames(rows);
     }
     
+    private List<Result> getResults(final Table table, final List<Get> gets) throws IOException {
+        int batchSize = HBaseContext.getInstance().getProps().<Integer>getValue(HBasePropertyKey.MULTI_GET_BATCH_SIZE);
+        if (batchSize <= 0 || gets.size() <= batchSize) {
+            return Arrays.asList(table.get(gets));
+        }
+        List<Result> result = new ArrayList<>(gets.size());
+        for (List<Get> each : Lists.partition(gets, batchSize)) {
+            result.addAll(Arrays.asList(table.get(each)));
+        }
+        return result;
+    }
+    
     private int compareResult(final Result result1, final Result result2) {
         return Bytes.toString(result1.getRow()).compareTo(Bytes.toString(result2.getRow()));
     }
@@ -133,8 +154,17 @@ public final class HBaseGetResultSet implements HBaseQueryResultSet {
     private void executeScanRequest(final HBaseOperation hbaseOperation) throws SQLException {
         Scan scan = (Scan) hbaseOperation.getOperation();
         scan.setLimit((int) maxLimitResultSize);
+        int caching = (int) Math.min(HBaseContext.getInstance().getProps().<Integer>getValue(HBasePropertyKey.SCAN_CACHING), maxLimitResultSize);
+        if (caching > 0) {
+            scan.setCaching(caching);
+        }
         ResultScanner resultScanner = HBaseExecutor.executeQuery(hbaseOperation.getTableName(), table -> table.getScanner(scan));
-        rows = resultScanner.iterator();
+        if (HBaseContext.getInstance().getProps().<Boolean>getValue(HBasePropertyKey.IS_SCAN_ASYNC_PREFETCH)) {
+            prefetchRows = new HBasePrefetchResultIterator(resultScanner, caching > 0 ? caching : DEFAULT_PREFETCH_SIZE, HBaseContext.getInstance().getScanPrefetchExecutorService());
+            rows = prefetchRows;
+        } else {
+            rows = resultScanner.iterator();
+        }
         setColumnNames(rows);
     }
     
@@ -224,6 +254,14 @@ public final class HBaseGetResultSet implements HBaseQueryResultSet {
         return columnNames.stream().map(each -> row.getOrDefault(each, "")).collect(Collectors.toList());
     }
     
+    @Override
+    public void close() {
+        if (null != prefetchRows) {
+            prefetchRows.close();
+            prefetchRows = null;
+        }
+    }
+    
     @Override
     public Class<MySQLSelectStatement> getType() {
         return MySQLSelectStatement.class;
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.hbase.result.query;
+
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * HBase prefetch result iterator.
+ * 
+ * <p>Next rows of scanner are fetched asynchronously while current rows are consumed, scanner is closed after all rows are fetched or iterator is closed.</p>
+ */
+public final class HBasePrefetchResultIterator implements Iterator<Result>, AutoCloseable {
+    
+    private final ResultScanner scanner;
+    
+    private final int prefetchSize;
+    
+    private final ExecutorService executorService;
+    
+    private Iterator<Result> currentRows = Collections.emptyIterator();
+    
+    private Future<Result[]> nextRows;
+    
+    private boolean scannerClosed;
+    
+    public HBasePrefetchResultIterator(final ResultScanner scanner, final int prefetchSize, final ExecutorService executorService) {
+        this.scanner = scanner;
+        this.prefetchSize = prefetchSize;
+        this.executorService = executorService;
+        nextRows = prefetch();
+    }
+    
+    private Future<Result[]> prefetch() {
+        return executorService.submit(() -> scanner.next(prefetchSize));
+    }
+    
+    @Override
+    public boolean hasNext() {
+        while (!currentRows.hasNext()) {
+            if (null == nextRows) {
+                return false;
+            }
+            Result[] rows = getNextRows();
+            currentRows = Arrays.asList(rows).iterator();
+            if (rows.length < prefetchSize) {
+                nextRows = null;
+                closeScanner();
+            } else {
+                nextRows = prefetch();
+            }
+        }
+        return true;
+    }
+    
+    private Result[] getNextRows() {
+        try {
+            return nextRows.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            closeScanner();
+            throw new IllegalStateException(ex);
+        } catch (final ExecutionException ex) {
+            closeScanner();
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+    
+    @Override
+    public Result next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentRows.next();
+    }
+    
+    @Override
+    public void close() {
+        if (null != nextRows) {
+            nextRows.cancel(true);
+            nextRows = null;
+        }
+        currentRows = Collections.emptyIterator();
+        closeScanner();
+    }
+    
+    private void closeScanner() {
+        if (!scannerClosed) {
+            scannerClosed = true;
+            scanner.close();
+        }
+    }
+}
@@ -58,6 +58,12 @@ public interface HBaseQueryResultSet extends TypedSPI {
      */
     Collection<Object> getRowData();
     
+    /**
+     * Close result set.
+     */
+    default void close() {
+    }
+    
     @Override
     Class<? extends SQLStatement> getType();
 }
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.hbase.bean;
+
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Table;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HBaseClusterTest {
+    
+    @Test
+    void assertGetTable() throws IOException, ExecutionException, InterruptedException {
+        Connection connection = mock(Connection.class);
+        when(connection.getTable(any())).thenAnswer(invocation -> mock(Table.class));
+        HBaseCluster cluster = new HBaseCluster("foo_cluster", connection);
+        Table actual = cluster.getTable("t_order");
+        assertSame(actual, cluster.getTable("t_order"));
+        assertNotSame(actual, CompletableFuture.supplyAsync(() -> getTable(cluster)).get());
+        verify(connection, times(2)).getTable(TableName.valueOf("t_order"));
+    }
+    
+    @Test
+    void assertClose() throws IOException, ExecutionException, InterruptedException {
+        Connection connection = mock(Connection.class);
+        Table table = mock(Table.class);
+        Table anotherThreadTable = mock(Table.class);
+        when(connection.getTable(any())).thenReturn(table, anotherThreadTable);
+        HBaseCluster cluster = new HBaseCluster("foo_cluster", connection);
+        cluster.getTable("t_order");
+        CompletableFuture.supplyAsync(() -> getTable(cluster)).get();
+        cluster.close();
+        verify(table).close();
+        verify(anotherThreadTable).close();
+        verify(connection).close();
+    }
+    
+    @Test
+    void assertCloseTables() throws IOException {
+        Connection connection = mock(Connection.class);
+        Table table = mock(Table.class);
+        when(connection.getTable(any())).thenReturn(table);
+        HBaseCluster cluster = new HBaseCluster("foo_cluster", connection);
+        cluster.getTable("t_order");
+        cluster.closeTables();
+        verify(table).close();
+        verify(connection, never()).close();
+    }
+    
+    private Table getTable(final HBaseCluster cluster) {
+        try {
+            return cluster.getTable("t_order");
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
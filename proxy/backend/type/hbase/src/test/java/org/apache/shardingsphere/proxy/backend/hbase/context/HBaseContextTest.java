@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.hbase.context;
+
+import org.apache.hadoop.hbase.HTableDescriptor;
+import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.shardingsphere.proxy.backend.hbase.props.HBaseProperties;
+import org.apache.shardingsphere.proxy.backend.hbase.props.HBasePropertyKey;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HBaseContextTest {
+    
+    private final Table table = mock(Table.class);
+    
+    private Connection connection;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        HBaseContext.getInstance().setProps(new HBaseProperties(PropertiesBuilder.build(new Property(HBasePropertyKey.WARM_UP_THREAD_NUM.getKey(), String.valueOf(1)))));
+        HTableDescriptor tableDescriptor = mock(HTableDescriptor.class);
+        when(tableDescriptor.getNameAsString()).thenReturn("t_order");
+        Admin admin = mock(Admin.class);
+        when(admin.listTables()).thenReturn(new HTableDescriptor[]{tableDescriptor});
+        connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getAdmin()).thenReturn(admin);
+        when(connection.getTable(any())).thenReturn(table);
+    }
+    
+    @Test
+    void assertClose() throws IOException, SQLException {
+        HBaseContext.getInstance().init(Collections.singletonMap("foo_cluster", connection));
+        assertThat(HBaseContext.getInstance().getTable("t_order"), is(table));
+        ExecutorService scanPrefetchExecutorService = HBaseContext.getInstance().getScanPrefetchExecutorService();
+        HBaseContext.getInstance().close();
+        assertTrue(scanPrefetchExecutorService.isShutdown());
+        assertFalse(HBaseContext.getInstance().isTableExists("t_order"));
+        verify(table).close();
+        verify(connection).close();
+    }
+    
+    @Test
+    void assertReloadWithSameConnection() throws IOException, SQLException {
+        HBaseContext.getInstance().init(Collections.singletonMap("foo_cluster", connection));
+        HBaseContext.getInstance().getTable("t_order");
+        ExecutorService scanPrefetchExecutorService = HBaseContext.getInstance().getScanPrefetchExecutorService();
+        HBaseContext.getInstance().init(Collections.singletonMap("foo_cluster", connection));
+        assertTrue(scanPrefetchExecutorService.isShutdown());
+        assertFalse(HBaseContext.getInstance().getScanPrefetchExecutorService().isShutdown());
+        assertTrue(HBaseContext.getInstance().isTableExists("t_order"));
+        verify(table).close();
+        verify(connection, never()).close();
+        HBaseContext.getInstance().close();
+    }
+}
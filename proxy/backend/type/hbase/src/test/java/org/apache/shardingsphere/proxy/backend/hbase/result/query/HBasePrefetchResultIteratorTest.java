@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.hbase.result.query;
+
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HBasePrefetchResultIteratorTest {
+    
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    
+    @AfterEach
+    void tearDown() {
+        executorService.shutdown();
+    }
+    
+    @Test
+    void assertIterate() throws IOException {
+        ResultScanner scanner = mock(ResultScanner.class);
+        Result result1 = mock(Result.class);
+        Result result2 = mock(Result.class);
+        Result result3 = mock(Result.class);
+        when(scanner.next(2)).thenReturn(new Result[]{result1, result2}, new Result[]{result3});
+        Iterator<Result> actual = new HBasePrefetchResultIterator(scanner, 2, executorService);
+        assertTrue(actual.hasNext());
+        assertThat(actual.next(), is(result1));
+        assertThat(actual.next(), is(result2));
+        assertThat(actual.next(), is(result3));
+        assertFalse(actual.hasNext());
+        assertThrows(NoSuchElementException.class, actual::next);
+        verify(scanner).close();
+    }
+    
+    @Test
+    void assertIterateWithFetchFailure() throws IOException {
+        ResultScanner scanner = mock(ResultScanner.class);
+        when(scanner.next(2)).thenThrow(IOException.class);
+        Iterator<Result> actual = new HBasePrefetchResultIterator(scanner, 2, executorService);
+        assertThrows(IllegalStateException.class, actual::hasNext);
+        verify(scanner).close();
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertCloseBeforeFullyFetched() {
+        ResultScanner scanner = mock(ResultScanner.class);
+        ExecutorService prefetchExecutorService = mock(ExecutorService.class);
+        Future<Result[]> nextRows = mock(Future.class);
+        when(prefetchExecutorService.submit(any(Callable.class))).thenReturn(nextRows);
+        HBasePrefetchResultIterator actual = new HBasePrefetchResultIterator(scanner, 2, prefetchExecutorService);
+        actual.close();
+        actual.close();
+        assertFalse(actual.hasNext());
+        verify(nextRows).cancel(true);
+        verify(scanner, times(1)).close();
+    }
+    
+    @Test
+    void assertCloseAfterFullyFetched() throws IOException {
+        ResultScanner scanner = mock(ResultScanner.class);
+        when(scanner.next(2)).thenReturn(new Result[0]);
+        HBasePrefetchResultIterator actual = new HBasePrefetchResultIterator(scanner, 2, executorService);
+        assertFalse(actual.hasNext());
+        actual.close();
+        verify(scanner, times(1)).close();
+    }
+}
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.db.protocol.packet.command.CommandPacketType;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
 import org.apache.shardingsphere.infra.exception.dialect.exception.SQLDialectException;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.core.external.sql.ShardingSphereSQLException;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -70,9 +71,9 @@ public final class CommandExecutorTask implements Runnable {
     @Override
     public void run() {
         boolean isNeedFlush = false;
-        boolean sqlShowEnabled = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.SQL_SHOW);
+        boolean isNeedLogMDC = isNeedLogMDC(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps());
         try {
-            if (sqlShowEnabled) {
+            if (isNeedLogMDC) {
                 fillLogMDC();
             }
             isNeedFlush = executeCommand(context,
@@ -98,7 +99,7 @@ public final class CommandExecutorTask implements Runnable {
             }
             processClosedExceptions(exceptions);
             context.pipeline().fireUserEventTriggered(new WriteCompleteEvent());
-            if (sqlShowEnabled) {
+            if (isNeedLogMDC) {
                 clearLogMDC();
             }
             if (message instanceof CompositeByteBuf) {
@@ -108,6 +109,10 @@ public final class CommandExecutorTask implements Runnable {
         }
     }
     
+    private boolean isNeedLogMDC(final ConfigurationProperties props) {
+        return props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW) && props.<Integer>getValue(ConfigurationPropertyKey.SQL_SHOW_ASYNC_BUFFER_SIZE) <= 0;
+    }
+    
     private void fillLogMDC() {
         MDC.put(LogMDCConstants.DATABASE_KEY, connectionSession.getDatabaseName());
         MDC.put(LogMDCConstants.USER_KEY, connectionSession.getConnectionContext().getGrantee().toString());
@@ -331,6 +331,8 @@ import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.s
 import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.statement.ral.ShowComputeNodeInfoStatementTestCase;
 import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.statement.ral.ShowComputeNodeModeStatementTestCase;
 import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.statement.ral.ShowComputeNodesStatementTestCase;
+import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.statement.ral.ShowSQLFingerprintsStatementTestCase;
+import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.statement.ral.ShowSQLStatisticsStatementTestCase;
 import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.statement.ral.ShowDistVariableStatementTestCase;
 import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.statement.ral.ShowDistVariablesStatementTestCase;
 import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.statement.ral.ShowMigrationListStatementTestCase;
@@ -1143,6 +1145,12 @@ public final class RootSQLParserTestCases {
     @XmlElement(name = "show-compute-nodes")
     private final List<ShowComputeNodesStatementTestCase> showInstanceTestCases = new LinkedList<>();
     
+    @XmlElement(name = "show-sql-statistics")
+    private final List<ShowSQLStatisticsStatementTestCase> showSQLStatisticsTestCases = new LinkedList<>();
+    
+    @XmlElement(name = "show-sql-fingerprints")
+    private final List<ShowSQLFingerprintsStatementTestCase> showSQLFingerprintsTestCases = new LinkedList<>();
+    
     @XmlElement(name = "clone")
     private final List<CloneStatementTestCase> cloneTestCases = new LinkedList<>();
     
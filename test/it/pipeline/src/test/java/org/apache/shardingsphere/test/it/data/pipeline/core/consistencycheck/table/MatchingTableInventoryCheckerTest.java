@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.it.data.pipeline.core.consistencycheck.table;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.ConsistencyCheckJobItemProgressContext;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.TableDataConsistencyChecker;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.TableDataConsistencyCheckerFactory;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.TableInventoryCheckParameter;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.TableInventoryCheckRange;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.TableInventoryCheckRangeSplitter;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.caseinsensitive.CaseInsensitiveQualifiedTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MatchingTableInventoryCheckerTest {
+    
+    private static PipelineDataSourceWrapper dataSource;
+    
+    @BeforeAll
+    static void setUp() throws Exception {
+        dataSource = new PipelineDataSourceWrapper(createHikariDataSource("check_" + RandomStringUtils.randomAlphanumeric(9)), TypedSPILoader.getService(DatabaseType.class, "H2"));
+        createTableAndInitData(dataSource, "t_order", "test");
+        createTableAndInitData(dataSource, "t_order_copy", "test");
+        createTableAndInitData(dataSource, "t_order_diff", "test");
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement().execute("UPDATE t_order_diff SET status='diff' WHERE order_id=12");
+        }
+    }
+    
+    @AfterAll
+    static void tearDown() throws Exception {
+        dataSource.close();
+    }
+    
+    private static HikariDataSource createHikariDataSource(final String databaseName) {
+        HikariDataSource result = new HikariDataSource();
+        result.setJdbcUrl(String.format("jdbc:h2:mem:%s;DATABASE_TO_UPPER=false;MODE=MySQL", databaseName));
+        result.setUsername("root");
+        result.setPassword("root");
+        result.setMaximumPoolSize(20);
+        result.setMinimumIdle(2);
+        result.setConnectionTimeout(15L * 1000L);
+        result.setIdleTimeout(40L * 1000L);
+        return result;
+    }
+    
+    private static void createTableAndInitData(final PipelineDataSourceWrapper dataSource, final String tableName, final String status) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement().execute(String.format("CREATE TABLE %s (order_id INT PRIMARY KEY, user_id INT NOT NULL, status VARCHAR(12))", tableName));
+            PreparedStatement preparedStatement = connection.prepareStatement(String.format("INSERT INTO %s (order_id, user_id, status) VALUES (?, ?, ?)", tableName));
+            for (int i = 0; i < 20; i++) {
+                preparedStatement.setInt(1, i + 1);
+                preparedStatement.setInt(2, i + 1);
+                preparedStatement.setString(3, status);
+                preparedStatement.execute();
+            }
+        }
+    }
+    
+    @Test
+    void assertSplit() {
+        TableInventoryCheckParameter param = createParameter("t_order_copy", new ConsistencyCheckJobItemProgressContext("foo_job", 0, "H2"), 4);
+        assertThat(new TableInventoryCheckRangeSplitter(param).split(), is(Arrays.asList(
+                new TableInventoryCheckRange(null, 5L), new TableInventoryCheckRange(5L, 10L), new TableInventoryCheckRange(10L, 15L), new TableInventoryCheckRange(15L, null))));
+    }
+    
+    @Test
+    void assertSplitWithSingleWorkerThread() {
+        TableInventoryCheckParameter param = createParameter("t_order_copy", new ConsistencyCheckJobItemProgressContext("foo_job", 0, "H2"), 1);
+        assertThat(new TableInventoryCheckRangeSplitter(param).split(), is(Collections.singletonList(TableInventoryCheckRange.UNBOUNDED)));
+    }
+    
+    @Test
+    void assertSplitWithCheckedRanges() {
+        ConsistencyCheckJobItemProgressContext progressContext = new ConsistencyCheckJobItemProgressContext("foo_job", 0, "H2");
+        progressContext.getSourceTableCheckPositions().put("t_order#(5,10]", 8);
+        TableInventoryCheckParameter param = createParameter("t_order_copy", progressContext, 4);
+        assertThat(new TableInventoryCheckRangeSplitter(param).split(), is(Arrays.asList(
+                new TableInventoryCheckRange(null, 5L), new TableInventoryCheckRange(5L, 10L), new TableInventoryCheckRange(10L, null))));
+    }
+    
+    @Test
+    void assertSplitWithCheckedTable() {
+        ConsistencyCheckJobItemProgressContext progressContext = new ConsistencyCheckJobItemProgressContext("foo_job", 0, "H2");
+        progressContext.getSourceTableCheckPositions().put("t_order", 8);
+        TableInventoryCheckParameter param = createParameter("t_order_copy", progressContext, 4);
+        assertThat(new TableInventoryCheckRangeSplitter(param).split(), is(Collections.singletonList(TableInventoryCheckRange.UNBOUNDED)));
+    }
+    
+    @Test
+    void assertCheckMatchedInRanges() throws Exception {
+        ConsistencyCheckJobItemProgressContext progressContext = new ConsistencyCheckJobItemProgressContext("foo_job", 0, "H2");
+        try (TableDataConsistencyChecker tableChecker = TableDataConsistencyCheckerFactory.newInstance("DATA_MATCH", PropertiesBuilder.build(new Property("chunk-size", "2")))) {
+            assertTrue(tableChecker.buildTableInventoryChecker(createParameter("t_order_copy", progressContext, 4)).checkSingleTableInventoryData().isMatched());
+        }
+        assertThat(progressContext.getCheckedRecordsCount().get(), is(20L));
+        assertThat(progressContext.getSourceTableCheckPositions().get("t_order#(,5]"), is(5));
+        assertThat(progressContext.getSourceTableCheckPositions().get("t_order#(15,]"), is(20));
+        assertThat(progressContext.getTargetTableCheckPositions().get("t_order_copy#(10,15]"), is(15));
+    }
+    
+    @Test
+    void assertCheckNotMatchedInRanges() throws Exception {
+        ConsistencyCheckJobItemProgressContext progressContext = new ConsistencyCheckJobItemProgressContext("foo_job", 0, "H2");
+        try (TableDataConsistencyChecker tableChecker = TableDataConsistencyCheckerFactory.newInstance("DATA_MATCH", PropertiesBuilder.build(new Property("chunk-size", "2")))) {
+            assertFalse(tableChecker.buildTableInventoryChecker(createParameter("t_order_diff", progressContext, 4)).checkSingleTableInventoryData().isMatched());
+        }
+        assertThat(progressContext.getSourceTableCheckPositions().get("t_order#(10,15]"), is(10L));
+    }
+    
+    @Test
+    void assertCheckMatchedInRangesByDigest() throws Exception {
+        ConsistencyCheckJobItemProgressContext progressContext = new ConsistencyCheckJobItemProgressContext("foo_job", 0, "H2");
+        try (
+                TableDataConsistencyChecker tableChecker = TableDataConsistencyCheckerFactory.newInstance("DIGEST_MATCH",
+                        PropertiesBuilder.build(new Property("chunk-size", "3"), new Property("leaf-size", "2")))) {
+            assertTrue(tableChecker.buildTableInventoryChecker(createParameter("t_order_copy", progressContext, 4)).checkSingleTableInventoryData().isMatched());
+            assertFalse(tableChecker.buildTableInventoryChecker(createParameter("t_order_diff", new ConsistencyCheckJobItemProgressContext("foo_job", 0, "H2"), 4))
+                    .checkSingleTableInventoryData().isMatched());
+        }
+        assertThat(progressContext.getCheckedRecordsCount().get(), is(20L));
+    }
+    
+    private TableInventoryCheckParameter createParameter(final String targetTableName, final ConsistencyCheckJobItemProgressContext progressContext, final int workerThread) {
+        return new TableInventoryCheckParameter("foo_job", dataSource, dataSource, new CaseInsensitiveQualifiedTable(null, "t_order"), new CaseInsensitiveQualifiedTable(null, targetTableName),
+                Arrays.asList("order_id", "user_id", "status"), Collections.singletonList(new PipelineColumnMetaData(1, "order_id", Types.INTEGER, "integer", false, true, true)),
+                null, progressContext, 5, workerThread);
+    }
+}